@@ -2,13 +2,51 @@ package com.github.coderodde.game.chess;
 
 import com.github.coderodde.game.chess.impl.BlackCheckMateInspector;
 import com.github.coderodde.game.chess.impl.WhiteCheckMateInspector;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This abstract class defines the API for making searches in the game tree via
  * a game engine.
+ * <p>
+ * An engine may ponder, i.e., search on the opponent's time: after returning a
+ * move, the caller starts pondering on the state after the expected reply of 
+ * the opponent. Once the opponent has moved, {@link #stopPondering} either 
+ * returns the result of the ponder search (ponder hit) or cancels it (ponder 
+ * miss).
+ * <p>
+ * A search may also run asynchronously via {@link #searchAsync}, which 
+ * deepens iteratively within the given {@link SearchLimits} and may be 
+ * cancelled via {@link #cancel()}. The cancellation is cooperative: each 
+ * search thread counts its nodes and calls {@link #pollStop(int)} once every 
+ * {@link #POLLING_INTERVAL} nodes, so the hot loop neither reads shared 
+ * state nor checks for interrupts.
+ * <p>
+ * The progress of the iteratively deepening searches is published via 
+ * {@link #getProgressPublisher()}: a report at the end of each iteration and
+ * on each new best move. The subscribers are served from bounded buffers 
+ * dropping the oldest reports, so a slow subscriber never stalls the search.
+ * <p>
+ * The engines emit JDK Flight Recorder events for each search, each completed
+ * iteration and a sample of the slow heuristic function calls. The events 
+ * are disabled by default; when disabled, a search allocates no events and 
+ * the evaluation sampling costs a single random number per call.
+ * <p>
+ * If an {@link EndgameTablebase} is set, the engines replace the search of 
+ * the positions it holds with their tablebase values. If an 
+ * {@link OpeningBook} is set, the engines play its moves without searching.
  * 
- * @version 1.0.0 (Jul 18, 2024)
+ * @version 1.0.10 (Oct 19, 2026)
  * @since 1.0.0 (Jul 18, 2024)
  */
 public abstract class AbstractGameEngine {
@@ -17,11 +55,63 @@ public abstract class AbstractGameEngine {
     protected static final int MINIMUM_SCORE = -1000_000_000;
     protected static final int MAXIMUM_SCORE = +1000_000_000;
     
+    /**
+     * The score of a won tablebase position. Below the mate scores and above
+     * any evaluation.
+     */
+    protected static final int TABLEBASE_WIN_SCORE = MAXIMUM_SCORE / 2;
+    
+    /**
+     * The number of nodes a search thread visits between two calls to 
+     * {@link #pollStop(int)}. A power of two.
+     */
+    protected static final int POLLING_INTERVAL = 1 << 10;
+    
+    /**
+     * The number of progress reports buffered for each subscriber.
+     */
+    private static final int PROGRESS_BUFFER_CAPACITY = 16;
+    
+    /**
+     * Runs the ponder and the asynchronous searches. The idle threads are 
+     * kept for a while, so the consecutive searches reuse the threads and 
+     * their per-thread tables.
+     */
+    private static final ExecutorService SEARCH_EXECUTOR = 
+            Executors.newCachedThreadPool(runnable -> {
+                final Thread thread = new Thread(runnable, "search");
+                thread.setDaemon(true);
+                return thread;
+            });
+    
+    /**
+     * On average, one call out of this many to the heuristic function is 
+     * timed for the slow evaluation events.
+     */
+    private static final int EVALUATION_SAMPLING_INTERVAL = 1 << 6;
+    
     /**
      * This field caches the best move state so far in this search.
      */
     protected ChessBoardState bestMoveState;
     
+    /**
+     * The score of {@link #bestMoveState}. Positive scores favor the black 
+     * player.
+     */
+    protected double bestScore;
+    
+    /**
+     * The principal variation of the last search, starting with the best 
+     * move.
+     */
+    protected List<ChessMove> principalVariation = List.of();
+    
+    /**
+     * The number of nodes visited in the last search.
+     */
+    protected long nodeCount;
+    
     /**
      * Holds the used heuristic function.
      */
@@ -39,6 +129,89 @@ public abstract class AbstractGameEngine {
     protected final CheckMateInspector BLACK_CHECK_MATE_INSPECTOR = 
             new BlackCheckMateInspector();
     
+    /**
+     * Set when the current search should stop as soon as possible.
+     */
+    private volatile boolean stopRequested;
+    
+    /**
+     * The state being pondered on or {@code null} if not pondering.
+     */
+    private ChessBoardState ponderState;
+    
+    /**
+     * The result of the ponder search.
+     */
+    private CompletableFuture<ChessBoardState> ponderFuture;
+    
+    /**
+     * The result of the running asynchronous search or {@code null} if there 
+     * is none.
+     */
+    private CompletableFuture<SearchResult> searchFuture;
+    
+    /**
+     * The limits of the running asynchronous search.
+     */
+    private SearchLimits searchLimits;
+    
+    /**
+     * The limits checked by {@link #pollStop(int)}. Set once the first 
+     * iteration of the asynchronous search completes.
+     */
+    private volatile SearchLimits armedSearchLimits;
+    
+    /**
+     * The starting time of the running iteratively deepening search.
+     */
+    private volatile long searchStartNanos;
+    
+    /**
+     * The number of nodes reported via {@link #pollStop(int)} since the 
+     * running iteratively deepening search started.
+     */
+    private final AtomicLong polledNodeCount = new AtomicLong();
+    
+    /**
+     * The depth of the running iteration or zero if no iteratively deepening 
+     * search is running.
+     */
+    private volatile int iterationDepth;
+    
+    /**
+     * The number of the nested {@link #searchStarted(int)} calls. Only the 
+     * outermost call begins a search event.
+     */
+    private int searchNestingDepth;
+    
+    /**
+     * The event of the running search or {@code null} if there is none or the 
+     * event is disabled.
+     */
+    private SearchEvent searchEvent;
+    
+    /**
+     * The event of the running iteration or {@code null} if there is none or 
+     * the event is disabled.
+     */
+    private IterationEvent iterationEvent;
+    
+    /**
+     * The endgame tablebase probed by the search or {@code null} if there is 
+     * none.
+     */
+    private volatile EndgameTablebase endgameTablebase;
+    
+    /**
+     * The opening book consulted at the root or {@code null} if there is 
+     * none.
+     */
+    private volatile OpeningBook openingBook;
+    
+    private final DropOldestPublisher<SearchProgress> progressPublisher = 
+            new DropOldestPublisher<>(ForkJoinPool.commonPool(), 
+                                      PROGRESS_BUFFER_CAPACITY);
+    
     /**
      * Constructs an instance of this abstract class.
      * 
@@ -69,6 +242,679 @@ public abstract class AbstractGameEngine {
                                            final PlayerTurn playerTurn)
             throws ThreeFoldRepetionRuleDrawException;
     
+    /**
+     * Starts searching {@code expectedState} in a background thread. The 
+     * engine must not be used for other searches until 
+     * {@link #stopPondering(ChessBoardState)} is called.
+     * 
+     * @param expectedState the state after the expected reply of the opponent.
+     * @param depth         the search depth.
+     * @param playerTurn    the player to move in {@code expectedState}.
+     */
+    public void startPondering(final ChessBoardState expectedState,
+                               final int depth,
+                               final PlayerTurn playerTurn) {
+        
+        Objects.requireNonNull(expectedState, "The expected state is null.");
+        Objects.requireNonNull(playerTurn, "The player turn is null.");
+        
+        if (isPondering()) {
+            throw new IllegalStateException("Already pondering.");
+        }
+        
+        if (searchFuture != null) {
+            throw new IllegalStateException("Already searching.");
+        }
+        
+        final ChessBoardState searchState = 
+                ChessBoardState.copyOf(expectedState);
+        
+        final CompletableFuture<ChessBoardState> future = 
+                new CompletableFuture<>();
+        
+        stopRequested = false;
+        ponderState = ChessBoardState.copyOf(expectedState);
+        ponderFuture = future;
+        
+        SEARCH_EXECUTOR.execute(() -> {
+            try {
+                future.complete(search(searchState, depth, playerTurn));
+            } catch (final Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+        });
+    }
+    
+    /**
+     * Stops pondering. If {@code actualState} is the state that was pondered
+     * on, the ponder search is let to complete and its result is returned. 
+     * Otherwise, the ponder search is cancelled and {@code null} is returned;
+     * the caller should then search {@code actualState} as usual. The 
+     * statistics the engine gathered while pondering, such as the move 
+     * ordering history, are kept in both cases.
+     * 
+     * @param actualState the state after the actual reply of the opponent.
+     * 
+     * @return the next best move on a ponder hit, {@code null} on a miss.
+     * @throws com.github.coderodde.game.chess.ThreeFoldRepetionRuleDrawException
+     *         if the ponder search threw it.
+     */
+    public ChessBoardState stopPondering(final ChessBoardState actualState) 
+            throws ThreeFoldRepetionRuleDrawException {
+        
+        if (!isPondering()) {
+            throw new IllegalStateException("Not pondering.");
+        }
+        
+        final boolean ponderHit = ponderState.strongEquals(actualState);
+        final CompletableFuture<ChessBoardState> future = ponderFuture;
+        
+        ponderState = null;
+        ponderFuture = null;
+        
+        if (!ponderHit) {
+            stopRequested = true;
+        }
+        
+        try {
+            final ChessBoardState result = future.join();
+            return ponderHit ? result : null;
+        } catch (final CompletionException ex) {
+            if (!ponderHit) {
+                return null;
+            }
+            
+            if (ex.getCause() instanceof ThreeFoldRepetionRuleDrawException) {
+                throw (ThreeFoldRepetionRuleDrawException) ex.getCause();
+            }
+            
+            throw ex;
+        } finally {
+            stopRequested = false;
+        }
+    }
+    
+    /**
+     * Starts searching {@code root} asynchronously in a shared pool of daemon
+     * threads.
+     * 
+     * @param root       the root state to start the search from.
+     * @param playerTurn the player to move in {@code root}.
+     * @param limits     the search limits.
+     * 
+     * @return the future result of the search.
+     * @see #searchAsync(ChessBoardState, PlayerTurn, SearchLimits, Executor)
+     */
+    public CompletableFuture<SearchResult> searchAsync(
+            final ChessBoardState root,
+            final PlayerTurn playerTurn,
+            final SearchLimits limits) {
+        
+        return searchAsync(root, playerTurn, limits, SEARCH_EXECUTOR);
+    }
+    
+    /**
+     * Starts searching {@code root} asynchronously in {@code executor}. The 
+     * search deepens iteratively until it reaches any of {@code limits} or 
+     * gets cancelled, and the returned future completes with the result of 
+     * the last completed iteration. If the search is cancelled before 
+     * completing an iteration, the future completes with a 
+     * {@link CancellationException}. Cancelling the future cancels the search
+     * as well.
+     * <p>
+     * The three-fold repetition rule is not checked. The engine must not be 
+     * used for other searches until the future completes.
+     * 
+     * @param root       the root state to start the search from.
+     * @param playerTurn the player to move in {@code root}.
+     * @param limits     the search limits.
+     * @param executor   the executor to run the search in.
+     * 
+     * @return the future result of the search.
+     */
+    public synchronized CompletableFuture<SearchResult> searchAsync(
+            final ChessBoardState root,
+            final PlayerTurn playerTurn,
+            final SearchLimits limits,
+            final Executor executor) {
+        
+        Objects.requireNonNull(root, "The root state is null.");
+        Objects.requireNonNull(playerTurn, "The player turn is null.");
+        Objects.requireNonNull(limits, "The search limits are null.");
+        Objects.requireNonNull(executor, "The executor is null.");
+        
+        if (isPondering() || searchFuture != null) {
+            throw new IllegalStateException("Already searching.");
+        }
+        
+        final ChessBoardState searchRoot = ChessBoardState.copyOf(root);
+        final CompletableFuture<SearchResult> future = 
+                new CompletableFuture<>();
+        
+        stopRequested = false;
+        searchLimits = limits;
+        armedSearchLimits = null;
+        searchFuture = future;
+        
+        future.whenComplete((result, throwable) -> {
+            if (future.isCancelled()) {
+                cancel();
+            }
+        });
+        
+        try {
+            executor.execute(() -> runAsyncSearch(searchRoot, 
+                                                  playerTurn, 
+                                                  limits, 
+                                                  future));
+        } catch (final RuntimeException ex) {
+            finishAsyncSearch();
+            throw ex;
+        }
+        
+        return future;
+    }
+    
+    /**
+     * Requests the running asynchronous search to stop. The search completes 
+     * its future with the result of the last completed iteration. Does 
+     * nothing if no asynchronous search is running.
+     */
+    public synchronized void cancel() {
+        if (searchFuture != null) {
+            stopRequested = true;
+        }
+    }
+    
+    /**
+     * Searches {@code root} iteratively deepening within {@code limits}. 
+     * Called by the asynchronous search. The default implementation calls
+     * {@link #searchIteration(ChessBoardState, int, PlayerTurn)} for each 
+     * depth, reporting the iterations via {@link #iterationStarted(int)}, 
+     * {@link #iterationCompleted(SearchResult)} and 
+     * {@link #searchFinished()}; the engines that deepen iteratively by 
+     * themselves override this method.
+     * 
+     * @param root       the root state to start the search from.
+     * @param playerTurn the player to move in {@code root}.
+     * @param limits     the search limits.
+     * 
+     * @return the result of the last completed iteration or {@code null} if 
+     *         the search was stopped before completing an iteration.
+     * @throws com.github.coderodde.game.chess.ThreeFoldRepetionRuleDrawException
+     *         if the engine checks the three-fold repetition rule.
+     */
+    protected SearchResult search(final ChessBoardState root,
+                                  final PlayerTurn playerTurn,
+                                  final SearchLimits limits) 
+            throws ThreeFoldRepetionRuleDrawException {
+        
+        SearchResult result = null;
+        long totalNodeCount = 0L;
+        
+        searchStarted(limits.getMaximumDepth());
+        
+        try {
+            for (int depth = 1; depth <= limits.getMaximumDepth(); depth++) {
+                iterationStarted(depth);
+                
+                final ChessBoardState state = 
+                        searchIteration(root, depth, playerTurn);
+                
+                totalNodeCount += nodeCount;
+                
+                if (isStopRequested()) {
+                    // The iteration is incomplete, discard it:
+                    break;
+                }
+                
+                result = new SearchResult(root,
+                                          state,
+                                          bestScore,
+                                          depth,
+                                          principalVariation,
+                                          totalNodeCount);
+                
+                if (!iterationCompleted(result)) {
+                    break;
+                }
+            }
+        } finally {
+            searchFinished();
+            searchStopped(totalNodeCount);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Searches a single iteration of the default iterative deepening. Calls 
+     * {@link #search(ChessBoardState, int, PlayerTurn)}; the engines checking
+     * the three-fold repetition rule override this method to skip the check,
+     * which would otherwise count the best move once per iteration.
+     * 
+     * @param root       the root state to start the search from.
+     * @param depth      the search depth.
+     * @param playerTurn the player to move in {@code root}.
+     * 
+     * @return the next best move.
+     * @throws com.github.coderodde.game.chess.ThreeFoldRepetionRuleDrawException
+     *         if the engine checks the three-fold repetition rule.
+     */
+    protected ChessBoardState searchIteration(final ChessBoardState root,
+                                              final int depth,
+                                              final PlayerTurn playerTurn) 
+            throws ThreeFoldRepetionRuleDrawException {
+        
+        return search(root, depth, playerTurn);
+    }
+    
+    /**
+     * Reports the start of an iteration of an iteratively deepening search. 
+     * The first iteration starts the clock of the search.
+     * 
+     * @param depth the depth of the iteration.
+     */
+    protected final void iterationStarted(final int depth) {
+        if (depth == 1) {
+            searchStartNanos = System.nanoTime();
+            polledNodeCount.set(0L);
+        }
+        
+        iterationDepth = depth;
+        
+        final IterationEvent event = new IterationEvent();
+        
+        if (event.isEnabled()) {
+            event.begin();
+            iterationEvent = event;
+        } else {
+            iterationEvent = null;
+        }
+    }
+    
+    /**
+     * Reports a completed iteration of an iteratively deepening search. 
+     * Publishes the progress and, in an asynchronous search, arms the node and
+     * time limits, which are not checked before the first iteration 
+     * completes.
+     * 
+     * @param result the result of the iteration.
+     * 
+     * @return {@code true} if the next iteration should be started, 
+     *         {@code false} if the node or the time limit has been reached.
+     */
+    protected final boolean iterationCompleted(final SearchResult result) {
+        final IterationEvent event = iterationEvent;
+        
+        if (event != null) {
+            iterationEvent = null;
+            event.end();
+            
+            if (event.shouldCommit()) {
+                event.depth    = result.getDepth();
+                event.nodes    = result.getNodeCount();
+                event.bestMove = result.getBestMove().toString();
+                event.score    = result.getScore();
+                event.commit();
+            }
+        }
+        
+        if (progressPublisher.hasSubscribers()) {
+            progressPublisher.submit(
+                    new SearchProgress(result.getDepth(),
+                                       result.getScore(),
+                                       result.getPrincipalVariation(),
+                                       result.getNodeCount(),
+                                       getElapsedMillis(),
+                                       true));
+        }
+        
+        final SearchLimits limits = searchLimits;
+        
+        if (limits == null) {
+            // Not an asynchronous search:
+            return true;
+        }
+        
+        armedSearchLimits = limits;
+        
+        return !limits.isReached(result.getNodeCount(), 
+                                 System.nanoTime() - searchStartNanos);
+    }
+    
+    /**
+     * Reports the end of an iteratively deepening search.
+     */
+    protected final void searchFinished() {
+        iterationDepth = 0;
+        iterationEvent = null;
+    }
+    
+    /**
+     * Reports the start of a search. The calls may nest, in which case only 
+     * the outermost call counts. Each call must be matched by a call to 
+     * {@link #searchStopped(long)}.
+     * 
+     * @param maximumDepth the maximum search depth.
+     */
+    protected final void searchStarted(final int maximumDepth) {
+        if (searchNestingDepth++ > 0) {
+            return;
+        }
+        
+        final SearchEvent event = new SearchEvent();
+        
+        if (event.isEnabled()) {
+            event.engine       = getClass().getSimpleName();
+            event.maximumDepth = maximumDepth;
+            event.begin();
+            searchEvent = event;
+        }
+    }
+    
+    /**
+     * Reports the stop of a search, completed or not.
+     * 
+     * @param nodes the number of nodes visited in the search.
+     */
+    protected final void searchStopped(final long nodes) {
+        if (--searchNestingDepth > 0) {
+            return;
+        }
+        
+        final SearchEvent event = searchEvent;
+        
+        if (event == null) {
+            return;
+        }
+        
+        searchEvent = null;
+        event.end();
+        
+        if (event.shouldCommit()) {
+            event.nodes    = nodes;
+            event.bestMove = principalVariation.isEmpty() ? 
+                             null : 
+                             principalVariation.get(0).toString();
+            event.score    = bestScore;
+            event.stopped  = stopRequested;
+            event.commit();
+        }
+    }
+    
+    /**
+     * Evaluates {@code state} via the heuristic function. A sample of the 
+     * calls is timed and reported as slow evaluation events when exceeding 
+     * the event threshold.
+     * 
+     * @param state the state to evaluate.
+     * @param depth the depth of {@code state}.
+     * 
+     * @return the score of {@code state}. Positive scores favor the black 
+     *         player.
+     */
+    protected final double evaluate(final ChessBoardState state, 
+                                    final int depth) {
+        
+        return evaluate(state, 
+                        depth, 
+                        Double.NEGATIVE_INFINITY, 
+                        Double.POSITIVE_INFINITY);
+    }
+    
+    /**
+     * Evaluates {@code state} searched with the window {@code (alpha, beta)}
+     * via the heuristic function, which may return a bound of the score if 
+     * the score falls outside the window. The bounds are from the point of 
+     * view of the black player, as are the scores.
+     * 
+     * @param state the state to evaluate.
+     * @param depth the depth of {@code state}.
+     * @param alpha the alpha bound.
+     * @param beta  the beta bound.
+     * 
+     * @return the score of {@code state}. Positive scores favor the black 
+     *         player.
+     * @see AbstractHeuristicFunction#evaluate(ChessBoardState, int, double, 
+     *                                         double) 
+     */
+    protected final double evaluate(final ChessBoardState state, 
+                                    final int depth,
+                                    final double alpha,
+                                    final double beta) {
+        
+        // The disabled event is cheap to create and to check, so check it 
+        // before drawing the sample:
+        final EvaluationEvent event = new EvaluationEvent();
+        
+        if (!event.isEnabled() || !isEvaluationSampled()) {
+            return heuristicFunction.evaluate(state, depth, alpha, beta);
+        }
+        
+        event.begin();
+        
+        final double score = 
+                heuristicFunction.evaluate(state, depth, alpha, beta);
+        
+        event.end();
+        
+        if (event.shouldCommit()) {
+            event.heuristicFunction = 
+                    heuristicFunction.getClass().getSimpleName();
+            
+            event.depth = depth;
+            event.score = score;
+            event.commit();
+        }
+        
+        return score;
+    }
+    
+    /**
+     * Returns {@code true} for a random sample of one in 
+     * {@link #EVALUATION_SAMPLING_INTERVAL} calls.
+     * 
+     * @return {@code true} if the current evaluation is to be timed.
+     */
+    private static boolean isEvaluationSampled() {
+        return ThreadLocalRandom.current()
+                                .nextInt(EVALUATION_SAMPLING_INTERVAL) == 0;
+    }
+    
+    /**
+     * Probes the endgame tablebase for the score of {@code state}. The wins 
+     * found closer to the root score higher.
+     * 
+     * @param state      the state to probe.
+     * @param depth      the remaining depth of {@code state}.
+     * @param playerTurn the player to move in {@code state}.
+     * 
+     * @return the score of {@code state} or {@link Double#NaN} if there is no
+     *         tablebase or it does not hold {@code state}. Positive scores 
+     *         favor the black player.
+     */
+    protected final double probeTablebase(final ChessBoardState state,
+                                          final int depth,
+                                          final PlayerTurn playerTurn) {
+        
+        final EndgameTablebase tablebase = endgameTablebase;
+        
+        if (tablebase == null 
+                || state.getPieceCount() > tablebase.getMaximumPieceCount()) {
+            return Double.NaN;
+        }
+        
+        final WinDrawLoss value = 
+                tablebase.probeWinDrawLoss(state, playerTurn);
+        
+        if (value == null) {
+            return Double.NaN;
+        }
+        
+        final double score = switch (value) {
+            case WIN  -> TABLEBASE_WIN_SCORE + depth;
+            case LOSS -> -TABLEBASE_WIN_SCORE - depth;
+            default   -> 0.0;
+        };
+        
+        return playerTurn == PlayerTurn.BLACK ? score : -score;
+    }
+    
+    /**
+     * Reports a new best move found in the middle of an iteration. The 
+     * progress is published only within an iteratively deepening search and 
+     * only if there are subscribers. May be called by any search thread.
+     * 
+     * @param score     the score of the best move. Positive scores favor the 
+     *                  black player.
+     * @param variation the principal variation, starting with the best move.
+     */
+    protected final void bestMoveChanged(final double score, 
+                                         final List<ChessMove> variation) {
+        final int depth = iterationDepth;
+        
+        if (depth == 0 || !progressPublisher.hasSubscribers()) {
+            return;
+        }
+        
+        progressPublisher.submit(new SearchProgress(depth,
+                                                    score,
+                                                    variation,
+                                                    polledNodeCount.get(),
+                                                    getElapsedMillis(),
+                                                    false));
+    }
+    
+    /**
+     * Sets the endgame tablebase to probe.
+     * 
+     * @param endgameTablebase the tablebase or {@code null} for none.
+     */
+    public void setEndgameTablebase(final EndgameTablebase endgameTablebase) {
+        this.endgameTablebase = endgameTablebase;
+    }
+    
+    public EndgameTablebase getEndgameTablebase() {
+        return endgameTablebase;
+    }
+    
+    /**
+     * Sets the opening book to consult at the root.
+     * 
+     * @param openingBook the book or {@code null} for none.
+     */
+    public void setOpeningBook(final OpeningBook openingBook) {
+        this.openingBook = openingBook;
+    }
+    
+    public OpeningBook getOpeningBook() {
+        return openingBook;
+    }
+    
+    /**
+     * Returns the publisher of the progress reports of the iteratively 
+     * deepening searches of this engine. The reports are delivered in the 
+     * common fork-join pool. A subscriber not keeping up loses the oldest 
+     * undelivered reports.
+     * 
+     * @return the progress publisher.
+     */
+    public Flow.Publisher<SearchProgress> getProgressPublisher() {
+        return progressPublisher;
+    }
+    
+    /**
+     * Returns {@code true} if and only if there are subscribers to the 
+     * progress reports. The engines check this before building the 
+     * principal variation of a new best move.
+     * 
+     * @return {@code true} if and only if the progress is observed.
+     */
+    protected final boolean isProgressObserved() {
+        return progressPublisher.hasSubscribers();
+    }
+    
+    /**
+     * Reports {@code nodes} more visited nodes and checks whether the current
+     * search should stop. Called by each search thread once every 
+     * {@link #POLLING_INTERVAL} nodes.
+     * 
+     * @param nodes the number of nodes visited since the previous call.
+     * 
+     * @return {@code true} if and only if the search should stop.
+     */
+    protected final boolean pollStop(final int nodes) {
+        final long totalNodes = polledNodeCount.addAndGet(nodes);
+        final SearchLimits limits = armedSearchLimits;
+        
+        if (limits != null 
+                && limits.isReached(totalNodes, 
+                                    System.nanoTime() - searchStartNanos)) {
+            stopRequested = true;
+        }
+        
+        return stopRequested;
+    }
+    
+    /**
+     * Returns {@code true} if and only if this engine is pondering.
+     * 
+     * @return {@code true} if and only if this engine is pondering.
+     */
+    public boolean isPondering() {
+        return ponderFuture != null;
+    }
+    
+    private void runAsyncSearch(final ChessBoardState root,
+                                final PlayerTurn playerTurn,
+                                final SearchLimits limits,
+                                final CompletableFuture<SearchResult> future) {
+        SearchResult result = null;
+        Throwable failure = null;
+        
+        try {
+            result = search(root, playerTurn, limits);
+        } catch (final Throwable throwable) {
+            failure = throwable;
+        }
+        
+        // Let the caller start a new search as soon as the future completes:
+        finishAsyncSearch();
+        
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else if (result == null) {
+            future.completeExceptionally(
+                    new CancellationException(
+                            "The search was cancelled before completing an "
+                                    + "iteration."));
+        } else {
+            future.complete(result);
+        }
+    }
+    
+    private long getElapsedMillis() {
+        return (System.nanoTime() - searchStartNanos) / 1_000_000L;
+    }
+    
+    private synchronized void finishAsyncSearch() {
+        searchFuture = null;
+        searchLimits = null;
+        armedSearchLimits = null;
+        stopRequested = false;
+    }
+    
+    /**
+     * Returns {@code true} if and only if the current search should stop as 
+     * soon as possible. The result of a stopped search is meaningless.
+     * 
+     * @return {@code true} if and only if the search should stop.
+     */
+    protected final boolean isStopRequested() {
+        return stopRequested;
+    }
+    
     /**
      * Clears the state frequency map.
      */
@@ -6,7 +6,7 @@ import java.util.Map;
  * This interface defines the API for heuristic functions evaluating chess board
  * states.
  * 
- * @version 1.0.0 (Jul 6, 2024)
+ * @version 1.0.2 (Oct 19, 2026)
  * @since 1.0.0 (Jul 6, 2024)
  */
 public abstract class AbstractHeuristicFunction {
@@ -22,6 +22,43 @@ public abstract class AbstractHeuristicFunction {
     public abstract double evaluate(final ChessBoardState state,
                                     final int depth);
     
+    /**
+     * Returns the evaluation of the input {@code state} at depth {@code depth}
+     * searched with the window {@code (alpha, beta)}. Since the search only 
+     * tells apart the scores within the window, an implementation may stop 
+     * evaluating as soon as the score is known to fall outside the window, 
+     * returning a bound of the score outside the window. The default 
+     * implementation evaluates the state fully.
+     * 
+     * @param state the state to evaluate.
+     * @param depth the depth of {@code state} in the search tree.
+     * @param alpha the alpha bound.
+     * @param beta  the beta bound.
+     * 
+     * @return the evaluation of the input state.
+     */
+    public double evaluate(final ChessBoardState state,
+                           final int depth,
+                           final double alpha,
+                           final double beta) {
+        
+        return evaluate(state, depth);
+    }
+    
+    /**
+     * Returns a bound of the difference between the evaluation of any state 
+     * and its material balance ({@link ChessBoardState#getMaterialScore()}), 
+     * i.e., of the terms other than the material. The searches pruning by the
+     * material balance widen their margins by this bound. The default 
+     * implementation knows no bound and returns the positive infinity, which
+     * turns such pruning off.
+     * 
+     * @return the bound of the non-material terms in pawns.
+     */
+    public double getPositionalBound() {
+        return Double.POSITIVE_INFINITY;
+    }
+    
     /**
      * Clears the state of the state frequency map.
      */
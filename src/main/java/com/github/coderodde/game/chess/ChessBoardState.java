@@ -25,11 +25,19 @@ import com.github.coderodde.game.chess.impl.expanders.WhiteRookExpander;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.SplittableRandom;
 
 /**
  * This class implements a chess board state.
+ * <p>
+ * The state maintains the evaluation terms that are sums over its pieces 
+ * incrementally: the material, the middlegame and the endgame piece-square 
+ * scores, the game phase (see {@link PieceSquareTables}), the pawn key and
+ * the piece count. Each call to {@link #set(int, int, Piece)} or 
+ * {@link #clear(int, int)} updates them, so the heuristic functions read them
+ * for free and compute only the terms depending on the whole board.
  * 
- * @version 1.0.1 (Jun 26, 2024)
+ * @version 1.0.6 (Oct 19, 2026)
  * @since 1.0.0 (Jun 22, 2024)
  */
 public final class ChessBoardState {
@@ -50,6 +58,12 @@ public final class ChessBoardState {
     private static final AbstractChessBoardStateExpander BLACK_QUEEN_EXPANDER;
     private static final AbstractChessBoardStateExpander BLACK_ROOK_EXPANDER;
     
+    /**
+     * The random keys of the white pawns followed by the keys of the black 
+     * pawns, indexed by the cells.
+     */
+    private static final long[] PAWN_KEYS = new long[2 * N * N];
+    
     private static final CheckMateInspector WHITE_CHECK_MATE_INSPECTOR = 
             new WhiteCheckMateInspector();
     
@@ -70,6 +84,14 @@ public final class ChessBoardState {
         BLACK_PAWN_EXPANDER   = new BlackPawnExpander();
         BLACK_QUEEN_EXPANDER  = new BlackQueenExpander();
         BLACK_ROOK_EXPANDER   = new BlackRookExpander();
+        
+        // A fixed seed keeps the pawn keys the same from run to run:
+        final SplittableRandom random = 
+                new SplittableRandom(0x9E3779B97F4A7C15L);
+        
+        for (int i = 0; i < PAWN_KEYS.length; i++) {
+            PAWN_KEYS[i] = random.nextLong();
+        }
     }
     
     private Piece[][] state;
@@ -80,6 +102,12 @@ public final class ChessBoardState {
     private int whiteKingRank;
     private int blackKingFile;
     private int blackKingRank;
+    private double materialScore;
+    private int middlegameScore;
+    private int endgameScore;
+    private int gamePhase;
+    private long pawnKey;
+    private int pieceCount;
     
     public ChessBoardState() {
         state = new Piece[N][N];
@@ -167,6 +195,14 @@ public final class ChessBoardState {
                                        PieceType.PAWN,
                                        WHITE_PAWN_EXPANDER);
         }
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                if (state[rank][file] != null) {
+                    addPieceTerms(file, rank, state[rank][file]);
+                }
+            }
+        }
     }
      
     public ChessBoardState(final String[] description) {
@@ -274,6 +310,17 @@ public final class ChessBoardState {
         }
     }
     
+    /**
+     * Constructs a child state of {@code copy}, i.e., a copy whose previous 
+     * double move flags are cleared since they expire after a ply. The move 
+     * expanders rely on this, as they make the move on the copy and mark a 
+     * double move of a pawn themselves. The static exchange evaluator copies
+     * the states by this constructor as well, since it ignores the en passant
+     * captures. To copy the same position, use {@link #copyOf(ChessBoardState)}
+     * instead.
+     * 
+     * @param copy the state to copy.
+     */
     public ChessBoardState(final ChessBoardState copy) {
         this.state = new Piece[N][N];
         
@@ -290,6 +337,12 @@ public final class ChessBoardState {
         whiteKingRank = copy.whiteKingRank;
         blackKingFile = copy.blackKingFile;
         blackKingRank = copy.blackKingRank;
+        materialScore = copy.materialScore;
+        middlegameScore = copy.middlegameScore;
+        endgameScore = copy.endgameScore;
+        gamePhase = copy.gamePhase;
+        pawnKey = copy.pawnKey;
+        pieceCount = copy.pieceCount;
         
 //        for (int rank = 0; rank < N; rank++) {
 //            for (int file = 0; file < N; file++) {
@@ -301,18 +354,40 @@ public final class ChessBoardState {
 //            }
 //        }
         
-        // TODO: Just set?
-        System.arraycopy(this.whiteIsPreviouslyDoubleMoved, 
+        // The previous double move flags are valid for one ply only, so the
+        // copy starts with cleared flags. The flags of 'copy' are left intact
+        // since its remaining children may still capture en passant.
+    }
+    
+    /**
+     * Returns a full copy of {@code state}. Unlike the copy constructor, which
+     * starts the children of a state with cleared flags, this method keeps
+     * the previous double move flags, so the copy stands for the same 
+     * position and is {@link #strongEquals(ChessBoardState) strongly equal}
+     * to {@code state}. The game engines rely on this when copying the roots
+     * of the background searches and the best move states they return, since
+     * the game continues from both.
+     * 
+     * @param state the state to copy.
+     * 
+     * @return the copy of {@code state}.
+     */
+    public static ChessBoardState copyOf(final ChessBoardState state) {
+        final ChessBoardState copy = new ChessBoardState(state);
+        
+        System.arraycopy(state.whiteIsPreviouslyDoubleMoved, 
                          0, 
                          copy.whiteIsPreviouslyDoubleMoved, 
                          0, 
                          N);
         
-        System.arraycopy(this.blackIsPreviouslyDoubleMoved, 
+        System.arraycopy(state.blackIsPreviouslyDoubleMoved, 
                          0, 
                          copy.blackIsPreviouslyDoubleMoved, 
                          0, 
                          N);
+        
+        return copy;
     }
     
     @Override
@@ -358,6 +433,50 @@ public final class ChessBoardState {
         Arrays.fill(this.whiteIsPreviouslyDoubleMoved, false);
     }
     
+    /**
+     * Makes a null move, i.e., passes the turn to the opponent. Since the side 
+     * to move is passed around as a {@link PlayerTurn} and is not stored in 
+     * this state, toggling it is up to the caller. What this method does is 
+     * clearing the previous double move flags as the en passant captures they
+     * allow expire after the pass.
+     * 
+     * @return the saved double move flags to pass to 
+     *         {@link #unmakeNullMove(int)}.
+     */
+    public int makeNullMove() {
+        int savedFlags = 0;
+        
+        for (int file = 0; file < N; file++) {
+            if (whiteIsPreviouslyDoubleMoved[file]) {
+                savedFlags |= 1 << file;
+                whiteIsPreviouslyDoubleMoved[file] = false;
+            }
+            
+            if (blackIsPreviouslyDoubleMoved[file]) {
+                savedFlags |= 1 << (file + N);
+                blackIsPreviouslyDoubleMoved[file] = false;
+            }
+        }
+        
+        return savedFlags;
+    }
+    
+    /**
+     * Unmakes a null move made by {@link #makeNullMove()}.
+     * 
+     * @param savedFlags the double move flags returned by 
+     *                   {@link #makeNullMove()}.
+     */
+    public void unmakeNullMove(final int savedFlags) {
+        for (int file = 0; file < N; file++) {
+            whiteIsPreviouslyDoubleMoved[file] = 
+                    (savedFlags & (1 << file)) != 0;
+            
+            blackIsPreviouslyDoubleMoved[file] = 
+                    (savedFlags & (1 << (file + N))) != 0;
+        }
+    }
+    
     public int getWhiteKingFile() {
         return whiteKingFile;
     }
@@ -395,6 +514,70 @@ public final class ChessBoardState {
      */
     public void clear() {
         this.state = new Piece[N][N];
+        this.materialScore = 0.0;
+        this.middlegameScore = 0;
+        this.endgameScore = 0;
+        this.gamePhase = 0;
+        this.pawnKey = 0L;
+        this.pieceCount = 0;
+    }
+    
+    /**
+     * Returns the presence scores of the black pieces minus the presence 
+     * scores of the white pieces.
+     * 
+     * @return the material balance.
+     */
+    public double getMaterialScore() {
+        return materialScore;
+    }
+    
+    /**
+     * Returns the sum of the middlegame piece-square scores of all the pieces.
+     * 
+     * @return the middlegame score in centipawns.
+     */
+    public int getMiddlegameScore() {
+        return middlegameScore;
+    }
+    
+    /**
+     * Returns the sum of the endgame piece-square scores of all the pieces.
+     * 
+     * @return the endgame score in centipawns.
+     */
+    public int getEndgameScore() {
+        return endgameScore;
+    }
+    
+    /**
+     * Returns the game phase, i.e., the sum of the phase weights of all the 
+     * pieces.
+     * 
+     * @return the game phase.
+     */
+    public int getGamePhase() {
+        return gamePhase;
+    }
+    
+    /**
+     * Returns the key of the pawn structure. The states with the same pawns on
+     * the same cells have the same key; the states with different pawn 
+     * structures have different keys with high probability.
+     * 
+     * @return the pawn key.
+     */
+    public long getPawnKey() {
+        return pawnKey;
+    }
+    
+    /**
+     * Returns the number of pieces on the board, kings included.
+     * 
+     * @return the piece count.
+     */
+    public int getPieceCount() {
+        return pieceCount;
     }
     
     /**
@@ -441,6 +624,16 @@ public final class ChessBoardState {
     public void set(final int file, 
                     final int rank, 
                     final Piece piece) {
+        final Piece previousPiece = state[rank][file];
+        
+        if (previousPiece != null) {
+            removePieceTerms(file, rank, previousPiece);
+        }
+        
+        if (piece != null) {
+            addPieceTerms(file, rank, piece);
+        }
+        
         state[rank][file] = piece;
     }
     
@@ -468,7 +661,57 @@ public final class ChessBoardState {
      * @param rank the rank of the requested piece.
      */
     public void clear(final int file, final int rank) {
-        state[rank][file] = null;
+        final Piece piece = state[rank][file];
+        
+        if (piece != null) {
+            removePieceTerms(file, rank, piece);
+            state[rank][file] = null;
+        }
+    }
+    
+    private void addPieceTerms(final int file, 
+                               final int rank, 
+                               final Piece piece) {
+        
+        materialScore += piece.isWhite() ? 
+                         -piece.getPresenceScore() :
+                         +piece.getPresenceScore();
+        
+        middlegameScore += 
+                PieceSquareTables.getMiddlegameScore(piece, file, rank);
+        
+        endgameScore += PieceSquareTables.getEndgameScore(piece, file, rank);
+        gamePhase += PieceSquareTables.getPhaseWeight(piece);
+        pawnKey ^= getPawnKey(file, rank, piece);
+        pieceCount++;
+    }
+    
+    private void removePieceTerms(final int file, 
+                                  final int rank, 
+                                  final Piece piece) {
+        
+        materialScore -= piece.isWhite() ? 
+                         -piece.getPresenceScore() :
+                         +piece.getPresenceScore();
+        
+        middlegameScore -= 
+                PieceSquareTables.getMiddlegameScore(piece, file, rank);
+        
+        endgameScore -= PieceSquareTables.getEndgameScore(piece, file, rank);
+        gamePhase -= PieceSquareTables.getPhaseWeight(piece);
+        pawnKey ^= getPawnKey(file, rank, piece);
+        pieceCount--;
+    }
+    
+    private static long getPawnKey(final int file, 
+                                   final int rank, 
+                                   final Piece piece) {
+        
+        if (piece.getPieceType() != PAWN) {
+            return 0L;
+        }
+        
+        return PAWN_KEYS[(piece.isWhite() ? 0 : N * N) + rank * N + file];
     }
     
     /**
@@ -0,0 +1,237 @@
+package com.github.coderodde.game.chess;
+
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import java.util.Objects;
+
+/**
+ * This class describes a move leading from a parent state to one of its child
+ * states. Since the expanders generate the child states directly, the move is
+ * recovered by comparing the two boards.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class ChessMove {
+    
+    private final ChessBoardState state;
+    private final int sourceFile;
+    private final int sourceRank;
+    private final int targetFile;
+    private final int targetRank;
+    private final Piece movedPiece;
+    private final Piece capturedPiece;
+    private final Piece promotionPiece;
+    
+    private ChessMove(final ChessBoardState state,
+                      final int sourceFile,
+                      final int sourceRank,
+                      final int targetFile,
+                      final int targetRank,
+                      final Piece movedPiece,
+                      final Piece capturedPiece,
+                      final Piece promotionPiece) {
+        
+        this.state          = state;
+        this.sourceFile     = sourceFile;
+        this.sourceRank     = sourceRank;
+        this.targetFile     = targetFile;
+        this.targetRank     = targetRank;
+        this.movedPiece     = movedPiece;
+        this.capturedPiece  = capturedPiece;
+        this.promotionPiece = promotionPiece;
+    }
+    
+    /**
+     * Recovers the move leading from {@code parent} to {@code child}.
+     * 
+     * @param parent the state before the move.
+     * @param child  the state after the move.
+     * 
+     * @return the move leading from {@code parent} to {@code child}.
+     */
+    public static ChessMove of(final ChessBoardState parent,
+                               final ChessBoardState child) {
+        
+        int targetFile = -1;
+        int targetRank = -1;
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                final Piece childPiece = child.get(file, rank);
+                
+                if (childPiece != null &&
+                        !childPiece.equals(parent.get(file, rank))) {
+                    
+                    targetFile = file;
+                    targetRank = rank;
+                }
+            }
+        }
+        
+        if (targetFile == -1) {
+            throw new IllegalArgumentException(
+                    "The child state does not follow the parent state.");
+        }
+        
+        final Piece targetPiece = child.get(targetFile, targetRank);
+        
+        int sourceFile = -1;
+        int sourceRank = -1;
+        Piece capturedPiece = parent.get(targetFile, targetRank);
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                final Piece parentPiece = parent.get(file, rank);
+                
+                if (parentPiece == null || child.get(file, rank) != null) {
+                    continue;
+                }
+                
+                if (parentPiece.getPieceColor() ==
+                        targetPiece.getPieceColor()) {
+                    
+                    sourceFile = file;
+                    sourceRank = rank;
+                } else {
+                    // Once here, the piece was captured en passant:
+                    capturedPiece = parentPiece;
+                }
+            }
+        }
+        
+        if (sourceFile == -1) {
+            throw new IllegalArgumentException(
+                    "The child state does not follow the parent state.");
+        }
+        
+        final Piece movedPiece = parent.get(sourceFile, sourceRank);
+        
+        return new ChessMove(
+                child,
+                sourceFile,
+                sourceRank,
+                targetFile,
+                targetRank,
+                movedPiece,
+                capturedPiece,
+                movedPiece.getPieceType() != targetPiece.getPieceType() ?
+                        targetPiece :
+                        null);
+    }
+    
+    /**
+     * Returns the state after this move.
+     * 
+     * @return the state after this move.
+     */
+    public ChessBoardState getState() {
+        return state;
+    }
+    
+    public int getSourceFile() {
+        return sourceFile;
+    }
+    
+    public int getSourceRank() {
+        return sourceRank;
+    }
+    
+    public int getTargetFile() {
+        return targetFile;
+    }
+    
+    public int getTargetRank() {
+        return targetRank;
+    }
+    
+    public Piece getMovedPiece() {
+        return movedPiece;
+    }
+    
+    /**
+     * Returns the captured piece or {@code null} if this move is not a capture.
+     * 
+     * @return the captured piece.
+     */
+    public Piece getCapturedPiece() {
+        return capturedPiece;
+    }
+    
+    /**
+     * Returns the piece the moved pawn was promoted to or {@code null} if this
+     * move is not a promotion.
+     * 
+     * @return the promotion piece.
+     */
+    public Piece getPromotionPiece() {
+        return promotionPiece;
+    }
+    
+    public boolean isCapture() {
+        return capturedPiece != null;
+    }
+    
+    public boolean isPromotion() {
+        return promotionPiece != null;
+    }
+    
+    /**
+     * Returns {@code true} if and only if this move neither captures nor
+     * promotes.
+     * 
+     * @return {@code true} if and only if this move is quiet.
+     */
+    public boolean isQuiet() {
+        return capturedPiece == null && promotionPiece == null;
+    }
+    
+    @Override
+    public boolean equals(final Object o) {
+        if (!(o instanceof ChessMove)) {
+            return false;
+        }
+        
+        final ChessMove other = (ChessMove) o;
+        
+        return sourceFile == other.sourceFile &&
+               sourceRank == other.sourceRank &&
+               targetFile == other.targetFile &&
+               targetRank == other.targetRank &&
+               Objects.equals(promotionPiece, other.promotionPiece);
+    }
+    
+    @Override
+    public int hashCode() {
+        int hash = 7;
+        
+        hash = 31 * hash + sourceFile;
+        hash = 31 * hash + sourceRank;
+        hash = 31 * hash + targetFile;
+        hash = 31 * hash + targetRank;
+        hash = 31 * hash + Objects.hashCode(promotionPiece);
+        return hash;
+    }
+    
+    /**
+     * Returns the move in coordinate notation, for example {@code e2e4} or
+     * {@code a7a8q}.
+     * 
+     * @return the textual representation of this move.
+     */
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder(5);
+        
+        stringBuilder.append((char)('a' + sourceFile))
+                     .append(N - sourceRank)
+                     .append((char)('a' + targetFile))
+                     .append(N - targetRank);
+        
+        if (promotionPiece != null) {
+            stringBuilder.append(
+                    promotionPiece.toString().toLowerCase());
+        }
+        
+        return stringBuilder.toString();
+    }
+}
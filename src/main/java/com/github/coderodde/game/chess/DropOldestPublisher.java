@@ -0,0 +1,185 @@
+package com.github.coderodde.game.chess;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This class implements a {@link Flow.Publisher} that never blocks the
+ * publishing threads. Each subscriber gets a bounded buffer; when a slow
+ * subscriber lets its buffer fill up, the oldest item is dropped to make room
+ * for the newest one. The items are delivered in {@code executor}, at most
+ * one delivery task per subscriber at a time.
+ * 
+ * @param <T> the item type.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class DropOldestPublisher<T> implements Flow.Publisher<T> {
+    
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final List<BufferedSubscription> subscriptions =
+            new CopyOnWriteArrayList<>();
+    
+    DropOldestPublisher(final Executor executor, final int bufferCapacity) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad buffer capacity: %d.", bufferCapacity));
+        }
+        
+        this.executor =
+                Objects.requireNonNull(executor, "The input executor is null.");
+        
+        this.bufferCapacity = bufferCapacity;
+    }
+    
+    @Override
+    public void subscribe(final Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "The input subscriber is null.");
+        
+        final BufferedSubscription subscription =
+                new BufferedSubscription(subscriber);
+        
+        subscriptions.add(subscription);
+        subscriber.onSubscribe(subscription);
+    }
+    
+    /**
+     * Returns {@code true} if and only if there is at least one subscriber.
+     * The publishers check this before building an item.
+     * 
+     * @return {@code true} if and only if there are subscribers.
+     */
+    boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+    
+    /**
+     * Buffers {@code item} for all the subscribers without blocking.
+     * 
+     * @param item the item to publish.
+     */
+    void submit(final T item) {
+        for (final BufferedSubscription subscription : subscriptions) {
+            subscription.offer(item);
+        }
+    }
+    
+    /**
+     * This class implements the subscription of a single subscriber.
+     */
+    private final class BufferedSubscription
+            implements Flow.Subscription, Runnable {
+        
+        private final Flow.Subscriber<? super T> subscriber;
+        
+        /**
+         * Whether a delivery task is scheduled or running.
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        
+        // Guarded by this subscription:
+        private final ArrayDeque<T> buffer = new ArrayDeque<>();
+        private long demand;
+        private boolean cancelled;
+        
+        BufferedSubscription(final Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+        
+        void offer(final T item) {
+            synchronized (this) {
+                if (cancelled) {
+                    return;
+                }
+                
+                if (buffer.size() == bufferCapacity) {
+                    buffer.pollFirst();
+                }
+                
+                buffer.addLast(item);
+            }
+            
+            schedule();
+        }
+        
+        @Override
+        public void request(final long n) {
+            if (n <= 0L) {
+                cancel();
+                subscriber.onError(
+                        new IllegalArgumentException(
+                                String.format("Bad request: %d.", n)));
+                return;
+            }
+            
+            synchronized (this) {
+                // Saturate at Long.MAX_VALUE, i.e., unbounded demand:
+                demand = demand + n < 0L ? Long.MAX_VALUE : demand + n;
+            }
+            
+            schedule();
+        }
+        
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                cancelled = true;
+                buffer.clear();
+            }
+            
+            subscriptions.remove(this);
+        }
+        
+        /**
+         * Delivers the buffered items while there is demand for them.
+         */
+        @Override
+        public void run() {
+            while (true) {
+                final T item;
+                
+                synchronized (this) {
+                    if (cancelled || demand == 0L || buffer.isEmpty()) {
+                        // An offer or a request after this point schedules a
+                        // new delivery task:
+                        scheduled.set(false);
+                        return;
+                    }
+                    
+                    item = buffer.pollFirst();
+                    
+                    if (demand != Long.MAX_VALUE) {
+                        demand--;
+                    }
+                }
+                
+                try {
+                    subscriber.onNext(item);
+                } catch (final RuntimeException ex) {
+                    cancel();
+                    subscriber.onError(ex);
+                }
+            }
+        }
+        
+        private void schedule() {
+            if (!scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            
+            try {
+                executor.execute(this);
+            } catch (final RejectedExecutionException ex) {
+                scheduled.set(false);
+            }
+        }
+    }
+}
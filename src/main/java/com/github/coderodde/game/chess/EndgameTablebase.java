@@ -0,0 +1,50 @@
+package com.github.coderodde.game.chess;
+
+/**
+ * This interface defines the API for probing endgame tablebases, i.e., 
+ * precomputed game-theoretic values of the positions with few pieces. The 
+ * engines probe a tablebase set via 
+ * {@link AbstractGameEngine#setEndgameTablebase(EndgameTablebase)} at the root
+ * and inside the search.
+ * <p>
+ * The tablebases know nothing about castling rights and en passant captures,
+ * so they are probed as if there were none.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public interface EndgameTablebase {
+    
+    /**
+     * Returns the maximum number of pieces, kings included, of the positions 
+     * this tablebase may hold.
+     * 
+     * @return the maximum piece count.
+     */
+    int getMaximumPieceCount();
+    
+    /**
+     * Probes the value of {@code state}.
+     * 
+     * @param state      the state to probe.
+     * @param playerTurn the player to move in {@code state}.
+     * 
+     * @return the value from the point of view of {@code playerTurn} or 
+     *         {@code null} if {@code state} is not in this tablebase or is 
+     *         illegal, i.e., the player not to move is in check.
+     */
+    WinDrawLoss probeWinDrawLoss(ChessBoardState state, PlayerTurn playerTurn);
+    
+    /**
+     * Probes the distance of {@code state} to the end of the current phase of
+     * the game under optimal play: to the mate or, depending on the metric of
+     * the tablebase, to the next capture or pawn move. The winning player 
+     * minimizes the distance and the losing player maximizes it.
+     * 
+     * @param state      the state to probe.
+     * @param playerTurn the player to move in {@code state}.
+     * 
+     * @return the distance in plies or {@code -1} if unknown.
+     */
+    int probeDistance(ChessBoardState state, PlayerTurn playerTurn);
+}
@@ -0,0 +1,36 @@
+package com.github.coderodde.game.chess;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Threshold;
+
+/**
+ * This class implements the JDK Flight Recorder event of a slow call to the 
+ * heuristic function. Only a sample of the calls is timed, and only the calls 
+ * exceeding the threshold are recorded. Disabled by default.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+@Name("com.github.coderodde.game.chess.Evaluation")
+@Label("Slow Evaluation")
+@Category({ "Chess", "Evaluation" })
+@Description("A sampled call to the heuristic function exceeding the "
+        + "threshold.")
+@Enabled(false)
+@Threshold("1 ms")
+final class EvaluationEvent extends Event {
+    
+    @Label("Heuristic Function")
+    String heuristicFunction;
+    
+    @Label("Depth")
+    int depth;
+    
+    @Label("Score")
+    double score;
+}
@@ -0,0 +1,37 @@
+package com.github.coderodde.game.chess;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class implements the JDK Flight Recorder event spanning a completed 
+ * iteration of an iteratively deepening search. Disabled by default.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+@Name("com.github.coderodde.game.chess.Iteration")
+@Label("Search Iteration")
+@Category({ "Chess", "Search" })
+@Description("A completed iteration of an iteratively deepening search.")
+@Enabled(false)
+final class IterationEvent extends Event {
+    
+    @Label("Depth")
+    int depth;
+    
+    @Label("Nodes")
+    @Description("The number of nodes visited since the search started.")
+    long nodes;
+    
+    @Label("Best Move")
+    String bestMove;
+    
+    @Label("Score")
+    @Description("The score of the best move. Positive favors black.")
+    double score;
+}
@@ -0,0 +1,24 @@
+package com.github.coderodde.game.chess;
+
+/**
+ * This interface defines the API for looking up the moves of an opening book.
+ * The engines consult a book set via
+ * {@link AbstractGameEngine#setOpeningBook(OpeningBook)} before searching the
+ * root and play the book move instead of searching if there is one.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public interface OpeningBook {
+    
+    /**
+     * Picks a book move of {@code state}.
+     * 
+     * @param state      the state to look up.
+     * @param playerTurn the player to move in {@code state}.
+     * 
+     * @return the state after the book move or {@code null} if the book has
+     *         no legal move for {@code state}.
+     */
+    ChessBoardState probe(ChessBoardState state, PlayerTurn playerTurn);
+}
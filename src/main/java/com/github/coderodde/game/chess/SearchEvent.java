@@ -0,0 +1,43 @@
+package com.github.coderodde.game.chess;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * This class implements the JDK Flight Recorder event spanning a whole 
+ * search. Disabled by default.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+@Name("com.github.coderodde.game.chess.Search")
+@Label("Search")
+@Category({ "Chess", "Search" })
+@Description("A search of the game tree, from its start to its stop.")
+@Enabled(false)
+final class SearchEvent extends Event {
+    
+    @Label("Engine")
+    String engine;
+    
+    @Label("Maximum Depth")
+    int maximumDepth;
+    
+    @Label("Nodes")
+    long nodes;
+    
+    @Label("Best Move")
+    String bestMove;
+    
+    @Label("Score")
+    @Description("The score of the best move. Positive favors black.")
+    double score;
+    
+    @Label("Stopped")
+    @Description("Whether the search was stopped before completing.")
+    boolean stopped;
+}
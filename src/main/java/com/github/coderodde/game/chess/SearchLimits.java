@@ -0,0 +1,95 @@
+package com.github.coderodde.game.chess;
+
+/**
+ * This class holds the limits of an asynchronous search: the maximum depth,
+ * the maximum number of nodes and the maximum duration. The search deepens
+ * iteratively until any of the limits is reached. The node and time limits
+ * are checked only after the first iteration, so that a search always has a
+ * move to return.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class SearchLimits {
+    
+    /**
+     * Denotes no limit on the number of nodes or the duration.
+     */
+    public static final long UNLIMITED = Long.MAX_VALUE;
+    
+    private final int maximumDepth;
+    private final long maximumNodes;
+    private final long moveTimeMillis;
+    
+    /**
+     * Constructs the search limits.
+     * 
+     * @param maximumDepth   the maximum depth. Must be at least 1.
+     * @param maximumNodes   the maximum number of nodes or {@link #UNLIMITED}.
+     * @param moveTimeMillis the maximum duration in milliseconds or
+     *                       {@link #UNLIMITED}.
+     */
+    public SearchLimits(final int maximumDepth,
+                        final long maximumNodes,
+                        final long moveTimeMillis) {
+        
+        if (maximumDepth < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad maximum depth: %d.", maximumDepth));
+        }
+        
+        if (maximumNodes < 1L) {
+            throw new IllegalArgumentException(
+                    String.format("Bad maximum nodes: %d.", maximumNodes));
+        }
+        
+        if (moveTimeMillis < 0L) {
+            throw new IllegalArgumentException(
+                    String.format("Bad move time: %d.", moveTimeMillis));
+        }
+        
+        this.maximumDepth   = maximumDepth;
+        this.maximumNodes   = maximumNodes;
+        this.moveTimeMillis = moveTimeMillis;
+    }
+    
+    /**
+     * Returns the limits searching to {@code maximumDepth} with no node or
+     * time limits.
+     * 
+     * @param maximumDepth the maximum depth.
+     * 
+     * @return the search limits.
+     */
+    public static SearchLimits ofDepth(final int maximumDepth) {
+        return new SearchLimits(maximumDepth, UNLIMITED, UNLIMITED);
+    }
+    
+    public int getMaximumDepth() {
+        return maximumDepth;
+    }
+    
+    public long getMaximumNodes() {
+        return maximumNodes;
+    }
+    
+    public long getMoveTimeMillis() {
+        return moveTimeMillis;
+    }
+    
+    /**
+     * Returns {@code true} if and only if a search that has run for
+     * {@code elapsedNanos} nanoseconds and visited {@code nodes} nodes has
+     * reached the node or the time limit.
+     * 
+     * @param nodes        the number of nodes visited so far.
+     * @param elapsedNanos the duration of the search so far.
+     * 
+     * @return {@code true} if and only if the search should stop.
+     */
+    boolean isReached(final long nodes, final long elapsedNanos) {
+        return nodes >= maximumNodes
+                || (moveTimeMillis != UNLIMITED
+                    && elapsedNanos >= moveTimeMillis * 1_000_000L);
+    }
+}
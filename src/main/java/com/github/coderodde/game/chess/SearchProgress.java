@@ -0,0 +1,123 @@
+package com.github.coderodde.game.chess;
+
+import java.util.List;
+
+/**
+ * This class holds a progress report of a running search. A report is
+ * published at the end of each iteration of an iteratively deepening search
+ * and whenever the search finds a new best move in the middle of an
+ * iteration.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class SearchProgress {
+    
+    private final int depth;
+    private final double score;
+    private final List<ChessMove> principalVariation;
+    private final long nodeCount;
+    private final long elapsedMillis;
+    private final boolean iterationCompleted;
+    
+    SearchProgress(final int depth,
+                   final double score,
+                   final List<ChessMove> principalVariation,
+                   final long nodeCount,
+                   final long elapsedMillis,
+                   final boolean iterationCompleted) {
+        
+        this.depth              = depth;
+        this.score              = score;
+        this.principalVariation = List.copyOf(principalVariation);
+        this.nodeCount          = nodeCount;
+        this.elapsedMillis      = elapsedMillis;
+        this.iterationCompleted = iterationCompleted;
+    }
+    
+    /**
+     * Returns the depth of the iteration.
+     * 
+     * @return the depth of the iteration.
+     */
+    public int getDepth() {
+        return depth;
+    }
+    
+    /**
+     * Returns the score of the best move. As with the heuristic functions,
+     * positive scores favor the black player.
+     * 
+     * @return the score of the best move.
+     */
+    public double getScore() {
+        return score;
+    }
+    
+    public ChessMove getBestMove() {
+        return principalVariation.get(0);
+    }
+    
+    /**
+     * Returns the principal variation, starting with the best move.
+     * 
+     * @return the principal variation.
+     */
+    public List<ChessMove> getPrincipalVariation() {
+        return principalVariation;
+    }
+    
+    /**
+     * Returns the number of nodes visited since the search started. In the
+     * middle of an iteration, the count is approximate.
+     * 
+     * @return the number of visited nodes.
+     */
+    public long getNodeCount() {
+        return nodeCount;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    /**
+     * Returns the number of nodes visited per second.
+     * 
+     * @return the search speed.
+     */
+    public long getNodesPerSecond() {
+        return nodeCount * 1000L / Math.max(1L, elapsedMillis);
+    }
+    
+    /**
+     * Returns {@code true} if this report was published at the end of an
+     * iteration and {@code false} if it was published on a new best move in
+     * the middle of an iteration.
+     * 
+     * @return {@code true} if and only if the iteration is completed.
+     */
+    public boolean isIterationCompleted() {
+        return iterationCompleted;
+    }
+    
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        
+        stringBuilder.append(
+                String.format("depth %d%s score %.3f nodes %d nps %d time %d pv",
+                              depth,
+                              iterationCompleted ? "" : " (best move)",
+                              score,
+                              nodeCount,
+                              getNodesPerSecond(),
+                              elapsedMillis));
+        
+        for (final ChessMove move : principalVariation) {
+            stringBuilder.append(' ').append(move);
+        }
+        
+        return stringBuilder.toString();
+    }
+}
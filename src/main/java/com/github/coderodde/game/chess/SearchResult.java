@@ -0,0 +1,100 @@
+package com.github.coderodde.game.chess;
+
+import java.util.List;
+
+/**
+ * This class holds the result of a search: the best move, its score, the
+ * depth of the last completed iteration, the principal variation and the
+ * number of visited nodes.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class SearchResult {
+    
+    private final ChessBoardState bestMoveState;
+    private final ChessMove bestMove;
+    private final double score;
+    private final int depth;
+    private final List<ChessMove> principalVariation;
+    private final long nodeCount;
+    
+    /**
+     * Constructs the search result.
+     * 
+     * @param root               the root state of the search.
+     * @param bestMoveState      the state after the best move.
+     * @param score              the score of the best move.
+     * @param depth              the depth of the last completed iteration.
+     * @param principalVariation the principal variation. Starts with the best
+     *                           move.
+     * @param nodeCount          the number of visited nodes.
+     */
+    public SearchResult(final ChessBoardState root,
+                        final ChessBoardState bestMoveState,
+                        final double score,
+                        final int depth,
+                        final List<ChessMove> principalVariation,
+                        final long nodeCount) {
+        
+        this.bestMoveState      = ChessBoardState.copyOf(bestMoveState);
+        this.bestMove           = ChessMove.of(root, bestMoveState);
+        this.score              = score;
+        this.depth              = depth;
+        this.principalVariation = List.copyOf(principalVariation);
+        this.nodeCount          = nodeCount;
+    }
+    
+    public ChessBoardState getBestMoveState() {
+        return bestMoveState;
+    }
+    
+    public ChessMove getBestMove() {
+        return bestMove;
+    }
+    
+    /**
+     * Returns the score of the best move. As with the heuristic functions,
+     * positive scores favor the black player.
+     * 
+     * @return the score of the best move.
+     */
+    public double getScore() {
+        return score;
+    }
+    
+    public int getDepth() {
+        return depth;
+    }
+    
+    /**
+     * Returns the principal variation, i.e., the line of play both players
+     * are expected to follow, starting with the best move. The line may be
+     * shorter than the search depth.
+     * 
+     * @return the principal variation.
+     */
+    public List<ChessMove> getPrincipalVariation() {
+        return principalVariation;
+    }
+    
+    public long getNodeCount() {
+        return nodeCount;
+    }
+    
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        
+        stringBuilder.append(String.format("depth %d score %.3f nodes %d pv",
+                                           depth,
+                                           score,
+                                           nodeCount));
+        
+        for (final ChessMove move : principalVariation) {
+            stringBuilder.append(' ').append(move);
+        }
+        
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.coderodde.game.chess;
+
+/**
+ * This enumeration specifies the game-theoretic value of a position from the
+ * point of view of the player to move.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public enum WinDrawLoss {
+    
+    LOSS,
+    DRAW,
+    WIN;
+    
+    /**
+     * Returns the value from the point of view of the other player.
+     * 
+     * @return the negated value.
+     */
+    public WinDrawLoss negate() {
+        return switch (this) {
+            case LOSS -> WIN;
+            case WIN  -> LOSS;
+            default   -> DRAW;
+        };
+    }
+}
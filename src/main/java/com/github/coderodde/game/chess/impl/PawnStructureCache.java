@@ -0,0 +1,62 @@
+package com.github.coderodde.game.chess.impl;
+
+/**
+ * This class implements a fixed-size cache of pawn structure scores, indexed
+ * by the pawn keys of the states. The cache is thread-safe without locking: 
+ * each slot stores the key XORed with the score bits next to the score bits, 
+ * so a slot torn by concurrent writes fails the key check and counts as a 
+ * miss.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class PawnStructureCache {
+    
+    private final long[] checks;
+    private final long[] scoreBits;
+    private final int mask;
+    
+    /**
+     * Constructs a cache.
+     * 
+     * @param capacity the number of slots. A power of two.
+     */
+    PawnStructureCache(final int capacity) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad capacity: %d.", capacity));
+        }
+        
+        this.checks = new long[capacity];
+        this.scoreBits = new long[capacity];
+        this.mask = capacity - 1;
+    }
+    
+    /**
+     * Returns the cached score of the pawn structure with key {@code key}.
+     * 
+     * @param key the pawn key.
+     * 
+     * @return the score or {@link Double#NaN} if not cached.
+     */
+    double get(final long key) {
+        final int index = index(key);
+        final long bits = scoreBits[index];
+        
+        return (checks[index] ^ bits) == key ? 
+               Double.longBitsToDouble(bits) :
+               Double.NaN;
+    }
+    
+    void put(final long key, final double score) {
+        final int index = index(key);
+        final long bits = Double.doubleToLongBits(score);
+        
+        scoreBits[index] = bits;
+        checks[index] = key ^ bits;
+    }
+    
+    private int index(final long key) {
+        return (int)(key ^ (key >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.coderodde.game.chess.impl;
+
+import com.github.coderodde.game.chess.AbstractHeuristicFunction;
+import com.github.coderodde.game.chess.ChessBoardState;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceColor;
+import com.github.coderodde.game.chess.PieceSquareTables;
+import com.github.coderodde.game.chess.PieceType;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This class implements a fast heuristic function tapering between the 
+ * middlegame and the endgame piece-square tables by the game phase. The 
+ * states maintain the piece-square scores incrementally, so an evaluation 
+ * takes a handful of arithmetic operations. Unlike 
+ * {@link ShannonHeuristicFunction}, it does not detect hanging pieces or 
+ * compute mobility; use it when the search speed matters more than the 
+ * accuracy of the leaf scores.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PieceSquareTableHeuristicFunction 
+        extends AbstractHeuristicFunction {
+    
+    /**
+     * The maximum number of pieces on the board.
+     */
+    private static final int MAXIMUM_PIECES = 32;
+    
+    /**
+     * The bound of the evaluation minus the material balance: each piece
+     * deviates from its presence score by at most the largest deviation of 
+     * any piece on any cell, as a promoted pawn may be of any type.
+     */
+    private static final double POSITIONAL_BOUND = 
+            MAXIMUM_PIECES * getMaximumPieceDeviation();
+    
+    private final Map<ChessBoardState, Integer> stateFrequencyMap = 
+            new HashMap<>();
+    
+    @Override
+    public void clearStateFrequencyMap() {
+        this.stateFrequencyMap.clear();
+    }
+    
+    @Override
+    public Map<ChessBoardState, Integer> getStateFrequencyMap() {
+        return stateFrequencyMap;
+    }
+    
+    @Override
+    public double evaluate(final ChessBoardState state, final int depth) {
+        return PieceSquareTables.taper(state.getMiddlegameScore(),
+                                       state.getEndgameScore(),
+                                       state.getGamePhase());
+    }
+    
+    @Override
+    public double getPositionalBound() {
+        return POSITIONAL_BOUND;
+    }
+    
+    /**
+     * Returns the largest difference between the middlegame or the endgame 
+     * score of a piece and its presence score. The tapered score lies between
+     * the two, so it deviates no more.
+     */
+    private static double getMaximumPieceDeviation() {
+        double deviation = 0.0;
+        
+        for (final PieceType pieceType : PieceType.values()) {
+            final Piece piece = new Piece(PieceColor.BLACK, pieceType);
+            
+            for (int rank = 0; rank < N; rank++) {
+                for (int file = 0; file < N; file++) {
+                    final double middlegameScore = 
+                            PieceSquareTables.getMiddlegameScore(piece, 
+                                                                 file, 
+                                                                 rank);
+                    
+                    final double endgameScore = 
+                            PieceSquareTables.getEndgameScore(piece, 
+                                                              file, 
+                                                              rank);
+                    
+                    deviation = 
+                            Math.max(deviation,
+                                     Math.abs(middlegameScore / 100.0 
+                                            - piece.getPresenceScore()));
+                    
+                    deviation = 
+                            Math.max(deviation,
+                                     Math.abs(endgameScore / 100.0
+                                            - piece.getPresenceScore()));
+                }
+            }
+        }
+        
+        return deviation;
+    }
+}
@@ -11,27 +11,90 @@ import static com.github.coderodde.game.chess.PieceType.PAWN;
 import com.github.coderodde.game.chess.impl.attackcheck.BlackUnderAttackCheck;
 import com.github.coderodde.game.chess.impl.attackcheck.WhiteUnderAttackCheck;
 import com.github.coderodde.game.chess.UnderAttackCheck;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * This class implements a default heuristic function. It takes into account 
- * presence of each piece and wether each piece is under attack by a player of
- * opposite color.
+ * presence of each piece and wether each piece is hanging, i.e., the player of
+ * opposite color wins material by exchanging on its cell.
+ * <p>
+ * The material is read from the incrementally maintained terms of the 
+ * state, and the pawn structure terms that depend on the pawns only are 
+ * cached by the pawn key of the state.
+ * <p>
+ * The weights of the terms come from {@link ShannonWeights}, by default from
+ * the configured ones, and can be tuned by {@link ShannonWeightsTuner}.
+ * <p>
+ * The hanging pieces and the mobility are not bounded by anything like the
+ * margins of the pruning searches: a hanging king alone is worth 250 pawns 
+ * and the mobility reaches tens of pawns. Their sum, together with the pawn
+ * defects, is therefore capped at the presence score of the queen (see 
+ * {@link ShannonWeights#getPositionalCap()}). The cap bounds the evaluation
+ * minus the material balance, so the searches prune by the material balance
+ * under this function too (see {@link #getPositionalBound()}).
+ * <p>
+ * Given a search window, the evaluation is lazy: the leaves whose material 
+ * is farther from the window than the cap are decided by the material alone,
+ * and the expensive terms are skipped.
  * 
- * @version 1.0.0 (Jul 15, 2024)
+ * @version 1.0.8 (Oct 19, 2026)
  * @since 1.0.0 (Jul 15, 2024)
  */
 public final class ShannonHeuristicFunction extends AbstractHeuristicFunction {
-
+    
     private static final UnderAttackCheck WHITE_CHECK = 
             new WhiteUnderAttackCheck();
 
     private static final UnderAttackCheck BLACK_CHECK = 
             new BlackUnderAttackCheck();
     
+    private static final StaticExchangeEvaluator STATIC_EXCHANGE_EVALUATOR =
+            new StaticExchangeEvaluator();
+    
+    private static final int PAWN_STRUCTURE_CACHE_CAPACITY = 1 << 14;
+    
+    /**
+     * The maximum number of pieces on the board.
+     */
+    private static final int MAXIMUM_PIECES = 32;
+    
+    private final PawnStructureCache pawnStructureCache = 
+            new PawnStructureCache(PAWN_STRUCTURE_CACHE_CAPACITY);
+    
     private final Map<ChessBoardState, Integer> stateFrequencyMap = 
             new HashMap<>();
+    
+    private final ShannonWeights weights;
+    private final boolean defaultPresenceScores;
+    private final double positionalCap;
+    private final double positionalBound;
+    
+    /**
+     * Constructs a heuristic function with the configured weights.
+     * 
+     * @see ShannonWeights#getConfigured() 
+     */
+    public ShannonHeuristicFunction() {
+        this(ShannonWeights.getConfigured());
+    }
+    
+    public ShannonHeuristicFunction(final ShannonWeights weights) {
+        this.weights = 
+                Objects.requireNonNull(weights, "The input weights is null.");
+        
+        this.defaultPresenceScores = weights.hasDefaultPresenceScores();
+        this.positionalCap = weights.getPositionalCap();
+        
+        // Besides the capped terms, each piece may shift the material away
+        // from the material balance of the states by the deviation of its 
+        // presence score:
+        this.positionalBound = 
+                positionalCap 
+                + MAXIMUM_PIECES * weights.getMaximumPresenceDeviation();
+    }
 
     @Override
     public void clearStateFrequencyMap() {
@@ -43,52 +106,230 @@ public final class ShannonHeuristicFunction extends AbstractHeuristicFunction {
         return stateFrequencyMap;
     }
     
+    public ShannonWeights getWeights() {
+        return weights;
+    }
+    
+    @Override
+    public double getPositionalBound() {
+        return positionalBound;
+    }
+    
     @Override
     public double evaluate(final ChessBoardState state, final int depth) {
-        double score = 0;
+        return evaluate(state, 
+                        depth, 
+                        Double.NEGATIVE_INFINITY, 
+                        Double.POSITIVE_INFINITY);
+    }
+    
+    /**
+     * Evaluates {@code state} lazily: the material comes first, and the rest 
+     * of the terms are skipped if even their cap cannot bring the score back 
+     * into the window. The early score is then the material minus or plus the
+     * cap, which bounds the full evaluation from the side of the window.
+     * 
+     * @param state the state to evaluate.
+     * @param depth the depth of {@code state} in the search tree.
+     * @param alpha the alpha bound.
+     * @param beta  the beta bound.
+     * 
+     * @return the evaluation of {@code state} or, if the evaluation stops 
+     *         early, a bound of it outside the window.
+     */
+    @Override
+    public double evaluate(final ChessBoardState state, 
+                           final int depth,
+                           final double alpha,
+                           final double beta) {
+        
+        final double material = getMaterialScore(state);
+        
+        if (material - positionalCap >= beta) {
+            return material - positionalCap;
+        }
+        
+        if (material + positionalCap <= alpha) {
+            return material + positionalCap;
+        }
+        
+        final short[] features = new short[ShannonWeights.FEATURES];
+        
+        computeVulnerabilities(state, features, 0);
+        
+        features[ShannonWeights.PAWN_DEFECTS] = 
+                (short) -countPawnDefects(state);
+        
+        final double positionalScore = 
+                weights.evaluate(features, 0, ShannonWeights.VULNERABILITY);
+        
+        return material + capPositionalScore(positionalScore 
+                                           + mobility(state));
+    }
+    
+    /**
+     * Caps the sum of the terms other than the material at 
+     * {@link ShannonWeights#getPositionalCap()}.
+     */
+    private double capPositionalScore(final double positionalScore) {
+        return Math.max(-positionalCap, 
+                        Math.min(positionalCap, positionalScore));
+    }
+    
+    /**
+     * Computes the features of {@code state}, i.e., the terms the weights 
+     * multiply. Positive features favor the black player if their weights are
+     * positive.
+     * 
+     * @param state    the state to investigate.
+     * @param features the array to store the features in.
+     * @param offset   the offset of the first feature in {@code features}.
+     */
+    void computeFeatures(final ChessBoardState state,
+                         final short[] features,
+                         final int offset) {
+        
+        Arrays.fill(features, offset, offset + ShannonWeights.FEATURES, 
+                    (short) 0);
         
         for (int rank = 0; rank < N; rank++) {
             for (int file = 0; file < N; file++) {
                 final Piece piece = state.get(file, rank);
                 
-                if (piece == null) {
+                if (piece != null) {
+                    features[offset 
+                           + ShannonWeights.PRESENCE 
+                           + piece.getPieceType().ordinal()] += 
+                            (short) (piece.isBlack() ? 1 : -1);
+                }
+            }
+        }
+        
+        computeVulnerabilities(state, features, offset);
+        
+        features[offset + ShannonWeights.PAWN_DEFECTS] = 
+                (short) -countPawnDefects(state);
+        
+        features[offset + ShannonWeights.MOBILITY] = 
+                (short) countMobility(state);
+    }
+    
+    /**
+     * Counts the hanging pieces of {@code state} into the vulnerability 
+     * features.
+     */
+    private void computeVulnerabilities(final ChessBoardState state,
+                                        final short[] features,
+                                        final int offset) {
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                final Piece piece = state.get(file, rank);
+                
+                if (piece == null || !isHanging(state, file, rank)) {
                     continue;
                 }
                 
-                if (piece.isWhite()) {
-                    score -= piece.getPresenceScore();
-                    
-                    if (WHITE_CHECK.check(state, file, rank)) {
-                        score += piece.getVulnerabilityScore();
-                    }
-                } else {
-                    score += piece.getPresenceScore();
-                    
-                    if (BLACK_CHECK.check(state, file, rank)) {
-                        score -= piece.getVulnerabilityScore();
-                    }
+                features[offset 
+                       + ShannonWeights.VULNERABILITY 
+                       + piece.getPieceType().ordinal()] += 
+                        (short) (piece.isWhite() ? 1 : -1);
+            }
+        }
+    }
+    
+    private double getMaterialScore(final ChessBoardState state) {
+        if (defaultPresenceScores) {
+            return state.getMaterialScore();
+        }
+        
+        double score = 0.0;
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                final Piece piece = state.get(file, rank);
+                
+                if (piece == null) {
+                    continue;
                 }
+                
+                final double presenceScore = 
+                        weights.getPresenceScore(piece.getPieceType());
+                
+                score += piece.isBlack() ? presenceScore : -presenceScore;
             }
         }
         
-        return score - pawnMaterial(state) + mobility(state); 
+        return score;
+    }
+    
+    /**
+     * Checks whether the piece at file {@code file} and rank {@code rank} is
+     * hanging. Unlike a plain attack check, an attacked piece that is defended
+     * well enough is not considered vulnerable.
+     * 
+     * @param state the state to investigate.
+     * @param file  the file of the piece.
+     * @param rank  the rank of the piece.
+     * 
+     * @return {@code true} if and only if the piece is hanging.
+     */
+    boolean isHanging(final ChessBoardState state,
+                      final int file, 
+                      final int rank) {
+        
+        return STATIC_EXCHANGE_EVALUATOR.evaluate(state, file, rank) > 0.0;
     }
     
-    private double pawnMaterial(final ChessBoardState state) {
-        int score = 0;
+    /**
+     * Returns the number of the pawn defects of the white player minus that of
+     * the black player.
+     * 
+     * @param state the state to investigate.
+     * 
+     * @return the pawn defect count difference.
+     */
+    private int countPawnDefects(final ChessBoardState state) {
+        int count = 0;
         
         for (int file = 0; file < N; file++) {
-            score += countBlockedPawnWhite(state, file);
-            score -= countBlockedPawnBlack(state, file);
-            
-            score += countDoubledPawnsWhite(state, file);
-            score -= countDoubledPawnsBlack(state, file);
+            // The blocking pieces need not be pawns, so this term is not 
+            // cached:
+            count += countBlockedPawnWhite(state, file);
+            count -= countBlockedPawnBlack(state, file);
+        }
+        
+        return count + countPawnStructureDefects(state);
+    }
+    
+    /**
+     * Returns the difference of the doubled and isolated pawn counts, which 
+     * depends on the pawns only.
+     * 
+     * @param state the state to investigate.
+     * 
+     * @return the pawn structure defect count difference.
+     */
+    private int countPawnStructureDefects(final ChessBoardState state) {
+        final long pawnKey = state.getPawnKey();
+        final double cachedCount = pawnStructureCache.get(pawnKey);
+        
+        if (!Double.isNaN(cachedCount)) {
+            return (int) cachedCount;
+        }
+        
+        int count = 0;
+        
+        for (int file = 0; file < N; file++) {
+            count += countDoubledPawnsWhite(state, file);
+            count -= countDoubledPawnsBlack(state, file);
             
-            score += countIsolatedPawnsWhite(state, file);
-            score -= countIsolatedPawnsBlack(state, file);
+            count += countIsolatedPawnsWhite(state, file);
+            count -= countIsolatedPawnsBlack(state, file);
         }
         
-        return 0.5 * score;
+        pawnStructureCache.put(pawnKey, count);
+        return count;
     }
     
     /**
@@ -216,12 +457,24 @@ public final class ShannonHeuristicFunction extends AbstractHeuristicFunction {
     }
     
     double mobility(final ChessBoardState state) {
-        int mobilityWhite = 0;
-        int mobilityBlack = 0;
+        return weights.getMobilityScore() * countMobility(state);
+    }
+    
+    /**
+     * Returns the mobility of the black player minus that of the white player.
+     * Each piece counts all the cells attacked by its player, so the cells are
+     * counted once per player and multiplied by the piece counts.
+     * 
+     * @param state the state to investigate.
+     * 
+     * @return the mobility difference.
+     */
+    private int countMobility(final ChessBoardState state) {
+        int whitePieces = 0;
+        int blackPieces = 0;
         
         for (int rank = 0; rank < N; rank++) {
             for (int file = 0; file < N; file++) {
-                
                 final Piece piece = state.get(file, rank);
                 
                 if (piece == null) {
@@ -229,26 +482,29 @@ public final class ShannonHeuristicFunction extends AbstractHeuristicFunction {
                 }
                 
                 if (piece.isWhite()) {
-                    for (int rank2 = 0; rank2 < N; rank2++) {
-                        for (int file2 = 0; file2 < N; file2++) {
-                            if (BLACK_CHECK.check(state, file2, rank2)) {
-                                mobilityWhite++;
-                            }
-                        }
-                    }
+                    whitePieces++;
                 } else {
-                    for (int rank2 = 0; rank2 < N; rank2++) {
-                        for (int file2 = 0; file2 < N; file2++) {
-                            if (WHITE_CHECK.check(state, file2, rank2)) {
-                                mobilityBlack++;
-                            }
-                        }
-                    }
+                    blackPieces++;
+                }
+            }
+        }
+        
+        int whiteCells = 0;
+        int blackCells = 0;
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                if (whitePieces > 0 && BLACK_CHECK.check(state, file, rank)) {
+                    whiteCells++;
+                }
+                
+                if (blackPieces > 0 && WHITE_CHECK.check(state, file, rank)) {
+                    blackCells++;
                 }
             }
         }
         
-        return 0.1 * (mobilityBlack - mobilityWhite);       
+        return blackPieces * blackCells - whitePieces * whiteCells;
     }
     
     private boolean[] getOpenFileFlags(final PieceColor color,
@@ -0,0 +1,342 @@
+package com.github.coderodde.game.chess.impl;
+
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceColor;
+import com.github.coderodde.game.chess.PieceType;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * This class holds the weights of {@link ShannonHeuristicFunction}. The
+ * evaluation is linear in the weights: it is the dot product of the weights
+ * and the features of the state, i.e., for each piece type the difference of
+ * the piece counts and the difference of the hanging piece counts, the
+ * difference of the pawn defect counts and the difference of the mobilities.
+ * Only the sum of the terms other than the presence is capped (see
+ * {@link #getPositionalCap()}).
+ * <p>
+ * The weights are stored as properties files with keys such as
+ * {@code presence.pawn}, {@code vulnerability.rook}, {@code pawnDefect} and
+ * {@code mobility}. If the system property {@value #CONFIGURATION_PROPERTY}
+ * names such a file, the default constructor of
+ * {@link ShannonHeuristicFunction} uses its weights.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class ShannonWeights {
+    
+    /**
+     * The system property naming the weight file read at startup.
+     */
+    public static final String CONFIGURATION_PROPERTY =
+            "com.github.coderodde.game.chess.shannonWeights";
+    
+    // The feature layout:
+    static final int PRESENCE = 0;
+    static final int VULNERABILITY = PRESENCE + PieceType.values().length;
+    static final int PAWN_DEFECTS =
+            VULNERABILITY + PieceType.values().length;
+    
+    static final int MOBILITY = PAWN_DEFECTS + 1;
+    static final int FEATURES = MOBILITY + 1;
+    
+    private static final String PRESENCE_KEY = "presence.";
+    private static final String VULNERABILITY_KEY = "vulnerability.";
+    private static final String PAWN_DEFECT_KEY = "pawnDefect";
+    private static final String MOBILITY_KEY = "mobility";
+    
+    private static final ShannonWeights DEFAULTS = createDefaults();
+    
+    private final double[] weights;
+    
+    ShannonWeights(final double[] weights) {
+        if (weights.length != FEATURES) {
+            throw new IllegalArgumentException(
+                    String.format("Bad number of weights: %d.",
+                                  weights.length));
+        }
+        
+        for (final double weight : weights) {
+            if (!Double.isFinite(weight)) {
+                throw new IllegalArgumentException(
+                        String.format("Bad weight: %f.", weight));
+            }
+        }
+        
+        this.weights = weights.clone();
+    }
+    
+    /**
+     * Returns the hand-written weights, i.e., the presence and the
+     * vulnerability scores of {@link Piece}, half a pawn per pawn defect and
+     * a tenth of a pawn per mobility unit.
+     * 
+     * @return the default weights.
+     */
+    public static ShannonWeights getDefaults() {
+        return DEFAULTS;
+    }
+    
+    /**
+     * Returns the weights read at startup from the file named by the system
+     * property {@value #CONFIGURATION_PROPERTY}, or the default weights if
+     * the property is not set.
+     * 
+     * @return the configured weights.
+     * @throws UncheckedIOException if the file cannot be loaded.
+     */
+    public static ShannonWeights getConfigured() {
+        return ConfiguredWeightsHolder.WEIGHTS;
+    }
+    
+    /**
+     * Loads the weights from the properties file {@code path}.
+     * 
+     * @param path the path of the weight file.
+     * 
+     * @return the weights.
+     * @throws IOException if the file cannot be read or lacks a weight.
+     */
+    public static ShannonWeights load(final Path path) throws IOException {
+        Objects.requireNonNull(path, "The input path is null.");
+        
+        final Properties properties = new Properties();
+        
+        try (final InputStream inputStream = Files.newInputStream(path)) {
+            properties.load(inputStream);
+        }
+        
+        final double[] weights = new double[FEATURES];
+        
+        for (int feature = 0; feature < FEATURES; feature++) {
+            final String key = getKey(feature);
+            final String value = properties.getProperty(key);
+            
+            if (value == null) {
+                throw new IOException(
+                        String.format("Missing weight: %s.", key));
+            }
+            
+            try {
+                weights[feature] = Double.parseDouble(value.trim());
+            } catch (final NumberFormatException ex) {
+                throw new IOException(
+                        String.format("Bad weight %s: %s.", key, value), ex);
+            }
+        }
+        
+        try {
+            return new ShannonWeights(weights);
+        } catch (final IllegalArgumentException ex) {
+            throw new IOException(ex.getMessage(), ex);
+        }
+    }
+    
+    /**
+     * Stores the weights to the properties file {@code path}, replacing any
+     * existing file.
+     * 
+     * @param path the path of the weight file.
+     * 
+     * @throws IOException if the file cannot be written.
+     */
+    public void store(final Path path) throws IOException {
+        Objects.requireNonNull(path, "The input path is null.");
+        
+        final Properties properties = new Properties();
+        
+        for (int feature = 0; feature < FEATURES; feature++) {
+            properties.setProperty(getKey(feature),
+                                   Double.toString(weights[feature]));
+        }
+        
+        try (final OutputStream outputStream = Files.newOutputStream(path)) {
+            properties.store(outputStream, "Shannon heuristic weights");
+        }
+    }
+    
+    public double getPresenceScore(final PieceType pieceType) {
+        return weights[PRESENCE + pieceType.ordinal()];
+    }
+    
+    public double getVulnerabilityScore(final PieceType pieceType) {
+        return weights[VULNERABILITY + pieceType.ordinal()];
+    }
+    
+    public double getPawnDefectScore() {
+        return weights[PAWN_DEFECTS];
+    }
+    
+    public double getMobilityScore() {
+        return weights[MOBILITY];
+    }
+    
+    /**
+     * Returns the cap of the terms other than the presence, i.e., of the 
+     * hanging pieces, the pawn defects and the mobility together. It is the 
+     * presence score of the queen: no positional consideration outweighs the
+     * strongest piece.
+     * 
+     * @return the cap of the non-material terms in pawns.
+     */
+    public double getPositionalCap() {
+        return Math.abs(getPresenceScore(PieceType.QUEEN));
+    }
+    
+    /**
+     * Returns the largest difference between a presence score and the 
+     * default one, i.e., by how much a single piece may shift the material
+     * away from the material score maintained by the states.
+     * 
+     * @return the largest presence score deviation.
+     */
+    double getMaximumPresenceDeviation() {
+        double deviation = 0.0;
+        
+        for (int feature = PRESENCE; feature < VULNERABILITY; feature++) {
+            deviation = 
+                    Math.max(deviation,
+                             Math.abs(weights[feature] 
+                                    - DEFAULTS.weights[feature]));
+        }
+        
+        return deviation;
+    }
+    
+    /**
+     * Returns {@code true} if and only if the presence scores equal those of
+     * {@link Piece}, i.e., the material score maintained by the states
+     * applies.
+     * 
+     * @return {@code true} if the presence scores are the default ones.
+     */
+    boolean hasDefaultPresenceScores() {
+        return Arrays.equals(weights,
+                             PRESENCE,
+                             VULNERABILITY,
+                             DEFAULTS.weights,
+                             PRESENCE,
+                             VULNERABILITY);
+    }
+    
+    double get(final int feature) {
+        return weights[feature];
+    }
+    
+    /**
+     * Computes the dot product of the weights and the features in
+     * {@code features}, starting from the feature {@code from}.
+     * 
+     * @param features the features.
+     * @param offset   the offset of the first feature in {@code features}.
+     * @param from     the first feature to include.
+     * 
+     * @return the weighted sum of the features.
+     */
+    double evaluate(final short[] features, final int offset, final int from) {
+        double score = 0.0;
+        
+        for (int feature = from; feature < FEATURES; feature++) {
+            score += weights[feature] * features[offset + feature];
+        }
+        
+        return score;
+    }
+    
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof ShannonWeights
+                && Arrays.equals(weights, ((ShannonWeights) o).weights);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(weights);
+    }
+    
+    @Override
+    public String toString() {
+        final StringBuilder stringBuilder = new StringBuilder();
+        
+        for (int feature = 0; feature < FEATURES; feature++) {
+            if (feature > 0) {
+                stringBuilder.append(' ');
+            }
+            
+            stringBuilder.append(getKey(feature))
+                         .append('=')
+                         .append(String.format(Locale.ROOT,
+                                               "%.3f",
+                                               weights[feature]));
+        }
+        
+        return stringBuilder.toString();
+    }
+    
+    private static String getKey(final int feature) {
+        if (feature < VULNERABILITY) {
+            return PRESENCE_KEY + getPieceTypeName(feature - PRESENCE);
+        }
+        
+        if (feature < PAWN_DEFECTS) {
+            return VULNERABILITY_KEY
+                 + getPieceTypeName(feature - VULNERABILITY);
+        }
+        
+        return feature == PAWN_DEFECTS ? PAWN_DEFECT_KEY : MOBILITY_KEY;
+    }
+    
+    private static String getPieceTypeName(final int ordinal) {
+        return PieceType.values()[ordinal].name().toLowerCase(Locale.ROOT);
+    }
+    
+    private static ShannonWeights createDefaults() {
+        final double[] weights = new double[FEATURES];
+        
+        for (final PieceType pieceType : PieceType.values()) {
+            final Piece piece = new Piece(PieceColor.WHITE, pieceType);
+            
+            weights[PRESENCE + pieceType.ordinal()] =
+                    piece.getPresenceScore();
+            
+            weights[VULNERABILITY + pieceType.ordinal()] =
+                    piece.getVulnerabilityScore();
+        }
+        
+        weights[PAWN_DEFECTS] = 0.5;
+        weights[MOBILITY] = 0.1;
+        
+        return new ShannonWeights(weights);
+    }
+    
+    /**
+     * Loads the configured weights on first use.
+     */
+    private static final class ConfiguredWeightsHolder {
+        
+        static final ShannonWeights WEIGHTS = loadConfigured();
+        
+        private static ShannonWeights loadConfigured() {
+            final String path = System.getProperty(CONFIGURATION_PROPERTY);
+            
+            if (path == null) {
+                return DEFAULTS;
+            }
+            
+            try {
+                return load(Path.of(path));
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.github.coderodde.game.chess.impl;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PieceType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class implements a Texel tuner of {@link ShannonWeights}. The tuner
+ * minimizes the mean squared error between the game results and the winning
+ * probabilities the evaluations map to via a sigmoid.
+ * <p>
+ * Since the evaluation is linear in the weights, only the features of each
+ * position are stored, {@value ShannonWeights#FEATURES} 16-bit integers and
+ * a byte of the result per position, so millions of positions fit in memory.
+ * The error and its gradient are computed in parallel chunks of positions.
+ * The tuner first fits the scale of the sigmoid to the initial weights and
+ * then runs Adam on the weights. The weights of the king are left as they
+ * are, since the kings are always on the board. The tuner fits the uncapped
+ * evaluation (see {@link ShannonWeights#getPositionalCap()}), which differs 
+ * only in the wildest positions.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class ShannonWeightsTuner {
+    
+    private static final int CHUNK_SIZE = 1 << 14;
+    
+    private static final int INITIAL_CAPACITY = 1 << 10;
+    
+    private static final int SCALE_SEARCH_ITERATIONS = 40;
+    private static final double MINIMUM_SCALE = 0.01;
+    private static final double MAXIMUM_SCALE = 10.0;
+    
+    private static final double BETA1 = 0.9;
+    private static final double BETA2 = 0.999;
+    private static final double EPSILON = 1e-8;
+    
+    private final ShannonHeuristicFunction featureExtractor =
+            new ShannonHeuristicFunction(ShannonWeights.getDefaults());
+    
+    private short[] features =
+            new short[INITIAL_CAPACITY * ShannonWeights.FEATURES];
+    
+    /**
+     * The results times two, i.e., zero for a loss, one for a draw and two for
+     * a win.
+     */
+    private byte[] results = new byte[INITIAL_CAPACITY];
+    
+    private int size;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private double learningRate = 0.01;
+    private double scale = Double.NaN;
+    
+    /**
+     * Adds a position.
+     * 
+     * @param state  the position.
+     * @param result the result of the game from the point of view of the
+     *               black player: zero for a loss, one half for a draw and one
+     *               for a win.
+     */
+    public void add(final ChessBoardState state, final double result) {
+        Objects.requireNonNull(state, "The input state is null.");
+        
+        if (result != 0.0 && result != 0.5 && result != 1.0) {
+            throw new IllegalArgumentException(
+                    String.format("Bad result: %f.", result));
+        }
+        
+        if (size == results.length) {
+            results = Arrays.copyOf(results, 2 * size);
+            features = Arrays.copyOf(features, 2 * features.length);
+        }
+        
+        featureExtractor.computeFeatures(state,
+                                         features,
+                                         size * ShannonWeights.FEATURES);
+        
+        results[size++] = (byte)(2.0 * result);
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public void setThreads(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad number of threads: %d.", threads));
+        }
+        
+        this.threads = threads;
+    }
+    
+    public void setLearningRate(final double learningRate) {
+        if (!(learningRate > 0.0)) {
+            throw new IllegalArgumentException(
+                    String.format("Bad learning rate: %f.", learningRate));
+        }
+        
+        this.learningRate = learningRate;
+    }
+    
+    /**
+     * Returns the scale of the sigmoid fitted by the last tuning.
+     * 
+     * @return the scale or {@link Double#NaN} if not tuned yet.
+     */
+    public double getScale() {
+        return scale;
+    }
+    
+    /**
+     * Tunes {@code initialWeights} on the added positions.
+     * 
+     * @param initialWeights the weights to start from.
+     * @param iterations     the number of gradient steps.
+     * 
+     * @return the tuned weights.
+     */
+    public ShannonWeights tune(final ShannonWeights initialWeights,
+                               final int iterations) {
+        
+        Objects.requireNonNull(initialWeights,
+                               "The input initial weights is null.");
+        
+        if (iterations < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Bad number of iterations: %d.",
+                                  iterations));
+        }
+        
+        if (size == 0) {
+            throw new IllegalStateException("No positions to tune on.");
+        }
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        
+        try {
+            scale = fitScale(executor, initialWeights);
+            
+            final double[] weights = new double[ShannonWeights.FEATURES];
+            final double[] firstMoments = new double[weights.length];
+            final double[] secondMoments = new double[weights.length];
+            
+            for (int feature = 0; feature < weights.length; feature++) {
+                weights[feature] = initialWeights.get(feature);
+            }
+            
+            for (int step = 1; step <= iterations; step++) {
+                final double[] gradient =
+                        computeError(executor,
+                                     new ShannonWeights(weights),
+                                     scale,
+                                     true).gradient;
+                
+                final double stepSize =
+                        learningRate
+                        * Math.sqrt(1.0 - Math.pow(BETA2, step))
+                        / (1.0 - Math.pow(BETA1, step));
+                
+                for (int feature = 0; feature < weights.length; feature++) {
+                    if (isKingFeature(feature)) {
+                        continue;
+                    }
+                    
+                    firstMoments[feature] =
+                            BETA1 * firstMoments[feature]
+                            + (1.0 - BETA1) * gradient[feature];
+                    
+                    secondMoments[feature] =
+                            BETA2 * secondMoments[feature]
+                            + (1.0 - BETA2)
+                                    * gradient[feature]
+                                    * gradient[feature];
+                    
+                    weights[feature] -=
+                            stepSize * firstMoments[feature]
+                            / (Math.sqrt(secondMoments[feature]) + EPSILON);
+                }
+            }
+            
+            return new ShannonWeights(weights);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Computes the mean squared error of {@code weights} on the added
+     * positions with the sigmoid scale {@code scale}.
+     * 
+     * @param weights the weights to evaluate.
+     * @param scale   the scale of the sigmoid.
+     * 
+     * @return the mean squared error.
+     */
+    public double computeError(final ShannonWeights weights,
+                               final double scale) {
+        
+        Objects.requireNonNull(weights, "The input weights is null.");
+        
+        if (size == 0) {
+            throw new IllegalStateException("No positions to evaluate.");
+        }
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        
+        try {
+            return computeError(executor, weights, scale, false).error;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Fits the scale of the sigmoid by a golden section search over the
+     * error, which is unimodal in the scale.
+     */
+    private double fitScale(final ExecutorService executor,
+                            final ShannonWeights weights) {
+        
+        final double ratio = (Math.sqrt(5.0) - 1.0) / 2.0;
+        
+        double low = MINIMUM_SCALE;
+        double high = MAXIMUM_SCALE;
+        double left = high - ratio * (high - low);
+        double right = low + ratio * (high - low);
+        double leftError = computeError(executor, weights, left, false).error;
+        double rightError =
+                computeError(executor, weights, right, false).error;
+        
+        for (int i = 0; i < SCALE_SEARCH_ITERATIONS; i++) {
+            if (leftError < rightError) {
+                high = right;
+                right = left;
+                rightError = leftError;
+                left = high - ratio * (high - low);
+                leftError = computeError(executor, weights, left, false).error;
+            } else {
+                low = left;
+                left = right;
+                leftError = rightError;
+                right = low + ratio * (high - low);
+                rightError =
+                        computeError(executor, weights, right, false).error;
+            }
+        }
+        
+        return (low + high) / 2.0;
+    }
+    
+    private ErrorSum computeError(final ExecutorService executor,
+                                 final ShannonWeights weights,
+                                 final double scale,
+                                 final boolean computeGradient) {
+        
+        final List<Callable<ErrorSum>> tasks = new ArrayList<>();
+        
+        for (int from = 0; from < size; from += CHUNK_SIZE) {
+            final int chunkFrom = from;
+            final int chunkTo = Math.min(size, from + CHUNK_SIZE);
+            
+            tasks.add(() -> computeChunkError(weights,
+                                              scale,
+                                              computeGradient,
+                                              chunkFrom,
+                                              chunkTo));
+        }
+        
+        final ErrorSum total = new ErrorSum();
+        
+        try {
+            for (final Future<ErrorSum> future : executor.invokeAll(tasks)) {
+                total.add(future.get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The tuning was interrupted.", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            
+            throw new IllegalStateException(ex.getCause());
+        }
+        
+        total.error /= size;
+        
+        for (int feature = 0; feature < total.gradient.length; feature++) {
+            total.gradient[feature] /= size;
+        }
+        
+        return total;
+    }
+    
+    private ErrorSum computeChunkError(final ShannonWeights weights,
+                                       final double scale,
+                                       final boolean computeGradient,
+                                       final int from,
+                                       final int to) {
+        final ErrorSum sum = new ErrorSum();
+        
+        for (int position = from; position < to; position++) {
+            final int offset = position * ShannonWeights.FEATURES;
+            final double score =
+                    weights.evaluate(features, offset, ShannonWeights.PRESENCE);
+            
+            final double prediction = 1.0 / (1.0 + Math.exp(-scale * score));
+            final double error = prediction - 0.5 * results[position];
+            
+            sum.error += error * error;
+            
+            if (!computeGradient) {
+                continue;
+            }
+            
+            final double scoreGradient =
+                    2.0 * error * prediction * (1.0 - prediction) * scale;
+            
+            for (int feature = 0;
+                    feature < ShannonWeights.FEATURES;
+                    feature++) {
+                
+                sum.gradient[feature] +=
+                        scoreGradient * features[offset + feature];
+            }
+        }
+        
+        return sum;
+    }
+    
+    private static boolean isKingFeature(final int feature) {
+        return feature == ShannonWeights.PRESENCE + PieceType.KING.ordinal()
+            || feature == ShannonWeights.VULNERABILITY
+                        + PieceType.KING.ordinal();
+    }
+    
+    /**
+     * This class holds the error and the gradient summed over positions.
+     */
+    private static final class ErrorSum {
+        
+        double error;
+        final double[] gradient = new double[ShannonWeights.FEATURES];
+        
+        void add(final ErrorSum other) {
+            error += other.error;
+            
+            for (int feature = 0; feature < gradient.length; feature++) {
+                gradient[feature] += other.gradient[feature];
+            }
+        }
+    }
+}
@@ -0,0 +1,343 @@
+package com.github.coderodde.game.chess.impl;
+
+import com.github.coderodde.game.chess.CellCoordinates;
+import com.github.coderodde.game.chess.ChessBoardState;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceColor;
+import com.github.coderodde.game.chess.PieceType;
+
+/**
+ * This class implements the static exchange evaluation (SEE): the material
+ * outcome of the sequence of captures on a single cell, computed without
+ * searching. The attackers are found in order of increasing value, each 
+ * capturing piece is lifted from the board so that the sliding pieces behind 
+ * it join the exchange, and either player may stop capturing whenever 
+ * continuing would lose material.
+ * <p>
+ * The attackers are located by scanning the board from the cell rather than 
+ * via {@link com.github.coderodde.game.chess.UnderAttackCheck}, which reports
+ * the attacker through a static field. This way, the evaluation may run in 
+ * several search threads at once.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class StaticExchangeEvaluator {
+    
+    /**
+     * The maximum number of captures in an exchange: all the pieces but the
+     * two kings plus the piece initially on the cell.
+     */
+    private static final int MAXIMUM_EXCHANGE_LENGTH = 32;
+    
+    private static final int[][] KNIGHT_OFFSETS = {
+        { -2, -1 }, { -2, 1 }, { 2, -1 }, { 2, 1 },
+        { -1, -2 }, { -1, 2 }, { 1, -2 }, { 1, 2 },
+    };
+    
+    private static final int[][] KING_OFFSETS = {
+        { -1, -1 }, { -1, 0 }, { -1, 1 }, { 0, -1 },
+        { 0, 1 }, { 1, -1 }, { 1, 0 }, { 1, 1 },
+    };
+    
+    private static final int[][] DIAGONAL_DIRECTIONS = {
+        { -1, -1 }, { -1, 1 }, { 1, -1 }, { 1, 1 },
+    };
+    
+    private static final int[][] ORTHOGONAL_DIRECTIONS = {
+        { -1, 0 }, { 1, 0 }, { 0, -1 }, { 0, 1 },
+    };
+    
+    /**
+     * Returns the material the opponent of the piece at file {@code file} and
+     * rank {@code rank} wins by starting an exchange on that cell. Since the
+     * opponent is never forced to capture, the returned value is never
+     * negative. A positive value means that the piece is hanging.
+     * 
+     * @param state the state to inspect.
+     * @param file  the file of the piece.
+     * @param rank  the rank of the piece.
+     * 
+     * @return the material won by the opponent.
+     */
+    public double evaluate(final ChessBoardState state,
+                           final int file,
+                           final int rank) {
+        
+        final Piece piece = state.get(file, rank);
+        
+        if (piece == null) {
+            return 0.0;
+        }
+        
+        final CellCoordinates attackerCoordinates = new CellCoordinates();
+        
+        if (!findLeastValuableAttacker(state,
+                                       file,
+                                       rank,
+                                       piece.getPieceColor(),
+                                       attackerCoordinates)) {
+            // Most pieces are not attacked at all, so the state is copied
+            // only when there is an exchange to play:
+            return 0.0;
+        }
+        
+        return Math.max(0.0, exchange(new ChessBoardState(state),
+                                      file,
+                                      rank,
+                                      attackerCoordinates));
+    }
+    
+    /**
+     * Returns the material balance of {@code move} after the exchange it
+     * starts on its target cell, from the point of view of the player making
+     * the move. A negative value means that the move loses material.
+     * 
+     * @param move the move to evaluate.
+     * 
+     * @return the material balance of the exchange started by {@code move}.
+     */
+    public double evaluate(final ChessMove move) {
+        double gain = 0.0;
+        
+        if (move.isCapture()) {
+            gain += move.getCapturedPiece().getPresenceScore();
+        }
+        
+        if (move.isPromotion()) {
+            gain += move.getPromotionPiece().getPresenceScore()
+                  - move.getMovedPiece().getPresenceScore();
+        }
+        
+        return gain - evaluate(move.getState(),
+                               move.getTargetFile(),
+                               move.getTargetRank());
+    }
+    
+    /**
+     * Computes the value of the exchange on the given cell for the opponent of
+     * the piece on it, assuming the opponent makes the first capture. This
+     * method modifies {@code state} and {@code attackerCoordinates}.
+     * 
+     * @param state               the scratch state to play the exchange on.
+     * @param file                the file of the cell.
+     * @param rank                the rank of the cell.
+     * @param attackerCoordinates the coordinates of the first attacker.
+     * 
+     * @return the value of the exchange.
+     */
+    private static double exchange(
+            final ChessBoardState state,
+            final int file,
+            final int rank,
+            final CellCoordinates attackerCoordinates) {
+        
+        final double[] gains = new double[MAXIMUM_EXCHANGE_LENGTH];
+        int depth = 0;
+        gains[0] = state.get(file, rank).getPresenceScore();
+        
+        while (depth < MAXIMUM_EXCHANGE_LENGTH - 1) {
+            final Piece attacker = state.get(attackerCoordinates.file,
+                                             attackerCoordinates.rank);
+            depth++;
+            
+            // The value of the exchange if the attacker gets captured next:
+            gains[depth] = attacker.getPresenceScore() - gains[depth - 1];
+            
+            state.clear(attackerCoordinates.file, attackerCoordinates.rank);
+            state.set(file, rank, attacker);
+            
+            if (!findLeastValuableAttacker(state,
+                                           file,
+                                           rank,
+                                           attacker.getPieceColor(),
+                                           attackerCoordinates)) {
+                break;
+            }
+        }
+        
+        while (--depth > 0) {
+            gains[depth - 1] = -Math.max(-gains[depth - 1], gains[depth]);
+        }
+        
+        return gains[0];
+    }
+    
+    /**
+     * Finds the least valuable piece attacking the cell at file {@code file}
+     * and rank {@code rank} that is occupied by a piece of color
+     * {@code defenderColor}.
+     * 
+     * @param state               the state to inspect.
+     * @param file                the file of the cell.
+     * @param rank                the rank of the cell.
+     * @param defenderColor       the color of the piece on the cell.
+     * @param attackerCoordinates the output coordinates of the attacker.
+     * 
+     * @return {@code true} if and only if an attacker was found.
+     */
+    private static boolean findLeastValuableAttacker(
+            final ChessBoardState state,
+            final int file,
+            final int rank,
+            final PieceColor defenderColor,
+            final CellCoordinates attackerCoordinates) {
+        
+        final PieceColor attackerColor = 
+                defenderColor == PieceColor.WHITE ?
+                PieceColor.BLACK :
+                PieceColor.WHITE;
+        
+        // White pawns capture towards the rank 0, black pawns away from it:
+        final int pawnRank = attackerColor == PieceColor.WHITE ? 
+                             rank + 1 : 
+                             rank - 1;
+        
+        return findAt(state,
+                      file - 1,
+                      pawnRank,
+                      attackerColor,
+                      PieceType.PAWN,
+                      attackerCoordinates)
+                ||
+                findAt(state,
+                       file + 1,
+                       pawnRank,
+                       attackerColor,
+                       PieceType.PAWN,
+                       attackerCoordinates)
+                ||
+                findByOffsets(state,
+                              file,
+                              rank,
+                              KNIGHT_OFFSETS,
+                              attackerColor,
+                              PieceType.KNIGHT,
+                              attackerCoordinates)
+                ||
+                findBySliding(state,
+                              file,
+                              rank,
+                              DIAGONAL_DIRECTIONS,
+                              attackerColor,
+                              PieceType.BISHOP,
+                              attackerCoordinates)
+                ||
+                findBySliding(state,
+                              file,
+                              rank,
+                              ORTHOGONAL_DIRECTIONS,
+                              attackerColor,
+                              PieceType.ROOK,
+                              attackerCoordinates)
+                ||
+                findBySliding(state,
+                              file,
+                              rank,
+                              DIAGONAL_DIRECTIONS,
+                              attackerColor,
+                              PieceType.QUEEN,
+                              attackerCoordinates)
+                ||
+                findBySliding(state,
+                              file,
+                              rank,
+                              ORTHOGONAL_DIRECTIONS,
+                              attackerColor,
+                              PieceType.QUEEN,
+                              attackerCoordinates)
+                ||
+                findByOffsets(state,
+                              file,
+                              rank,
+                              KING_OFFSETS,
+                              attackerColor,
+                              PieceType.KING,
+                              attackerCoordinates);
+    }
+    
+    private static boolean findByOffsets(
+            final ChessBoardState state,
+            final int file,
+            final int rank,
+            final int[][] offsets,
+            final PieceColor attackerColor,
+            final PieceType attackerType,
+            final CellCoordinates attackerCoordinates) {
+        
+        for (final int[] offset : offsets) {
+            if (findAt(state,
+                       file + offset[0],
+                       rank + offset[1],
+                       attackerColor,
+                       attackerType,
+                       attackerCoordinates)) {
+                return true;
+            }
+        }
+        
+        return false;
+    }
+    
+    private static boolean findBySliding(
+            final ChessBoardState state,
+            final int file,
+            final int rank,
+            final int[][] directions,
+            final PieceColor attackerColor,
+            final PieceType attackerType,
+            final CellCoordinates attackerCoordinates) {
+        
+        for (final int[] direction : directions) {
+            int f = file + direction[0];
+            int r = rank + direction[1];
+            
+            while (f >= 0 && f < N && r >= 0 && r < N) {
+                if (state.get(f, r) != null) {
+                    // Only the first piece on the ray may attack:
+                    if (findAt(state, 
+                               f, 
+                               r,
+                               attackerColor,
+                               attackerType, 
+                               attackerCoordinates)) {
+                        return true;
+                    }
+                    
+                    break;
+                }
+                
+                f += direction[0];
+                r += direction[1];
+            }
+        }
+        
+        return false;
+    }
+    
+    private static boolean findAt(final ChessBoardState state,
+                                  final int file,
+                                  final int rank,
+                                  final PieceColor attackerColor,
+                                  final PieceType attackerType,
+                                  final CellCoordinates attackerCoordinates) {
+        
+        if (file < 0 || file >= N || rank < 0 || rank >= N) {
+            return false;
+        }
+        
+        final Piece piece = state.get(file, rank);
+        
+        if (piece == null
+                || piece.getPieceColor() != attackerColor
+                || piece.getPieceType() != attackerType) {
+            return false;
+        }
+        
+        attackerCoordinates.file = file;
+        attackerCoordinates.rank = rank;
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.github.coderodde.game.chess.impl.batch;
+
+/**
+ * This interface defines the inner loop of the batched evaluation.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+interface BatchKernel {
+    
+    /**
+     * Computes the middlegame and the endgame scores, the game phases and the
+     * mobilities of the positions {@code 0, ..., batch.size() - 1} into the
+     * term arrays of {@code batch}.
+     * 
+     * @param batch the batch of positions.
+     */
+    void computeTerms(PositionBatch batch);
+    
+    /**
+     * Returns the fastest kernel available: the Vector API one if the 
+     * {@code jdk.incubator.vector} module is resolved, the scalar one 
+     * otherwise.
+     * 
+     * @return the batch kernel.
+     */
+    static BatchKernel getBest() {
+        if (ModuleLayer.boot()
+                       .findModule("jdk.incubator.vector")
+                       .isPresent()) {
+            
+            return new VectorApiBatchKernel();
+        }
+        
+        return new ScalarBatchKernel();
+    }
+}
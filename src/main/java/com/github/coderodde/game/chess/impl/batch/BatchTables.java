@@ -0,0 +1,199 @@
+package com.github.coderodde.game.chess.impl.batch;
+
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceColor;
+import com.github.coderodde.game.chess.PieceSquareTables;
+import com.github.coderodde.game.chess.PieceType;
+import java.util.Arrays;
+
+/**
+ * This class holds the lookup tables of the batch kernels, indexed by the cell
+ * codes of {@link PositionBatch} and by the cells.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class BatchTables {
+    
+    private static final int CELLS = PositionBatch.CELLS;
+    private static final int CODES = PositionBatch.CODES;
+    
+    static final int PAWN = PieceType.PAWN.ordinal();
+    static final int BISHOP = PieceType.BISHOP.ordinal();
+    static final int KNIGHT = PieceType.KNIGHT.ordinal();
+    static final int ROOK = PieceType.ROOK.ordinal();
+    static final int QUEEN = PieceType.QUEEN.ordinal();
+    static final int KING = PieceType.KING.ordinal();
+    
+    /**
+     * The number of the orthogonal directions, which come first in 
+     * {@link #RAYS}.
+     */
+    static final int ORTHOGONAL_DIRECTIONS = 4;
+    
+    private static final int[][] DIRECTIONS = {
+        { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 },
+        { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 },
+    };
+    
+    private static final int[][] KNIGHT_JUMPS = {
+        { 1, 2 }, { 2, 1 }, { 2, -1 }, { 1, -2 },
+        { -1, -2 }, { -2, -1 }, { -2, 1 }, { -1, 2 },
+    };
+    
+    /**
+     * The middlegame scores, indexed by {@code cell * CODES + code}.
+     */
+    static final int[] MIDDLEGAME_SCORES = new int[CELLS * CODES];
+    
+    /**
+     * The endgame scores, indexed by {@code cell * CODES + code}.
+     */
+    static final int[] ENDGAME_SCORES = new int[CELLS * CODES];
+    
+    /**
+     * The game phase weights, indexed by the codes.
+     */
+    static final int[] PHASE_WEIGHTS = new int[CODES];
+    
+    /**
+     * The cells along each direction from each cell, nearest first.
+     */
+    static final int[][][] RAYS = new int[CELLS][DIRECTIONS.length][];
+    
+    static final int[][] KNIGHT_TARGETS = new int[CELLS][];
+    
+    // The cell in front of each cell and the cells diagonally in front of 
+    // it, from the point of view of each player. Black pawns advance towards
+    // the higher ranks and white pawns towards the lower ones:
+    static final int[] BLACK_PAWN_PUSHES = new int[CELLS];
+    static final int[] WHITE_PAWN_PUSHES = new int[CELLS];
+    static final int[][] BLACK_PAWN_CAPTURES = new int[CELLS][];
+    static final int[][] WHITE_PAWN_CAPTURES = new int[CELLS][];
+    
+    static {
+        for (final PieceType pieceType : PieceType.values()) {
+            final Piece white = new Piece(PieceColor.WHITE, pieceType);
+            final Piece black = new Piece(PieceColor.BLACK, pieceType);
+            
+            final int whiteCode = 
+                    PositionBatch.WHITE_CODE_OFFSET + pieceType.ordinal();
+            
+            final int blackCode = 
+                    PositionBatch.BLACK_CODE_OFFSET + pieceType.ordinal();
+            
+            PHASE_WEIGHTS[whiteCode] = PieceSquareTables.getPhaseWeight(white);
+            PHASE_WEIGHTS[blackCode] = PieceSquareTables.getPhaseWeight(black);
+            
+            for (int rank = 0; rank < N; rank++) {
+                for (int file = 0; file < N; file++) {
+                    final int base = (rank * N + file) * CODES;
+                    
+                    MIDDLEGAME_SCORES[base + whiteCode] = 
+                            PieceSquareTables.getMiddlegameScore(white, 
+                                                                 file, 
+                                                                 rank);
+                    
+                    MIDDLEGAME_SCORES[base + blackCode] = 
+                            PieceSquareTables.getMiddlegameScore(black, 
+                                                                 file, 
+                                                                 rank);
+                    
+                    ENDGAME_SCORES[base + whiteCode] = 
+                            PieceSquareTables.getEndgameScore(white, 
+                                                              file, 
+                                                              rank);
+                    
+                    ENDGAME_SCORES[base + blackCode] = 
+                            PieceSquareTables.getEndgameScore(black, 
+                                                              file, 
+                                                              rank);
+                }
+            }
+        }
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                final int cell = rank * N + file;
+                
+                for (int d = 0; d < DIRECTIONS.length; d++) {
+                    RAYS[cell][d] = getRay(file, 
+                                           rank, 
+                                           DIRECTIONS[d][0], 
+                                           DIRECTIONS[d][1]);
+                }
+                
+                KNIGHT_TARGETS[cell] = getTargets(file, rank, KNIGHT_JUMPS);
+                
+                BLACK_PAWN_PUSHES[cell] = getCell(file, rank + 1);
+                WHITE_PAWN_PUSHES[cell] = getCell(file, rank - 1);
+                
+                BLACK_PAWN_CAPTURES[cell] = 
+                        getTargets(file, rank, new int[][] { { -1, 1 }, 
+                                                             { 1, 1 } });
+                
+                WHITE_PAWN_CAPTURES[cell] = 
+                        getTargets(file, rank, new int[][] { { -1, -1 }, 
+                                                             { 1, -1 } });
+            }
+        }
+    }
+    
+    private BatchTables() {
+        
+    }
+    
+    private static int[] getRay(final int file,
+                                final int rank,
+                                final int fileStep,
+                                final int rankStep) {
+        
+        int length = 0;
+        
+        while (getCell(file + (length + 1) * fileStep,
+                       rank + (length + 1) * rankStep) >= 0) {
+            length++;
+        }
+        
+        final int[] ray = new int[length];
+        
+        for (int i = 0; i < length; i++) {
+            ray[i] = getCell(file + (i + 1) * fileStep, 
+                             rank + (i + 1) * rankStep);
+        }
+        
+        return ray;
+    }
+    
+    private static int[] getTargets(final int file,
+                                    final int rank,
+                                    final int[][] steps) {
+        
+        int count = 0;
+        final int[] targets = new int[steps.length];
+        
+        for (final int[] step : steps) {
+            final int target = getCell(file + step[0], rank + step[1]);
+            
+            if (target >= 0) {
+                targets[count++] = target;
+            }
+        }
+        
+        return Arrays.copyOf(targets, count);
+    }
+    
+    /**
+     * Returns the cell at file {@code file} and rank {@code rank}.
+     * 
+     * @return the cell or -1 if off the board.
+     */
+    private static int getCell(final int file, final int rank) {
+        if (file < 0 || file >= N || rank < 0 || rank >= N) {
+            return -1;
+        }
+        
+        return rank * N + file;
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.coderodde.game.chess.impl.batch;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.Piece;
+import java.util.Objects;
+
+/**
+ * This class holds a batch of positions in the structure-of-arrays form: the 
+ * codes of a cell in all the positions are adjacent, so that a SIMD lane can
+ * process a position each. The batch also holds the terms 
+ * {@link BatchEvaluator} computes for each position.
+ * <p>
+ * The cell codes are zero for an empty cell, one plus the ordinal of the 
+ * piece type for a white piece and seven plus the ordinal for a black piece.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PositionBatch {
+    
+    static final int CELLS = N * N;
+    static final int WHITE_CODE_OFFSET = 1;
+    static final int BLACK_CODE_OFFSET = 7;
+    static final int CODES = 13;
+    
+    final int capacity;
+    
+    /**
+     * The cell codes, indexed by {@code cell * capacity + position}, where 
+     * {@code cell = rank * N + file}.
+     */
+    final int[] cells;
+    
+    // The terms, indexed by the positions:
+    final int[] middlegameScores;
+    final int[] endgameScores;
+    final int[] phases;
+    final int[] mobilities;
+    
+    int size;
+    
+    public PositionBatch(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad capacity: %d.", capacity));
+        }
+        
+        this.capacity         = capacity;
+        this.cells            = new int[CELLS * capacity];
+        this.middlegameScores = new int[capacity];
+        this.endgameScores    = new int[capacity];
+        this.phases           = new int[capacity];
+        this.mobilities       = new int[capacity];
+    }
+    
+    /**
+     * Adds {@code state} to the end of this batch.
+     * 
+     * @param state the state to add.
+     * 
+     * @return the index of the state in this batch.
+     * @throws IllegalStateException if this batch is full.
+     */
+    public int add(final ChessBoardState state) {
+        Objects.requireNonNull(state, "The input state is null.");
+        
+        if (size == capacity) {
+            throw new IllegalStateException(
+                    String.format("The batch is full: %d.", capacity));
+        }
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                cells[(rank * N + file) * capacity + size] = 
+                        getCode(state.get(file, rank));
+            }
+        }
+        
+        return size++;
+    }
+    
+    /**
+     * Empties this batch. The cells are left as they are, since adding a 
+     * state overwrites all of its cells.
+     */
+    public void clear() {
+        size = 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    public boolean isFull() {
+        return size == capacity;
+    }
+    
+    /**
+     * Returns the mobility of the position {@code index}, i.e., the number of
+     * the moves of the black pieces minus that of the white pieces, as of the
+     * last evaluation.
+     * 
+     * @param index the index of the position.
+     * 
+     * @return the mobility.
+     */
+    public int getMobility(final int index) {
+        Objects.checkIndex(index, size);
+        return mobilities[index];
+    }
+    
+    static int getCode(final Piece piece) {
+        if (piece == null) {
+            return 0;
+        }
+        
+        return piece.getPieceType().ordinal() 
+             + (piece.isBlack() ? BLACK_CODE_OFFSET : WHITE_CODE_OFFSET);
+    }
+}
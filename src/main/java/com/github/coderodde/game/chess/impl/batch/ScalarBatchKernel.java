@@ -0,0 +1,181 @@
+package com.github.coderodde.game.chess.impl.batch;
+
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.BISHOP;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.BLACK_PAWN_CAPTURES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.BLACK_PAWN_PUSHES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.ENDGAME_SCORES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.KING;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.KNIGHT;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.KNIGHT_TARGETS;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.MIDDLEGAME_SCORES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.ORTHOGONAL_DIRECTIONS;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.PAWN;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.PHASE_WEIGHTS;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.QUEEN;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.RAYS;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.ROOK;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.WHITE_PAWN_CAPTURES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.WHITE_PAWN_PUSHES;
+
+/**
+ * This class implements the batched evaluation one position at a time.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class ScalarBatchKernel implements BatchKernel {
+    
+    @Override
+    public void computeTerms(final PositionBatch batch) {
+        computeTerms(batch, 0, batch.size);
+    }
+    
+    /**
+     * Computes the terms of the positions {@code from, ..., to - 1}.
+     * 
+     * @param batch the batch of positions.
+     * @param from  the first position.
+     * @param to    the position past the last one.
+     */
+    void computeTerms(final PositionBatch batch, 
+                      final int from, 
+                      final int to) {
+        
+        for (int position = from; position < to; position++) {
+            computeTerms(batch, position);
+        }
+    }
+    
+    private static void computeTerms(final PositionBatch batch, 
+                                     final int position) {
+        final int[] cells = batch.cells;
+        final int capacity = batch.capacity;
+        
+        int middlegameScore = 0;
+        int endgameScore = 0;
+        int phase = 0;
+        int mobility = 0;
+        
+        for (int cell = 0; cell < PositionBatch.CELLS; cell++) {
+            final int code = cells[cell * capacity + position];
+            
+            if (code == 0) {
+                continue;
+            }
+            
+            middlegameScore += MIDDLEGAME_SCORES[cell * PositionBatch.CODES 
+                                               + code];
+            
+            endgameScore += ENDGAME_SCORES[cell * PositionBatch.CODES + code];
+            phase += PHASE_WEIGHTS[code];
+            
+            final boolean black = code >= PositionBatch.BLACK_CODE_OFFSET;
+            final int pieceType = 
+                    code - (black ? PositionBatch.BLACK_CODE_OFFSET : 
+                                    PositionBatch.WHITE_CODE_OFFSET);
+            
+            final int moves = countMoves(cells, 
+                                         capacity, 
+                                         position, 
+                                         cell, 
+                                         pieceType, 
+                                         black);
+            
+            mobility += black ? moves : -moves;
+        }
+        
+        batch.middlegameScores[position] = middlegameScore;
+        batch.endgameScores[position] = endgameScore;
+        batch.phases[position] = phase;
+        batch.mobilities[position] = mobility;
+    }
+    
+    private static int countMoves(final int[] cells,
+                                  final int capacity,
+                                  final int position,
+                                  final int cell,
+                                  final int pieceType,
+                                  final boolean black) {
+        
+        if (pieceType == PAWN) {
+            return countPawnMoves(cells, capacity, position, cell, black);
+        }
+        
+        if (pieceType == KNIGHT) {
+            int moves = 0;
+            
+            for (final int target : KNIGHT_TARGETS[cell]) {
+                if (!isOwn(cells[target * capacity + position], black)) {
+                    moves++;
+                }
+            }
+            
+            return moves;
+        }
+        
+        int moves = 0;
+        
+        for (int direction = 0; direction < RAYS[cell].length; direction++) {
+            final boolean orthogonal = direction < ORTHOGONAL_DIRECTIONS;
+            final boolean slides = 
+                    pieceType == QUEEN 
+                    || (pieceType == ROOK && orthogonal)
+                    || (pieceType == BISHOP && !orthogonal);
+            
+            if (!slides && pieceType != KING) {
+                continue;
+            }
+            
+            for (final int target : RAYS[cell][direction]) {
+                final int targetCode = cells[target * capacity + position];
+                
+                if (isOwn(targetCode, black)) {
+                    break;
+                }
+                
+                moves++;
+                
+                if (targetCode != 0 || !slides) {
+                    break;
+                }
+            }
+        }
+        
+        return moves;
+    }
+    
+    private static int countPawnMoves(final int[] cells,
+                                      final int capacity,
+                                      final int position,
+                                      final int cell,
+                                      final boolean black) {
+        int moves = 0;
+        
+        final int push = black ? BLACK_PAWN_PUSHES[cell] : 
+                                 WHITE_PAWN_PUSHES[cell];
+        
+        if (push >= 0 && cells[push * capacity + position] == 0) {
+            moves++;
+        }
+        
+        for (final int target : black ? BLACK_PAWN_CAPTURES[cell] : 
+                                        WHITE_PAWN_CAPTURES[cell]) {
+            
+            final int targetCode = cells[target * capacity + position];
+            
+            if (targetCode != 0 && !isOwn(targetCode, black)) {
+                moves++;
+            }
+        }
+        
+        return moves;
+    }
+    
+    private static boolean isOwn(final int code, final boolean black) {
+        if (code == 0) {
+            return false;
+        }
+        
+        return (code >= PositionBatch.BLACK_CODE_OFFSET) == black;
+    }
+}
@@ -0,0 +1,297 @@
+package com.github.coderodde.game.chess.impl.batch;
+
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.BISHOP;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.BLACK_PAWN_CAPTURES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.BLACK_PAWN_PUSHES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.ENDGAME_SCORES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.KING;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.KNIGHT;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.KNIGHT_TARGETS;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.MIDDLEGAME_SCORES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.ORTHOGONAL_DIRECTIONS;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.PAWN;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.PHASE_WEIGHTS;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.QUEEN;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.RAYS;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.ROOK;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.WHITE_PAWN_CAPTURES;
+import static com.github.coderodde.game.chess.impl.batch.BatchTables.WHITE_PAWN_PUSHES;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class implements the batched evaluation via the incubating Vector API,
+ * each lane processing a position. The pieces are looked up by gathers and
+ * the moves are counted under lane masks instead of branches, so a vector of 
+ * positions costs about as much as a single position in the scalar kernel. 
+ * The positions past the last full vector are left to the scalar kernel.
+ * Loaded only if the {@code jdk.incubator.vector} module is resolved, e.g., 
+ * via {@code --add-modules jdk.incubator.vector}.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class VectorApiBatchKernel implements BatchKernel {
+    
+    private static final VectorSpecies<Integer> SPECIES = 
+            IntVector.SPECIES_PREFERRED;
+    
+    private final ScalarBatchKernel scalarKernel = new ScalarBatchKernel();
+    
+    @Override
+    public void computeTerms(final PositionBatch batch) {
+        final int bound = SPECIES.loopBound(batch.size);
+        
+        for (int position = 0; 
+                position < bound; 
+                position += SPECIES.length()) {
+            
+            computeTerms(batch, position);
+        }
+        
+        scalarKernel.computeTerms(batch, bound, batch.size);
+    }
+    
+    /**
+     * Computes the terms of the vector of positions starting from 
+     * {@code position}.
+     */
+    private static void computeTerms(final PositionBatch batch, 
+                                     final int position) {
+        final int[] cells = batch.cells;
+        final int capacity = batch.capacity;
+        
+        IntVector middlegameScores = IntVector.zero(SPECIES);
+        IntVector endgameScores = IntVector.zero(SPECIES);
+        IntVector phases = IntVector.zero(SPECIES);
+        IntVector mobilities = IntVector.zero(SPECIES);
+        
+        for (int cell = 0; cell < PositionBatch.CELLS; cell++) {
+            final int base = cell * capacity + position;
+            final IntVector codes = IntVector.fromArray(SPECIES, cells, base);
+            final VectorMask<Integer> occupied = 
+                    codes.compare(VectorOperators.NE, 0);
+            
+            if (!occupied.anyTrue()) {
+                continue;
+            }
+            
+            middlegameScores = 
+                    middlegameScores.add(
+                            IntVector.fromArray(SPECIES, 
+                                                MIDDLEGAME_SCORES, 
+                                                cell * PositionBatch.CODES, 
+                                                cells, 
+                                                base));
+            
+            endgameScores = 
+                    endgameScores.add(
+                            IntVector.fromArray(SPECIES, 
+                                                ENDGAME_SCORES, 
+                                                cell * PositionBatch.CODES, 
+                                                cells, 
+                                                base));
+            
+            phases = phases.add(IntVector.fromArray(SPECIES, 
+                                                    PHASE_WEIGHTS, 
+                                                    0, 
+                                                    cells, 
+                                                    base));
+            
+            mobilities = mobilities.add(countMoves(cells, 
+                                                   capacity, 
+                                                   position, 
+                                                   cell, 
+                                                   codes, 
+                                                   occupied));
+        }
+        
+        middlegameScores.intoArray(batch.middlegameScores, position);
+        endgameScores.intoArray(batch.endgameScores, position);
+        phases.intoArray(batch.phases, position);
+        mobilities.intoArray(batch.mobilities, position);
+    }
+    
+    /**
+     * Counts the moves of the pieces at {@code cell}, positive for the black
+     * pieces and negative for the white ones.
+     */
+    private static IntVector countMoves(final int[] cells,
+                                        final int capacity,
+                                        final int position,
+                                        final int cell,
+                                        final IntVector codes,
+                                        final VectorMask<Integer> occupied) {
+        
+        final VectorMask<Integer> black = 
+                codes.compare(VectorOperators.GE, 
+                              PositionBatch.BLACK_CODE_OFFSET);
+        
+        final VectorMask<Integer> white = occupied.andNot(black);
+        
+        // Minus one for the empty cells:
+        final IntVector pieceTypes = 
+                codes.sub(PositionBatch.WHITE_CODE_OFFSET)
+                     .blend(codes.sub(PositionBatch.BLACK_CODE_OFFSET), 
+                            black);
+        
+        final IntVector signs = 
+                IntVector.broadcast(SPECIES, -1).blend(1, black);
+        
+        IntVector moves = IntVector.zero(SPECIES);
+        
+        final VectorMask<Integer> pawns = 
+                pieceTypes.compare(VectorOperators.EQ, PAWN);
+        
+        if (pawns.anyTrue()) {
+            moves = countPawnMoves(cells, 
+                                   capacity, 
+                                   position, 
+                                   cell, 
+                                   pawns.and(black), 
+                                   true, 
+                                   signs, 
+                                   moves);
+            
+            moves = countPawnMoves(cells, 
+                                   capacity, 
+                                   position, 
+                                   cell, 
+                                   pawns.and(white), 
+                                   false, 
+                                   signs, 
+                                   moves);
+        }
+        
+        final VectorMask<Integer> knights = 
+                pieceTypes.compare(VectorOperators.EQ, KNIGHT);
+        
+        if (knights.anyTrue()) {
+            for (final int target : KNIGHT_TARGETS[cell]) {
+                final IntVector targetCodes = 
+                        IntVector.fromArray(SPECIES, 
+                                            cells, 
+                                            target * capacity + position);
+                
+                moves = moves.add(signs, 
+                                  knights.andNot(isOwn(targetCodes, 
+                                                       black, 
+                                                       white)));
+            }
+        }
+        
+        final VectorMask<Integer> queens = 
+                pieceTypes.compare(VectorOperators.EQ, QUEEN);
+        
+        final VectorMask<Integer> orthogonalSliders = 
+                pieceTypes.compare(VectorOperators.EQ, ROOK).or(queens);
+        
+        final VectorMask<Integer> diagonalSliders = 
+                pieceTypes.compare(VectorOperators.EQ, BISHOP).or(queens);
+        
+        final VectorMask<Integer> kings = 
+                pieceTypes.compare(VectorOperators.EQ, KING);
+        
+        for (int direction = 0; direction < RAYS[cell].length; direction++) {
+            final VectorMask<Integer> sliders = 
+                    direction < ORTHOGONAL_DIRECTIONS ? 
+                    orthogonalSliders : 
+                    diagonalSliders;
+            
+            VectorMask<Integer> active = sliders.or(kings);
+            
+            for (final int target : RAYS[cell][direction]) {
+                if (!active.anyTrue()) {
+                    break;
+                }
+                
+                final IntVector targetCodes = 
+                        IntVector.fromArray(SPECIES, 
+                                            cells, 
+                                            target * capacity + position);
+                
+                moves = moves.add(signs, 
+                                  active.andNot(isOwn(targetCodes, 
+                                                      black, 
+                                                      white)));
+                
+                // Only the sliders go on, and only through empty cells:
+                active = active.and(sliders)
+                               .and(targetCodes.compare(VectorOperators.EQ, 
+                                                        0));
+            }
+        }
+        
+        return moves;
+    }
+    
+    private static IntVector countPawnMoves(final int[] cells,
+                                            final int capacity,
+                                            final int position,
+                                            final int cell,
+                                            final VectorMask<Integer> pawns,
+                                            final boolean black,
+                                            final IntVector signs,
+                                            final IntVector moves) {
+        if (!pawns.anyTrue()) {
+            return moves;
+        }
+        
+        IntVector result = moves;
+        
+        final int push = black ? BLACK_PAWN_PUSHES[cell] : 
+                                 WHITE_PAWN_PUSHES[cell];
+        
+        if (push >= 0) {
+            final IntVector targetCodes = 
+                    IntVector.fromArray(SPECIES, 
+                                        cells, 
+                                        push * capacity + position);
+            
+            result = result.add(signs, 
+                                pawns.and(targetCodes.compare(
+                                        VectorOperators.EQ, 0)));
+        }
+        
+        for (final int target : black ? BLACK_PAWN_CAPTURES[cell] : 
+                                        WHITE_PAWN_CAPTURES[cell]) {
+            
+            final IntVector targetCodes = 
+                    IntVector.fromArray(SPECIES, 
+                                        cells, 
+                                        target * capacity + position);
+            
+            final VectorMask<Integer> blackTargets = 
+                    targetCodes.compare(VectorOperators.GE, 
+                                        PositionBatch.BLACK_CODE_OFFSET);
+            
+            final VectorMask<Integer> enemies = 
+                    black ? 
+                    targetCodes.compare(VectorOperators.NE, 0)
+                               .andNot(blackTargets) :
+                    blackTargets;
+            
+            result = result.add(signs, pawns.and(enemies));
+        }
+        
+        return result;
+    }
+    
+    private static VectorMask<Integer> isOwn(
+            final IntVector targetCodes,
+            final VectorMask<Integer> black,
+            final VectorMask<Integer> white) {
+        
+        final VectorMask<Integer> blackTargets = 
+                targetCodes.compare(VectorOperators.GE, 
+                                    PositionBatch.BLACK_CODE_OFFSET);
+        
+        final VectorMask<Integer> whiteTargets = 
+                targetCodes.compare(VectorOperators.NE, 0)
+                           .andNot(blackTargets);
+        
+        return black.and(blackTargets).or(white.and(whiteTargets));
+    }
+}
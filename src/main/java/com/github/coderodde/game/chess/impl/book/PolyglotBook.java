@@ -0,0 +1,254 @@
+package com.github.coderodde.game.chess.impl.book;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.OpeningBook;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.attackcheck.BlackUnderAttackCheck;
+import com.github.coderodde.game.chess.impl.attackcheck.WhiteUnderAttackCheck;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class implements a Polyglot opening book. The book file is a sequence
+ * of 16-byte big-endian entries sorted by the key: the 64-bit
+ * {@link PolyglotKeys Polyglot key} of the position, the 16-bit move, the
+ * 16-bit weight and the 32-bit learning value. The file is memory-mapped and
+ * the entries of a position are found by a binary search, so a lookup reads a
+ * few pages of the file and allocates only the result.
+ * <p>
+ * The move is picked at random in proportion to the weights; the moves of
+ * weight zero are never picked. The castling moves are skipped as the states
+ * do not support castling.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PolyglotBook implements OpeningBook {
+    
+    /**
+     * The size of an entry in bytes.
+     */
+    public static final int ENTRY_SIZE = 16;
+    
+    private static final int MOVE_OFFSET = 8;
+    private static final int WEIGHT_OFFSET = 10;
+    private static final int LEARN_OFFSET = 12;
+    
+    private static final WhiteUnderAttackCheck WHITE_UNDER_ATTACK_CHECK =
+            new WhiteUnderAttackCheck();
+    
+    private static final BlackUnderAttackCheck BLACK_UNDER_ATTACK_CHECK =
+            new BlackUnderAttackCheck();
+    
+    private final ByteBuffer buffer;
+    private final int entryCount;
+    private final PolyglotKeys keys;
+    
+    private PolyglotBook(final ByteBuffer buffer, final PolyglotKeys keys) {
+        this.buffer = buffer;
+        this.entryCount = buffer.capacity() / ENTRY_SIZE;
+        this.keys = keys;
+    }
+    
+    /**
+     * Maps the book file {@code path}.
+     * 
+     * @param path the path of the book file.
+     * @param keys the keys the book was built with.
+     * 
+     * @return the book.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public static PolyglotBook open(final Path path, final PolyglotKeys keys)
+            throws IOException {
+        
+        Objects.requireNonNull(path, "The input path is null.");
+        Objects.requireNonNull(keys, "The input keys is null.");
+        
+        try (final FileChannel channel = FileChannel.open(path)) {
+            final long size = channel.size();
+            
+            if (size % ENTRY_SIZE != 0L) {
+                throw new IOException(
+                        String.format("Bad book file size: %d.", size));
+            }
+            
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Too large book file.");
+            }
+            
+            return new PolyglotBook(
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0L, size),
+                    keys);
+        }
+    }
+    
+    /**
+     * Returns the number of the entries in this book.
+     * 
+     * @return the number of the entries.
+     */
+    public int size() {
+        return entryCount;
+    }
+    
+    public PolyglotKeys getKeys() {
+        return keys;
+    }
+    
+    /**
+     * Returns the entries of the key {@code key} in the order of the file.
+     * 
+     * @param key the Polyglot key.
+     * 
+     * @return the entries of {@code key}.
+     */
+    public List<PolyglotEntry> getEntries(final long key) {
+        final List<PolyglotEntry> entries = new ArrayList<>();
+        
+        for (int entry = findFirst(key);
+                entry < entryCount && getKey(entry) == key;
+                entry++) {
+            
+            final int offset = entry * ENTRY_SIZE;
+            
+            entries.add(
+                    new PolyglotEntry(
+                            key,
+                            Short.toUnsignedInt(
+                                    buffer.getShort(offset + MOVE_OFFSET)),
+                            Short.toUnsignedInt(
+                                    buffer.getShort(offset + WEIGHT_OFFSET)),
+                            buffer.getInt(offset + LEARN_OFFSET)));
+        }
+        
+        return entries;
+    }
+    
+    /**
+     * Returns the entries of {@code state}.
+     * 
+     * @param state      the state.
+     * @param playerTurn the player to move in {@code state}.
+     * 
+     * @return the entries of {@code state}.
+     */
+    public List<PolyglotEntry> getEntries(final ChessBoardState state,
+                                          final PlayerTurn playerTurn) {
+        
+        return getEntries(keys.getKey(state, playerTurn));
+    }
+    
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public ChessBoardState probe(final ChessBoardState state,
+                                 final PlayerTurn playerTurn) {
+        
+        return probe(state, playerTurn, ThreadLocalRandom.current());
+    }
+    
+    /**
+     * Picks a book move of {@code state} at random in proportion to the
+     * weights of the moves.
+     * 
+     * @param state      the state to look up.
+     * @param playerTurn the player to move in {@code state}.
+     * @param random     the random number generator.
+     * 
+     * @return the state after the book move or {@code null} if the book has
+     *         no legal move of a positive weight for {@code state}.
+     */
+    public ChessBoardState probe(final ChessBoardState state,
+                                 final PlayerTurn playerTurn,
+                                 final RandomGenerator random) {
+        
+        Objects.requireNonNull(random, "The input random is null.");
+        
+        final List<PolyglotEntry> entries = getEntries(state, playerTurn);
+        
+        if (entries.isEmpty()) {
+            return null;
+        }
+        
+        final List<ChessBoardState> bookChildren = new ArrayList<>();
+        final List<Integer> weights = new ArrayList<>();
+        int totalWeight = 0;
+        
+        for (final ChessBoardState child : state.expand(playerTurn)) {
+            if (isInCheck(child, playerTurn)) {
+                continue;
+            }
+            
+            final ChessMove move = ChessMove.of(state, child);
+            
+            for (final PolyglotEntry entry : entries) {
+                if (entry.getWeight() > 0 && entry.matches(move)) {
+                    bookChildren.add(child);
+                    weights.add(entry.getWeight());
+                    totalWeight += entry.getWeight();
+                    break;
+                }
+            }
+        }
+        
+        if (totalWeight == 0) {
+            return null;
+        }
+        
+        int choice = random.nextInt(totalWeight);
+        int index = 0;
+        
+        while (choice >= weights.get(index)) {
+            choice -= weights.get(index++);
+        }
+        
+        return bookChildren.get(index);
+    }
+    
+    /**
+     * Returns the index of the first entry whose key is not less than
+     * {@code key} in the unsigned order.
+     */
+    private int findFirst(final long key) {
+        int low = 0;
+        int high = entryCount;
+        
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            
+            if (Long.compareUnsigned(getKey(middle), key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        
+        return low;
+    }
+    
+    private long getKey(final int entry) {
+        return buffer.getLong(entry * ENTRY_SIZE);
+    }
+    
+    private static boolean isInCheck(final ChessBoardState state,
+                                     final PlayerTurn playerTurn) {
+        
+        return playerTurn == PlayerTurn.WHITE ?
+               WHITE_UNDER_ATTACK_CHECK.check(state,
+                                              state.getWhiteKingFile(),
+                                              state.getWhiteKingRank()) :
+               BLACK_UNDER_ATTACK_CHECK.check(state,
+                                              state.getBlackKingFile(),
+                                              state.getBlackKingRank());
+    }
+}
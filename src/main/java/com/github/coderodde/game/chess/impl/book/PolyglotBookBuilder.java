@@ -0,0 +1,720 @@
+package com.github.coderodde.game.chess.impl.book;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.pgn.PgnGame;
+import com.github.coderodde.game.chess.impl.pgn.PgnMove;
+import com.github.coderodde.game.chess.impl.pgn.PgnParser;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.stream.Stream;
+
+/**
+ * This class builds {@link PolyglotBook Polyglot books} from games. The
+ * games are replayed move by move and each move of the first plies is
+ * recorded as a pair of the Polyglot key of the position and the Polyglot
+ * move. The pairs are buffered in two primitive arrays of a fixed capacity;
+ * whenever the buffer fills up, it is sorted, the equal pairs are counted and
+ * the counts are written to a run file in the temporary directory. Finally,
+ * the runs are merged into the book, at most {@link #setMergeWays(int)} runs
+ * at a time, so the memory in use does not grow with the number of the
+ * games.
+ * <p>
+ * The weight of a move is the number of the times it was played in its
+ * position, scaled down if needed so that the most played move of the
+ * position weighs at most 65535. The entries of a position are written in
+ * the descending order of the weights. The castling moves are written as the
+ * king capturing its own rook, as in Polyglot.
+ * <p>
+ * The games of PGN files are added by {@link #addGames(Path)}. The builder
+ * is not thread-safe, although that method parses the file in parallel by
+ * itself.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PolyglotBookBuilder {
+    
+    /**
+     * The default number of the plies of a game to record.
+     */
+    public static final int DEFAULT_MAXIMUM_PLY = 20;
+    
+    /**
+     * The default number of the buffered pairs, taking 40 MB.
+     */
+    public static final int DEFAULT_BUFFER_CAPACITY = 1 << 22;
+    
+    /**
+     * The default number of the runs merged at a time.
+     */
+    public static final int DEFAULT_MERGE_WAYS = 64;
+    
+    private static final int MAXIMUM_WEIGHT = 0xFFFF;
+    
+    /**
+     * The size of a run entry in bytes: the key, the move and the count.
+     */
+    private static final int RUN_ENTRY_SIZE = 14;
+    
+    private static final int STREAM_BUFFER_SIZE = 1 << 16;
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    
+    private final PolyglotKeys keys;
+    private final Path temporaryDirectory;
+    private final long[] bufferedKeys;
+    private final short[] bufferedMoves;
+    private final List<Path> runs = new ArrayList<>();
+    private int bufferedPairCount;
+    private int maximumPly = DEFAULT_MAXIMUM_PLY;
+    private int minimumCount = 1;
+    private int mergeWays = DEFAULT_MERGE_WAYS;
+    private long gameCount;
+    
+    public PolyglotBookBuilder(final PolyglotKeys keys,
+                               final Path temporaryDirectory) {
+        
+        this(keys, temporaryDirectory, DEFAULT_BUFFER_CAPACITY);
+    }
+    
+    /**
+     * Constructs a builder.
+     * 
+     * @param keys               the keys to build the book with.
+     * @param temporaryDirectory the directory of the run files.
+     * @param bufferCapacity     the number of the pairs buffered in memory.
+     */
+    public PolyglotBookBuilder(final PolyglotKeys keys,
+                               final Path temporaryDirectory,
+                               final int bufferCapacity) {
+        
+        Objects.requireNonNull(keys, "The input keys is null.");
+        Objects.requireNonNull(temporaryDirectory,
+                               "The input temporary directory is null.");
+        
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad buffer capacity: %d.",
+                                  bufferCapacity));
+        }
+        
+        this.keys               = keys;
+        this.temporaryDirectory = temporaryDirectory;
+        this.bufferedKeys       = new long[bufferCapacity];
+        this.bufferedMoves      = new short[bufferCapacity];
+    }
+    
+    /**
+     * Sets the number of the plies of a game to record.
+     * 
+     * @param maximumPly the number of the plies.
+     */
+    public void setMaximumPly(final int maximumPly) {
+        if (maximumPly < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad maximum ply: %d.", maximumPly));
+        }
+        
+        this.maximumPly = maximumPly;
+    }
+    
+    /**
+     * Sets the number of the times a move must be played in its position to
+     * make it to the book.
+     * 
+     * @param minimumCount the minimum count.
+     */
+    public void setMinimumCount(final int minimumCount) {
+        if (minimumCount < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad minimum count: %d.", minimumCount));
+        }
+        
+        this.minimumCount = minimumCount;
+    }
+    
+    /**
+     * Sets the number of the runs merged at a time. Each run being merged
+     * holds an open file and a read buffer of 64 KB.
+     * 
+     * @param mergeWays the number of the runs merged at a time.
+     */
+    public void setMergeWays(final int mergeWays) {
+        if (mergeWays < 2) {
+            throw new IllegalArgumentException(
+                    String.format("Bad number of merge ways: %d.", mergeWays));
+        }
+        
+        this.mergeWays = mergeWays;
+    }
+    
+    /**
+     * Returns the number of the games added so far.
+     * 
+     * @return the number of the games.
+     */
+    public long getGameCount() {
+        return gameCount;
+    }
+    
+    /**
+     * Adds the first plies of a game played from the initial state. The first
+     * move leads from the initial state and each following move from the
+     * state of the previous one.
+     * 
+     * @param moves the moves of the game.
+     * 
+     * @throws IOException if a run cannot be written.
+     */
+    public void addGame(final List<ChessMove> moves) throws IOException {
+        Objects.requireNonNull(moves, "The input move list is null.");
+        
+        final int plies = Math.min(maximumPly, moves.size());
+        ChessBoardState state = new ChessBoardState();
+        PlayerTurn playerTurn = PlayerTurn.WHITE;
+        
+        for (int ply = 0; ply < plies; ply++) {
+            final ChessMove move = moves.get(ply);
+            
+            add(keys.getKey(state, playerTurn),
+                PolyglotEntry.encodeMove(move));
+            
+            state = move.getState();
+            playerTurn = playerTurn == PlayerTurn.WHITE ? PlayerTurn.BLACK :
+                                                          PlayerTurn.WHITE;
+        }
+        
+        gameCount++;
+    }
+    
+    /**
+     * Adds all the games of the PGN file {@code pgnFile}. The file is parsed
+     * and the keys are computed in parallel; only the buffering of the pairs
+     * is serialized.
+     * 
+     * @param pgnFile the path of the PGN file.
+     * 
+     * @throws IOException if the file cannot be read or a run cannot be
+     *                     written.
+     */
+    public void addGames(final Path pgnFile) throws IOException {
+        try (final Stream<PgnGame> games = PgnParser.parallelGames(pgnFile)) {
+            games.map(this::getPairs).forEach(this::addPairs);
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+    
+    /**
+     * Adds the first plies of the game {@code game}. Only the replayed moves
+     * are added if the game is not complete.
+     * 
+     * @param game the game.
+     * 
+     * @throws IOException if a run cannot be written.
+     */
+    public void addGame(final PgnGame game) throws IOException {
+        Objects.requireNonNull(game, "The input game is null.");
+        
+        try {
+            addPairs(getPairs(game));
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+    
+    /**
+     * Writes the book of the games added so far to {@code bookFile} and
+     * deletes the runs. The builder is empty afterwards.
+     * 
+     * @param bookFile the path of the book file.
+     * 
+     * @throws IOException if the runs cannot be merged or the book cannot be
+     *                     written.
+     */
+    public void build(final Path bookFile) throws IOException {
+        Objects.requireNonNull(bookFile, "The input book file is null.");
+        
+        try {
+            spill();
+            
+            while (runs.size() > mergeWays) {
+                final List<Path> inputs =
+                        new ArrayList<>(runs.subList(0, mergeWays));
+                
+                final Path run = createRun();
+                
+                try (final RunWriter writer = new RunWriter(run)) {
+                    merge(inputs, writer);
+                }
+                
+                runs.removeAll(inputs);
+                deleteAll(inputs);
+            }
+            
+            final Path temporaryBookFile =
+                    Files.createTempFile(temporaryDirectory, "book", ".bin");
+            
+            try (final BookWriter writer = new BookWriter(temporaryBookFile)) {
+                merge(runs, writer);
+            }
+            
+            Files.move(temporaryBookFile,
+                       bookFile,
+                       StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            deleteAll(runs);
+            runs.clear();
+            gameCount = 0L;
+        }
+    }
+    
+    /**
+     * Returns the pairs of the first plies of {@code game} as the key
+     * followed by the move for each ply.
+     */
+    private long[] getPairs(final PgnGame game) {
+        final List<PgnMove> moves = game.getMoves();
+        final long[] pairs = new long[2 * Math.min(maximumPly, moves.size())];
+        ChessBoardState state = new ChessBoardState();
+        PlayerTurn playerTurn = PlayerTurn.WHITE;
+        
+        for (int ply = 0; 2 * ply < pairs.length; ply++) {
+            final PgnMove move = moves.get(ply);
+            
+            pairs[2 * ply]     = keys.getKey(state, playerTurn);
+            pairs[2 * ply + 1] = encodeMove(move);
+            
+            state = move.getState();
+            playerTurn = playerTurn == PlayerTurn.WHITE ? PlayerTurn.BLACK :
+                                                          PlayerTurn.WHITE;
+        }
+        
+        return pairs;
+    }
+    
+    /**
+     * Buffers the pairs of a game. Synchronized as the games of a file are
+     * paired in parallel.
+     */
+    private synchronized void addPairs(final long[] pairs) {
+        try {
+            for (int i = 0; i < pairs.length; i += 2) {
+                add(pairs[i], (int) pairs[i + 1]);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        
+        gameCount++;
+    }
+    
+    private static int encodeMove(final PgnMove move) {
+        if (move.isCastling()) {
+            return PolyglotEntry.encodeMove(
+                    move.getSourceFile(),
+                    move.getSourceRank(),
+                    move.getTargetFile() > move.getSourceFile() ? N - 1 : 0,
+                    move.getTargetRank(),
+                    null);
+        }
+        
+        return PolyglotEntry.encodeMove(move.getSourceFile(),
+                                        move.getSourceRank(),
+                                        move.getTargetFile(),
+                                        move.getTargetRank(),
+                                        move.getPromotionPieceType());
+    }
+    
+    private void add(final long key, final int move) throws IOException {
+        if (bufferedPairCount == bufferedKeys.length) {
+            spill();
+        }
+        
+        bufferedKeys[bufferedPairCount] = key;
+        bufferedMoves[bufferedPairCount] = (short) move;
+        bufferedPairCount++;
+    }
+    
+    /**
+     * Sorts the buffered pairs and writes their counts to a new run.
+     */
+    private void spill() throws IOException {
+        if (bufferedPairCount == 0) {
+            return;
+        }
+        
+        sort(0, bufferedPairCount - 1);
+        
+        final Path run = createRun();
+        
+        try (final RunWriter writer = new RunWriter(run)) {
+            int index = 0;
+            
+            while (index < bufferedPairCount) {
+                final long key = bufferedKeys[index];
+                final short move = bufferedMoves[index];
+                int count = 0;
+                
+                while (index < bufferedPairCount
+                        && bufferedKeys[index] == key
+                        && bufferedMoves[index] == move) {
+                    index++;
+                    count++;
+                }
+                
+                writer.accept(key, Short.toUnsignedInt(move), count);
+            }
+        }
+        
+        bufferedPairCount = 0;
+    }
+    
+    private Path createRun() throws IOException {
+        final Path run =
+                Files.createTempFile(temporaryDirectory, "book", ".run");
+        
+        runs.add(run);
+        return run;
+    }
+    
+    /**
+     * Merges the runs {@code inputs} into {@code sink}, summing the counts of
+     * the equal pairs.
+     */
+    private static void merge(final List<Path> inputs, final EntrySink sink)
+            throws IOException {
+        
+        final PriorityQueue<RunReader> queue =
+                new PriorityQueue<>(Math.max(1, inputs.size()),
+                                    RunReader::compareTo);
+        
+        final List<RunReader> readers = new ArrayList<>(inputs.size());
+        
+        try {
+            for (final Path input : inputs) {
+                final RunReader reader = new RunReader(input);
+                readers.add(reader);
+                
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+            
+            long key = 0L;
+            int move = -1;
+            long count = 0L;
+            
+            while (!queue.isEmpty()) {
+                final RunReader reader = queue.poll();
+                
+                if (reader.key == key && reader.move == move) {
+                    count += reader.count;
+                } else {
+                    if (move != -1) {
+                        sink.accept(key, move, count);
+                    }
+                    
+                    key = reader.key;
+                    move = reader.move;
+                    count = reader.count;
+                }
+                
+                if (reader.advance()) {
+                    queue.add(reader);
+                }
+            }
+            
+            if (move != -1) {
+                sink.accept(key, move, count);
+            }
+        } finally {
+            for (final RunReader reader : readers) {
+                reader.close();
+            }
+        }
+    }
+    
+    private static void deleteAll(final List<Path> paths) throws IOException {
+        for (final Path path : paths) {
+            Files.deleteIfExists(path);
+        }
+    }
+    
+    /**
+     * Sorts the buffered pairs in the range {@code [low, high]} by the key
+     * and then by the move, both in the unsigned order.
+     */
+    private void sort(int low, int high) {
+        while (high - low >= INSERTION_SORT_THRESHOLD) {
+            final int middle = (low + high) >>> 1;
+            
+            // Order the low, the middle and the high pairs so that the
+            // median of the three is the pivot:
+            if (compare(middle, low) < 0) {
+                swap(middle, low);
+            }
+            
+            if (compare(high, low) < 0) {
+                swap(high, low);
+            }
+            
+            if (compare(high, middle) < 0) {
+                swap(high, middle);
+            }
+            
+            final long pivotKey = bufferedKeys[middle];
+            final short pivotMove = bufferedMoves[middle];
+            int left = low;
+            int right = high;
+            
+            while (left <= right) {
+                while (compare(left, pivotKey, pivotMove) < 0) {
+                    left++;
+                }
+                
+                while (compare(right, pivotKey, pivotMove) > 0) {
+                    right--;
+                }
+                
+                if (left <= right) {
+                    swap(left++, right--);
+                }
+            }
+            
+            // Recur into the smaller part to bound the depth of the stack:
+            if (right - low < high - left) {
+                sort(low, right);
+                low = left;
+            } else {
+                sort(left, high);
+                high = right;
+            }
+        }
+        
+        for (int i = low + 1; i <= high; i++) {
+            for (int j = i; j > low && compare(j, j - 1) < 0; j--) {
+                swap(j, j - 1);
+            }
+        }
+    }
+    
+    private int compare(final int index, final int otherIndex) {
+        return compare(index,
+                       bufferedKeys[otherIndex],
+                       bufferedMoves[otherIndex]);
+    }
+    
+    private int compare(final int index, final long key, final short move) {
+        final int comparison = Long.compareUnsigned(bufferedKeys[index], key);
+        
+        return comparison != 0 ?
+               comparison :
+               Integer.compare(Short.toUnsignedInt(bufferedMoves[index]),
+                               Short.toUnsignedInt(move));
+    }
+    
+    private void swap(final int index, final int otherIndex) {
+        final long key = bufferedKeys[index];
+        bufferedKeys[index] = bufferedKeys[otherIndex];
+        bufferedKeys[otherIndex] = key;
+        
+        final short move = bufferedMoves[index];
+        bufferedMoves[index] = bufferedMoves[otherIndex];
+        bufferedMoves[otherIndex] = move;
+    }
+    
+    /**
+     * This interface defines the API for consuming the merged pairs in their
+     * sorted order.
+     */
+    private interface EntrySink {
+        
+        void accept(long key, int move, long count) throws IOException;
+    }
+    
+    /**
+     * This class writes the pairs and their counts to a run file.
+     */
+    private static final class RunWriter implements EntrySink, Closeable {
+        
+        private final DataOutputStream output;
+        
+        RunWriter(final Path run) throws IOException {
+            this.output =
+                    new DataOutputStream(
+                            new BufferedOutputStream(
+                                    Files.newOutputStream(run),
+                                    STREAM_BUFFER_SIZE));
+        }
+        
+        @Override
+        public void accept(final long key, final int move, final long count)
+                throws IOException {
+            
+            output.writeLong(key);
+            output.writeShort(move);
+            output.writeInt((int) Math.min(count, 0xFFFF_FFFFL));
+        }
+        
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+    }
+    
+    /**
+     * This class reads the pairs and their counts from a run file.
+     */
+    private static final class RunReader
+            implements Comparable<RunReader>, Closeable {
+        
+        private final DataInputStream input;
+        private long remainingEntryCount;
+        private long key;
+        private int move;
+        private long count;
+        
+        RunReader(final Path run) throws IOException {
+            this.remainingEntryCount = Files.size(run) / RUN_ENTRY_SIZE;
+            this.input =
+                    new DataInputStream(
+                            new BufferedInputStream(
+                                    Files.newInputStream(run),
+                                    STREAM_BUFFER_SIZE));
+        }
+        
+        /**
+         * Reads the next entry of the run.
+         * 
+         * @return {@code false} if the run is exhausted.
+         */
+        boolean advance() throws IOException {
+            if (remainingEntryCount == 0L) {
+                return false;
+            }
+            
+            remainingEntryCount--;
+            key = input.readLong();
+            move = input.readUnsignedShort();
+            count = Integer.toUnsignedLong(input.readInt());
+            return true;
+        }
+        
+        @Override
+        public int compareTo(final RunReader other) {
+            final int comparison = Long.compareUnsigned(key, other.key);
+            return comparison != 0 ? comparison :
+                                     Integer.compare(move, other.move);
+        }
+        
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+    
+    /**
+     * This class writes the book entries, collecting the moves of a position
+     * before writing them so that they can be weighted and ordered.
+     */
+    private final class BookWriter implements EntrySink, Closeable {
+        
+        private final DataOutputStream output;
+        private int[] moves = new int[N * N];
+        private long[] counts = new long[N * N];
+        private int moveCount;
+        private long key;
+        
+        BookWriter(final Path bookFile) throws IOException {
+            this.output =
+                    new DataOutputStream(
+                            new BufferedOutputStream(
+                                    Files.newOutputStream(bookFile),
+                                    STREAM_BUFFER_SIZE));
+        }
+        
+        @Override
+        public void accept(final long key, final int move, final long count)
+                throws IOException {
+            
+            if (moveCount > 0 && key != this.key) {
+                writePosition();
+            }
+            
+            if (count < minimumCount) {
+                return;
+            }
+            
+            if (moveCount == moves.length) {
+                moves = Arrays.copyOf(moves, 2 * moveCount);
+                counts = Arrays.copyOf(counts, 2 * moveCount);
+            }
+            
+            this.key = key;
+            moves[moveCount] = move;
+            counts[moveCount] = count;
+            moveCount++;
+        }
+        
+        @Override
+        public void close() throws IOException {
+            try (output) {
+                if (moveCount > 0) {
+                    writePosition();
+                }
+            }
+        }
+        
+        private void writePosition() throws IOException {
+            long maximumCount = 0L;
+            
+            for (int i = 0; i < moveCount; i++) {
+                maximumCount = Math.max(maximumCount, counts[i]);
+            }
+            
+            // Order the moves by the descending counts:
+            for (int i = 1; i < moveCount; i++) {
+                for (int j = i; j > 0 && counts[j] > counts[j - 1]; j--) {
+                    final int move = moves[j];
+                    moves[j] = moves[j - 1];
+                    moves[j - 1] = move;
+                    
+                    final long count = counts[j];
+                    counts[j] = counts[j - 1];
+                    counts[j - 1] = count;
+                }
+            }
+            
+            for (int i = 0; i < moveCount; i++) {
+                final long weight =
+                        maximumCount <= MAXIMUM_WEIGHT ?
+                        counts[i] :
+                        Math.max(1L,
+                                 counts[i] * MAXIMUM_WEIGHT / maximumCount);
+                
+                output.writeLong(key);
+                output.writeShort(moves[i]);
+                output.writeShort((int) weight);
+                output.writeInt(0);
+            }
+            
+            moveCount = 0;
+        }
+    }
+}
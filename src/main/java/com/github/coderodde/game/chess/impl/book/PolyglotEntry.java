@@ -0,0 +1,174 @@
+package com.github.coderodde.game.chess.impl.book;
+
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.PieceType;
+
+/**
+ * This class describes an entry of a Polyglot opening book: a move of the
+ * position of the key and its weight. The move packs the target file, the
+ * target row, the source file and the source row into three bits each, and
+ * the promotion piece type into the next three bits. The rows are numbered
+ * from the white player's side, so the rank {@code r} of the states is the
+ * row {@code 7 - r}.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PolyglotEntry {
+    
+    /**
+     * The promotion piece types by their Polyglot codes.
+     */
+    private static final PieceType[] PROMOTION_PIECE_TYPES = {
+        null,
+        PieceType.KNIGHT,
+        PieceType.BISHOP,
+        PieceType.ROOK,
+        PieceType.QUEEN,
+    };
+    
+    private final long key;
+    private final int move;
+    private final int weight;
+    private final int learn;
+    
+    PolyglotEntry(final long key,
+                  final int move,
+                  final int weight,
+                  final int learn) {
+        this.key    = key;
+        this.move   = move;
+        this.weight = weight;
+        this.learn  = learn;
+    }
+    
+    /**
+     * Encodes {@code move} as a Polyglot move.
+     * 
+     * @param move the move.
+     * 
+     * @return the Polyglot move.
+     */
+    static int encodeMove(final ChessMove move) {
+        return encodeMove(move.getSourceFile(),
+                          move.getSourceRank(),
+                          move.getTargetFile(),
+                          move.getTargetRank(),
+                          move.isPromotion() ?
+                                  move.getPromotionPiece().getPieceType() :
+                                  null);
+    }
+    
+    /**
+     * Encodes the move from the cell at file {@code sourceFile} and rank
+     * {@code sourceRank} to the cell at file {@code targetFile} and rank
+     * {@code targetRank} as a Polyglot move.
+     * 
+     * @param sourceFile         the source file.
+     * @param sourceRank         the source rank.
+     * @param targetFile         the target file.
+     * @param targetRank         the target rank.
+     * @param promotionPieceType the promotion piece type or {@code null}.
+     * 
+     * @return the Polyglot move.
+     */
+    static int encodeMove(final int sourceFile,
+                          final int sourceRank,
+                          final int targetFile,
+                          final int targetRank,
+                          final PieceType promotionPieceType) {
+        int promotion = 0;
+        
+        if (promotionPieceType != null) {
+            while (PROMOTION_PIECE_TYPES[promotion] != promotionPieceType) {
+                promotion++;
+            }
+        }
+        
+        return targetFile
+             | (N - 1 - targetRank) << 3
+             | sourceFile << 6
+             | (N - 1 - sourceRank) << 9
+             | promotion << 12;
+    }
+    
+    public long getKey() {
+        return key;
+    }
+    
+    /**
+     * Returns the move as packed in the book.
+     * 
+     * @return the Polyglot move.
+     */
+    public int getMove() {
+        return move;
+    }
+    
+    public int getWeight() {
+        return weight;
+    }
+    
+    public int getLearn() {
+        return learn;
+    }
+    
+    public int getSourceFile() {
+        return (move >>> 6) & 7;
+    }
+    
+    public int getSourceRank() {
+        return N - 1 - ((move >>> 9) & 7);
+    }
+    
+    public int getTargetFile() {
+        return move & 7;
+    }
+    
+    public int getTargetRank() {
+        return N - 1 - ((move >>> 3) & 7);
+    }
+    
+    /**
+     * Returns the piece type the pawn is promoted to or {@code null} if the
+     * move is not a promotion.
+     * 
+     * @return the promotion piece type.
+     */
+    public PieceType getPromotionPieceType() {
+        final int promotion = (move >>> 12) & 7;
+        
+        return promotion < PROMOTION_PIECE_TYPES.length ?
+               PROMOTION_PIECE_TYPES[promotion] :
+               null;
+    }
+    
+    /**
+     * Returns {@code true} if and only if this entry stands for
+     * {@code move}.
+     * 
+     * @param move the move.
+     * 
+     * @return {@code true} if and only if the moves match.
+     */
+    public boolean matches(final ChessMove move) {
+        return encodeMove(move) == this.move;
+    }
+    
+    @Override
+    public String toString() {
+        final int promotion = (move >>> 12) & 7;
+        
+        return String.format("%c%d%c%d%s (%d)",
+                             'a' + getSourceFile(),
+                             N - getSourceRank(),
+                             'a' + getTargetFile(),
+                             N - getTargetRank(),
+                             promotion == 0 || promotion > 4 ?
+                                     "" :
+                                     "nbrq".substring(promotion - 1,
+                                                      promotion),
+                             weight);
+    }
+}
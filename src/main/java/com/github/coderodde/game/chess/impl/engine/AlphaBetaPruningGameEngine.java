@@ -4,18 +4,223 @@ import com.github.coderodde.game.chess.ChessBoardState;
 import com.github.coderodde.game.chess.PlayerTurn;
 import com.github.coderodde.game.chess.AbstractGameEngine;
 import com.github.coderodde.game.chess.AbstractHeuristicFunction;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.EndgameTablebase;
+import com.github.coderodde.game.chess.OpeningBook;
 import com.github.coderodde.game.chess.ThreeFoldRepetionRuleDrawException;
+import com.github.coderodde.game.chess.WinDrawLoss;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * This class implements an Alpha-beta pruning game engine.
+ * This class implements an Alpha-beta pruning game engine. The search uses 
+ * null move pruning with verification: the player to move passes, and if a 
+ * reduced depth search still fails high, the node is cut off. The children are
+ * searched in the order of {@link MoveOrdering}, and the late quiet moves are
+ * searched with a reduced depth (late move reductions).
+ * <p>
+ * The leaves are resolved by a quiescence search over captures and 
+ * promotions. Near the horizon, the hopeless parts of the tree are skipped by
+ * comparing a material-only evaluation against the window: futility pruning
+ * drops quiet moves at frontier nodes, razoring drops pre-frontier nodes into
+ * the quiescence search, and delta pruning drops captures inside the 
+ * quiescence search. The margins are widened by the positional bound of the 
+ * heuristic function (see 
+ * {@link AbstractHeuristicFunction#getPositionalBound()}), so the pruning is
+ * off under the heuristic functions that do not bound their non-material 
+ * terms.
+ * <p>
+ * The static exchange evaluation is used to drop the captures that lose 
+ * material from the quiescence search and the quiet moves that leave the moved
+ * piece hanging near the horizon.
+ * <p>
+ * The quiet moves are ordered by the history and counter-move heuristics, 
+ * which learn from the beta cutoffs of the search (see 
+ * {@link QuietMoveHistory}).
+ * <p>
+ * Besides the regular search, the engine may score all the root moves 
+ * concurrently (see {@link #analyzeRootMoves(ChessBoardState, int, PlayerTurn,
+ * ExecutorService)}). 
+ * <p>
+ * The nodes searched with an open window pass the principal variation of 
+ * their best child up to their parents; the null window searches do not 
+ * track it.
+ * <p>
+ * On demand, the engine collects the statistics of each search (see 
+ * {@link #setStatisticsEnabled(boolean)}).
+ * <p>
+ * If an endgame tablebase is set, the root moves are picked by the tablebase
+ * once it holds all the children of the root, and the nodes it holds are not
+ * searched but scored by their tablebase values. The moves found in the 
+ * opening book, if one is set, are played without searching.
  * 
- * @version 1.0.0 (Jul 18, 2024)
+ * @version 1.0.14 (Oct 19, 2026)
  * @since 1.0.0 (Jul 18, 2024)
  */
 public final class AlphaBetaPruningGameEngine extends AbstractGameEngine {
     
+    /**
+     * The minimum remaining depth at which a null move is tried.
+     */
+    private static final int NULL_MOVE_MINIMUM_DEPTH = 3;
+    
+    /**
+     * The depth reduction of the null move search.
+     */
+    private static final int NULL_MOVE_REDUCTION = 2;
+    
+    /**
+     * The depth reduction of the null move search at deep nodes.
+     */
+    private static final int DEEP_NULL_MOVE_REDUCTION = 3;
+    
+    /**
+     * The remaining depth beyond which the deep null move reduction is used.
+     */
+    private static final int DEEP_NULL_MOVE_DEPTH = 6;
+    
+    /**
+     * The minimum remaining depth at which a null move cutoff is verified by a
+     * reduced depth search of the actual moves.
+     */
+    private static final int NULL_MOVE_VERIFICATION_DEPTH = 5;
+    
+    /**
+     * The width of the null window.
+     */
+    private static final double NULL_WINDOW_WIDTH = 0.001;
+    
+    /**
+     * The minimum remaining depth at which late moves are reduced.
+     */
+    private static final int LATE_MOVE_REDUCTION_MINIMUM_DEPTH = 3;
+    
+    /**
+     * The number of moves at the head of the move ordering that are always
+     * searched to the full depth.
+     */
+    private static final int FULL_DEPTH_MOVES = 3;
+    
+    /**
+     * The size of both dimensions of the late move reduction table. Larger
+     * depths and move indices share the last row and column.
+     */
+    private static final int LATE_MOVE_REDUCTION_TABLE_SIZE = 64;
+    
+    /**
+     * Maps the remaining depth and the index of a move in the move ordering to
+     * the number of plies by which the move is reduced.
+     */
+    private static final int[][] LATE_MOVE_REDUCTIONS = 
+            new int[LATE_MOVE_REDUCTION_TABLE_SIZE]
+                   [LATE_MOVE_REDUCTION_TABLE_SIZE];
+    
+    static {
+        for (int depth = 1; depth < LATE_MOVE_REDUCTION_TABLE_SIZE; depth++) {
+            for (int moveIndex = 1; 
+                     moveIndex < LATE_MOVE_REDUCTION_TABLE_SIZE; 
+                     moveIndex++) {
+                
+                LATE_MOVE_REDUCTIONS[depth][moveIndex] = 
+                        (int)(0.75 + Math.log(depth) 
+                                   * Math.log(moveIndex) / 2.25);
+            }
+        }
+    }
+    
+    /**
+     * The remaining depth of the frontier nodes, at which futility pruning is 
+     * applied.
+     */
+    private static final int FUTILITY_PRUNING_DEPTH = 1;
+    
+    /**
+     * The remaining depth of the pre-frontier nodes, at which razoring is 
+     * applied.
+     */
+    private static final int RAZORING_DEPTH = 2;
+    
+    /**
+     * The maximum number of plies the quiescence search may go beyond the 
+     * horizon.
+     */
+    private static final int QUIESCENCE_MAXIMUM_DEPTH = 6;
+    
+    /**
+     * The maximum remaining depth at which the quiet moves leaving the moved 
+     * piece hanging are skipped.
+     */
+    private static final int HANGING_PIECE_PRUNING_DEPTH = 2;
+    
+    /**
+     * The default futility margin. A bit more than a minor piece. Like the 
+     * other margins, it bounds the change of the material balance and is 
+     * widened by the positional bound of the heuristic function.
+     */
+    public static final double DEFAULT_FUTILITY_MARGIN = 3.5;
+    
+    /**
+     * The default razoring margin.
+     */
+    public static final double DEFAULT_RAZORING_MARGIN = 5.0;
+    
+    /**
+     * The default delta pruning margin.
+     */
+    public static final double DEFAULT_DELTA_MARGIN = 2.0;
+    
+    /**
+     * The pool of daemon threads scoring the root moves unless the caller 
+     * passes its own executor service. Shared by all the engines so that the
+     * threads and their history tables outlive the calls.
+     */
+    private static final ExecutorService ROOT_MOVE_ANALYSIS_EXECUTOR = 
+            Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(),
+                    runnable -> {
+                        final Thread thread = 
+                                new Thread(runnable, "root-move-analysis");
+                        
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+    
+    private final MoveOrdering moveOrdering = new MoveOrdering();
+    
+    /**
+     * The quiet move statistics. Each thread owns its tables so that the root
+     * move analysis threads do not contend on them.
+     */
+    private final PerThread<QuietMoveHistory> quietMoveHistory = 
+            new PerThread<>(QuietMoveHistory::new);
+    
+    private final PerThread<SearchCounters> searchCounters = 
+            new PerThread<>(SearchCounters::new);
+    
+    /**
+     * Whether the statistics of the searches are collected. Read by the search
+     * threads without synchronization, so set only between the searches.
+     */
+    private boolean statisticsEnabled;
+    
+    /**
+     * The statistics of the last search or {@code null} if they were not 
+     * collected.
+     */
+    private SearchStatistics statistics;
+    
+    private double futilityMargin = DEFAULT_FUTILITY_MARGIN;
+    private double razoringMargin = DEFAULT_RAZORING_MARGIN;
+    private double deltaMargin = DEFAULT_DELTA_MARGIN;
+    
     /**
      * Constructs this alpha-beta pruning game engine.
      * 
@@ -27,6 +232,77 @@ public final class AlphaBetaPruningGameEngine extends AbstractGameEngine {
         super(heuristicFunction);
     }
     
+    /**
+     * Sets the futility margin. At frontier nodes, the quiet moves are skipped
+     * if the material balance cannot reach the window even with this margin 
+     * plus the positional bound of the heuristic function.
+     * 
+     * @param futilityMargin the new futility margin.
+     */
+    public void setFutilityMargin(final double futilityMargin) {
+        this.futilityMargin = checkMargin(futilityMargin, "futility");
+    }
+    
+    /**
+     * Sets the razoring margin. Pre-frontier nodes are resolved by the 
+     * quiescence search if the material balance cannot reach the window even 
+     * with this margin plus the positional bound of the heuristic function.
+     * 
+     * @param razoringMargin the new razoring margin.
+     */
+    public void setRazoringMargin(final double razoringMargin) {
+        this.razoringMargin = checkMargin(razoringMargin, "razoring");
+    }
+    
+    /**
+     * Sets the delta pruning margin. In the quiescence search, a capture is 
+     * skipped if the material balance plus the value of the captured piece 
+     * cannot reach the window even with this margin plus the positional bound
+     * of the heuristic function.
+     * 
+     * @param deltaMargin the new delta pruning margin.
+     */
+    public void setDeltaMargin(final double deltaMargin) {
+        this.deltaMargin = checkMargin(deltaMargin, "delta");
+    }
+    
+    public double getFutilityMargin() {
+        return futilityMargin;
+    }
+    
+    public double getRazoringMargin() {
+        return razoringMargin;
+    }
+    
+    public double getDeltaMargin() {
+        return deltaMargin;
+    }
+    
+    /**
+     * Enables or disables collecting the search statistics. When disabled, 
+     * the search counts only the nodes.
+     * 
+     * @param statisticsEnabled whether to collect the statistics.
+     */
+    public void setStatisticsEnabled(final boolean statisticsEnabled) {
+        this.statisticsEnabled = statisticsEnabled;
+    }
+    
+    public boolean isStatisticsEnabled() {
+        return statisticsEnabled;
+    }
+    
+    /**
+     * Returns the statistics of the last search, be it a regular search or a
+     * root move analysis.
+     * 
+     * @return the statistics of the last search or {@code null} if they were 
+     *         not collected.
+     */
+    public SearchStatistics getStatistics() {
+        return statistics;
+    }
+    
     /**
      * {@inheritDoc }
      */
@@ -37,13 +313,12 @@ public final class AlphaBetaPruningGameEngine extends AbstractGameEngine {
             
     throws ThreeFoldRepetionRuleDrawException {
         
-        bestMoveState = null;
+        searchIteration(root, depth, playerTurn);
         
-        alphaBetaPruningRootImpl(root, 
-                                 depth,
-                                 MINIMUM_SCORE,
-                                 MAXIMUM_SCORE,
-                                 playerTurn);
+        if (isStopRequested()) {
+            // The search was cancelled, do not count the move:
+            return bestMoveState;
+        }
         
         Map<ChessBoardState, Integer> boardStateFrequencyMap = 
                 heuristicFunction.getStateFrequencyMap();
@@ -62,13 +337,271 @@ public final class AlphaBetaPruningGameEngine extends AbstractGameEngine {
         
         return bestMoveState;
     }
+    
+    /**
+     * Searches {@code root} without checking the three-fold repetition rule.
+     * 
+     * @param root       the root state to start the search from.
+     * @param depth      the search depth.
+     * @param playerTurn the player to move in {@code root}.
+     * 
+     * @return the next best move.
+     */
+    @Override
+    protected ChessBoardState searchIteration(final ChessBoardState root, 
+                                              final int depth, 
+                                              final PlayerTurn playerTurn) {
+        final long startNanos = System.nanoTime();
+        
+        bestMoveState = null;
+        prunePerThreadTables();
+        ageQuietMoveHistories();
+        searchCounters.forEach(SearchCounters::reset);
+        searchStarted(depth);
+        
+        try {
+            if (!probeOpeningBookRoot(root, depth, playerTurn)
+                    && !probeTablebaseRoot(root, depth, playerTurn)) {
+                alphaBetaPruningRootImpl(root, 
+                                         depth,
+                                         MINIMUM_SCORE,
+                                         MAXIMUM_SCORE,
+                                         playerTurn);
+            }
+            
+            mergeSearchCounters(depth, startNanos);
+        } finally {
+            searchStopped(nodeCount);
+        }
+        
+        return bestMoveState;
+    }
+    
+    /**
+     * Scores all the root moves of {@code root} concurrently on a shared pool
+     * of as many daemon threads as there are available processors.
+     * 
+     * @param root       the root state.
+     * @param depth      the search depth.
+     * @param playerTurn the player to move.
+     * 
+     * @return the scored root moves, the best move first.
+     * @see #analyzeRootMoves(ChessBoardState, int, PlayerTurn, ExecutorService)
+     */
+    public List<RootMoveScore> analyzeRootMoves(final ChessBoardState root,
+                                                final int depth,
+                                                final PlayerTurn playerTurn) {
+        
+        return analyzeRootMoves(root, 
+                                depth, 
+                                playerTurn, 
+                                ROOT_MOVE_ANALYSIS_EXECUTOR);
+    }
+    
+    /**
+     * Scores all the root moves of {@code root} concurrently, each move being
+     * a separate task in {@code executorService}. The tasks share the best 
+     * score found so far, which tightens the windows of the tasks starting 
+     * later; the moves failing low against it get only a bound as their 
+     * score. The best move is also stored as the result of the search.
+     * <p>
+     * Any executor service will do: a bounded thread pool or, on a runtime 
+     * supporting them, a virtual thread per task executor. The history tables
+     * are owned by the threads, so a long-lived pool keeps them warm from 
+     * call to call, whereas the threads of a thread per task executor start
+     * with cold tables, which are dropped at the start of the next search. 
+     * The heuristic function must be thread-safe.
+     * 
+     * @param root            the root state.
+     * @param depth           the search depth.
+     * @param playerTurn      the player to move.
+     * @param executorService the executor service running the tasks.
+     * 
+     * @return the scored root moves, the best move first.
+     */
+    public List<RootMoveScore> analyzeRootMoves(
+            final ChessBoardState root,
+            final int depth,
+            final PlayerTurn playerTurn,
+            final ExecutorService executorService) {
+        
+        if (depth < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad depth: %d.", depth));
+        }
+        
+        searchStarted(depth);
+        
+        try {
+            return analyzeRootMovesImpl(root, 
+                                        depth, 
+                                        playerTurn, 
+                                        executorService);
+        } finally {
+            searchStopped(nodeCount);
+        }
+    }
+    
+    private List<RootMoveScore> analyzeRootMovesImpl(
+            final ChessBoardState root,
+            final int depth,
+            final PlayerTurn playerTurn,
+            final ExecutorService executorService) {
+        
+        final long startNanos = System.nanoTime();
+        
+        bestMoveState = null;
+        prunePerThreadTables();
+        ageQuietMoveHistories();
+        searchCounters.forEach(SearchCounters::reset);
+        
+        final List<ChessMove> rootMoves = 
+                moveOrdering.order(root, root.expand(playerTurn));
+        
+        if (rootMoves.isEmpty()) {
+            throw new IllegalStateException();
+        }
+        
+        final boolean black = playerTurn == PlayerTurn.BLACK;
+        final PlayerTurn opponent = PositionAnalysis.opponent(playerTurn);
+        
+        // The best score found so far from the point of view of 'playerTurn':
+        final AtomicLong bestScoreBits = new AtomicLong(
+                Double.doubleToLongBits(black ? MINIMUM_SCORE : MAXIMUM_SCORE));
+        
+        final List<Callable<RootMoveScore>> tasks = 
+                new ArrayList<>(rootMoves.size());
+        
+        for (final ChessMove move : rootMoves) {
+            tasks.add(() -> {
+                final double bound = 
+                        Double.longBitsToDouble(bestScoreBits.get());
+                
+                final double score = 
+                        alphaBetaPruningImpl(move.getState(),
+                                             depth - 1,
+                                             black ? bound : MINIMUM_SCORE,
+                                             black ? MAXIMUM_SCORE : bound,
+                                             opponent,
+                                             move,
+                                             true,
+                                             null);
+                
+                final boolean exact = black ? score > bound : score < bound;
+                
+                if (exact) {
+                    updateBestScore(bestScoreBits, score, black);
+                }
+                
+                return new RootMoveScore(move, score, exact);
+            });
+        }
+        
+        final List<RootMoveScore> rootMoveScores = 
+                new ArrayList<>(rootMoves.size());
+        
+        try {
+            for (final Future<RootMoveScore> future : 
+                    executorService.invokeAll(tasks)) {
+                
+                rootMoveScores.add(future.get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The analysis was interrupted.",
+                                            ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            
+            throw new IllegalStateException(ex.getCause());
+        }
+        
+        // The best move first, the exact scores before the bounds on ties:
+        final Comparator<RootMoveScore> byScore = 
+                Comparator.comparingDouble(RootMoveScore::getScore);
+        
+        rootMoveScores.sort(
+                (black ? byScore.reversed() : byScore)
+                        .thenComparing(RootMoveScore::isExact, 
+                                       Comparator.reverseOrder()));
+        
+        final RootMoveScore best = rootMoveScores.get(0);
         
+        bestMoveState = ChessBoardState.copyOf(best.getMove().getState());
+        bestScore = best.getScore();
+        principalVariation = List.of(best.getMove());
+        mergeSearchCounters(depth, startNanos);
+        
+        return rootMoveScores;
+    }
+    
+    /**
+     * Raises the shared best score to {@code score} if {@code score} is better
+     * for the player to move.
+     * 
+     * @param bestScoreBits the bits of the shared best score.
+     * @param score         the score of a root move.
+     * @param black         whether the black player is to move.
+     */
+    private static void updateBestScore(final AtomicLong bestScoreBits,
+                                        final double score,
+                                        final boolean black) {
+        while (true) {
+            final long currentBits = bestScoreBits.get();
+            final double current = Double.longBitsToDouble(currentBits);
+            
+            if (black ? score <= current : score >= current) {
+                return;
+            }
+            
+            if (bestScoreBits.compareAndSet(currentBits, 
+                                            Double.doubleToLongBits(score))) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Merges the counters of all the search threads into the node count and, 
+     * if enabled, the statistics of the search.
+     * 
+     * @param depth      the search depth.
+     * @param startNanos the starting time of the search.
+     */
+    private void mergeSearchCounters(final int depth, final long startNanos) {
+        final SearchCounters total = new SearchCounters();
+        searchCounters.forEach(total::add);
+        nodeCount = total.nodes;
+        statistics = statisticsEnabled ?
+                     new SearchStatistics(depth, 
+                                          total, 
+                                          System.nanoTime() - startNanos) :
+                     null;
+    }
+    
+    /**
+     * Drops the history tables and the counters of the threads that have
+     * terminated, such as the threads of a thread-per-task executor.
+     */
+    private void prunePerThreadTables() {
+        quietMoveHistory.prune();
+        searchCounters.prune();
+    }
+    
+    private void ageQuietMoveHistories() {
+        quietMoveHistory.forEach(QuietMoveHistory::age);
+    }
+    
     private void alphaBetaPruningRootImpl(final ChessBoardState root,
                                          final int depth,
                                          double alpha,
                                          double beta,
                                          final PlayerTurn playerTurn) {
         
+        final List<ChessMove> rootVariation = new ArrayList<>();
+        
         if (playerTurn == PlayerTurn.BLACK) {
             // Black is the maximizing player!
             double value = MINIMUM_SCORE;
@@ -82,19 +615,30 @@ public final class AlphaBetaPruningGameEngine extends AbstractGameEngine {
             }
             
             for (final ChessBoardState child : children) {
+                final ChessMove move = ChessMove.of(root, child);
+                final List<ChessMove> childVariation = new ArrayList<>();
+                
                 value = Math.max(value, 
-                                 alphaBetaPruningImpl(child, 
-                                                      depth - 1, 
-                                                      alpha, 
-                                                      beta, 
-                                                      PlayerTurn.WHITE));
+                                 alphaBetaPruningImpl(
+                                         child, 
+                                         depth - 1, 
+                                         alpha, 
+                                         beta, 
+                                         PlayerTurn.WHITE,
+                                         move,
+                                         true,
+                                         childVariation));
                 if (tentativeValue < value) {
                     tentativeValue = value;
-                    bestMoveState = new ChessBoardState(child);
+                    bestMoveState = ChessBoardState.copyOf(child);
+                    updateVariation(rootVariation, move, childVariation);
+                    bestMoveChanged(value, rootVariation);
                 }
                 
                 alpha = Math.max(alpha, value);
             }
+            
+            bestScore = tentativeValue;
         } else {
             // Once here, 'playerTurn' is 'WHITE': a minimizing player!
             double value = MAXIMUM_SCORE;
@@ -108,56 +652,335 @@ public final class AlphaBetaPruningGameEngine extends AbstractGameEngine {
             }
             
             for (final ChessBoardState child : children) {
+                final ChessMove move = ChessMove.of(root, child);
+                final List<ChessMove> childVariation = new ArrayList<>();
+                
                 value = Math.min(value,
-                                 alphaBetaPruningImpl(child,
-                                                      depth - 1,
-                                                      alpha,
-                                                      beta,
-                                                      PlayerTurn.BLACK));
+                                 alphaBetaPruningImpl(
+                                         child,
+                                         depth - 1,
+                                         alpha,
+                                         beta,
+                                         PlayerTurn.BLACK,
+                                         move,
+                                         true,
+                                         childVariation));
                 if (tentativeValue > value) {
                     tentativeValue = value;
-                    bestMoveState = new ChessBoardState(child);
+                    bestMoveState = ChessBoardState.copyOf(child);
+                    updateVariation(rootVariation, move, childVariation);
+                    bestMoveChanged(value, rootVariation);
                 }
                 
                 beta = Math.min(beta, value);
             }
+            
+            bestScore = tentativeValue;
         }
+        
+        principalVariation = rootVariation;
     }
     
+    /**
+     * Picks the move of {@code root} from the opening book. The book move is
+     * scored by the heuristic function.
+     * 
+     * @param root       the root state.
+     * @param depth      the search depth.
+     * @param playerTurn the player to move.
+     * 
+     * @return {@code true} if and only if the move was picked.
+     */
+    private boolean probeOpeningBookRoot(final ChessBoardState root,
+                                         final int depth,
+                                         final PlayerTurn playerTurn) {
+        
+        final OpeningBook openingBook = getOpeningBook();
+        
+        if (openingBook == null) {
+            return false;
+        }
+        
+        final ChessBoardState bookChild = openingBook.probe(root, playerTurn);
+        
+        if (bookChild == null) {
+            return false;
+        }
+        
+        bestMoveState = ChessBoardState.copyOf(bookChild);
+        bestScore = evaluate(bookChild, depth - 1);
+        principalVariation = List.of(ChessMove.of(root, bookChild));
+        bestMoveChanged(bestScore, principalVariation);
+        return true;
+    }
+    
+    /**
+     * Picks the move of {@code root} by the endgame tablebase: the winning 
+     * move closest to the end, a drawing move or the losing move farthest 
+     * from the end. Fails if the tablebase lacks the value or the distance of
+     * any legal child.
+     * 
+     * @param root       the root state.
+     * @param depth      the search depth.
+     * @param playerTurn the player to move.
+     * 
+     * @return {@code true} if and only if the move was picked.
+     */
+    private boolean probeTablebaseRoot(final ChessBoardState root,
+                                       final int depth,
+                                       final PlayerTurn playerTurn) {
+        
+        final EndgameTablebase tablebase = getEndgameTablebase();
+        
+        if (tablebase == null 
+                || root.getPieceCount() > tablebase.getMaximumPieceCount()) {
+            return false;
+        }
+        
+        final PlayerTurn opponent = playerTurn == PlayerTurn.BLACK ? 
+                                    PlayerTurn.WHITE : 
+                                    PlayerTurn.BLACK;
+        
+        ChessBoardState bestChild = null;
+        long bestRank = Long.MIN_VALUE;
+        
+        for (final ChessBoardState child : root.expand(playerTurn)) {
+            if (PositionAnalysis.isInCheck(child, playerTurn)) {
+                // The move is illegal:
+                continue;
+            }
+            
+            final WinDrawLoss childValue = 
+                    tablebase.probeWinDrawLoss(child, opponent);
+            
+            if (childValue == null) {
+                return false;
+            }
+            
+            final WinDrawLoss value = childValue.negate();
+            final int distance = value == WinDrawLoss.DRAW ? 
+                                 0 : 
+                                 tablebase.probeDistance(child, opponent);
+            
+            if (distance < 0) {
+                return false;
+            }
+            
+            final long rank = switch (value) {
+                case WIN  -> Integer.MAX_VALUE - distance;
+                case LOSS -> Integer.MIN_VALUE + distance;
+                default   -> 0L;
+            };
+            
+            if (rank > bestRank) {
+                bestRank = rank;
+                bestChild = child;
+            }
+        }
+        
+        if (bestChild == null) {
+            // Checkmate or stalemate, leave it to the search:
+            return false;
+        }
+        
+        bestMoveState = ChessBoardState.copyOf(bestChild);
+        bestScore = probeTablebase(bestChild, depth - 1, opponent);
+        principalVariation = List.of(ChessMove.of(root, bestChild));
+        bestMoveChanged(bestScore, principalVariation);
+        return true;
+    }
+    
+    /**
+     * Searches {@code root} with the alpha-beta pruning.
+     * 
+     * @param root            the state to search.
+     * @param depth           the remaining depth.
+     * @param alpha           the alpha bound.
+     * @param beta            the beta bound.
+     * @param playerTurn      the player to move.
+     * @param previousMove    the move leading to {@code root}. May be 
+     *                        {@code null}.
+     * @param nullMoveAllowed whether the player to move may pass.
+     * @param variation       the output principal variation of {@code root}
+     *                        or {@code null} if not needed.
+     * 
+     * @return the score of {@code root}.
+     */
     private double alphaBetaPruningImpl(final ChessBoardState root,
                                         final int depth,
-                                        double alpha,
-                                        double beta,
-                                        final PlayerTurn playerTurn) {
+                                        final double alpha,
+                                        final double beta,
+                                        final PlayerTurn playerTurn,
+                                        final ChessMove previousMove,
+                                        final boolean nullMoveAllowed,
+                                        final List<ChessMove> variation) {
+        if (!statisticsEnabled) {
+            return searchNode(root,
+                              depth,
+                              alpha,
+                              beta,
+                              playerTurn,
+                              previousMove,
+                              nullMoveAllowed,
+                              variation);
+        }
+        
+        // Track the distance from the root for the selective depth:
+        final SearchCounters counters = searchCounters.get();
+        counters.ply++;
+        
+        try {
+            return searchNode(root,
+                              depth,
+                              alpha,
+                              beta,
+                              playerTurn,
+                              previousMove,
+                              nullMoveAllowed,
+                              variation);
+        } finally {
+            counters.ply--;
+        }
+    }
+    
+    private double searchNode(final ChessBoardState root,
+                              final int depth,
+                              double alpha,
+                              double beta,
+                              final PlayerTurn playerTurn,
+                              final ChessMove previousMove,
+                              final boolean nullMoveAllowed,
+                              final List<ChessMove> variation) {
+        if (visitNode()) {
+            return 0.0;
+        }
+        
+        final double tablebaseScore = probeTablebase(root, depth, playerTurn);
+        
+        if (!Double.isNaN(tablebaseScore)) {
+            if (statisticsEnabled) {
+                searchCounters.get().tablebaseHits++;
+            }
+            
+            return tablebaseScore;
+        }
+        
         if (depth == 0) {
-            return heuristicFunction.evaluate(root, depth);
+            return quiescenceSearch(root, 0, alpha, beta, playerTurn);
         }
         
+        final boolean inCheck = PositionAnalysis.isInCheck(root, playerTurn);
+        
+        if (nullMoveAllowed && !inCheck && nullMoveCutsOff(root, 
+                                                           depth, 
+                                                           alpha, 
+                                                           beta,
+                                                           playerTurn,
+                                                           previousMove)) {
+            
+            return playerTurn == PlayerTurn.BLACK ? beta : alpha;
+        }
+        
+        final double material = 
+                depth <= RAZORING_DEPTH && !inCheck ?
+                PositionAnalysis.material(root) : 
+                0.0;
+        
+        final double positionalBound = heuristicFunction.getPositionalBound();
+        
+        if (depth == RAZORING_DEPTH && !inCheck) {
+            final double margin = razoringMargin + positionalBound;
+            
+            if (playerTurn == PlayerTurn.BLACK && material + margin <= alpha) {
+                final double value = 
+                        quiescenceSearch(root, 0, alpha, beta, playerTurn);
+                
+                if (value <= alpha) {
+                    countRazoring();
+                    return value;
+                }
+            } else if (playerTurn == PlayerTurn.WHITE
+                    && material - margin >= beta) {
+                
+                final double value = 
+                        quiescenceSearch(root, 0, alpha, beta, playerTurn);
+                
+                if (value >= beta) {
+                    countRazoring();
+                    return value;
+                }
+            }
+        }
+        
+        final boolean frontier = depth == FUTILITY_PRUNING_DEPTH && !inCheck;
+        
         if (playerTurn == PlayerTurn.BLACK) {
             // The black player is the maximizing player:
             double value = MINIMUM_SCORE;
             
-            final List<ChessBoardState> children = root.expand(playerTurn);
+            final double futilityValue = 
+                    material + futilityMargin + positionalBound;
+            final boolean futile = frontier && futilityValue <= alpha;
             
-            if (children.isEmpty()) {
+            final List<ChessMove> moves = 
+                    moveOrdering.order(root, 
+                                       root.expand(playerTurn),
+                                       quietMoveHistory.get(),
+                                       previousMove);
+            
+            if (moves.isEmpty()) {
                 // Once here, we have a stalemate:
-                System.out.println("Stalemate in black player!");
                 return MAXIMUM_SCORE - depth;
             }
             
-            for (final ChessBoardState child : children) {
-                value = Math.max(value,
-                                 alphaBetaPruningImpl(
-                                         child, 
-                                         depth - 1, 
-                                         alpha, 
-                                         beta, 
-                                         PlayerTurn.WHITE));
+            // The quiet moves searched before the current one:
+            final List<ChessMove> searchedQuietMoves = new ArrayList<>();
+            
+            for (int moveIndex = 0; moveIndex < moves.size(); moveIndex++) {
+                if (futile && isFutile(moves.get(moveIndex), 
+                                       PlayerTurn.WHITE)) {
+                    
+                    value = Math.max(value, futilityValue);
+                    countFutilityPrune();
+                    continue;
+                }
+                
+                if (!inCheck && leavesPieceHanging(moves.get(moveIndex),
+                                                   moveIndex,
+                                                   depth,
+                                                   PlayerTurn.WHITE)) {
+                    continue;
+                }
+                
+                final List<ChessMove> childVariation = newVariation(variation);
+                final double score = searchChild(moves.get(moveIndex),
+                                                 moveIndex,
+                                                 depth,
+                                                 alpha,
+                                                 beta,
+                                                 PlayerTurn.BLACK,
+                                                 inCheck,
+                                                 childVariation);
+                if (score > value) {
+                    value = score;
+                    updateVariation(variation, 
+                                    moves.get(moveIndex), 
+                                    childVariation);
+                }
                 
                 if (value > beta) {
+                    recordCutoff(moves.get(moveIndex), 
+                                 moveIndex, 
+                                 searchedQuietMoves, 
+                                 previousMove, 
+                                 depth);
                     break;
                 }
                 
+                if (moves.get(moveIndex).isQuiet()) {
+                    searchedQuietMoves.add(moves.get(moveIndex));
+                }
+                
                 alpha = Math.max(alpha, value);
             }
             
@@ -167,30 +990,606 @@ public final class AlphaBetaPruningGameEngine extends AbstractGameEngine {
             // Here, 'playerTurn == PlayerTurn.WHITE', the minimizing player:
             double value = MAXIMUM_SCORE;
             
-            final List<ChessBoardState> children = root.expand(playerTurn);
+            final double futilityValue = 
+                    material - futilityMargin - positionalBound;
+            final boolean futile = frontier && futilityValue >= beta;
             
-            if (children.isEmpty()) {
-                System.out.println("yeahhhh");
+            final List<ChessMove> moves = 
+                    moveOrdering.order(root, 
+                                       root.expand(playerTurn),
+                                       quietMoveHistory.get(),
+                                       previousMove);
+            
+            if (moves.isEmpty()) {
                 return MINIMUM_SCORE + depth;
             }
             
-            for (final ChessBoardState child : children) {
-                value = Math.min(value,
-                                 alphaBetaPruningImpl(
-                                         child, 
-                                         depth - 1,
-                                         alpha, 
-                                         beta, 
-                                         PlayerTurn.BLACK));
+            // The quiet moves searched before the current one:
+            final List<ChessMove> searchedQuietMoves = new ArrayList<>();
+            
+            for (int moveIndex = 0; moveIndex < moves.size(); moveIndex++) {
+                if (futile && isFutile(moves.get(moveIndex), 
+                                       PlayerTurn.BLACK)) {
+                    
+                    value = Math.min(value, futilityValue);
+                    countFutilityPrune();
+                    continue;
+                }
+                
+                if (!inCheck && leavesPieceHanging(moves.get(moveIndex),
+                                                   moveIndex,
+                                                   depth,
+                                                   PlayerTurn.BLACK)) {
+                    continue;
+                }
+                
+                final List<ChessMove> childVariation = newVariation(variation);
+                final double score = searchChild(moves.get(moveIndex),
+                                                 moveIndex,
+                                                 depth,
+                                                 alpha,
+                                                 beta,
+                                                 PlayerTurn.WHITE,
+                                                 inCheck,
+                                                 childVariation);
+                if (score < value) {
+                    value = score;
+                    updateVariation(variation, 
+                                    moves.get(moveIndex), 
+                                    childVariation);
+                }
                 
                 if (value < alpha) {
+                    recordCutoff(moves.get(moveIndex), 
+                                 moveIndex, 
+                                 searchedQuietMoves, 
+                                 previousMove, 
+                                 depth);
                     break;
                 }
                 
+                if (moves.get(moveIndex).isQuiet()) {
+                    searchedQuietMoves.add(moves.get(moveIndex));
+                }
+                
                 beta = Math.min(beta, value);
             }
             
             return value;
         }
     }
+    
+    /**
+     * Searches the captures and promotions of {@code root} until the position
+     * is quiet. The player to move may "stand pat", i.e., settle for the 
+     * static evaluation, since some quiet move is assumed to be at least as 
+     * good. Captures that cannot bring the material balance back to the window
+     * even with the delta margin are skipped (delta pruning), and so are the 
+     * captures losing material according to the static exchange evaluation.
+     * 
+     * @param root       the state to search.
+     * @param ply        the number of plies beyond the horizon.
+     * @param alpha      the alpha bound.
+     * @param beta       the beta bound.
+     * @param playerTurn the player to move.
+     * 
+     * @return the score of {@code root}.
+     */
+    private double quiescenceSearch(final ChessBoardState root,
+                                    final int ply,
+                                    double alpha,
+                                    double beta,
+                                    final PlayerTurn playerTurn) {
+        
+        // The horizon node, at ply zero, was counted by the main search:
+        if (ply > 0 && visitNode()) {
+            return 0.0;
+        }
+        
+        if (statisticsEnabled) {
+            final SearchCounters counters = searchCounters.get();
+            counters.quiescenceNodes++;
+            counters.selectiveDepth = Math.max(counters.selectiveDepth,
+                                               counters.ply + ply);
+        }
+        
+        final double standPat = evaluate(root, 0, alpha, beta);
+        
+        if (ply == QUIESCENCE_MAXIMUM_DEPTH) {
+            return standPat;
+        }
+        
+        if (playerTurn == PlayerTurn.BLACK) {
+            if (standPat >= beta) {
+                return standPat;
+            }
+            
+            alpha = Math.max(alpha, standPat);
+        } else {
+            if (standPat <= alpha) {
+                return standPat;
+            }
+            
+            beta = Math.min(beta, standPat);
+        }
+        
+        final List<ChessMove> moves = getNoisyMoves(root, playerTurn);
+        
+        if (moves.isEmpty()) {
+            return standPat;
+        }
+        
+        final double material = PositionAnalysis.material(root);
+        final double deltaBound = 
+                deltaMargin + heuristicFunction.getPositionalBound();
+        
+        double value = standPat;
+        
+        for (final ChessMove move : moves) {
+            final double capturedValue = 
+                    move.isCapture() ? 
+                    move.getCapturedPiece().getPresenceScore() :
+                    0.0;
+            
+            if (playerTurn == PlayerTurn.BLACK) {
+                if (!move.isPromotion() 
+                        && material + capturedValue + deltaBound <= alpha) {
+                    // Delta pruning:
+                    countDeltaPrune();
+                    continue;
+                }
+                
+                if (!move.isPromotion() && moveOrdering.isLosingCapture(move)) {
+                    continue;
+                }
+                
+                value = Math.max(value, 
+                                 quiescenceSearch(move.getState(),
+                                                  ply + 1, 
+                                                  alpha,
+                                                  beta, 
+                                                  PlayerTurn.WHITE));
+                if (value >= beta) {
+                    break;
+                }
+                
+                alpha = Math.max(alpha, value);
+            } else {
+                if (!move.isPromotion() 
+                        && material - capturedValue - deltaBound >= beta) {
+                    // Delta pruning:
+                    countDeltaPrune();
+                    continue;
+                }
+                
+                if (!move.isPromotion() && moveOrdering.isLosingCapture(move)) {
+                    continue;
+                }
+                
+                value = Math.min(value,
+                                 quiescenceSearch(move.getState(), 
+                                                  ply + 1,
+                                                  alpha, 
+                                                  beta,
+                                                  PlayerTurn.BLACK));
+                if (value <= alpha) {
+                    break;
+                }
+                
+                beta = Math.min(beta, value);
+            }
+        }
+        
+        return value;
+    }
+    
+    /**
+     * Returns the ordered captures and promotions of {@code playerTurn} in 
+     * {@code root}.
+     * 
+     * @param root       the state to expand.
+     * @param playerTurn the player to move.
+     * 
+     * @return the list of captures and promotions.
+     */
+    private List<ChessMove> getNoisyMoves(final ChessBoardState root,
+                                          final PlayerTurn playerTurn) {
+        
+        final List<ChessMove> moves = 
+                moveOrdering.order(root, root.expand(playerTurn));
+        
+        final List<ChessMove> noisyMoves = new ArrayList<>();
+        
+        for (final ChessMove move : moves) {
+            if (!move.isQuiet()) {
+                noisyMoves.add(move);
+            }
+        }
+        
+        return noisyMoves;
+    }
+    
+    /**
+     * Returns {@code true} if and only if {@code move} may be skipped at a 
+     * futile frontier node, i.e., it is quiet and does not give check.
+     * 
+     * @param move     the move to inspect.
+     * @param opponent the player to move after {@code move}.
+     * 
+     * @return {@code true} if and only if {@code move} is futile.
+     */
+    private static boolean isFutile(final ChessMove move,
+                                    final PlayerTurn opponent) {
+        return move.isQuiet() 
+                && !PositionAnalysis.isInCheck(move.getState(), opponent);
+    }
+    
+    /**
+     * Updates the quiet move statistics after the move at index 
+     * {@code cutoffIndex} caused a beta cutoff. If the move is quiet, it is 
+     * rewarded and the quiet moves searched before it are penalized; the 
+     * moves skipped by the pruning are not. The cutoff is counted in the 
+     * search statistics.
+     * 
+     * @param cutoffMove         the move causing the cutoff.
+     * @param cutoffIndex        the index of the move causing the cutoff.
+     * @param searchedQuietMoves the quiet moves searched before the cutoff 
+     *                           move.
+     * @param previousMove       the move leading to the cutoff node.
+     * @param depth              the remaining depth of the cutoff node.
+     */
+    private void recordCutoff(final ChessMove cutoffMove,
+                              final int cutoffIndex,
+                              final List<ChessMove> searchedQuietMoves,
+                              final ChessMove previousMove,
+                              final int depth) {
+        
+        if (statisticsEnabled) {
+            searchCounters.get().countBetaCutoff(cutoffIndex);
+        }
+        
+        if (!cutoffMove.isQuiet()) {
+            return;
+        }
+        
+        final QuietMoveHistory history = quietMoveHistory.get();
+        
+        history.recordCutoff(cutoffMove, previousMove, depth);
+        
+        for (final ChessMove move : searchedQuietMoves) {
+            history.recordFailure(move, depth);
+        }
+    }
+    
+    /**
+     * Returns {@code true} if and only if {@code move} may be skipped as a 
+     * hanging-piece line: it is a late quiet move near the horizon that does
+     * not give check and places the moved piece on a cell where the opponent
+     * wins material by exchanging.
+     * 
+     * @param move      the move to inspect.
+     * @param moveIndex the index of {@code move} in the move ordering.
+     * @param depth     the remaining depth of the parent.
+     * @param opponent  the player to move after {@code move}.
+     * 
+     * @return {@code true} if and only if {@code move} may be skipped.
+     */
+    private boolean leavesPieceHanging(final ChessMove move,
+                                       final int moveIndex,
+                                       final int depth,
+                                       final PlayerTurn opponent) {
+        
+        return moveIndex > 0
+                && depth <= HANGING_PIECE_PRUNING_DEPTH
+                && move.isQuiet()
+                && moveOrdering.staticExchangeValue(move) < 0.0
+                && !PositionAnalysis.isInCheck(move.getState(), opponent);
+    }
+    
+    /**
+     * Counts a node visited by the current thread and polls the stop 
+     * conditions once every {@code POLLING_INTERVAL} nodes.
+     * 
+     * @return {@code true} if and only if the search should stop.
+     */
+    private boolean visitNode() {
+        final SearchCounters counters = searchCounters.get();
+        
+        if (counters.countNode(POLLING_INTERVAL)) {
+            counters.stopped = pollStop(POLLING_INTERVAL);
+        }
+        
+        return counters.stopped;
+    }
+    
+    /**
+     * Returns a new list for the principal variation of a child or 
+     * {@code null} if the parent does not track its principal variation.
+     * 
+     * @param variation the principal variation of the parent.
+     * 
+     * @return the principal variation of a child.
+     */
+    private static List<ChessMove> newVariation(
+            final List<ChessMove> variation) {
+        return variation == null ? null : new ArrayList<>();
+    }
+    
+    /**
+     * Makes {@code variation} consist of {@code move} followed by 
+     * {@code childVariation}. Does nothing if {@code variation} is 
+     * {@code null}.
+     * 
+     * @param variation      the variation to update.
+     * @param move           the best move so far.
+     * @param childVariation the principal variation after {@code move}.
+     */
+    private static void updateVariation(final List<ChessMove> variation,
+                                        final ChessMove move,
+                                        final List<ChessMove> childVariation) {
+        if (variation == null) {
+            return;
+        }
+        
+        variation.clear();
+        variation.add(move);
+        variation.addAll(childVariation);
+    }
+    
+    private void countFutilityPrune() {
+        if (statisticsEnabled) {
+            searchCounters.get().futilityPrunes++;
+        }
+    }
+    
+    private void countRazoring() {
+        if (statisticsEnabled) {
+            searchCounters.get().razorings++;
+        }
+    }
+    
+    private void countDeltaPrune() {
+        if (statisticsEnabled) {
+            searchCounters.get().deltaPrunes++;
+        }
+    }
+    
+    private void countNullMoveCutoff() {
+        if (statisticsEnabled) {
+            searchCounters.get().nullMoveCutoffs++;
+        }
+    }
+    
+    private void countRefutedNullMoveCutoff() {
+        if (statisticsEnabled) {
+            searchCounters.get().refutedNullMoveCutoffs++;
+        }
+    }
+    
+    private static double checkMargin(final double margin, 
+                                      final String marginName) {
+        if (Double.isNaN(margin) || margin < 0.0) {
+            throw new IllegalArgumentException(
+                    String.format("Bad %s margin: %f.", marginName, margin));
+        }
+        
+        return margin;
+    }
+    
+    /**
+     * Searches the child state of {@code move}. Late quiet moves that do not 
+     * give check are first searched with a reduced depth and a null window at
+     * the bound of {@code playerTurn}; only if the reduced search beats the 
+     * bound, the move is re-searched to the full depth.
+     * 
+     * @param move       the move to search.
+     * @param moveIndex  the index of {@code move} in the move ordering.
+     * @param depth      the remaining depth of the parent.
+     * @param alpha      the alpha bound.
+     * @param beta       the beta bound.
+     * @param playerTurn the player making {@code move}.
+     * @param inCheck    whether {@code playerTurn} is in check in the parent.
+     * @param variation  the output principal variation of the child state or
+     *                   {@code null} if not needed.
+     * 
+     * @return the score of the child state.
+     */
+    private double searchChild(final ChessMove move,
+                               final int moveIndex,
+                               final int depth,
+                               final double alpha,
+                               final double beta,
+                               final PlayerTurn playerTurn,
+                               final boolean inCheck,
+                               final List<ChessMove> variation) {
+        
+        final ChessBoardState child = move.getState();
+        final PlayerTurn opponent = PositionAnalysis.opponent(playerTurn);
+        final int reduction = getLateMoveReduction(move, 
+                                                   moveIndex, 
+                                                   depth,
+                                                   opponent,
+                                                   inCheck);
+        if (reduction > 0) {
+            final SearchCounters counters = 
+                    statisticsEnabled ? searchCounters.get() : null;
+            
+            if (counters != null) {
+                counters.lateMoveReductions++;
+            }
+            
+            if (playerTurn == PlayerTurn.BLACK) {
+                final double value = 
+                        alphaBetaPruningImpl(child,
+                                             depth - 1 - reduction,
+                                             alpha,
+                                             alpha + NULL_WINDOW_WIDTH,
+                                             opponent,
+                                             move,
+                                             true,
+                                             null);
+                if (value <= alpha) {
+                    return value;
+                }
+            } else {
+                final double value = 
+                        alphaBetaPruningImpl(child, 
+                                             depth - 1 - reduction,
+                                             beta - NULL_WINDOW_WIDTH, 
+                                             beta,
+                                             opponent,
+                                             move,
+                                             true,
+                                             null);
+                if (value >= beta) {
+                    return value;
+                }
+            }
+            
+            // Once here, the reduced search beat the bound. Re-search:
+            if (counters != null) {
+                counters.lateMoveReSearches++;
+            }
+        }
+        
+        return alphaBetaPruningImpl(child, 
+                                    depth - 1, 
+                                    alpha,
+                                    beta,
+                                    opponent,
+                                    move,
+                                    true,
+                                    variation);
+    }
+    
+    /**
+     * Returns the number of plies by which {@code move} is reduced.
+     * 
+     * @param move      the move to reduce.
+     * @param moveIndex the index of {@code move} in the move ordering.
+     * @param depth     the remaining depth of the parent.
+     * @param opponent  the player to move after {@code move}.
+     * @param inCheck   whether the player making {@code move} is in check.
+     * 
+     * @return the depth reduction.
+     */
+    static int getLateMoveReduction(final ChessMove move,
+                                    final int moveIndex,
+                                    final int depth,
+                                    final PlayerTurn opponent,
+                                    final boolean inCheck) {
+        
+        if (depth < LATE_MOVE_REDUCTION_MINIMUM_DEPTH
+                || moveIndex < FULL_DEPTH_MOVES
+                || inCheck
+                || !move.isQuiet()) {
+            return 0;
+        }
+        
+        if (PositionAnalysis.isInCheck(move.getState(), opponent)) {
+            return 0;
+        }
+        
+        final int reduction = 
+                LATE_MOVE_REDUCTIONS
+                        [Math.min(depth, LATE_MOVE_REDUCTION_TABLE_SIZE - 1)]
+                        [Math.min(moveIndex, 
+                                  LATE_MOVE_REDUCTION_TABLE_SIZE - 1)];
+        
+        // Leave at least one ply to search:
+        return Math.min(reduction, depth - 2);
+    }
+    
+    /**
+     * Lets {@code playerTurn} pass and searches the opponent's reply with a 
+     * reduced depth and a null window at the bound of {@code playerTurn}. If 
+     * passing still fails high, so would any actual move but in zugzwang. Null 
+     * moves are not tried with pawns only, and at deep nodes the cutoff is 
+     * verified by a reduced depth search of the actual moves. The caller must 
+     * not pass while in check.
+     * 
+     * @param root       the state to search.
+     * @param depth      the remaining depth.
+     * @param alpha      the alpha bound.
+     * @param beta       the beta bound.
+     * @param playerTurn   the player to move.
+     * @param previousMove the move leading to {@code root}.
+     * 
+     * @return {@code true} if and only if the node may be cut off.
+     */
+    boolean nullMoveCutsOff(final ChessBoardState root,
+                            final int depth,
+                            final double alpha,
+                            final double beta,
+                            final PlayerTurn playerTurn,
+                            final ChessMove previousMove) {
+        
+        if (depth < NULL_MOVE_MINIMUM_DEPTH) {
+            return false;
+        }
+        
+        if (!PositionAnalysis.hasNonPawnMaterial(root, playerTurn)) {
+            return false;
+        }
+        
+        final int reduction = depth > DEEP_NULL_MOVE_DEPTH ? 
+                              DEEP_NULL_MOVE_REDUCTION :
+                              NULL_MOVE_REDUCTION;
+        
+        final int nullMoveDepth = Math.max(0, depth - 1 - reduction);
+        final int savedFlags = root.makeNullMove();
+        final boolean failsHigh;
+        
+        if (playerTurn == PlayerTurn.BLACK) {
+            failsHigh = alphaBetaPruningImpl(root, 
+                                             nullMoveDepth,
+                                             beta - NULL_WINDOW_WIDTH,
+                                             beta,
+                                             PlayerTurn.WHITE,
+                                             null,
+                                             false,
+                                             null) >= beta;
+        } else {
+            failsHigh = alphaBetaPruningImpl(root, 
+                                             nullMoveDepth, 
+                                             alpha,
+                                             alpha + NULL_WINDOW_WIDTH,
+                                             PlayerTurn.BLACK,
+                                             null,
+                                             false,
+                                             null) <= alpha;
+        }
+        
+        root.unmakeNullMove(savedFlags);
+        
+        if (!failsHigh) {
+            return false;
+        }
+        
+        if (depth < NULL_MOVE_VERIFICATION_DEPTH) {
+            countNullMoveCutoff();
+            return true;
+        }
+        
+        // Verify the cutoff against zugzwang:
+        final double value = alphaBetaPruningImpl(root,
+                                                  depth - reduction,
+                                                  alpha,
+                                                  beta,
+                                                  playerTurn,
+                                                  previousMove,
+                                                  false,
+                                                  null);
+        
+        final boolean verified = playerTurn == PlayerTurn.BLACK ? 
+                                 value >= beta : 
+                                 value <= alpha;
+        if (verified) {
+            countNullMoveCutoff();
+        } else {
+            countRefutedNullMoveCutoff();
+        }
+        
+        return verified;
+    }
 }
@@ -0,0 +1,197 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.impl.StaticExchangeEvaluator;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class implements the move ordering used by the game engines. Captures
+ * are searched first, most valuable victim first and least valuable attacker
+ * first among equal victims (MVV-LVA); promotions follow, and then the quiet
+ * moves. If a {@link QuietMoveHistory} is given, the counter move of the
+ * previous move leads the quiet moves and the rest of them are ordered by 
+ * their history scores; otherwise they keep their generation order. The 
+ * captures that lose material according to the static exchange evaluation are
+ * searched last.
+ * 
+ * @version 1.0.2 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class MoveOrdering {
+    
+    private static final double CAPTURE_BONUS = 10_000.0;
+    private static final double PROMOTION_BONUS = 1_000.0;
+    private static final double LOSING_CAPTURE_PENALTY = -10_000.0;
+    private static final double COUNTER_MOVE_BONUS = 500.0;
+    
+    /**
+     * The range of the ordering keys of the quiet moves not being counter 
+     * moves. Stays below {@code COUNTER_MOVE_BONUS}.
+     */
+    private static final double HISTORY_KEY_RANGE = 250.0;
+    
+    private final StaticExchangeEvaluator staticExchangeEvaluator = 
+            new StaticExchangeEvaluator();
+    
+    /**
+     * Returns the moves leading from {@code parent} to each of
+     * {@code children} in the order they should be searched.
+     * 
+     * @param parent   the parent state.
+     * @param children the child states of {@code parent}.
+     * 
+     * @return the ordered list of moves.
+     */
+    List<ChessMove> order(final ChessBoardState parent,
+                          final List<ChessBoardState> children) {
+        
+        return order(parent, children, null, null);
+    }
+    
+    /**
+     * Returns the moves leading from {@code parent} to each of 
+     * {@code children} in the order they should be searched, ordering the 
+     * quiet moves by {@code quietMoveHistory}.
+     * 
+     * @param parent           the parent state.
+     * @param children         the child states of {@code parent}.
+     * @param quietMoveHistory the quiet move statistics. May be {@code null}.
+     * @param previousMove     the move leading to {@code parent}. May be 
+     *                         {@code null}.
+     * 
+     * @return the ordered list of moves.
+     */
+    List<ChessMove> order(final ChessBoardState parent,
+                          final List<ChessBoardState> children,
+                          final QuietMoveHistory quietMoveHistory,
+                          final ChessMove previousMove) {
+        
+        final int size = children.size();
+        final List<ChessMove> moves = new ArrayList<>(size);
+        final double[] keys = new double[size];
+        
+        for (int i = 0; i < size; i++) {
+            final ChessMove move = ChessMove.of(parent, children.get(i));
+            moves.add(move);
+            keys[i] = move.isQuiet() && quietMoveHistory != null ?
+                      scoreQuietMove(move, quietMoveHistory, previousMove) :
+                      score(move);
+        }
+        
+        sort(moves, keys);
+        return moves;
+    }
+    
+    /**
+     * Computes the ordering key of the input move. The larger the key, the
+     * earlier the move is searched.
+     * 
+     * @param move the move to score.
+     * 
+     * @return the ordering key.
+     */
+    double score(final ChessMove move) {
+        if (move.isCapture()) {
+            final double exchangeValue = staticExchangeValue(move);
+            
+            if (exchangeValue < 0.0) {
+                return LOSING_CAPTURE_PENALTY + exchangeValue;
+            }
+            
+            return CAPTURE_BONUS
+                    + 10.0 * move.getCapturedPiece().getPresenceScore()
+                    - move.getMovedPiece().getPresenceScore();
+        }
+        
+        if (move.isPromotion()) {
+            return PROMOTION_BONUS
+                    + move.getPromotionPiece().getPresenceScore();
+        }
+        
+        return 0.0;
+    }
+    
+    /**
+     * Computes the ordering key of the quiet move {@code move}. The key stays
+     * between the keys of the losing captures and of the promotions.
+     * 
+     * @param move             the quiet move to score.
+     * @param quietMoveHistory the quiet move statistics.
+     * @param previousMove     the move leading to the parent of {@code move}.
+     *                         May be {@code null}.
+     * 
+     * @return the ordering key.
+     */
+    double scoreQuietMove(final ChessMove move,
+                          final QuietMoveHistory quietMoveHistory,
+                          final ChessMove previousMove) {
+        
+        if (quietMoveHistory.isCounterMove(move, previousMove)) {
+            return COUNTER_MOVE_BONUS;
+        }
+        
+        return HISTORY_KEY_RANGE
+                * quietMoveHistory.getHistoryScore(move) 
+                / QuietMoveHistory.MAXIMUM_HISTORY_SCORE;
+    }
+    
+    /**
+     * Returns {@code true} if and only if {@code move} is a capture that loses
+     * material according to the static exchange evaluation.
+     * 
+     * @param move the move to inspect.
+     * 
+     * @return {@code true} if and only if {@code move} is a losing capture.
+     */
+    boolean isLosingCapture(final ChessMove move) {
+        return move.isCapture() && staticExchangeValue(move) < 0.0;
+    }
+    
+    /**
+     * Returns the static exchange evaluation of {@code move}. A capture of a 
+     * piece at least as valuable as the capturing piece cannot lose material,
+     * so the evaluation is skipped for it and the lower bound of the exchange
+     * is returned instead.
+     * 
+     * @param move the move to evaluate.
+     * 
+     * @return the static exchange evaluation of {@code move}.
+     */
+    double staticExchangeValue(final ChessMove move) {
+        if (move.isCapture() 
+                && move.getCapturedPiece().getPresenceScore() >= 
+                   move.getMovedPiece().getPresenceScore()) {
+            
+            return move.getCapturedPiece().getPresenceScore()
+                 - move.getMovedPiece().getPresenceScore();
+        }
+        
+        return staticExchangeEvaluator.evaluate(move);
+    }
+    
+    /**
+     * Sorts {@code moves} by descending {@code keys}. This is an insertion
+     * sort, which is stable and fast on the short move lists we deal with.
+     * 
+     * @param moves the moves to sort.
+     * @param keys  the ordering keys of {@code moves}.
+     */
+    static void sort(final List<ChessMove> moves, final double[] keys) {
+        for (int i = 1; i < keys.length; i++) {
+            final double key = keys[i];
+            final ChessMove move = moves.get(i);
+            int j = i - 1;
+            
+            while (j >= 0 && keys[j] < key) {
+                keys[j + 1] = keys[j];
+                moves.set(j + 1, moves.get(j));
+                j--;
+            }
+            
+            keys[j + 1] = key;
+            moves.set(j + 1, move);
+        }
+    }
+}
@@ -3,13 +3,23 @@ package com.github.coderodde.game.chess.impl.engine;
 import com.github.coderodde.game.chess.AbstractGameEngine;
 import com.github.coderodde.game.chess.ChessBoardState;
 import com.github.coderodde.game.chess.AbstractHeuristicFunction;
+import com.github.coderodde.game.chess.ChessMove;
 import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.SearchLimits;
+import com.github.coderodde.game.chess.SearchResult;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
- * This class implements the Negamax game engine.
+ * This class implements the Negamax game engine. The search is a principal
+ * variation search (PVS): the first child of each node is searched with the
+ * full window, the rest of the children are probed with a null window and are
+ * re-searched only if they fail high. The root is searched via iterative
+ * deepening, each iteration using an aspiration window around the score of the
+ * previous iteration. Each node passes the principal variation of its best 
+ * child up to its parent.
  * 
- * @version 1.0.0 (Jul 18, 2024)
+ * @version 1.0.7 (Oct 19, 2026)
  * @since 1.0.0 (Jul 18, 2024)
  */
 public final class NegamaxGameEngine extends AbstractGameEngine {
@@ -17,6 +27,28 @@ public final class NegamaxGameEngine extends AbstractGameEngine {
     private static final int WHITE_MINIMIZING_COLOR = -1;
     private static final int BLACK_MAXIMIZING_COLOR = +1;
     
+    /**
+     * The width of the null window. Scores closer to each other than this are
+     * considered equal.
+     */
+    private static final double NULL_WINDOW_WIDTH = 0.001;
+    
+    /**
+     * The initial half-width of the aspiration window. Half a pawn.
+     */
+    private static final double ASPIRATION_WINDOW_HALF_WIDTH = 0.5;
+    
+    /**
+     * The half-width of the aspiration window beyond which we give up and
+     * search with the full window.
+     */
+    private static final double MAXIMUM_ASPIRATION_WINDOW_HALF_WIDTH = 8.0;
+    
+    private final MoveOrdering moveOrdering = new MoveOrdering();
+    
+    private final PerThread<SearchCounters> searchCounters = 
+            new PerThread<>(SearchCounters::new);
+    
     /**
      * Constructs this Negamax-based game engine.
      * 
@@ -28,88 +60,312 @@ public final class NegamaxGameEngine extends AbstractGameEngine {
     }
     
     @Override
-    public ChessBoardState search(final ChessBoardState root, 
+    public ChessBoardState search(final ChessBoardState root,
                                   final int depth,
                                   final PlayerTurn playerTurn) {
-    
+        
         bestMoveState = null;
         
-        negamaxRootImpl(root, 
-                        depth,
-                        MINIMUM_SCORE,
-                        MAXIMUM_SCORE,
-                        playerTurnToColor(playerTurn));
+        if (depth > 0) {
+            search(root, playerTurn, SearchLimits.ofDepth(depth));
+        }
         
         return bestMoveState;
     }
     
-    private void negamaxRootImpl(final ChessBoardState root,
-                                 final int depth,
-                                 int alpha,
-                                 int beta,
-                                 final int color) {
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    protected SearchResult search(final ChessBoardState root,
+                                  final PlayerTurn playerTurn,
+                                  final SearchLimits limits) {
+        
+        bestMoveState = null;
+        searchCounters.prune();
+        searchCounters.forEach(SearchCounters::reset);
+        
+        final List<ChessMove> rootMoves =
+                moveOrdering.order(root, root.expand(playerTurn));
+        
+        if (rootMoves.isEmpty()) {
+            throw new IllegalStateException();
+        }
+        
+        final int color = playerTurnToColor(playerTurn);
+        double previousScore = 0.0;
+        SearchResult result = null;
         
-        int value = MINIMUM_SCORE;
+        searchStarted(limits.getMaximumDepth());
+        
+        try {
+            for (int depth = 1; depth <= limits.getMaximumDepth(); depth++) {
+                iterationStarted(depth);
+                
+                final List<ChessMove> rootVariation = new ArrayList<>();
+                
+                previousScore =
+                        depth == 1 ?
+                        negamaxRootImpl(rootMoves,
+                                        depth,
+                                        MINIMUM_SCORE,
+                                        MAXIMUM_SCORE,
+                                        color,
+                                        rootVariation) :
+                        aspirationSearch(rootMoves,
+                                         depth,
+                                         previousScore,
+                                         color,
+                                         rootVariation);
+                
+                nodeCount = searchCounters.sum(counters -> counters.nodes);
+                
+                if (isStopRequested()) {
+                    // The iteration is incomplete, keep the previous one:
+                    break;
+                }
+                
+                bestMoveState = 
+                        ChessBoardState.copyOf(rootMoves.get(0).getState());
+                bestScore = color * previousScore;
+                principalVariation = rootVariation;
+                
+                result = new SearchResult(root,
+                                          bestMoveState,
+                                          bestScore,
+                                          depth,
+                                          principalVariation,
+                                          nodeCount);
+                
+                if (!iterationCompleted(result)) {
+                    break;
+                }
+            }
+        } finally {
+            searchFinished();
+            searchStopped(nodeCount);
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Searches the root with a narrow window around {@code previousScore},
+     * widening the window on the failing side until the score falls within it.
+     * 
+     * @param rootMoves     the ordered root moves.
+     * @param depth         the depth of the current iteration.
+     * @param previousScore the score of the previous iteration.
+     * @param color         the color of the player to move.
+     * @param rootVariation the output principal variation.
+     * 
+     * @return the score of the root.
+     */
+    private double aspirationSearch(final List<ChessMove> rootMoves,
+                                    final int depth,
+                                    final double previousScore,
+                                    final int color,
+                                    final List<ChessMove> rootVariation) {
+        
+        double alphaHalfWidth = ASPIRATION_WINDOW_HALF_WIDTH;
+        double betaHalfWidth  = ASPIRATION_WINDOW_HALF_WIDTH;
+        
+        while (true) {
+            final double alpha =
+                    alphaHalfWidth > MAXIMUM_ASPIRATION_WINDOW_HALF_WIDTH ?
+                    MINIMUM_SCORE :
+                    previousScore - alphaHalfWidth;
+            
+            final double beta =
+                    betaHalfWidth > MAXIMUM_ASPIRATION_WINDOW_HALF_WIDTH ?
+                    MAXIMUM_SCORE :
+                    previousScore + betaHalfWidth;
+            
+            final double score = negamaxRootImpl(rootMoves,
+                                                 depth,
+                                                 alpha,
+                                                 beta,
+                                                 color,
+                                                 rootVariation);
+            
+            if (score <= alpha && alpha > MINIMUM_SCORE) {
+                // Fail low, widen the window downwards:
+                alphaHalfWidth *= 4.0;
+            } else if (score >= beta && beta < MAXIMUM_SCORE) {
+                // Fail high, widen the window upwards:
+                betaHalfWidth *= 4.0;
+            } else {
+                return score;
+            }
+        }
+    }
+    
+    /**
+     * Searches the root moves. Only if the search did not fail low or high, 
+     * the best move is moved to the front of {@code rootMoves}, so that the 
+     * next iteration searches it first, and its principal variation is stored
+     * in {@code rootVariation}.
+     * 
+     * @param rootMoves     the ordered root moves.
+     * @param depth         the search depth.
+     * @param alpha         the lower bound of the window.
+     * @param beta          the upper bound of the window.
+     * @param color         the color of the player to move.
+     * @param rootVariation the output principal variation.
+     * 
+     * @return the score of the root.
+     */
+    private double negamaxRootImpl(final List<ChessMove> rootMoves,
+                                   final int depth,
+                                   double alpha,
+                                   final double beta,
+                                   final int color,
+                                   final List<ChessMove> rootVariation) {
         
-        final List<ChessBoardState> children = root.expand(colorToPlayerTurn(color));
+        final double originalAlpha = alpha;
+        final List<ChessMove> bestVariation = new ArrayList<>();
+        double bestScore = Double.NEGATIVE_INFINITY;
+        int bestMoveIndex = 0;
         
-        for (final ChessBoardState child : children) {
-            final double score = -negamaxImpl(child,
-                                              depth - 1,
-                                              -beta,
-                                              -alpha,
-                                              -color);
+        for (int i = 0; i < rootMoves.size(); i++) {
+            final ChessMove move = rootMoves.get(i);
+            final List<ChessMove> childVariation = new ArrayList<>();
+            final double score = principalVariationSearch(move.getState(),
+                                                          depth - 1,
+                                                          alpha,
+                                                          beta,
+                                                          color,
+                                                          i == 0,
+                                                          childVariation);
+            if (score > bestScore) {
+                bestScore = score;
+                bestMoveIndex = i;
+                updateVariation(bestVariation, move, childVariation);
+            }
             
+            if (score > alpha) {
+                alpha = score;
+                
+                if (score < beta) {
+                    bestMoveChanged(color * score, bestVariation);
+                }
+            }
             
+            if (alpha >= beta) {
+                break;
+            }
+        }
+        
+        final boolean failLow  = bestScore <= originalAlpha
+                              && originalAlpha > MINIMUM_SCORE;
+        
+        final boolean failHigh = bestScore >= beta
+                              && beta < MAXIMUM_SCORE;
+        
+        if (!failLow && !failHigh && !isStopRequested()) {
+            final ChessMove bestMove = rootMoves.remove(bestMoveIndex);
+            rootMoves.add(0, bestMove);
+            rootVariation.clear();
+            rootVariation.addAll(bestVariation);
         }
+        
+        return bestScore;
+    }
+    
+    /**
+     * Searches {@code child} from the point of view of its parent. If
+     * {@code firstChild} is {@code false}, the child is first probed with a
+     * null window and is re-searched with the full window only if the probe
+     * fails high.
+     * 
+     * @param child      the child state to search.
+     * @param depth      the remaining depth of {@code child}.
+     * @param alpha      the lower bound of the parent window.
+     * @param beta       the upper bound of the parent window.
+     * @param color      the color of the parent player.
+     * @param firstChild whether {@code child} is the first child of its parent.
+     * @param variation  the output principal variation of {@code child}.
+     * 
+     * @return the score of {@code child} from the point of view of its parent.
+     */
+    private double principalVariationSearch(final ChessBoardState child,
+                                            final int depth,
+                                            final double alpha,
+                                            final double beta,
+                                            final int color,
+                                            final boolean firstChild,
+                                            final List<ChessMove> variation) {
+        if (firstChild) {
+            return -negamaxImpl(child, depth, -beta, -alpha, -color, variation);
+        }
+        
+        final double score = -negamaxImpl(child,
+                                           depth,
+                                           -alpha - NULL_WINDOW_WIDTH,
+                                           -alpha,
+                                           -color,
+                                           variation);
+        
+        if (score > alpha && score < beta) {
+            // The null window probe failed high, re-search:
+            variation.clear();
+            return -negamaxImpl(child, depth, -beta, -alpha, -color, variation);
+        }
+        
+        return score;
     }
     
     private double negamaxImpl(final ChessBoardState root,
                                final int depth,
                                double alpha,
-                               double beta,
-                               final int color) {
-        if (depth == 0) {
-            return color * heuristicFunction.evaluate(root, depth);
+                               final double beta,
+                               final int color,
+                               final List<ChessMove> variation) {
+        if (visitNode()) {
+            return 0.0;
         }
         
-        if (color == WHITE_MINIMIZING_COLOR) {
-            if (root.isCheckMate(PlayerTurn.WHITE)) {
-                // '- depth': Prefer winning for white player higher in the
-                // tree:
-                return MINIMUM_SCORE - depth;
-            }
-        } else if (root.isCheckMate(PlayerTurn.BLACK)) {
-            // '+ depth': Prefer winning for black player higher in the
-            // tree:
-            return MAXIMUM_SCORE + depth;
+        if (depth == 0) {
+            // The heuristic window is from the point of view of the black 
+            // player:
+            return color * evaluate(root, 
+                                    depth, 
+                                    color == 1 ? alpha : -beta, 
+                                    color == 1 ? beta : -alpha);
         }
         
-        final PlayerTurn currentPlayerTurn = 
-                color == BLACK_MAXIMIZING_COLOR ?
-                PlayerTurn.BLACK :
-                PlayerTurn.WHITE;
+        final PlayerTurn currentPlayerTurn = colorToPlayerTurn(color);
         
-        final List<ChessBoardState> children = 
-                root.expand(currentPlayerTurn);
+        if (root.isCheckMate(currentPlayerTurn)) {
+            // '- depth': Prefer being checkmated deeper in the tree:
+            return MINIMUM_SCORE - depth;
+        }
         
-        if (children.isEmpty()) {
-            if (color == BLACK_MAXIMIZING_COLOR) {
-                return MAXIMUM_SCORE - depth;
-            } else {
-                return MINIMUM_SCORE + depth;
-            }
+        final List<ChessMove> moves =
+                moveOrdering.order(root, root.expand(currentPlayerTurn));
+        
+        if (moves.isEmpty()) {
+            // Once here, we have a stalemate:
+            return 0.0;
         }
         
-        double value = MINIMUM_SCORE;
+        double value = Double.NEGATIVE_INFINITY;
         
-        for (final ChessBoardState child : children) {
-            value = Math.max(value,
-                             -negamaxImpl(root,
-                                          depth - 1,
-                                          -beta,
-                                          -alpha,
-                                          -color));
+        for (int i = 0; i < moves.size(); i++) {
+            final List<ChessMove> childVariation = new ArrayList<>();
+            final double score =
+                    principalVariationSearch(moves.get(i).getState(),
+                                             depth - 1,
+                                             alpha,
+                                             beta,
+                                             color,
+                                             i == 0,
+                                             childVariation);
+            
+            if (score > value) {
+                value = score;
+                updateVariation(variation, moves.get(i), childVariation);
+            }
             
             alpha = Math.max(alpha, value);
             
@@ -121,6 +377,38 @@ public final class NegamaxGameEngine extends AbstractGameEngine {
         return value;
     }
     
+    /**
+     * Counts a node visited by the current thread and polls the stop 
+     * conditions once every {@code POLLING_INTERVAL} nodes.
+     * 
+     * @return {@code true} if and only if the search should stop.
+     */
+    private boolean visitNode() {
+        final SearchCounters counters = searchCounters.get();
+        
+        if (counters.countNode(POLLING_INTERVAL)) {
+            counters.stopped = pollStop(POLLING_INTERVAL);
+        }
+        
+        return counters.stopped;
+    }
+    
+    /**
+     * Makes {@code variation} consist of {@code move} followed by 
+     * {@code childVariation}.
+     * 
+     * @param variation      the variation to update.
+     * @param move           the best move so far.
+     * @param childVariation the principal variation after {@code move}.
+     */
+    private static void updateVariation(final List<ChessMove> variation,
+                                        final ChessMove move,
+                                        final List<ChessMove> childVariation) {
+        variation.clear();
+        variation.add(move);
+        variation.addAll(childVariation);
+    }
+    
     private static PlayerTurn colorToPlayerTurn(final int color) {
         return color == WHITE_MINIMIZING_COLOR ?
                 PlayerTurn.WHITE :
@@ -132,4 +420,4 @@ public final class NegamaxGameEngine extends AbstractGameEngine {
                 WHITE_MINIMIZING_COLOR :
                 BLACK_MAXIMIZING_COLOR;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * This class holds a separate instance of a mutable structure for each search
+ * thread, so that the threads update their instances without contention, and
+ * remembers all the instances so that they may be reset or summed up between
+ * the searches. The threads are referred to weakly, and the instances of the
+ * terminated threads are dropped by {@link #prune()}, so the threads started
+ * for a single search do not pile up instances.
+ * 
+ * @param <T> the type of the per-thread structure.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class PerThread<T> {
+    
+    private final Queue<Entry<T>> entries = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<T> instance;
+    
+    PerThread(final Supplier<T> factory) {
+        Objects.requireNonNull(factory, "The input factory is null.");
+        
+        this.instance = ThreadLocal.withInitial(() -> {
+            final T t = factory.get();
+            entries.add(new Entry<>(Thread.currentThread(), t));
+            return t;
+        });
+    }
+    
+    /**
+     * Returns the instance of the current thread.
+     * 
+     * @return the instance of the current thread.
+     */
+    T get() {
+        return instance.get();
+    }
+    
+    /**
+     * Applies {@code action} to the instances of all the threads. Must not be
+     * called while the threads are searching.
+     * 
+     * @param action the action to apply.
+     */
+    void forEach(final Consumer<? super T> action) {
+        for (final Entry<T> entry : entries) {
+            action.accept(entry.instance);
+        }
+    }
+    
+    /**
+     * Sums up {@code function} over the instances of all the threads. Must not
+     * be called while the threads are searching.
+     * 
+     * @param function the function to sum up.
+     * 
+     * @return the sum.
+     */
+    long sum(final ToLongFunction<? super T> function) {
+        long sum = 0L;
+        
+        for (final Entry<T> entry : entries) {
+            sum += function.applyAsLong(entry.instance);
+        }
+        
+        return sum;
+    }
+    
+    /**
+     * Drops the instances of the threads that have terminated. Must not be
+     * called while the threads are searching, and is called before a search
+     * resets the instances, as the dropped ones are never used again.
+     */
+    void prune() {
+        entries.removeIf(entry -> {
+            final Thread thread = entry.thread.get();
+            return thread == null || !thread.isAlive();
+        });
+    }
+    
+    /**
+     * Returns the number of the instances.
+     * 
+     * @return the number of the instances.
+     */
+    int size() {
+        return entries.size();
+    }
+    
+    /**
+     * This class pairs an instance with a weak reference to its thread.
+     */
+    private static final class Entry<T> {
+        
+        private final WeakReference<Thread> thread;
+        private final T instance;
+        
+        Entry(final Thread thread, final T instance) {
+            this.thread   = new WeakReference<>(thread);
+            this.instance = instance;
+        }
+    }
+}
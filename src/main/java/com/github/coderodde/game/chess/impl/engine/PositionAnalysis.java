@@ -0,0 +1,150 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceColor;
+import static com.github.coderodde.game.chess.PieceType.KING;
+import static com.github.coderodde.game.chess.PieceType.PAWN;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.UnderAttackCheck;
+import com.github.coderodde.game.chess.impl.attackcheck.BlackUnderAttackCheck;
+import com.github.coderodde.game.chess.impl.attackcheck.WhiteUnderAttackCheck;
+
+/**
+ * This class provides the cheap position queries the search relies on for its
+ * pruning decisions.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class PositionAnalysis {
+    
+    private static final UnderAttackCheck WHITE_CHECK =
+            new WhiteUnderAttackCheck();
+    
+    private static final UnderAttackCheck BLACK_CHECK =
+            new BlackUnderAttackCheck();
+    
+    private PositionAnalysis() {
+        
+    }
+    
+    /**
+     * Returns the opponent of {@code playerTurn}.
+     * 
+     * @param playerTurn the player turn.
+     * 
+     * @return the opponent.
+     */
+    static PlayerTurn opponent(final PlayerTurn playerTurn) {
+        return playerTurn == PlayerTurn.WHITE ?
+                PlayerTurn.BLACK :
+                PlayerTurn.WHITE;
+    }
+    
+    /**
+     * Returns {@code true} if and only if the king of {@code playerTurn} is
+     * under attack in {@code state}. The king coordinates stored in the state
+     * are tried first; if there is no king of the right color, the board is
+     * scanned. If the king is gone, {@code false} is returned.
+     * 
+     * @param state      the state to inspect.
+     * @param playerTurn the player whose king to inspect.
+     * 
+     * @return {@code true} if and only if the king is in check.
+     */
+    static boolean isInCheck(final ChessBoardState state,
+                             final PlayerTurn playerTurn) {
+        
+        final boolean white = playerTurn == PlayerTurn.WHITE;
+        
+        int kingFile = white ? state.getWhiteKingFile() :
+                               state.getBlackKingFile();
+        
+        int kingRank = white ? state.getWhiteKingRank() :
+                               state.getBlackKingRank();
+        
+        if (!isKing(state.get(kingFile, kingRank), playerTurn)) {
+            kingFile = -1;
+            
+            search:
+            for (int rank = 0; rank < N; rank++) {
+                for (int file = 0; file < N; file++) {
+                    if (isKing(state.get(file, rank), playerTurn)) {
+                        kingFile = file;
+                        kingRank = rank;
+                        break search;
+                    }
+                }
+            }
+            
+            if (kingFile == -1) {
+                return false;
+            }
+        }
+        
+        return white ? WHITE_CHECK.check(state, kingFile, kingRank) :
+                       BLACK_CHECK.check(state, kingFile, kingRank);
+    }
+    
+    /**
+     * Returns {@code true} if and only if {@code playerTurn} has at least one
+     * piece other than pawns and the king. Null moves are unsafe without such
+     * pieces due to zugzwang.
+     * 
+     * @param state      the state to inspect.
+     * @param playerTurn the player whose pieces to inspect.
+     * 
+     * @return {@code true} if and only if there are non-pawn pieces.
+     */
+    static boolean hasNonPawnMaterial(final ChessBoardState state,
+                                      final PlayerTurn playerTurn) {
+        
+        final PieceColor color = toPieceColor(playerTurn);
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                final Piece piece = state.get(file, rank);
+                
+                if (piece == null || piece.getPieceColor() != color) {
+                    continue;
+                }
+                
+                if (piece.getPieceType() != PAWN &&
+                    piece.getPieceType() != KING) {
+                    return true;
+                }
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * Returns the material balance of {@code state}: the presence scores of
+     * the black pieces minus the presence scores of the white pieces. This is
+     * a cheap approximation of the heuristic functions, which use the same
+     * sign convention and units.
+     * 
+     * @param state the state to evaluate.
+     * 
+     * @return the material balance.
+     */
+    static double material(final ChessBoardState state) {
+        return state.getMaterialScore();
+    }
+    
+    static PieceColor toPieceColor(final PlayerTurn playerTurn) {
+        return playerTurn == PlayerTurn.WHITE ?
+                PieceColor.WHITE :
+                PieceColor.BLACK;
+    }
+    
+    private static boolean isKing(final Piece piece,
+                                  final PlayerTurn playerTurn) {
+        return piece != null
+                && piece.getPieceType() == KING
+                && piece.getPieceColor() == toPieceColor(playerTurn);
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.ChessMove;
+import java.util.Arrays;
+
+/**
+ * This class holds the ordering statistics of the quiet moves: the butterfly
+ * history table, indexed by the color of the moved piece, the source cell and
+ * the target cell, and the counter-move table, mapping the previous move of
+ * the opponent to the quiet move that last refuted it. Both tables are
+ * primitive arrays updated without synchronization, so each search thread
+ * must own its own instance.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class QuietMoveHistory {
+    
+    /**
+     * The maximum absolute value of a history entry.
+     */
+    static final int MAXIMUM_HISTORY_SCORE = 1 << 14;
+    
+    private static final int CELLS = N * N;
+    private static final int MOVES = CELLS * CELLS;
+    private static final int NO_MOVE = -1;
+    
+    private final int[] historyScores = new int[2 * MOVES];
+    private final int[] counterMoves = new int[2 * MOVES];
+    
+    QuietMoveHistory() {
+        Arrays.fill(counterMoves, NO_MOVE);
+    }
+    
+    /**
+     * Halves all the history scores so that the statistics of the previous
+     * searches fade out. The counter moves are kept.
+     */
+    void age() {
+        for (int i = 0; i < historyScores.length; i++) {
+            historyScores[i] /= 2;
+        }
+    }
+    
+    /**
+     * Clears both tables.
+     */
+    void clear() {
+        Arrays.fill(historyScores, 0);
+        Arrays.fill(counterMoves, NO_MOVE);
+    }
+    
+    /**
+     * Rewards the quiet move {@code move} that caused a beta cutoff and makes
+     * it the counter move of {@code previousMove}.
+     * 
+     * @param move         the move causing the cutoff.
+     * @param previousMove the move leading to the cutoff node. May be
+     *                     {@code null}.
+     * @param depth        the remaining depth of the cutoff node.
+     */
+    void recordCutoff(final ChessMove move,
+                      final ChessMove previousMove,
+                      final int depth) {
+        
+        update(move, depth * depth);
+        
+        if (previousMove != null) {
+            counterMoves[index(previousMove)] = encode(move);
+        }
+    }
+    
+    /**
+     * Penalizes the quiet move {@code move} that was searched before the move
+     * causing a beta cutoff, but did not cause it itself.
+     * 
+     * @param move  the move to penalize.
+     * @param depth the remaining depth of the cutoff node.
+     */
+    void recordFailure(final ChessMove move, final int depth) {
+        update(move, -depth * depth);
+    }
+    
+    /**
+     * Returns the history score of {@code move}.
+     * 
+     * @param move the move to inspect.
+     * 
+     * @return the history score within
+     *         {@code [-MAXIMUM_HISTORY_SCORE, MAXIMUM_HISTORY_SCORE]}.
+     */
+    int getHistoryScore(final ChessMove move) {
+        return historyScores[index(move)];
+    }
+    
+    /**
+     * Returns {@code true} if and only if {@code move} is the counter move of
+     * {@code previousMove}.
+     * 
+     * @param move         the move to inspect.
+     * @param previousMove the previous move. May be {@code null}.
+     * 
+     * @return {@code true} if and only if {@code move} is the counter move.
+     */
+    boolean isCounterMove(final ChessMove move, final ChessMove previousMove) {
+        return previousMove != null
+                && counterMoves[index(previousMove)] == encode(move);
+    }
+    
+    /**
+     * Adds {@code bonus} to the history score of {@code move}. The larger the
+     * score, the smaller the effect of a bonus, which keeps the scores within
+     * {@code [-MAXIMUM_HISTORY_SCORE, MAXIMUM_HISTORY_SCORE]}.
+     * 
+     * @param move  the move to update.
+     * @param bonus the bonus to add.
+     */
+    private void update(final ChessMove move, final int bonus) {
+        final int index = index(move);
+        final int clampedBonus = Math.max(-MAXIMUM_HISTORY_SCORE,
+                                          Math.min(MAXIMUM_HISTORY_SCORE,
+                                                   bonus));
+        
+        historyScores[index] +=
+                clampedBonus
+                - historyScores[index] * Math.abs(clampedBonus)
+                / MAXIMUM_HISTORY_SCORE;
+    }
+    
+    private static int index(final ChessMove move) {
+        final int side = move.getMovedPiece().isWhite() ? 0 : 1;
+        return side * MOVES + encode(move);
+    }
+    
+    private static int encode(final ChessMove move) {
+        final int source = move.getSourceRank() * N + move.getSourceFile();
+        final int target = move.getTargetRank() * N + move.getTargetFile();
+        return source * CELLS + target;
+    }
+}
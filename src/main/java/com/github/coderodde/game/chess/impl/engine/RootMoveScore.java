@@ -0,0 +1,59 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessMove;
+
+/**
+ * This class holds the result of searching a single root move: the move, its
+ * score and whether the score is exact. A move searched after a better move
+ * was found may fail low against the tightened window, in which case its score
+ * is only a bound: the move is at most that good for the player making it.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class RootMoveScore {
+    
+    private final ChessMove move;
+    private final double score;
+    private final boolean exact;
+    
+    RootMoveScore(final ChessMove move,
+                  final double score,
+                  final boolean exact) {
+        this.move  = move;
+        this.score = score;
+        this.exact = exact;
+    }
+    
+    public ChessMove getMove() {
+        return move;
+    }
+    
+    /**
+     * Returns the score of the move. As with the heuristic functions, positive
+     * scores favor the black player.
+     * 
+     * @return the score of the move.
+     */
+    public double getScore() {
+        return score;
+    }
+    
+    /**
+     * Returns {@code true} if the score is exact and {@code false} if it is
+     * only a bound.
+     * 
+     * @return {@code true} if and only if the score is exact.
+     */
+    public boolean isExact() {
+        return exact;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%s: %s%.3f",
+                             move,
+                             exact ? "" : "bound ",
+                             score);
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+/**
+ * This class holds the counters of a single search thread. The fields are
+ * plain, since only the owning thread updates them during a search; they are
+ * summed up once the search is over. The node count is always maintained, 
+ * since the stop conditions are polled by it; the rest of the counters only 
+ * when the engine collects statistics.
+ * 
+ * @version 1.0.4 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class SearchCounters {
+    
+    /**
+     * The number of nodes visited by the thread.
+     */
+    long nodes;
+    
+    /**
+     * Whether the thread has seen the request to stop the search.
+     */
+    boolean stopped;
+    
+    /**
+     * The number of nodes visited by the quiescence search, including the 
+     * horizon nodes it starts from.
+     */
+    long quiescenceNodes;
+    
+    /**
+     * The number of beta cutoffs.
+     */
+    long betaCutoffs;
+    
+    /**
+     * The number of beta cutoffs caused by the first move searched.
+     */
+    long firstMoveBetaCutoffs;
+    
+    /**
+     * The number of nodes resolved by the endgame tablebase.
+     */
+    long tablebaseHits;
+    
+    /**
+     * The number of quiet moves skipped by futility pruning.
+     */
+    long futilityPrunes;
+    
+    /**
+     * The number of pre-frontier nodes resolved by razoring.
+     */
+    long razorings;
+    
+    /**
+     * The number of captures skipped by delta pruning.
+     */
+    long deltaPrunes;
+    
+    /**
+     * The number of moves searched with a late move reduction.
+     */
+    long lateMoveReductions;
+    
+    /**
+     * The number of reduced moves re-searched to the full depth.
+     */
+    long lateMoveReSearches;
+    
+    /**
+     * The number of nodes cut off by a null move.
+     */
+    long nullMoveCutoffs;
+    
+    /**
+     * The number of null move cutoffs refuted by the verification search.
+     */
+    long refutedNullMoveCutoffs;
+    
+    /**
+     * The distance of the current node from the root.
+     */
+    int ply;
+    
+    /**
+     * The maximum distance from the root reached, quiescence search included.
+     */
+    int selectiveDepth;
+    
+    /**
+     * Counts a node.
+     * 
+     * @param pollingInterval the number of nodes between two polls of the
+     *                        stop conditions. A power of two.
+     * 
+     * @return {@code true} if and only if the stop conditions should be
+     *         polled.
+     */
+    boolean countNode(final int pollingInterval) {
+        return (++nodes & (pollingInterval - 1)) == 0;
+    }
+    
+    /**
+     * Counts a beta cutoff.
+     * 
+     * @param moveIndex the index of the move causing the cutoff in the move 
+     *                  ordering.
+     */
+    void countBetaCutoff(final int moveIndex) {
+        betaCutoffs++;
+        
+        if (moveIndex == 0) {
+            firstMoveBetaCutoffs++;
+        }
+    }
+    
+    /**
+     * Adds the counters of {@code other} to these counters. The selective
+     * depth is the maximum of the two.
+     * 
+     * @param other the counters to add.
+     */
+    void add(final SearchCounters other) {
+        nodes += other.nodes;
+        quiescenceNodes += other.quiescenceNodes;
+        betaCutoffs += other.betaCutoffs;
+        firstMoveBetaCutoffs += other.firstMoveBetaCutoffs;
+        tablebaseHits += other.tablebaseHits;
+        futilityPrunes += other.futilityPrunes;
+        razorings += other.razorings;
+        deltaPrunes += other.deltaPrunes;
+        lateMoveReductions += other.lateMoveReductions;
+        lateMoveReSearches += other.lateMoveReSearches;
+        nullMoveCutoffs += other.nullMoveCutoffs;
+        refutedNullMoveCutoffs += other.refutedNullMoveCutoffs;
+        selectiveDepth = Math.max(selectiveDepth, other.selectiveDepth);
+    }
+    
+    void reset() {
+        nodes = 0L;
+        stopped = false;
+        quiescenceNodes = 0L;
+        betaCutoffs = 0L;
+        firstMoveBetaCutoffs = 0L;
+        tablebaseHits = 0L;
+        futilityPrunes = 0L;
+        razorings = 0L;
+        deltaPrunes = 0L;
+        lateMoveReductions = 0L;
+        lateMoveReSearches = 0L;
+        nullMoveCutoffs = 0L;
+        refutedNullMoveCutoffs = 0L;
+        ply = 0;
+        selectiveDepth = 0;
+    }
+}
@@ -0,0 +1,223 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+/**
+ * This class holds the statistics of a single search, merged from the
+ * counters of all the search threads.
+ * 
+ * @version 1.0.4 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class SearchStatistics {
+    
+    private final int depth;
+    private final long nodes;
+    private final long quiescenceNodes;
+    private final long betaCutoffs;
+    private final long firstMoveBetaCutoffs;
+    private final long tablebaseHits;
+    private final long futilityPrunes;
+    private final long razorings;
+    private final long deltaPrunes;
+    private final long lateMoveReductions;
+    private final long lateMoveReSearches;
+    private final long nullMoveCutoffs;
+    private final long refutedNullMoveCutoffs;
+    private final int selectiveDepth;
+    private final long elapsedNanos;
+    
+    SearchStatistics(final int depth,
+                     final SearchCounters counters,
+                     final long elapsedNanos) {
+        
+        this.depth                  = depth;
+        this.nodes                  = counters.nodes;
+        this.quiescenceNodes        = counters.quiescenceNodes;
+        this.betaCutoffs            = counters.betaCutoffs;
+        this.firstMoveBetaCutoffs   = counters.firstMoveBetaCutoffs;
+        this.tablebaseHits          = counters.tablebaseHits;
+        this.futilityPrunes         = counters.futilityPrunes;
+        this.razorings              = counters.razorings;
+        this.deltaPrunes            = counters.deltaPrunes;
+        this.lateMoveReductions     = counters.lateMoveReductions;
+        this.lateMoveReSearches     = counters.lateMoveReSearches;
+        this.nullMoveCutoffs        = counters.nullMoveCutoffs;
+        this.refutedNullMoveCutoffs = counters.refutedNullMoveCutoffs;
+        this.selectiveDepth         = counters.selectiveDepth;
+        this.elapsedNanos           = elapsedNanos;
+    }
+    
+    public int getDepth() {
+        return depth;
+    }
+    
+    /**
+     * Returns the number of visited nodes, quiescence search included.
+     * 
+     * @return the number of visited nodes.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+    
+    /**
+     * Returns the number of nodes visited by the quiescence search, including
+     * the horizon nodes it starts from.
+     * 
+     * @return the number of quiescence nodes.
+     */
+    public long getQuiescenceNodes() {
+        return quiescenceNodes;
+    }
+    
+    public long getBetaCutoffs() {
+        return betaCutoffs;
+    }
+    
+    public long getFirstMoveBetaCutoffs() {
+        return firstMoveBetaCutoffs;
+    }
+    
+    /**
+     * Returns the number of nodes resolved by the endgame tablebase instead 
+     * of being searched.
+     * 
+     * @return the number of tablebase hits.
+     */
+    public long getTablebaseHits() {
+        return tablebaseHits;
+    }
+    
+    /**
+     * Returns the number of quiet moves skipped by futility pruning at the 
+     * frontier nodes.
+     * 
+     * @return the number of futility prunes.
+     */
+    public long getFutilityPrunes() {
+        return futilityPrunes;
+    }
+    
+    /**
+     * Returns the number of pre-frontier nodes resolved by the quiescence 
+     * search through razoring.
+     * 
+     * @return the number of razorings.
+     */
+    public long getRazorings() {
+        return razorings;
+    }
+    
+    /**
+     * Returns the number of captures skipped by delta pruning in the 
+     * quiescence search.
+     * 
+     * @return the number of delta prunes.
+     */
+    public long getDeltaPrunes() {
+        return deltaPrunes;
+    }
+    
+    /**
+     * Returns the number of moves first searched with a late move reduction.
+     * 
+     * @return the number of late move reductions.
+     */
+    public long getLateMoveReductions() {
+        return lateMoveReductions;
+    }
+    
+    /**
+     * Returns the number of reduced moves whose reduced search beat the bound
+     * and that were therefore re-searched to the full depth.
+     * 
+     * @return the number of re-searches.
+     */
+    public long getLateMoveReSearches() {
+        return lateMoveReSearches;
+    }
+    
+    /**
+     * Returns the number of nodes cut off because passing the turn still 
+     * failed high, verified ones included.
+     * 
+     * @return the number of null move cutoffs.
+     */
+    public long getNullMoveCutoffs() {
+        return nullMoveCutoffs;
+    }
+    
+    /**
+     * Returns the number of null moves that failed high but whose cutoff the
+     * verification search of the actual moves refuted, as in zugzwang.
+     * 
+     * @return the number of refuted null move cutoffs.
+     */
+    public long getRefutedNullMoveCutoffs() {
+        return refutedNullMoveCutoffs;
+    }
+    
+    /**
+     * Returns the share of the beta cutoffs caused by the first move searched.
+     * The closer to one, the better the move ordering.
+     * 
+     * @return the first move cutoff ratio or zero if there were no cutoffs.
+     */
+    public double getFirstMoveCutoffRatio() {
+        return betaCutoffs == 0L ?
+               0.0 :
+               (double) firstMoveBetaCutoffs / betaCutoffs;
+    }
+    
+    /**
+     * Returns the effective branching factor, i.e., the {@code depth}th root
+     * of the number of nodes.
+     * 
+     * @return the effective branching factor.
+     */
+    public double getEffectiveBranchingFactor() {
+        return Math.pow(nodes, 1.0 / depth);
+    }
+    
+    /**
+     * Returns the maximum distance from the root reached, quiescence search
+     * included.
+     * 
+     * @return the selective depth.
+     */
+    public int getSelectiveDepth() {
+        return selectiveDepth;
+    }
+    
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+    
+    public long getNodesPerSecond() {
+        return (long)(nodes * 1e9 / Math.max(1L, elapsedNanos));
+    }
+    
+    @Override
+    public String toString() {
+        return String.format(
+                "depth %d seldepth %d nodes %d qnodes %d nps %d cutoffs %d " +
+                "first-move cutoffs %.1f%% tbhits %d futility %d " +
+                "razorings %d delta %d lmr %d re-searches %d " +
+                "null-move cutoffs %d refuted %d ebf %.2f",
+                depth,
+                selectiveDepth,
+                nodes,
+                quiescenceNodes,
+                getNodesPerSecond(),
+                betaCutoffs,
+                100.0 * getFirstMoveCutoffRatio(),
+                tablebaseHits,
+                futilityPrunes,
+                razorings,
+                deltaPrunes,
+                lateMoveReductions,
+                lateMoveReSearches,
+                nullMoveCutoffs,
+                refutedNullMoveCutoffs,
+                getEffectiveBranchingFactor());
+    }
+}
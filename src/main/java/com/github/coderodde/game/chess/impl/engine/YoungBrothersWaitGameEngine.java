@@ -0,0 +1,777 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.AbstractGameEngine;
+import com.github.coderodde.game.chess.AbstractHeuristicFunction;
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.PlayerTurn;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class implements a parallel alpha-beta game engine using the Young
+ * Brothers Wait Concept (YBWC): the first child of each node (the eldest
+ * brother) is searched serially, and only once it has established a bound, the
+ * rest of the children (the young brothers) are forked as tasks on a
+ * {@link ForkJoinPool}. The bounds of such a split node are shared atomically
+ * by its tasks; a task raising the bound to a beta cutoff cancels the pending
+ * siblings, and the running ones abort on their next node.
+ * <p>
+ * The search is a plain negamax alpha-beta search with a quiescence search at
+ * the leaves; it does not use forward pruning, which depends on the order the
+ * tasks finish in. Since the root moves tying with the best score get exact
+ * scores too, the best move is the same regardless of the number of threads.
+ * <p>
+ * Each node passes the principal variation of its best child up to its 
+ * parent; at a split node, the young brother improving the best score 
+ * publishes its variation to the split point.
+ * <p>
+ * A young brother's beta bound is the negated alpha bound of its split node,
+ * which the other young brothers may raise while it is being searched. The 
+ * young brother therefore re-reads the bound before each of its later moves,
+ * and a split node under it reads it on each {@link SplitPoint#getBeta()}.
+ * 
+ * @version 1.0.8 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class YoungBrothersWaitGameEngine extends AbstractGameEngine {
+    
+    private static final int WHITE_MINIMIZING_COLOR = -1;
+    private static final int BLACK_MAXIMIZING_COLOR = +1;
+    
+    /**
+     * The minimum remaining depth at which the young brothers are forked.
+     * Shallower nodes are searched serially, since forking them costs more
+     * than it saves.
+     */
+    private static final int MINIMUM_SPLIT_DEPTH = 2;
+    
+    /**
+     * The maximum number of plies the quiescence search may go beyond the
+     * horizon.
+     */
+    private static final int QUIESCENCE_MAXIMUM_DEPTH = 6;
+    
+    /**
+     * The width of the null window.
+     */
+    private static final double NULL_WINDOW_WIDTH = 0.001;
+    
+    private final ForkJoinPool forkJoinPool;
+    
+    private final MoveOrdering moveOrdering = new MoveOrdering();
+    
+    /**
+     * The quiet move statistics. Each worker thread owns its tables so that 
+     * the threads do not contend on them.
+     */
+    private final PerThread<QuietMoveHistory> quietMoveHistory =
+            new PerThread<>(QuietMoveHistory::new);
+    
+    private final PerThread<SearchCounters> searchCounters =
+            new PerThread<>(SearchCounters::new);
+    
+    /**
+     * Constructs this game engine running on the common fork-join pool.
+     * 
+     * @param heuristicFunction the heuristic function to use. Must be
+     *                          thread-safe.
+     */
+    public YoungBrothersWaitGameEngine(
+            final AbstractHeuristicFunction heuristicFunction) {
+        
+        this(heuristicFunction, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Constructs this game engine running on {@code forkJoinPool}.
+     * 
+     * @param heuristicFunction the heuristic function to use. Must be
+     *                          thread-safe.
+     * @param forkJoinPool      the pool to run the search tasks in.
+     */
+    public YoungBrothersWaitGameEngine(
+            final AbstractHeuristicFunction heuristicFunction,
+            final ForkJoinPool forkJoinPool) {
+        
+        super(heuristicFunction);
+        
+        this.forkJoinPool =
+                Objects.requireNonNull(
+                        forkJoinPool,
+                        "The input fork-join pool is null.");
+    }
+    
+    @Override
+    public ChessBoardState search(final ChessBoardState root,
+                                  final int depth,
+                                  final PlayerTurn playerTurn) {
+        
+        if (depth < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad depth: %d.", depth));
+        }
+        
+        bestMoveState = null;
+        quietMoveHistory.prune();
+        searchCounters.prune();
+        quietMoveHistory.forEach(QuietMoveHistory::age);
+        searchCounters.forEach(SearchCounters::reset);
+        
+        final List<ChessMove> rootMoves =
+                moveOrdering.order(root, root.expand(playerTurn));
+        
+        if (rootMoves.isEmpty()) {
+            throw new IllegalStateException();
+        }
+        
+        final int color = playerTurnToColor(playerTurn);
+        final RootTask rootTask = new RootTask(rootMoves, depth, color);
+        
+        searchStarted(depth);
+        
+        try {
+            final ChessMove bestMove = forkJoinPool.invoke(rootTask);
+            
+            bestMoveState = ChessBoardState.copyOf(bestMove.getState());
+            bestScore = color * rootTask.bestScore;
+            principalVariation = rootTask.bestVariation;
+        } finally {
+            nodeCount = searchCounters.sum(counters -> counters.nodes);
+            searchStopped(nodeCount);
+        }
+        
+        return bestMoveState;
+    }
+    
+    /**
+     * Searches {@code root} from the point of view of the player with color
+     * {@code color}.
+     * 
+     * @param root         the state to search.
+     * @param depth        the remaining depth.
+     * @param alpha        the alpha bound.
+     * @param beta         the beta bound.
+     * @param color        the color of the player to move.
+     * @param splitPoint   the nearest split node above {@code root}. May be
+     *                     {@code null}.
+     * @param youngBrother whether {@code root} is a young brother of 
+     *                     {@code splitPoint}, whose beta bound follows the
+     *                     alpha bound of {@code splitPoint}.
+     * @param previousMove the move leading to {@code root}.
+     * @param variation    the output principal variation of {@code root}.
+     * 
+     * @return the score of {@code root}. Meaningless if the search of
+     *         {@code splitPoint} was aborted.
+     */
+    private double negamax(final ChessBoardState root,
+                           final int depth,
+                           double alpha,
+                           double beta,
+                           final int color,
+                           final SplitPoint splitPoint,
+                           final boolean youngBrother,
+                           final ChessMove previousMove,
+                           final List<ChessMove> variation) {
+        
+        if (visitNode() || (splitPoint != null && splitPoint.isAborted())) {
+            return 0.0;
+        }
+        
+        if (depth == 0) {
+            return quiescenceSearch(root, 0, alpha, beta, color, splitPoint);
+        }
+        
+        final PlayerTurn playerTurn = colorToPlayerTurn(color);
+        final List<ChessMove> moves =
+                moveOrdering.order(root,
+                                   root.expand(playerTurn),
+                                   quietMoveHistory.get(),
+                                   previousMove);
+        
+        if (moves.isEmpty()) {
+            // '- depth': Prefer being checkmated deeper in the tree:
+            return PositionAnalysis.isInCheck(root, playerTurn) ?
+                   MINIMUM_SCORE - depth :
+                   0.0;
+        }
+        
+        // Search the eldest brother serially:
+        final ChessMove firstMove = moves.get(0);
+        final List<ChessMove> firstVariation = new ArrayList<>();
+        double value = -negamax(firstMove.getState(),
+                                depth - 1,
+                                -beta,
+                                -alpha,
+                                -color,
+                                splitPoint,
+                                false,
+                                firstMove,
+                                firstVariation);
+        
+        if (isAborted(splitPoint)) {
+            // The score is meaningless, so it must not cause a cutoff:
+            return 0.0;
+        }
+        
+        updateVariation(variation, firstMove, firstVariation);
+        
+        if (value >= beta) {
+            recordCutoff(firstMove, previousMove, depth);
+            return value;
+        }
+        
+        alpha = Math.max(alpha, value);
+        
+        if (depth < MINIMUM_SPLIT_DEPTH || moves.size() == 1) {
+            for (int i = 1; i < moves.size(); i++) {
+                if (youngBrother) {
+                    // The siblings may have raised the alpha bound of the
+                    // split node since the previous move:
+                    beta = Math.min(beta, -splitPoint.getAlpha());
+                    
+                    if (value >= beta) {
+                        break;
+                    }
+                }
+                
+                final ChessMove move = moves.get(i);
+                final List<ChessMove> childVariation = new ArrayList<>();
+                final double score = -negamax(move.getState(),
+                                              depth - 1,
+                                              -beta,
+                                              -alpha,
+                                              -color,
+                                              splitPoint,
+                                              false,
+                                              move,
+                                              childVariation);
+                
+                if (isAborted(splitPoint)) {
+                    return 0.0;
+                }
+                
+                if (score > value) {
+                    value = score;
+                    updateVariation(variation, move, childVariation);
+                }
+                
+                if (value >= beta) {
+                    recordCutoff(move, previousMove, depth);
+                    break;
+                }
+                
+                alpha = Math.max(alpha, value);
+            }
+            
+            return value;
+        }
+        
+        // Fork the young brothers:
+        final SplitPoint childSplitPoint = new SplitPoint(splitPoint,
+                                                          youngBrother,
+                                                          value,
+                                                          variation,
+                                                          alpha,
+                                                          beta,
+                                                          false);
+        
+        final List<SiblingTask> tasks = new ArrayList<>(moves.size() - 1);
+        
+        for (int i = 1; i < moves.size(); i++) {
+            tasks.add(new SiblingTask(childSplitPoint,
+                                      moves.get(i),
+                                      previousMove,
+                                      depth,
+                                      color));
+        }
+        
+        childSplitPoint.run(tasks);
+        
+        variation.clear();
+        variation.addAll(childSplitPoint.getBestVariation());
+        return childSplitPoint.getBestScore();
+    }
+    
+    /**
+     * Searches the captures and promotions of {@code root} until the position
+     * is quiet. The captures losing material according to the static exchange
+     * evaluation are skipped.
+     * 
+     * @param root       the state to search.
+     * @param ply        the number of plies beyond the horizon.
+     * @param alpha      the alpha bound.
+     * @param beta       the beta bound.
+     * @param color      the color of the player to move.
+     * @param splitPoint the nearest split node above {@code root}. May be
+     *                   {@code null}.
+     * 
+     * @return the score of {@code root}.
+     */
+    private double quiescenceSearch(final ChessBoardState root,
+                                    final int ply,
+                                    double alpha,
+                                    final double beta,
+                                    final int color,
+                                    final SplitPoint splitPoint) {
+        
+        if (visitNode()) {
+            return 0.0;
+        }
+        
+        // The heuristic window is from the point of view of the black player:
+        final double standPat = 
+                color * evaluate(root, 
+                                 0, 
+                                 color == 1 ? alpha : -beta, 
+                                 color == 1 ? beta : -alpha);
+        
+        if (ply == QUIESCENCE_MAXIMUM_DEPTH || standPat >= beta) {
+            return standPat;
+        }
+        
+        if (splitPoint != null && splitPoint.isAborted()) {
+            return 0.0;
+        }
+        
+        alpha = Math.max(alpha, standPat);
+        double value = standPat;
+        
+        final List<ChessMove> moves =
+                moveOrdering.order(root,
+                                   root.expand(colorToPlayerTurn(color)));
+        
+        for (final ChessMove move : moves) {
+            if (move.isQuiet()) {
+                continue;
+            }
+            
+            if (!move.isPromotion() && moveOrdering.isLosingCapture(move)) {
+                continue;
+            }
+            
+            value = Math.max(value,
+                             -quiescenceSearch(move.getState(),
+                                               ply + 1,
+                                               -beta,
+                                               -alpha,
+                                               -color,
+                                               splitPoint));
+            
+            if (value >= beta) {
+                break;
+            }
+            
+            alpha = Math.max(alpha, value);
+        }
+        
+        return value;
+    }
+    
+    /**
+     * Returns {@code true} if and only if the search is stopped or the search
+     * of {@code splitPoint} was aborted, in which case the scores returned by
+     * {@link #negamax} are meaningless.
+     */
+    private boolean isAborted(final SplitPoint splitPoint) {
+        return searchCounters.get().stopped 
+                || isStopRequested()
+                || (splitPoint != null && splitPoint.isAborted());
+    }
+    
+    private void recordCutoff(final ChessMove move,
+                              final ChessMove previousMove,
+                              final int depth) {
+        
+        if (move.isQuiet()) {
+            quietMoveHistory.get().recordCutoff(move, previousMove, depth);
+        }
+    }
+    
+    /**
+     * Counts a node visited by the current thread and polls the stop
+     * conditions once every {@code POLLING_INTERVAL} nodes.
+     * 
+     * @return {@code true} if and only if the search should stop.
+     */
+    private boolean visitNode() {
+        final SearchCounters counters = searchCounters.get();
+        
+        if (counters.countNode(POLLING_INTERVAL)) {
+            counters.stopped = pollStop(POLLING_INTERVAL);
+        }
+        
+        return counters.stopped;
+    }
+    
+    /**
+     * Makes {@code variation} consist of {@code move} followed by
+     * {@code childVariation}.
+     * 
+     * @param variation      the variation to update.
+     * @param move           the best move so far.
+     * @param childVariation the principal variation after {@code move}.
+     */
+    private static void updateVariation(final List<ChessMove> variation,
+                                        final ChessMove move,
+                                        final List<ChessMove> childVariation) {
+        variation.clear();
+        variation.add(move);
+        variation.addAll(childVariation);
+    }
+    
+    private static PlayerTurn colorToPlayerTurn(final int color) {
+        return color == WHITE_MINIMIZING_COLOR ?
+                PlayerTurn.WHITE :
+                PlayerTurn.BLACK;
+    }
+    
+    private static int playerTurnToColor(final PlayerTurn playerTurn) {
+        return playerTurn == PlayerTurn.WHITE ?
+                WHITE_MINIMIZING_COLOR :
+                BLACK_MAXIMIZING_COLOR;
+    }
+    
+    /**
+     * This class holds the state shared by the tasks searching the young
+     * brothers of a node: the best score found so far, from which the alpha
+     * bound is derived, its principal variation and the cutoff flag.
+     */
+    private static final class SplitPoint {
+        
+        private final SplitPoint parent;
+        
+        /**
+         * Whether this split node is a young brother of {@link #parent}, in
+         * which case its beta bound follows the alpha bound of the parent.
+         */
+        private final boolean youngBrother;
+        
+        private final double initialAlpha;
+        private final double beta;
+        
+        /**
+         * Whether the young brothers tying with the alpha bound should get
+         * exact scores. Used at the root for choosing the best move
+         * deterministically.
+         */
+        private final boolean keepTies;
+        
+        /**
+         * The bits of the best score found so far.
+         */
+        private final AtomicLong bestScoreBits;
+        
+        /**
+         * The principal variation of the best score. Guarded by this split
+         * point.
+         */
+        private List<ChessMove> bestVariation;
+        
+        private volatile boolean cutOff;
+        private List<? extends ForkJoinTask<?>> tasks;
+        
+        SplitPoint(final SplitPoint parent,
+                   final boolean youngBrother,
+                   final double bestScore,
+                   final List<ChessMove> bestVariation,
+                   final double alpha,
+                   final double beta,
+                   final boolean keepTies) {
+            
+            this.parent = parent;
+            this.youngBrother = youngBrother;
+            this.bestVariation = new ArrayList<>(bestVariation);
+            this.initialAlpha = alpha;
+            this.beta = beta;
+            this.keepTies = keepTies;
+            this.bestScoreBits =
+                    new AtomicLong(Double.doubleToLongBits(bestScore));
+        }
+        
+        /**
+         * Forks {@code tasks} and waits for all of them to complete or to be
+         * cancelled.
+         * 
+         * @param tasks the tasks searching the young brothers.
+         */
+        void run(final List<? extends ForkJoinTask<?>> tasks) {
+            this.tasks = tasks;
+            
+            // Fork in reverse order so that this thread, popping its own tasks
+            // in the LIFO order, searches the better moves first:
+            for (int i = tasks.size() - 1; i >= 0; i--) {
+                tasks.get(i).fork();
+            }
+            
+            for (final ForkJoinTask<?> task : tasks) {
+                task.quietlyJoin();
+            }
+        }
+        
+        double getBestScore() {
+            return Double.longBitsToDouble(bestScoreBits.get());
+        }
+        
+        synchronized List<ChessMove> getBestVariation() {
+            return bestVariation;
+        }
+        
+        /**
+         * Returns the alpha bound for a young brother starting its search.
+         * 
+         * @return the current alpha bound.
+         */
+        double getAlpha() {
+            final double alpha = Math.max(initialAlpha, getBestScore());
+            return keepTies ? alpha - NULL_WINDOW_WIDTH : alpha;
+        }
+        
+        /**
+         * Returns the beta bound, tightened by the current alpha bound of the
+         * parent if this split node is a young brother of it.
+         * 
+         * @return the current beta bound.
+         */
+        double getBeta() {
+            return youngBrother ? Math.min(beta, -parent.getAlpha()) : beta;
+        }
+        
+        /**
+         * Offers {@code score} as the best score. The young brothers finish
+         * far less often than they visit nodes, so the offers synchronize, 
+         * while the bounds are read without locking.
+         * 
+         * @param score     the score of a young brother.
+         * @param variation the principal variation of the young brother's
+         *                  parent via the young brother.
+         * 
+         * @return {@code true} if and only if {@code score} is the new best
+         *         score.
+         */
+        synchronized boolean offer(final double score,
+                                   final List<ChessMove> variation) {
+            
+            if (score <= getBestScore()) {
+                return false;
+            }
+            
+            bestScoreBits.set(Double.doubleToLongBits(score));
+            bestVariation = variation;
+            return true;
+        }
+        
+        /**
+         * Cuts this split node off if the new best score {@code score} 
+         * reaches beta, cancelling the pending tasks.
+         * 
+         * @param score the new best score.
+         * 
+         * @return {@code true} if and only if {@code score} caused a cutoff.
+         */
+        boolean cutOffIfReachesBeta(final double score) {
+            if (score < getBeta()) {
+                return false;
+            }
+            
+            cutOff = true;
+            
+            for (final ForkJoinTask<?> task : tasks) {
+                task.cancel(false);
+            }
+            
+            return true;
+        }
+        
+        boolean isRoot() {
+            return parent == null && keepTies;
+        }
+        
+        /**
+         * Returns {@code true} if and only if this split node or any split
+         * node above it has been cut off.
+         * 
+         * @return {@code true} if and only if the search should be aborted.
+         */
+        boolean isAborted() {
+            for (SplitPoint splitPoint = this;
+                    splitPoint != null;
+                    splitPoint = splitPoint.parent) {
+                
+                if (splitPoint.cutOff) {
+                    return true;
+                }
+            }
+            
+            return false;
+        }
+    }
+    
+    /**
+     * This class implements the task searching a single young brother. The 
+     * tasks are never serialized.
+     */
+    @SuppressWarnings("serial")
+    private final class SiblingTask extends RecursiveTask<Double> {
+        
+        private final SplitPoint splitPoint;
+        private final ChessMove move;
+        private final ChessMove previousMove;
+        private final int parentDepth;
+        private final int parentColor;
+        
+        /**
+         * The principal variation of the parent via {@link #move}.
+         */
+        private final List<ChessMove> variation = new ArrayList<>();
+        
+        SiblingTask(final SplitPoint splitPoint,
+                    final ChessMove move,
+                    final ChessMove previousMove,
+                    final int parentDepth,
+                    final int parentColor) {
+            
+            this.splitPoint = splitPoint;
+            this.move = move;
+            this.previousMove = previousMove;
+            this.parentDepth = parentDepth;
+            this.parentColor = parentColor;
+        }
+        
+        @Override
+        protected Double compute() {
+            if (isAborted(splitPoint)) {
+                return Double.NaN;
+            }
+            
+            final double alpha = splitPoint.getAlpha();
+            final double beta = splitPoint.getBeta();
+            final List<ChessMove> childVariation = new ArrayList<>();
+            final double score = -negamax(move.getState(),
+                                          parentDepth - 1,
+                                          -beta,
+                                          -alpha,
+                                          -parentColor,
+                                          splitPoint,
+                                          true,
+                                          move,
+                                          childVariation);
+            
+            if (isAborted(splitPoint)) {
+                return Double.NaN;
+            }
+            
+            updateVariation(variation, move, childVariation);
+            
+            if (!splitPoint.offer(score, variation)) {
+                return score;
+            }
+            
+            if (splitPoint.isRoot()) {
+                bestMoveChanged(parentColor * score, variation);
+            } else if (splitPoint.cutOffIfReachesBeta(score)) {
+                recordCutoff(move, previousMove, parentDepth);
+            }
+            
+            return score;
+        }
+    }
+    
+    /**
+     * This class implements the task searching the root moves. The root is
+     * split like any other node, but the scores of all the young brothers are
+     * kept for choosing the best move. The task is never serialized.
+     */
+    @SuppressWarnings("serial")
+    private final class RootTask extends RecursiveTask<ChessMove> {
+        
+        private final List<ChessMove> rootMoves;
+        private final int depth;
+        private final int color;
+        
+        /**
+         * The score of the best move from the point of view of the player to
+         * move.
+         */
+        double bestScore;
+        
+        /**
+         * The principal variation, starting with the best move.
+         */
+        List<ChessMove> bestVariation;
+        
+        RootTask(final List<ChessMove> rootMoves,
+                 final int depth,
+                 final int color) {
+            
+            this.rootMoves = rootMoves;
+            this.depth = depth;
+            this.color = color;
+        }
+        
+        @Override
+        protected ChessMove compute() {
+            final ChessMove firstMove = rootMoves.get(0);
+            final List<ChessMove> childVariation = new ArrayList<>();
+            final double firstScore = -negamax(firstMove.getState(),
+                                               depth - 1,
+                                               Double.NEGATIVE_INFINITY,
+                                               Double.POSITIVE_INFINITY,
+                                               -color,
+                                               null,
+                                               false,
+                                               firstMove,
+                                               childVariation);
+            
+            final List<ChessMove> firstVariation = new ArrayList<>();
+            updateVariation(firstVariation, firstMove, childVariation);
+            bestMoveChanged(color * firstScore, firstVariation);
+            
+            // The root never gets cut off, not even by the mate scores 
+            // falling outside of [MINIMUM_SCORE, MAXIMUM_SCORE]:
+            final SplitPoint rootSplitPoint = 
+                    new SplitPoint(null,
+                                   false,
+                                   firstScore,
+                                   firstVariation,
+                                   Double.NEGATIVE_INFINITY,
+                                   Double.POSITIVE_INFINITY,
+                                   true);
+            
+            final List<SiblingTask> tasks =
+                    new ArrayList<>(rootMoves.size() - 1);
+            
+            for (int i = 1; i < rootMoves.size(); i++) {
+                tasks.add(new SiblingTask(rootSplitPoint,
+                                          rootMoves.get(i),
+                                          null,
+                                          depth,
+                                          color));
+            }
+            
+            rootSplitPoint.run(tasks);
+            
+            // Pick the first move with the best score:
+            ChessMove bestMove = firstMove;
+            bestScore = firstScore;
+            bestVariation = firstVariation;
+            
+            for (int i = 0; i < tasks.size(); i++) {
+                final double score = tasks.get(i).join();
+                
+                if (score > bestScore) {
+                    bestScore = score;
+                    bestMove = rootMoves.get(i + 1);
+                    bestVariation = tasks.get(i).variation;
+                }
+            }
+            
+            return bestMove;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import com.github.coderodde.game.chess.Piece;
+
+/**
+ * This class holds the feature transformer output of both perspectives for 
+ * the state last evaluated by a thread, along with the pieces of that state.
+ * The next evaluation updates the accumulators by the cells that differ, 
+ * which, in a depth-first search, are usually few.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class Accumulator {
+    
+    /**
+     * The accumulators indexed by the perspectives.
+     */
+    final short[][] values;
+    
+    /**
+     * The pieces of the last evaluated state, indexed by 
+     * {@code rank * N + file}.
+     */
+    final Piece[] pieces = new Piece[HalfKp.SQUARES];
+    
+    /**
+     * The oriented king squares of the last evaluated state.
+     */
+    final int[] kingSquares = new int[2];
+    
+    /**
+     * The oriented king squares of the state being evaluated.
+     */
+    final int[] newKingSquares = new int[2];
+    
+    /**
+     * Whether the accumulators are computed.
+     */
+    boolean valid;
+    
+    // The activations of the layers:
+    final int[] input;
+    final int[] firstHidden;
+    final int[] secondHidden;
+    
+    Accumulator(final NeuralNetwork network) {
+        this.values = new short[2][network.accumulatorSize];
+        this.input = new int[2 * network.accumulatorSize];
+        this.firstHidden = new int[network.firstHiddenSize];
+        this.secondHidden = new int[network.secondHiddenSize];
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceType;
+
+/**
+ * This class defines the HalfKP input features of the neural network. Each 
+ * perspective, black or white, has its own feature set: a feature is a 
+ * triple of the king square of the perspective, a non-king piece and the 
+ * square of the piece. The squares are oriented so that the back rank of the
+ * perspective is rank zero, and the pieces are told apart by whether they 
+ * belong to the perspective.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class HalfKp {
+    
+    /**
+     * The index of the black perspective.
+     */
+    static final int BLACK = 0;
+    
+    /**
+     * The index of the white perspective.
+     */
+    static final int WHITE = 1;
+    
+    static final int SQUARES = N * N;
+    
+    /**
+     * The number of the non-king piece kinds: five types in two colors.
+     */
+    static final int PIECE_KINDS = 10;
+    
+    /**
+     * The number of the features of a perspective.
+     */
+    static final int FEATURES = SQUARES * PIECE_KINDS * SQUARES;
+    
+    private HalfKp() {
+        
+    }
+    
+    /**
+     * Returns the square of the cell at file {@code file} and rank 
+     * {@code rank} from the point of view of {@code perspective}.
+     * 
+     * @param perspective the perspective.
+     * @param file        the file of the cell.
+     * @param rank        the rank of the cell.
+     * 
+     * @return the oriented square.
+     */
+    static int square(final int perspective, final int file, final int rank) {
+        return perspective == BLACK ? 
+               rank * N + file : 
+               (N - 1 - rank) * N + file;
+    }
+    
+    /**
+     * Returns the feature of {@code piece} at {@code square} from the point of
+     * view of {@code perspective}.
+     * 
+     * @param perspective the perspective.
+     * @param kingSquare  the oriented king square of the perspective.
+     * @param piece       the non-king piece.
+     * @param square      the oriented square of the piece.
+     * 
+     * @return the feature index.
+     */
+    static int feature(final int perspective,
+                       final int kingSquare,
+                       final Piece piece,
+                       final int square) {
+        
+        return feature(perspective, 
+                       kingSquare, 
+                       piece.getPieceType().ordinal(), 
+                       piece.isBlack(), 
+                       square);
+    }
+    
+    /**
+     * Returns the feature of a non-king piece at {@code square} from the point
+     * of view of {@code perspective}.
+     * 
+     * @param perspective the perspective.
+     * @param kingSquare  the oriented king square of the perspective.
+     * @param pieceType   the ordinal of the type of the piece.
+     * @param black       whether the piece is black.
+     * @param square      the oriented square of the piece.
+     * 
+     * @return the feature index.
+     */
+    static int feature(final int perspective,
+                       final int kingSquare,
+                       final int pieceType,
+                       final boolean black,
+                       final int square) {
+        
+        final boolean own = black == (perspective == BLACK);
+        final int kind = pieceType + (own ? 0 : PIECE_KINDS / 2);
+        
+        return (kingSquare * PIECE_KINDS + kind) * SQUARES + square;
+    }
+    
+    /**
+     * Finds the oriented king squares of both perspectives in {@code state}.
+     * 
+     * @param state       the state.
+     * @param kingSquares the array to store the king squares in, indexed by 
+     *                    the perspectives.
+     * 
+     * @return {@code false} if a king is missing.
+     */
+    static boolean findKings(final ChessBoardState state, 
+                             final int[] kingSquares) {
+        
+        kingSquares[BLACK] = -1;
+        kingSquares[WHITE] = -1;
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                final Piece piece = state.get(file, rank);
+                
+                if (piece == null || piece.getPieceType() != PieceType.KING) {
+                    continue;
+                }
+                
+                final int perspective = piece.isBlack() ? BLACK : WHITE;
+                kingSquares[perspective] = square(perspective, file, rank);
+            }
+        }
+        
+        return kingSquares[BLACK] >= 0 && kingSquares[WHITE] >= 0;
+    }
+}
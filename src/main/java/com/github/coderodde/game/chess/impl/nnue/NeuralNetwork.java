@@ -0,0 +1,338 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * This class holds the quantized weights of an efficiently updatable neural 
+ * network. The network has four layers:
+ * <ol>
+ *   <li>the feature transformer mapping the {@link HalfKp} features of each 
+ *       perspective to an accumulator of 16-bit integers,</li>
+ *   <li>a hidden layer over the clipped accumulators of both perspectives, 
+ *       the black one first,</li>
+ *   <li>another hidden layer,</li>
+ *   <li>the output neuron.</li>
+ * </ol>
+ * The weights of the last three layers are 8-bit integers and their biases 
+ * 32-bit integers. The 8-bit weights are kept as bytes and widened lane by 
+ * lane during the inference, so they take a quarter of the memory and cache
+ * of widened copies. The activations are clipped to 
+ * {@code [0, }{@value #ACTIVATION_LIMIT}{@code ]}.
+ * <p>
+ * The networks are stored in little-endian binary files: a header of five 
+ * integers (the magic number, the format version and the three layer sizes)
+ * followed by the weights and the biases of each layer.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class NeuralNetwork {
+    
+    static final int MAGIC = 0x4555_4E4E;
+    static final int VERSION = 1;
+    
+    /**
+     * The upper limit of the clipped activations.
+     */
+    static final int ACTIVATION_LIMIT = 127;
+    
+    /**
+     * The right shift scaling the outputs of the hidden layers back to the 
+     * activation range.
+     */
+    static final int WEIGHT_SHIFT = 6;
+    
+    /**
+     * The number of output units per centipawn.
+     */
+    static final int OUTPUT_SCALE = 16;
+    
+    private static final int HEADER_SIZE = 5 * Integer.BYTES;
+    
+    final int accumulatorSize;
+    final int firstHiddenSize;
+    final int secondHiddenSize;
+    
+    /**
+     * The feature transformer weights, one row of {@link #accumulatorSize} 
+     * weights per feature.
+     */
+    final short[] featureWeights;
+    final short[] featureBiases;
+    
+    /**
+     * The weights of the first hidden layer, one row of 
+     * {@code 2 * accumulatorSize} weights per neuron.
+     */
+    final byte[] firstWeights;
+    final int[] firstBiases;
+    
+    /**
+     * The weights of the second hidden layer, one row of 
+     * {@link #firstHiddenSize} weights per neuron.
+     */
+    final byte[] secondWeights;
+    final int[] secondBiases;
+    
+    final byte[] outputWeights;
+    final int outputBias;
+    
+    NeuralNetwork(final int accumulatorSize,
+                  final int firstHiddenSize,
+                  final int secondHiddenSize,
+                  final short[] featureWeights,
+                  final short[] featureBiases,
+                  final byte[] firstWeights,
+                  final int[] firstBiases,
+                  final byte[] secondWeights,
+                  final int[] secondBiases,
+                  final byte[] outputWeights,
+                  final int outputBias) {
+        
+        checkLayerSize(accumulatorSize);
+        checkLayerSize(firstHiddenSize);
+        checkLayerSize(secondHiddenSize);
+        
+        checkLength(featureWeights, HalfKp.FEATURES * accumulatorSize);
+        checkLength(featureBiases, accumulatorSize);
+        checkLength(firstWeights, 2 * accumulatorSize * firstHiddenSize);
+        checkLength(firstBiases, firstHiddenSize);
+        checkLength(secondWeights, firstHiddenSize * secondHiddenSize);
+        checkLength(secondBiases, secondHiddenSize);
+        checkLength(outputWeights, secondHiddenSize);
+        
+        this.accumulatorSize  = accumulatorSize;
+        this.firstHiddenSize  = firstHiddenSize;
+        this.secondHiddenSize = secondHiddenSize;
+        this.featureWeights   = featureWeights;
+        this.featureBiases    = featureBiases;
+        this.firstWeights     = firstWeights;
+        this.firstBiases      = firstBiases;
+        this.secondWeights    = secondWeights;
+        this.secondBiases     = secondBiases;
+        this.outputWeights    = outputWeights;
+        this.outputBias       = outputBias;
+    }
+    
+    /**
+     * Loads a network from the memory-mapped file {@code path}.
+     * 
+     * @param path the path of the network file.
+     * 
+     * @return the loaded network.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    public static NeuralNetwork load(final Path path) throws IOException {
+        Objects.requireNonNull(path, "The input path is null.");
+        
+        try (final FileChannel channel = FileChannel.open(path)) {
+            final long size = channel.size();
+            
+            if (size < HEADER_SIZE) {
+                throw new IOException("Truncated network file.");
+            }
+            
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Too large network file.");
+            }
+            
+            final MappedByteBuffer buffer = 
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a network file.");
+            }
+            
+            final int version = buffer.getInt();
+            
+            if (version != VERSION) {
+                throw new IOException(
+                        String.format("Bad network file version: %d.", 
+                                      version));
+            }
+            
+            final int accumulatorSize  = buffer.getInt();
+            final int firstHiddenSize  = buffer.getInt();
+            final int secondHiddenSize = buffer.getInt();
+            
+            if (accumulatorSize < 1 
+                    || firstHiddenSize < 1 
+                    || secondHiddenSize < 1
+                    || size != getFileSize(accumulatorSize, 
+                                           firstHiddenSize, 
+                                           secondHiddenSize)) {
+                
+                throw new IOException("Bad network file size.");
+            }
+            
+            final short[] featureWeights = 
+                    new short[HalfKp.FEATURES * accumulatorSize];
+            
+            final short[] featureBiases = new short[accumulatorSize];
+            
+            buffer.asShortBuffer().get(featureWeights).get(featureBiases);
+            buffer.position(buffer.position() 
+                    + Short.BYTES * (featureWeights.length 
+                                   + featureBiases.length));
+            
+            final byte[] firstWeights = 
+                    readBytes(buffer, 2 * accumulatorSize * firstHiddenSize);
+            
+            final int[] firstBiases = readInts(buffer, firstHiddenSize);
+            
+            final byte[] secondWeights = 
+                    readBytes(buffer, firstHiddenSize * secondHiddenSize);
+            
+            final int[] secondBiases = readInts(buffer, secondHiddenSize);
+            final byte[] outputWeights = readBytes(buffer, secondHiddenSize);
+            final int outputBias = buffer.getInt();
+            
+            return new NeuralNetwork(accumulatorSize,
+                                     firstHiddenSize,
+                                     secondHiddenSize,
+                                     featureWeights,
+                                     featureBiases,
+                                     firstWeights,
+                                     firstBiases,
+                                     secondWeights,
+                                     secondBiases,
+                                     outputWeights,
+                                     outputBias);
+        }
+    }
+    
+    /**
+     * Writes this network to the file {@code path}, replacing any existing 
+     * file.
+     * 
+     * @param path the path of the network file.
+     * 
+     * @throws IOException if the file cannot be written.
+     */
+    public void write(final Path path) throws IOException {
+        Objects.requireNonNull(path, "The input path is null.");
+        
+        try (final FileChannel channel = 
+                FileChannel.open(path,
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.TRUNCATE_EXISTING,
+                                 StandardOpenOption.READ,
+                                 StandardOpenOption.WRITE)) {
+            
+            final MappedByteBuffer buffer = 
+                    channel.map(FileChannel.MapMode.READ_WRITE, 
+                                0L, 
+                                getFileSize(accumulatorSize, 
+                                            firstHiddenSize, 
+                                            secondHiddenSize));
+            
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC)
+                  .putInt(VERSION)
+                  .putInt(accumulatorSize)
+                  .putInt(firstHiddenSize)
+                  .putInt(secondHiddenSize);
+            
+            buffer.asShortBuffer().put(featureWeights).put(featureBiases);
+            buffer.position(buffer.position() 
+                    + Short.BYTES * (featureWeights.length 
+                                   + featureBiases.length));
+            
+            writeBytes(buffer, firstWeights);
+            writeInts(buffer, firstBiases);
+            writeBytes(buffer, secondWeights);
+            writeInts(buffer, secondBiases);
+            writeBytes(buffer, outputWeights);
+            buffer.putInt(outputBias);
+            buffer.force();
+        }
+    }
+    
+    public int getAccumulatorSize() {
+        return accumulatorSize;
+    }
+    
+    public int getFirstHiddenSize() {
+        return firstHiddenSize;
+    }
+    
+    public int getSecondHiddenSize() {
+        return secondHiddenSize;
+    }
+    
+    private static long getFileSize(final int accumulatorSize,
+                                    final int firstHiddenSize,
+                                    final int secondHiddenSize) {
+        
+        return HEADER_SIZE 
+             + (long) Short.BYTES * (HalfKp.FEATURES + 1) * accumulatorSize
+             + 2L * accumulatorSize * firstHiddenSize
+             + (long) Integer.BYTES * firstHiddenSize
+             + (long) firstHiddenSize * secondHiddenSize
+             + (long) Integer.BYTES * secondHiddenSize
+             + secondHiddenSize
+             + Integer.BYTES;
+    }
+    
+    private static byte[] readBytes(final MappedByteBuffer buffer, 
+                                    final int length) {
+        final byte[] values = new byte[length];
+        buffer.get(values);
+        return values;
+    }
+    
+    private static int[] readInts(final MappedByteBuffer buffer, 
+                                  final int length) {
+        final int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + Integer.BYTES * length);
+        return values;
+    }
+    
+    private static void writeBytes(final MappedByteBuffer buffer,
+                                   final byte[] values) {
+        buffer.put(values);
+    }
+    
+    private static void writeInts(final MappedByteBuffer buffer,
+                                  final int[] values) {
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + Integer.BYTES * values.length);
+    }
+    
+    private static void checkLayerSize(final int layerSize) {
+        if (layerSize < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad layer size: %d.", layerSize));
+        }
+    }
+    
+    private static void checkLength(final short[] array, final int length) {
+        if (array.length != length) {
+            throw new IllegalArgumentException(
+                    String.format("Bad array length: %d.", array.length));
+        }
+    }
+    
+    private static void checkLength(final int[] array, final int length) {
+        if (array.length != length) {
+            throw new IllegalArgumentException(
+                    String.format("Bad array length: %d.", array.length));
+        }
+    }
+    
+    private static void checkLength(final byte[] array, final int length) {
+        if (array.length != length) {
+            throw new IllegalArgumentException(
+                    String.format("Bad array length: %d.", array.length));
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import com.github.coderodde.game.chess.AbstractHeuristicFunction;
+import com.github.coderodde.game.chess.ChessBoardState;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceType;
+import static com.github.coderodde.game.chess.impl.nnue.HalfKp.BLACK;
+import static com.github.coderodde.game.chess.impl.nnue.HalfKp.WHITE;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class implements a heuristic function evaluating the states via an 
+ * efficiently updatable neural network (NNUE). Each search thread keeps the 
+ * accumulators of the state it evaluated last and updates them by the cells
+ * the next state differs in, so the expensive first layer is mostly 
+ * recomputed for a few features only. The states carry no side to move, so 
+ * the black perspective always comes first and, as with the other heuristic
+ * functions, positive scores favor the black player.
+ * <p>
+ * The inner loops run on the Vector API if the {@code jdk.incubator.vector} 
+ * module is resolved and on scalar code otherwise.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class NeuralNetworkHeuristicFunction 
+        extends AbstractHeuristicFunction {
+    
+    /**
+     * The number of changed cells above which the accumulators are refreshed
+     * instead of updated.
+     */
+    private static final int MAXIMUM_INCREMENTAL_CHANGES = 8;
+    
+    /**
+     * The score of a state with a captured king, the presence score of the 
+     * king.
+     */
+    private static final double MISSING_KING_SCORE = 500.0;
+    
+    private final NeuralNetwork network;
+    private final VectorOperations operations;
+    private final ThreadLocal<Accumulator> accumulators;
+    
+    private final Map<ChessBoardState, Integer> stateFrequencyMap = 
+            new HashMap<>();
+    
+    public NeuralNetworkHeuristicFunction(final NeuralNetwork network) {
+        this(network, VectorOperations.getBest());
+    }
+    
+    NeuralNetworkHeuristicFunction(final NeuralNetwork network,
+                                   final VectorOperations operations) {
+        
+        this.network = 
+                Objects.requireNonNull(network, "The input network is null.");
+        
+        this.operations = operations;
+        this.accumulators = 
+                ThreadLocal.withInitial(() -> new Accumulator(network));
+    }
+    
+    @Override
+    public void clearStateFrequencyMap() {
+        this.stateFrequencyMap.clear();
+    }
+    
+    @Override
+    public Map<ChessBoardState, Integer> getStateFrequencyMap() {
+        return stateFrequencyMap;
+    }
+    
+    @Override
+    public double evaluate(final ChessBoardState state, final int depth) {
+        final Accumulator accumulator = accumulators.get();
+        
+        if (!HalfKp.findKings(state, accumulator.newKingSquares)) {
+            return accumulator.newKingSquares[BLACK] < 0 ? 
+                   -MISSING_KING_SCORE : 
+                   +MISSING_KING_SCORE;
+        }
+        
+        update(accumulator, state);
+        return propagate(accumulator) / (NeuralNetwork.OUTPUT_SCALE * 100.0);
+    }
+    
+    /**
+     * Brings {@code accumulator} up to date with {@code state}.
+     * 
+     * @param accumulator the accumulator of the current thread.
+     * @param state       the state to evaluate.
+     */
+    private void update(final Accumulator accumulator, 
+                        final ChessBoardState state) {
+        
+        final int[] kingSquares = accumulator.newKingSquares;
+        final Piece[] pieces = accumulator.pieces;
+        
+        boolean refreshBlack = 
+                !accumulator.valid 
+                || kingSquares[BLACK] != accumulator.kingSquares[BLACK];
+        
+        boolean refreshWhite = 
+                !accumulator.valid 
+                || kingSquares[WHITE] != accumulator.kingSquares[WHITE];
+        
+        if (!refreshBlack || !refreshWhite) {
+            int changes = 0;
+            
+            for (int rank = 0; rank < N; rank++) {
+                for (int file = 0; file < N; file++) {
+                    if (!isSame(pieces[rank * N + file], 
+                                state.get(file, rank))) {
+                        changes++;
+                    }
+                }
+            }
+            
+            if (changes > MAXIMUM_INCREMENTAL_CHANGES) {
+                refreshBlack = true;
+                refreshWhite = true;
+            }
+        }
+        
+        if (!refreshBlack || !refreshWhite) {
+            for (int rank = 0; rank < N; rank++) {
+                for (int file = 0; file < N; file++) {
+                    final Piece previousPiece = pieces[rank * N + file];
+                    final Piece piece = state.get(file, rank);
+                    
+                    if (isSame(previousPiece, piece)) {
+                        continue;
+                    }
+                    
+                    if (!refreshBlack) {
+                        updateFeature(accumulator, BLACK, previousPiece, 
+                                      piece, file, rank);
+                    }
+                    
+                    if (!refreshWhite) {
+                        updateFeature(accumulator, WHITE, previousPiece, 
+                                      piece, file, rank);
+                    }
+                }
+            }
+        }
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                pieces[rank * N + file] = state.get(file, rank);
+            }
+        }
+        
+        if (refreshBlack) {
+            refresh(accumulator, BLACK, kingSquares[BLACK]);
+        }
+        
+        if (refreshWhite) {
+            refresh(accumulator, WHITE, kingSquares[WHITE]);
+        }
+        
+        accumulator.kingSquares[BLACK] = kingSquares[BLACK];
+        accumulator.kingSquares[WHITE] = kingSquares[WHITE];
+        accumulator.valid = true;
+    }
+    
+    private void updateFeature(final Accumulator accumulator,
+                               final int perspective,
+                               final Piece previousPiece,
+                               final Piece piece,
+                               final int file,
+                               final int rank) {
+        
+        final short[] values = accumulator.values[perspective];
+        final int kingSquare = accumulator.newKingSquares[perspective];
+        final int square = HalfKp.square(perspective, file, rank);
+        
+        if (isFeature(previousPiece)) {
+            operations.subtract(values, 
+                                network.featureWeights, 
+                                getRowOffset(perspective, 
+                                             kingSquare, 
+                                             previousPiece, 
+                                             square));
+        }
+        
+        if (isFeature(piece)) {
+            operations.add(values,
+                           network.featureWeights,
+                           getRowOffset(perspective, 
+                                        kingSquare, 
+                                        piece, 
+                                        square));
+        }
+    }
+    
+    /**
+     * Recomputes the accumulator of {@code perspective} from the pieces of 
+     * {@code accumulator}.
+     * 
+     * @param accumulator the accumulator of the current thread.
+     * @param perspective the perspective.
+     * @param kingSquare  the oriented king square of the perspective.
+     */
+    private void refresh(final Accumulator accumulator,
+                         final int perspective,
+                         final int kingSquare) {
+        
+        final short[] values = accumulator.values[perspective];
+        
+        System.arraycopy(network.featureBiases, 0, values, 0, values.length);
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                final Piece piece = accumulator.pieces[rank * N + file];
+                
+                if (!isFeature(piece)) {
+                    continue;
+                }
+                
+                operations.add(values,
+                               network.featureWeights,
+                               getRowOffset(
+                                       perspective, 
+                                       kingSquare, 
+                                       piece, 
+                                       HalfKp.square(perspective, 
+                                                     file, 
+                                                     rank)));
+            }
+        }
+    }
+    
+    /**
+     * Propagates the accumulators through the hidden layers.
+     * 
+     * @param accumulator the up-to-date accumulator.
+     * 
+     * @return the output in output units.
+     */
+    private int propagate(final Accumulator accumulator) {
+        final int accumulatorSize = network.accumulatorSize;
+        final int[] input = accumulator.input;
+        
+        for (int i = 0; i < accumulatorSize; i++) {
+            input[i] = clip(accumulator.values[BLACK][i]);
+            input[accumulatorSize + i] = clip(accumulator.values[WHITE][i]);
+        }
+        
+        final int[] firstHidden = accumulator.firstHidden;
+        
+        for (int i = 0; i < firstHidden.length; i++) {
+            firstHidden[i] = 
+                    clip((network.firstBiases[i] 
+                        + operations.dot(input, 
+                                         network.firstWeights, 
+                                         i * input.length)) 
+                            >> NeuralNetwork.WEIGHT_SHIFT);
+        }
+        
+        final int[] secondHidden = accumulator.secondHidden;
+        
+        for (int i = 0; i < secondHidden.length; i++) {
+            secondHidden[i] = 
+                    clip((network.secondBiases[i] 
+                        + operations.dot(firstHidden, 
+                                         network.secondWeights, 
+                                         i * firstHidden.length)) 
+                            >> NeuralNetwork.WEIGHT_SHIFT);
+        }
+        
+        return network.outputBias 
+             + operations.dot(secondHidden, network.outputWeights, 0);
+    }
+    
+    private int getRowOffset(final int perspective,
+                             final int kingSquare,
+                             final Piece piece,
+                             final int square) {
+        
+        return HalfKp.feature(perspective, kingSquare, piece, square) 
+             * network.accumulatorSize;
+    }
+    
+    private static int clip(final int value) {
+        return Math.max(0, Math.min(NeuralNetwork.ACTIVATION_LIMIT, value));
+    }
+    
+    private static boolean isFeature(final Piece piece) {
+        return piece != null && piece.getPieceType() != PieceType.KING;
+    }
+    
+    private static boolean isSame(final Piece piece1, final Piece piece2) {
+        return piece1 == piece2 || (piece1 != null && piece1.equals(piece2));
+    }
+}
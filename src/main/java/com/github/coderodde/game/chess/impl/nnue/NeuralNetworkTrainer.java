@@ -0,0 +1,852 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PieceType;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import static com.github.coderodde.game.chess.impl.nnue.HalfKp.BLACK;
+import static com.github.coderodde.game.chess.impl.nnue.HalfKp.WHITE;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * This class implements a multi-threaded CPU trainer for 
+ * {@link NeuralNetwork}. The trainer keeps a floating-point copy of the 
+ * network, streams the labeled positions written by 
+ * {@link TrainingDataWriter} in fixed-size batches and optimizes the network
+ * via Adam. The loss is the squared error between the predicted winning 
+ * probability and a blend of the probability implied by the score label and
+ * the game result.
+ * <p>
+ * Each batch is split between the worker threads, each accumulating the 
+ * gradients of its share into its own buffers. The reduction is lock-free as
+ * well: the parameters are partitioned between the threads, each summing the
+ * gradients of its own parameters over all the buffers. Only the rows of the
+ * feature transformer that the batch touched are reduced. The memory use is 
+ * bounded by the batch size and the number of threads times the size of the 
+ * network, regardless of the number of positions.
+ * <p>
+ * The floating-point network maps onto the quantized one as follows: the 
+ * activations in {@code [0, 1]} become {@code [0, 127]}, the feature 
+ * transformer parameters are scaled by 127, the hidden and the output weights
+ * by 64 and their biases by 127 times 64.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class NeuralNetworkTrainer {
+    
+    /**
+     * The score, in centipawns, at which the winning probability is 
+     * {@code 1 / (1 + e^-1)}.
+     */
+    private static final double SIGMOID_SCALE = 400.0;
+    
+    private static final float ACTIVATION_UNIT = 
+            NeuralNetwork.ACTIVATION_LIMIT;
+    
+    private static final float WEIGHT_UNIT = 1 << NeuralNetwork.WEIGHT_SHIFT;
+    
+    /**
+     * The centipawns per output of the floating-point network.
+     */
+    private static final float OUTPUT_FACTOR = 
+            ACTIVATION_UNIT * WEIGHT_UNIT / NeuralNetwork.OUTPUT_SCALE;
+    
+    /**
+     * The limit of the feature transformer parameters, keeping the 
+     * accumulators of 30 pieces within 16 bits.
+     */
+    private static final float FEATURE_WEIGHT_LIMIT = 8.0f;
+    
+    /**
+     * The limit of the hidden and the output weights, keeping them within 8 
+     * bits.
+     */
+    private static final float WEIGHT_LIMIT = Byte.MAX_VALUE / WEIGHT_UNIT;
+    
+    private static final int WHITE_KING_CODE = PieceType.KING.ordinal() + 1;
+    
+    private static final int BLACK_KING_CODE = 
+            PieceType.KING.ordinal() + TrainingDataWriter.BLACK_CODE_OFFSET;
+    
+    private static final double BETA1 = 0.9;
+    private static final double BETA2 = 0.999;
+    private static final double EPSILON = 1e-8;
+    
+    private final int accumulatorSize;
+    private final int firstHiddenSize;
+    private final int secondHiddenSize;
+    
+    // The offsets of the parameter blocks:
+    private final int featureBiasOffset;
+    private final int firstWeightOffset;
+    private final int firstBiasOffset;
+    private final int secondWeightOffset;
+    private final int secondBiasOffset;
+    private final int outputWeightOffset;
+    private final int outputBiasOffset;
+    
+    private final float[] parameters;
+    private final float[] firstMoments;
+    private final float[] secondMoments;
+    private long step;
+    
+    private double learningRate = 1e-3;
+    private int batchSize = 1 << 14;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private double scoreWeight = 0.5;
+    
+    /**
+     * Constructs a trainer of a randomly initialized network.
+     * 
+     * @param accumulatorSize  the size of the accumulator.
+     * @param firstHiddenSize  the size of the first hidden layer.
+     * @param secondHiddenSize the size of the second hidden layer.
+     * @param seed             the random seed.
+     */
+    public NeuralNetworkTrainer(final int accumulatorSize,
+                                final int firstHiddenSize,
+                                final int secondHiddenSize,
+                                final long seed) {
+        
+        checkPositive("layer size", accumulatorSize);
+        checkPositive("layer size", firstHiddenSize);
+        checkPositive("layer size", secondHiddenSize);
+        
+        this.accumulatorSize  = accumulatorSize;
+        this.firstHiddenSize  = firstHiddenSize;
+        this.secondHiddenSize = secondHiddenSize;
+        
+        featureBiasOffset  = HalfKp.FEATURES * accumulatorSize;
+        firstWeightOffset  = featureBiasOffset + accumulatorSize;
+        firstBiasOffset    = firstWeightOffset 
+                           + 2 * accumulatorSize * firstHiddenSize;
+        secondWeightOffset = firstBiasOffset + firstHiddenSize;
+        secondBiasOffset   = secondWeightOffset 
+                           + firstHiddenSize * secondHiddenSize;
+        outputWeightOffset = secondBiasOffset + secondHiddenSize;
+        outputBiasOffset   = outputWeightOffset + secondHiddenSize;
+        
+        parameters    = new float[outputBiasOffset + 1];
+        firstMoments  = new float[parameters.length];
+        secondMoments = new float[parameters.length];
+        
+        initialize(new Random(seed));
+    }
+    
+    public void setLearningRate(final double learningRate) {
+        if (!(learningRate > 0.0)) {
+            throw new IllegalArgumentException(
+                    String.format("Bad learning rate: %f.", learningRate));
+        }
+        
+        this.learningRate = learningRate;
+    }
+    
+    public void setBatchSize(final int batchSize) {
+        checkPositive("batch size", batchSize);
+        this.batchSize = batchSize;
+    }
+    
+    public void setThreads(final int threads) {
+        checkPositive("number of threads", threads);
+        this.threads = threads;
+    }
+    
+    /**
+     * Sets the weight of the score labels in the training targets. The rest 
+     * of the weight goes to the game results.
+     * 
+     * @param scoreWeight the weight in {@code [0, 1]}.
+     */
+    public void setScoreWeight(final double scoreWeight) {
+        if (!(scoreWeight >= 0.0 && scoreWeight <= 1.0)) {
+            throw new IllegalArgumentException(
+                    String.format("Bad score weight: %f.", scoreWeight));
+        }
+        
+        this.scoreWeight = scoreWeight;
+    }
+    
+    /**
+     * Trains the network on the positions in {@code data} for {@code epochs}
+     * passes.
+     * 
+     * @param data   the training data file.
+     * @param epochs the number of passes over the data.
+     * 
+     * @return the mean loss of the last epoch.
+     * @throws IOException if the data cannot be read.
+     */
+    public double train(final Path data, final int epochs) 
+            throws IOException {
+        
+        Objects.requireNonNull(data, "The input data path is null.");
+        checkPositive("number of epochs", epochs);
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final List<Worker> workers = new ArrayList<>(threads);
+        
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Worker(true));
+        }
+        
+        final TrainingBatch batch = new TrainingBatch(batchSize);
+        final boolean[] unionMarks = new boolean[HalfKp.FEATURES];
+        final int[] unionRows = new int[HalfKp.FEATURES];
+        
+        try (final TrainingDataReader reader = 
+                new TrainingDataReader(data, batchSize)) {
+            
+            double loss = 0.0;
+            
+            for (int epoch = 0; epoch < epochs; epoch++) {
+                reader.rewind();
+                
+                double lossSum = 0.0;
+                long positions = 0L;
+                
+                while (reader.read(batch)) {
+                    computeGradients(executor, workers, batch);
+                    
+                    int batchPositions = 0;
+                    
+                    for (final Worker worker : workers) {
+                        lossSum += worker.lossSum;
+                        batchPositions += worker.positions;
+                    }
+                    
+                    positions += batchPositions;
+                    
+                    if (batchPositions > 0) {
+                        final int rows = 
+                                collectTouchedRows(workers, 
+                                                   unionMarks, 
+                                                   unionRows);
+                        
+                        applyGradients(executor, 
+                                       workers, 
+                                       unionRows, 
+                                       rows, 
+                                       batchPositions);
+                        
+                        for (int i = 0; i < rows; i++) {
+                            unionMarks[unionRows[i]] = false;
+                        }
+                    }
+                }
+                
+                loss = positions == 0L ? 0.0 : lossSum / positions;
+            }
+            
+            return loss;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Quantizes the trained network.
+     * 
+     * @return the quantized network.
+     */
+    public NeuralNetwork toNeuralNetwork() {
+        final short[] featureWeights = 
+                new short[HalfKp.FEATURES * accumulatorSize];
+        
+        for (int i = 0; i < featureWeights.length; i++) {
+            featureWeights[i] = 
+                    (short) Math.round(parameters[i] * ACTIVATION_UNIT);
+        }
+        
+        final short[] featureBiases = new short[accumulatorSize];
+        
+        for (int i = 0; i < featureBiases.length; i++) {
+            featureBiases[i] = 
+                    (short) Math.round(parameters[featureBiasOffset + i] 
+                                     * ACTIVATION_UNIT);
+        }
+        
+        return new NeuralNetwork(
+                accumulatorSize,
+                firstHiddenSize,
+                secondHiddenSize,
+                featureWeights,
+                featureBiases,
+                quantizeWeights(firstWeightOffset, firstBiasOffset),
+                quantizeBiases(firstBiasOffset, secondWeightOffset),
+                quantizeWeights(secondWeightOffset, secondBiasOffset),
+                quantizeBiases(secondBiasOffset, outputWeightOffset),
+                quantizeWeights(outputWeightOffset, outputBiasOffset),
+                quantizeBiases(outputBiasOffset, parameters.length)[0]);
+    }
+    
+    /**
+     * Evaluates {@code state} via the floating-point network.
+     * 
+     * @param state the state to evaluate.
+     * 
+     * @return the score in pawns. Positive scores favor the black player.
+     */
+    double predict(final ChessBoardState state) {
+        final Worker worker = new Worker(false);
+        final byte[] cells = new byte[HalfKp.SQUARES];
+        
+        TrainingDataWriter.encode(state, cells, 0);
+        
+        return worker.forward(cells, 0) ? worker.output / 100.0 : Double.NaN;
+    }
+    
+    private void computeGradients(final ExecutorService executor,
+                                  final List<Worker> workers,
+                                  final TrainingBatch batch) {
+        
+        final List<Callable<Void>> tasks = new ArrayList<>(workers.size());
+        final int share = (batch.size + workers.size() - 1) / workers.size();
+        
+        for (int i = 0; i < workers.size(); i++) {
+            final Worker worker = workers.get(i);
+            final int from = Math.min(batch.size, i * share);
+            final int to = Math.min(batch.size, from + share);
+            
+            tasks.add(() -> {
+                worker.process(batch, from, to);
+                return null;
+            });
+        }
+        
+        invokeAll(executor, tasks);
+    }
+    
+    /**
+     * Collects the union of the feature transformer rows touched by the 
+     * workers.
+     * 
+     * @return the number of the touched rows.
+     */
+    private static int collectTouchedRows(final List<Worker> workers,
+                                          final boolean[] unionMarks,
+                                          final int[] unionRows) {
+        int rows = 0;
+        
+        for (final Worker worker : workers) {
+            for (int i = 0; i < worker.touchedRowCount; i++) {
+                final int row = worker.touchedRows[i];
+                worker.touchedMarks[row] = false;
+                
+                if (!unionMarks[row]) {
+                    unionMarks[row] = true;
+                    unionRows[rows++] = row;
+                }
+            }
+            
+            worker.touchedRowCount = 0;
+        }
+        
+        return rows;
+    }
+    
+    private void applyGradients(final ExecutorService executor,
+                                final List<Worker> workers,
+                                final int[] rows,
+                                final int rowCount,
+                                final int positions) {
+        step++;
+        
+        final double firstCorrection = 1.0 - Math.pow(BETA1, step);
+        final double secondCorrection = 1.0 - Math.pow(BETA2, step);
+        final double stepSize = 
+                learningRate * Math.sqrt(secondCorrection) / firstCorrection;
+        
+        final int partitions = workers.size();
+        final int tail = parameters.length - featureBiasOffset;
+        final List<Callable<Void>> tasks = new ArrayList<>(partitions);
+        
+        for (int p = 0; p < partitions; p++) {
+            final int partition = p;
+            
+            tasks.add(() -> {
+                for (int i = partition; i < rowCount; i += partitions) {
+                    final int offset = rows[i] * accumulatorSize;
+                    
+                    for (int j = 0; j < accumulatorSize; j++) {
+                        update(workers, offset + j, positions, stepSize);
+                    }
+                }
+                
+                final int share = (tail + partitions - 1) / partitions;
+                final int from = 
+                        featureBiasOffset + Math.min(tail, partition * share);
+                
+                final int to = Math.min(featureBiasOffset + tail, 
+                                        from + share);
+                
+                for (int i = from; i < to; i++) {
+                    update(workers, i, positions, stepSize);
+                }
+                
+                return null;
+            });
+        }
+        
+        invokeAll(executor, tasks);
+    }
+    
+    /**
+     * Sums and clears the gradients of the parameter {@code index} over all
+     * the workers and takes an Adam step.
+     */
+    private void update(final List<Worker> workers,
+                        final int index,
+                        final int positions,
+                        final double stepSize) {
+        double gradient = 0.0;
+        
+        for (final Worker worker : workers) {
+            gradient += worker.gradients[index];
+            worker.gradients[index] = 0.0f;
+        }
+        
+        gradient /= positions;
+        
+        final double firstMoment = 
+                BETA1 * firstMoments[index] + (1.0 - BETA1) * gradient;
+        
+        final double secondMoment = 
+                BETA2 * secondMoments[index] 
+                        + (1.0 - BETA2) * gradient * gradient;
+        
+        firstMoments[index] = (float) firstMoment;
+        secondMoments[index] = (float) secondMoment;
+        
+        final float limit = getLimit(index);
+        final float parameter = 
+                (float)(parameters[index] 
+                        - stepSize * firstMoment 
+                                / (Math.sqrt(secondMoment) + EPSILON));
+        
+        parameters[index] = Math.max(-limit, Math.min(limit, parameter));
+    }
+    
+    private float getLimit(final int index) {
+        if (index < firstWeightOffset) {
+            return FEATURE_WEIGHT_LIMIT;
+        }
+        
+        if (index < firstBiasOffset 
+                || (index >= secondWeightOffset && index < secondBiasOffset)
+                || (index >= outputWeightOffset && index < outputBiasOffset)) {
+            return WEIGHT_LIMIT;
+        }
+        
+        // The 32-bit biases are practically unlimited:
+        return Float.MAX_VALUE;
+    }
+    
+    private void initialize(final Random random) {
+        for (int i = 0; i < featureBiasOffset; i++) {
+            parameters[i] = 0.1f * (2.0f * random.nextFloat() - 1.0f);
+        }
+        
+        for (int i = featureBiasOffset; i < firstWeightOffset; i++) {
+            parameters[i] = 0.5f;
+        }
+        
+        initializeLayer(random, 
+                        firstWeightOffset, 
+                        firstBiasOffset, 
+                        2 * accumulatorSize);
+        
+        initializeLayer(random, 
+                        secondWeightOffset, 
+                        secondBiasOffset, 
+                        firstHiddenSize);
+        
+        initializeLayer(random, 
+                        outputWeightOffset, 
+                        outputBiasOffset, 
+                        secondHiddenSize);
+        
+        for (int i = firstBiasOffset; i < secondWeightOffset; i++) {
+            parameters[i] = 0.25f;
+        }
+        
+        for (int i = secondBiasOffset; i < outputWeightOffset; i++) {
+            parameters[i] = 0.25f;
+        }
+    }
+    
+    private void initializeLayer(final Random random,
+                                 final int from,
+                                 final int to,
+                                 final int fanIn) {
+        
+        final float bound = (float) Math.sqrt(1.0 / fanIn);
+        
+        for (int i = from; i < to; i++) {
+            parameters[i] = bound * (2.0f * random.nextFloat() - 1.0f);
+        }
+    }
+    
+    private byte[] quantizeWeights(final int from, final int to) {
+        final byte[] weights = new byte[to - from];
+        
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = (byte) Math.max(Byte.MIN_VALUE,
+                                         Math.min(Byte.MAX_VALUE,
+                                                  Math.round(
+                                                          parameters[from + i]
+                                                        * WEIGHT_UNIT)));
+        }
+        
+        return weights;
+    }
+    
+    private int[] quantizeBiases(final int from, final int to) {
+        final int[] biases = new int[to - from];
+        
+        for (int i = 0; i < biases.length; i++) {
+            biases[i] = Math.round(parameters[from + i] 
+                                 * ACTIVATION_UNIT 
+                                 * WEIGHT_UNIT);
+        }
+        
+        return biases;
+    }
+    
+    private static void invokeAll(final ExecutorService executor,
+                                  final List<Callable<Void>> tasks) {
+        try {
+            for (final Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("The training was interrupted.",
+                                            ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+    
+    private static void checkPositive(final String name, final int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad %s: %d.", name, value));
+        }
+    }
+    
+    private static float clip(final float value) {
+        return Math.max(0.0f, Math.min(1.0f, value));
+    }
+    
+    private static float clipDerivative(final float value) {
+        return value > 0.0f && value < 1.0f ? 1.0f : 0.0f;
+    }
+    
+    /**
+     * This class holds the gradient buffers and the activations of a worker
+     * thread.
+     */
+    private final class Worker {
+        
+        /**
+         * The maximum number of features of a perspective: all the pieces but
+         * the kings.
+         */
+        private static final int MAXIMUM_FEATURES = 30;
+        
+        final float[] gradients;
+        final boolean[] touchedMarks;
+        final int[] touchedRows;
+        int touchedRowCount;
+        
+        double lossSum;
+        int positions;
+        float output;
+        
+        private final int[][] features = new int[2][MAXIMUM_FEATURES];
+        private final int[] featureCounts = new int[2];
+        private final int[] kingSquares = new int[2];
+        private final float[] accumulators = new float[2 * accumulatorSize];
+        private final float[] input = new float[2 * accumulatorSize];
+        private final float[] firstSums = new float[firstHiddenSize];
+        private final float[] firstHidden = new float[firstHiddenSize];
+        private final float[] secondSums = new float[secondHiddenSize];
+        private final float[] secondHidden = new float[secondHiddenSize];
+        private final float[] inputGradients;
+        private final float[] firstGradients;
+        private final float[] secondGradients;
+        
+        Worker(final boolean training) {
+            gradients = training ? new float[parameters.length] : null;
+            touchedMarks = training ? new boolean[HalfKp.FEATURES] : null;
+            touchedRows = training ? new int[HalfKp.FEATURES] : null;
+            inputGradients = new float[2 * accumulatorSize];
+            firstGradients = new float[firstHiddenSize];
+            secondGradients = new float[secondHiddenSize];
+        }
+        
+        void process(final TrainingBatch batch, final int from, final int to) {
+            lossSum = 0.0;
+            positions = 0;
+            
+            for (int position = from; position < to; position++) {
+                if (!forward(batch.cells, position * HalfKp.SQUARES)) {
+                    // A king is missing:
+                    continue;
+                }
+                
+                final double target = 
+                        scoreWeight * sigmoid(batch.scores[position]) 
+                        + (1.0 - scoreWeight) * batch.results[position];
+                
+                final double prediction = sigmoid(output);
+                final double error = prediction - target;
+                
+                lossSum += error * error;
+                positions++;
+                
+                backward((float)(2.0 * error * prediction 
+                                * (1.0 - prediction) / SIGMOID_SCALE));
+            }
+        }
+        
+        /**
+         * Computes the output of the network in centipawns.
+         * 
+         * @param cells  the cell codes.
+         * @param offset the offset of the first cell code.
+         * 
+         * @return {@code false} if a king is missing.
+         */
+        boolean forward(final byte[] cells, final int offset) {
+            if (!extractFeatures(cells, offset)) {
+                return false;
+            }
+            
+            for (int perspective = BLACK; perspective <= WHITE; perspective++) {
+                final int base = perspective * accumulatorSize;
+                
+                System.arraycopy(parameters, 
+                                 featureBiasOffset, 
+                                 accumulators, 
+                                 base, 
+                                 accumulatorSize);
+                
+                for (int i = 0; i < featureCounts[perspective]; i++) {
+                    final int row = 
+                            features[perspective][i] * accumulatorSize;
+                    
+                    for (int j = 0; j < accumulatorSize; j++) {
+                        accumulators[base + j] += parameters[row + j];
+                    }
+                }
+            }
+            
+            for (int i = 0; i < input.length; i++) {
+                input[i] = clip(accumulators[i]);
+            }
+            
+            propagate(input, firstSums, firstHidden, 
+                      firstWeightOffset, firstBiasOffset);
+            
+            propagate(firstHidden, secondSums, secondHidden, 
+                      secondWeightOffset, secondBiasOffset);
+            
+            float sum = parameters[outputBiasOffset];
+            
+            for (int i = 0; i < secondHiddenSize; i++) {
+                sum += parameters[outputWeightOffset + i] * secondHidden[i];
+            }
+            
+            output = OUTPUT_FACTOR * sum;
+            return true;
+        }
+        
+        private void propagate(final float[] layerInput,
+                               final float[] sums,
+                               final float[] activations,
+                               final int weightOffset,
+                               final int biasOffset) {
+            
+            for (int i = 0; i < sums.length; i++) {
+                final int row = weightOffset + i * layerInput.length;
+                float sum = parameters[biasOffset + i];
+                
+                for (int j = 0; j < layerInput.length; j++) {
+                    sum += parameters[row + j] * layerInput[j];
+                }
+                
+                sums[i] = sum;
+                activations[i] = clip(sum);
+            }
+        }
+        
+        /**
+         * Accumulates the gradients of the last forward pass.
+         * 
+         * @param outputGradient the derivative of the loss by the output.
+         */
+        private void backward(final float outputGradient) {
+            final float sumGradient = OUTPUT_FACTOR * outputGradient;
+            
+            gradients[outputBiasOffset] += sumGradient;
+            
+            for (int i = 0; i < secondHiddenSize; i++) {
+                gradients[outputWeightOffset + i] += 
+                        sumGradient * secondHidden[i];
+                
+                secondGradients[i] = 
+                        sumGradient 
+                        * parameters[outputWeightOffset + i] 
+                        * clipDerivative(secondSums[i]);
+            }
+            
+            backpropagate(secondGradients, firstHidden, firstGradients, 
+                          secondWeightOffset, secondBiasOffset);
+            
+            for (int i = 0; i < firstHiddenSize; i++) {
+                firstGradients[i] *= clipDerivative(firstSums[i]);
+            }
+            
+            backpropagate(firstGradients, input, inputGradients, 
+                          firstWeightOffset, firstBiasOffset);
+            
+            for (int perspective = BLACK; perspective <= WHITE; perspective++) {
+                final int base = perspective * accumulatorSize;
+                
+                for (int j = 0; j < accumulatorSize; j++) {
+                    inputGradients[base + j] *= 
+                            clipDerivative(accumulators[base + j]);
+                    
+                    gradients[featureBiasOffset + j] += 
+                            inputGradients[base + j];
+                }
+                
+                for (int i = 0; i < featureCounts[perspective]; i++) {
+                    final int feature = features[perspective][i];
+                    final int row = feature * accumulatorSize;
+                    
+                    for (int j = 0; j < accumulatorSize; j++) {
+                        gradients[row + j] += inputGradients[base + j];
+                    }
+                    
+                    if (!touchedMarks[feature]) {
+                        touchedMarks[feature] = true;
+                        touchedRows[touchedRowCount++] = feature;
+                    }
+                }
+            }
+        }
+        
+        /**
+         * Accumulates the gradients of a layer and computes the gradients of 
+         * its input.
+         */
+        private void backpropagate(final float[] sumGradients,
+                                   final float[] layerInput,
+                                   final float[] layerInputGradients,
+                                   final int weightOffset,
+                                   final int biasOffset) {
+            
+            Arrays.fill(layerInputGradients, 0.0f);
+            
+            for (int i = 0; i < sumGradients.length; i++) {
+                final float sumGradient = sumGradients[i];
+                
+                if (sumGradient == 0.0f) {
+                    continue;
+                }
+                
+                final int row = weightOffset + i * layerInput.length;
+                
+                gradients[biasOffset + i] += sumGradient;
+                
+                for (int j = 0; j < layerInput.length; j++) {
+                    gradients[row + j] += sumGradient * layerInput[j];
+                    layerInputGradients[j] += sumGradient * parameters[row + j];
+                }
+            }
+        }
+        
+        private boolean extractFeatures(final byte[] cells, final int offset) {
+            kingSquares[BLACK] = -1;
+            kingSquares[WHITE] = -1;
+            
+            for (int cell = 0; cell < HalfKp.SQUARES; cell++) {
+                final int code = cells[offset + cell];
+                
+                if (code == WHITE_KING_CODE) {
+                    kingSquares[WHITE] = 
+                            HalfKp.square(WHITE, cell % N, cell / N);
+                } else if (code == BLACK_KING_CODE) {
+                    kingSquares[BLACK] = 
+                            HalfKp.square(BLACK, cell % N, cell / N);
+                }
+            }
+            
+            if (kingSquares[BLACK] < 0 || kingSquares[WHITE] < 0) {
+                return false;
+            }
+            
+            featureCounts[BLACK] = 0;
+            featureCounts[WHITE] = 0;
+            
+            for (int cell = 0; cell < HalfKp.SQUARES; cell++) {
+                final int code = cells[offset + cell];
+                
+                if (code == 0 
+                        || code == WHITE_KING_CODE 
+                        || code == BLACK_KING_CODE) {
+                    continue;
+                }
+                
+                final boolean black = 
+                        code >= TrainingDataWriter.BLACK_CODE_OFFSET;
+                
+                final int pieceType = 
+                        code - (black ? TrainingDataWriter.BLACK_CODE_OFFSET 
+                                      : 1);
+                
+                for (int perspective = BLACK; 
+                        perspective <= WHITE; 
+                        perspective++) {
+                    
+                    if (featureCounts[perspective] == MAXIMUM_FEATURES) {
+                        continue;
+                    }
+                    
+                    features[perspective][featureCounts[perspective]++] = 
+                            HalfKp.feature(perspective,
+                                           kingSquares[perspective],
+                                           pieceType,
+                                           black,
+                                           HalfKp.square(perspective, 
+                                                         cell % N, 
+                                                         cell / N));
+                }
+            }
+            
+            return true;
+        }
+    }
+    
+    private static double sigmoid(final double centipawns) {
+        return 1.0 / (1.0 + Math.exp(-centipawns / SIGMOID_SCALE));
+    }
+}
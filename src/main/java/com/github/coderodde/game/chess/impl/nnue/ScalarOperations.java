@@ -0,0 +1,46 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+/**
+ * This class implements the inner loops of the neural network inference in 
+ * plain Java. The loops are simple enough for the JIT compiler to 
+ * auto-vectorize.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class ScalarOperations implements VectorOperations {
+    
+    @Override
+    public void add(final short[] target, 
+                    final short[] source, 
+                    final int offset) {
+        
+        for (int i = 0; i < target.length; i++) {
+            target[i] += source[offset + i];
+        }
+    }
+    
+    @Override
+    public void subtract(final short[] target, 
+                         final short[] source, 
+                         final int offset) {
+        
+        for (int i = 0; i < target.length; i++) {
+            target[i] -= source[offset + i];
+        }
+    }
+    
+    @Override
+    public int dot(final int[] input, 
+                   final byte[] weights, 
+                   final int offset) {
+        
+        int sum = 0;
+        
+        for (int i = 0; i < input.length; i++) {
+            sum += input[i] * weights[offset + i];
+        }
+        
+        return sum;
+    }
+}
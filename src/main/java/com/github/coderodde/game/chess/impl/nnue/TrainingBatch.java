@@ -0,0 +1,37 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+/**
+ * This class holds a batch of decoded training positions in 
+ * structure-of-arrays form.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class TrainingBatch {
+    
+    /**
+     * The cell codes, {@link HalfKp#SQUARES} per position.
+     */
+    final byte[] cells;
+    
+    /**
+     * The scores in centipawns.
+     */
+    final short[] scores;
+    
+    /**
+     * The game results: zero, one half or one.
+     */
+    final float[] results;
+    
+    /**
+     * The number of positions in this batch.
+     */
+    int size;
+    
+    TrainingBatch(final int capacity) {
+        this.cells = new byte[capacity * HalfKp.SQUARES];
+        this.scores = new short[capacity];
+        this.results = new float[capacity];
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+
+/**
+ * This class streams the labeled positions written by 
+ * {@link TrainingDataWriter} in batches. The memory use is bounded by the 
+ * batch size, whatever the size of the file.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class TrainingDataReader implements Closeable {
+    
+    private static final int RECORD_SIZE = TrainingDataWriter.RECORD_SIZE;
+    
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    
+    TrainingDataReader(final Path path, final int batchSize) 
+            throws IOException {
+        
+        this.channel = FileChannel.open(path);
+        
+        if (channel.size() % RECORD_SIZE != 0) {
+            channel.close();
+            throw new IOException("Truncated training data file.");
+        }
+        
+        this.buffer = ByteBuffer.allocate(RECORD_SIZE * batchSize)
+                                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+    
+    /**
+     * Reads the next batch of positions.
+     * 
+     * @param batch the batch to fill.
+     * 
+     * @return {@code false} if there are no more positions.
+     * @throws IOException if reading fails.
+     */
+    boolean read(final TrainingBatch batch) throws IOException {
+        buffer.clear();
+        
+        while (buffer.hasRemaining() && channel.read(buffer) > 0) {
+            // Keep reading until the buffer is full or at the end of file.
+        }
+        
+        buffer.flip();
+        batch.size = buffer.remaining() / RECORD_SIZE;
+        
+        for (int position = 0; position < batch.size; position++) {
+            final int offset = position * HalfKp.SQUARES;
+            
+            for (int i = 0; i < HalfKp.SQUARES; i += 2) {
+                final byte packed = buffer.get();
+                batch.cells[offset + i] = (byte)(packed & 0xF);
+                batch.cells[offset + i + 1] = (byte)((packed >>> 4) & 0xF);
+            }
+            
+            batch.scores[position] = buffer.getShort();
+            batch.results[position] = buffer.get() / 2.0f;
+            buffer.get();
+        }
+        
+        return batch.size > 0;
+    }
+    
+    /**
+     * Starts reading from the first position again.
+     * 
+     * @throws IOException if repositioning fails.
+     */
+    void rewind() throws IOException {
+        channel.position(0L);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
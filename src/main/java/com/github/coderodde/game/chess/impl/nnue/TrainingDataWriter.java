@@ -0,0 +1,145 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.Piece;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * This class writes labeled positions for {@link NeuralNetworkTrainer}. Each
+ * position takes a fixed-size record of {@value #RECORD_SIZE} bytes: the 
+ * pieces as 64 four-bit cell codes, the score of the position in centipawns 
+ * as a little-endian 16-bit integer and the result of the game, both from the
+ * point of view of the black player.
+ * <p>
+ * The cell codes are zero for an empty cell, one plus the ordinal of the 
+ * piece type for a white piece and seven plus the ordinal for a black piece.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class TrainingDataWriter implements Closeable {
+    
+    static final int RECORD_SIZE = 36;
+    
+    static final int BLACK_CODE_OFFSET = 7;
+    
+    private static final int BUFFER_RECORDS = 1 << 12;
+    
+    private final FileChannel channel;
+    private final ByteBuffer buffer = 
+            ByteBuffer.allocate(RECORD_SIZE * BUFFER_RECORDS)
+                      .order(ByteOrder.LITTLE_ENDIAN);
+    
+    private final byte[] cells = new byte[HalfKp.SQUARES];
+    
+    /**
+     * Opens {@code path} for writing, replacing any existing file.
+     * 
+     * @param path the path of the training data file.
+     * 
+     * @throws IOException if the file cannot be opened.
+     */
+    public TrainingDataWriter(final Path path) throws IOException {
+        Objects.requireNonNull(path, "The input path is null.");
+        
+        this.channel = FileChannel.open(path,
+                                        StandardOpenOption.CREATE,
+                                        StandardOpenOption.TRUNCATE_EXISTING,
+                                        StandardOpenOption.WRITE);
+    }
+    
+    /**
+     * Writes a labeled position.
+     * 
+     * @param state  the position.
+     * @param score  the score of the position in centipawns, e.g., by a 
+     *               search. Positive scores favor the black player.
+     * @param result the result of the game from the point of view of the 
+     *               black player: zero for a loss, one half for a draw and one
+     *               for a win.
+     * 
+     * @throws IOException if the position cannot be written.
+     */
+    public void write(final ChessBoardState state, 
+                      final int score, 
+                      final double result) throws IOException {
+        
+        Objects.requireNonNull(state, "The input state is null.");
+        
+        if (score < Short.MIN_VALUE || score > Short.MAX_VALUE) {
+            throw new IllegalArgumentException(
+                    String.format("Bad score: %d.", score));
+        }
+        
+        if (result != 0.0 && result != 0.5 && result != 1.0) {
+            throw new IllegalArgumentException(
+                    String.format("Bad result: %f.", result));
+        }
+        
+        if (buffer.remaining() < RECORD_SIZE) {
+            flush();
+        }
+        
+        encode(state, cells, 0);
+        
+        for (int i = 0; i < cells.length; i += 2) {
+            buffer.put((byte)(cells[i] | cells[i + 1] << 4));
+        }
+        
+        buffer.putShort((short) score)
+              .put((byte)(2.0 * result))
+              .put((byte) 0);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+    
+    /**
+     * Stores the cell codes of {@code state} in {@code cells}, starting at 
+     * {@code offset}, in the order {@code rank * N + file}.
+     * 
+     * @param state  the state to encode.
+     * @param cells  the array of cell codes.
+     * @param offset the offset of the first cell code.
+     */
+    static void encode(final ChessBoardState state, 
+                       final byte[] cells, 
+                       final int offset) {
+        
+        for (int rank = 0; rank < N; rank++) {
+            for (int file = 0; file < N; file++) {
+                final Piece piece = state.get(file, rank);
+                
+                cells[offset + rank * N + file] = 
+                        piece == null ? 
+                        0 : 
+                        (byte)(piece.getPieceType().ordinal() 
+                             + (piece.isBlack() ? BLACK_CODE_OFFSET : 1));
+            }
+        }
+    }
+    
+    private void flush() throws IOException {
+        buffer.flip();
+        
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        
+        buffer.clear();
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * This class implements the inner loops of the neural network inference via
+ * the incubating Vector API. Loaded only if the {@code jdk.incubator.vector}
+ * module is resolved, e.g., via {@code --add-modules jdk.incubator.vector}.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class VectorApiOperations implements VectorOperations {
+    
+    private static final VectorSpecies<Short> SHORT_SPECIES = 
+            ShortVector.SPECIES_PREFERRED;
+    
+    private static final VectorSpecies<Integer> INT_SPECIES = 
+            IntVector.SPECIES_PREFERRED;
+    
+    /**
+     * The byte species with as many lanes as {@link #INT_SPECIES}, so that a
+     * vector of weights widens into a vector of integers.
+     */
+    private static final VectorSpecies<Byte> BYTE_SPECIES = 
+            VectorSpecies.of(byte.class, 
+                             VectorShape.forBitSize(INT_SPECIES.length() 
+                                                  * Byte.SIZE));
+    
+    @Override
+    public void add(final short[] target, 
+                    final short[] source, 
+                    final int offset) {
+        
+        final int bound = SHORT_SPECIES.loopBound(target.length);
+        int i = 0;
+        
+        for (; i < bound; i += SHORT_SPECIES.length()) {
+            ShortVector.fromArray(SHORT_SPECIES, target, i)
+                       .add(ShortVector.fromArray(SHORT_SPECIES, 
+                                                  source, 
+                                                  offset + i))
+                       .intoArray(target, i);
+        }
+        
+        for (; i < target.length; i++) {
+            target[i] += source[offset + i];
+        }
+    }
+    
+    @Override
+    public void subtract(final short[] target, 
+                         final short[] source, 
+                         final int offset) {
+        
+        final int bound = SHORT_SPECIES.loopBound(target.length);
+        int i = 0;
+        
+        for (; i < bound; i += SHORT_SPECIES.length()) {
+            ShortVector.fromArray(SHORT_SPECIES, target, i)
+                       .sub(ShortVector.fromArray(SHORT_SPECIES, 
+                                                  source, 
+                                                  offset + i))
+                       .intoArray(target, i);
+        }
+        
+        for (; i < target.length; i++) {
+            target[i] -= source[offset + i];
+        }
+    }
+    
+    @Override
+    public int dot(final int[] input, 
+                   final byte[] weights, 
+                   final int offset) {
+        
+        final int bound = INT_SPECIES.loopBound(input.length);
+        IntVector sums = IntVector.zero(INT_SPECIES);
+        int i = 0;
+        
+        for (; i < bound; i += INT_SPECIES.length()) {
+            final IntVector widenedWeights = 
+                    (IntVector) ByteVector.fromArray(BYTE_SPECIES, 
+                                                     weights, 
+                                                     offset + i)
+                                          .convertShape(VectorOperators.B2I,
+                                                        INT_SPECIES,
+                                                        0);
+            
+            sums = IntVector.fromArray(INT_SPECIES, input, i)
+                            .mul(widenedWeights)
+                            .add(sums);
+        }
+        
+        int sum = sums.reduceLanes(VectorOperators.ADD);
+        
+        for (; i < input.length; i++) {
+            sum += input[i] * weights[offset + i];
+        }
+        
+        return sum;
+    }
+}
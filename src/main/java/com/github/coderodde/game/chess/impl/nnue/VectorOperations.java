@@ -0,0 +1,61 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+/**
+ * This interface defines the inner loops of the neural network inference.
+ * 
+ * @version 1.0.1 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+interface VectorOperations {
+    
+    /**
+     * Adds {@code source[offset], ..., source[offset + target.length - 1]} to 
+     * {@code target} element-wise.
+     * 
+     * @param target the target array.
+     * @param source the source array.
+     * @param offset the offset of the first element to add.
+     */
+    void add(short[] target, short[] source, int offset);
+    
+    /**
+     * Subtracts {@code source[offset], ..., 
+     * source[offset + target.length - 1]} from {@code target} element-wise.
+     * 
+     * @param target the target array.
+     * @param source the source array.
+     * @param offset the offset of the first element to subtract.
+     */
+    void subtract(short[] target, short[] source, int offset);
+    
+    /**
+     * Returns the dot product of {@code input} and {@code weights[offset], 
+     * ..., weights[offset + input.length - 1]}. The 8-bit weights are 
+     * widened to integers on the fly.
+     * 
+     * @param input   the input vector.
+     * @param weights the weight array.
+     * @param offset  the offset of the first weight.
+     * 
+     * @return the dot product.
+     */
+    int dot(int[] input, byte[] weights, int offset);
+    
+    /**
+     * Returns the fastest operations available: the Vector API ones if the 
+     * {@code jdk.incubator.vector} module is resolved, the scalar ones 
+     * otherwise.
+     * 
+     * @return the vector operations.
+     */
+    static VectorOperations getBest() {
+        if (ModuleLayer.boot()
+                       .findModule("jdk.incubator.vector")
+                       .isPresent()) {
+            
+            return new VectorApiOperations();
+        }
+        
+        return new ScalarOperations();
+    }
+}
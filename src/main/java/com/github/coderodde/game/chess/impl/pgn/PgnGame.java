@@ -0,0 +1,84 @@
+package com.github.coderodde.game.chess.impl.pgn;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class describes a game read from a PGN file: the tag pairs and the
+ * main line replayed from the initial position. The replay stops at the
+ * first move that does not resolve to a legal move, and at once if the game
+ * starts from a custom position, in which case the game is not complete.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PgnGame {
+    
+    private final Map<String, String> tags;
+    private final List<PgnMove> moves;
+    private final String result;
+    private final boolean complete;
+    
+    PgnGame(final Map<String, String> tags,
+            final List<PgnMove> moves,
+            final String result,
+            final boolean complete) {
+        
+        this.tags     = Collections.unmodifiableMap(tags);
+        this.moves    = Collections.unmodifiableList(moves);
+        this.result   = result;
+        this.complete = complete;
+    }
+    
+    /**
+     * Returns the tag pairs in the order of the file.
+     * 
+     * @return the tag pairs.
+     */
+    public Map<String, String> getTags() {
+        return tags;
+    }
+    
+    /**
+     * Returns the value of the tag {@code name} or {@code null} if the game
+     * has no such tag.
+     * 
+     * @param name the name of the tag.
+     * 
+     * @return the value of the tag.
+     */
+    public String getTag(final String name) {
+        return tags.get(name);
+    }
+    
+    /**
+     * Returns the moves of the main line. The first move is made by the white
+     * player.
+     * 
+     * @return the moves.
+     */
+    public List<PgnMove> getMoves() {
+        return moves;
+    }
+    
+    /**
+     * Returns the game termination marker, such as {@code 1-0}, or {@code *}
+     * if the movetext ends without one.
+     * 
+     * @return the result.
+     */
+    public String getResult() {
+        return result;
+    }
+    
+    /**
+     * Returns {@code true} if and only if all the moves of the main line were
+     * replayed.
+     * 
+     * @return {@code true} if the game was replayed in full.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.coderodde.game.chess.impl.pgn;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PieceType;
+
+/**
+ * This class describes a move of a PGN game. Unlike
+ * {@link com.github.coderodde.game.chess.ChessMove}, it describes castling
+ * too: the source is the cell of the king and the target is the cell the king
+ * lands on.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PgnMove {
+    
+    private final ChessBoardState state;
+    private final int sourceFile;
+    private final int sourceRank;
+    private final int targetFile;
+    private final int targetRank;
+    private final PieceType promotionPieceType;
+    private final boolean castling;
+    
+    PgnMove(final ChessBoardState state,
+            final int sourceFile,
+            final int sourceRank,
+            final int targetFile,
+            final int targetRank,
+            final PieceType promotionPieceType,
+            final boolean castling) {
+        
+        this.state              = state;
+        this.sourceFile         = sourceFile;
+        this.sourceRank         = sourceRank;
+        this.targetFile         = targetFile;
+        this.targetRank         = targetRank;
+        this.promotionPieceType = promotionPieceType;
+        this.castling           = castling;
+    }
+    
+    /**
+     * Returns the state after this move.
+     * 
+     * @return the state after this move.
+     */
+    public ChessBoardState getState() {
+        return state;
+    }
+    
+    public int getSourceFile() {
+        return sourceFile;
+    }
+    
+    public int getSourceRank() {
+        return sourceRank;
+    }
+    
+    public int getTargetFile() {
+        return targetFile;
+    }
+    
+    public int getTargetRank() {
+        return targetRank;
+    }
+    
+    /**
+     * Returns the piece type the pawn is promoted to or {@code null} if the
+     * move is not a promotion.
+     * 
+     * @return the promotion piece type.
+     */
+    public PieceType getPromotionPieceType() {
+        return promotionPieceType;
+    }
+    
+    public boolean isCastling() {
+        return castling;
+    }
+}
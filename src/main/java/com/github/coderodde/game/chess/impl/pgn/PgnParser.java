@@ -0,0 +1,240 @@
+package com.github.coderodde.game.chess.impl.pgn;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class exposes the games of PGN files as lazy streams. A parallel
+ * stream splits the file into chunks at game boundaries and reads each chunk
+ * by its own {@link PgnReader}, so the chunks are tokenized and replayed in
+ * parallel while each reader still holds only one game at a time.
+ * <p>
+ * A chunk boundary is placed at the first tag line following a movetext line
+ * at or after the nominal offset of the boundary. Every game thus belongs to
+ * exactly one chunk, as long as no comment spans a line starting with a
+ * bracket.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PgnParser {
+    
+    /**
+     * The minimum size of a chunk in bytes for
+     * {@link #parallelGames(Path)}.
+     */
+    public static final long MINIMUM_CHUNK_SIZE = 1L << 20;
+    
+    /**
+     * The number of the chunks per processor for
+     * {@link #parallelGames(Path)}. Using more chunks than processors evens
+     * out the load when the games differ in length.
+     */
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+    
+    private static final int SCAN_BUFFER_SIZE = 1 << 13;
+    
+    private PgnParser() {
+        
+    }
+    
+    /**
+     * Returns the sequential stream of the games of the PGN file
+     * {@code path}. The file is closed when the stream is closed.
+     * 
+     * @param path the path of the file.
+     * 
+     * @return the games.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static Stream<PgnGame> games(final Path path) throws IOException {
+        return stream(PgnReader.open(path));
+    }
+    
+    /**
+     * Returns the parallel stream of the games of the PGN file {@code path},
+     * split into chunks of at least {@value #MINIMUM_CHUNK_SIZE} bytes. The
+     * games are encountered in the order of the file.
+     * 
+     * @param path the path of the file.
+     * 
+     * @return the games.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Stream<PgnGame> parallelGames(final Path path)
+            throws IOException {
+        
+        Objects.requireNonNull(path, "The input path is null.");
+        
+        final long size;
+        
+        try (final FileChannel channel = FileChannel.open(path)) {
+            size = channel.size();
+        }
+        
+        final long chunkCount =
+                Math.min(size / MINIMUM_CHUNK_SIZE,
+                         (long) CHUNKS_PER_PROCESSOR
+                         * Runtime.getRuntime().availableProcessors());
+        
+        return parallelGames(path, (int) Math.max(1L, chunkCount));
+    }
+    
+    /**
+     * Returns the parallel stream of the games of the PGN file {@code path},
+     * split into {@code chunkCount} chunks of about equal size. The games are
+     * encountered in the order of the file.
+     * 
+     * @param path       the path of the file.
+     * @param chunkCount the number of the chunks.
+     * 
+     * @return the games.
+     * @throws IOException if the file cannot be read.
+     */
+    public static Stream<PgnGame> parallelGames(final Path path,
+                                                final int chunkCount)
+            throws IOException {
+        
+        Objects.requireNonNull(path, "The input path is null.");
+        
+        if (chunkCount < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad chunk count: %d.", chunkCount));
+        }
+        
+        final long[] boundaries = new long[chunkCount + 1];
+        
+        try (final FileChannel channel = FileChannel.open(path)) {
+            final long size = channel.size();
+            
+            for (int chunk = 1; chunk < chunkCount; chunk++) {
+                boundaries[chunk] =
+                        Math.max(boundaries[chunk - 1],
+                                 findGameStart(channel,
+                                               size * chunk / chunkCount));
+            }
+            
+            boundaries[chunkCount] = size;
+        }
+        
+        return IntStream.range(0, chunkCount)
+                        .parallel()
+                        .mapToObj(chunk -> openChunk(path,
+                                                     boundaries[chunk],
+                                                     boundaries[chunk + 1]))
+                        .flatMap(games -> games);
+    }
+    
+    /**
+     * Returns the offset of the first game starting at or after
+     * {@code offset}, or the size of the file if there is none. A game starts
+     * at a line whose first non-blank character is an opening bracket and
+     * which follows a movetext line, i.e., a non-blank line whose first
+     * non-blank character is not an opening bracket.
+     * 
+     * @param channel the channel of the file.
+     * @param offset  the offset to start at.
+     * 
+     * @return the offset of the start of the game.
+     * @throws IOException if the file cannot be read.
+     */
+    static long findGameStart(final FileChannel channel, final long offset)
+            throws IOException {
+        
+        if (offset == 0L) {
+            return 0L;
+        }
+        
+        final ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        
+        // Start from the last byte before the offset so that a line starting
+        // at the offset is recognized:
+        long bufferOffset = offset - 1L;
+        long lineStart = -1L;
+        boolean partialLine = true;
+        boolean lineHead = false;
+        boolean movetextSeen = false;
+        byte lastCharacter = 0;
+        
+        while (true) {
+            buffer.clear();
+            
+            final int byteCount = channel.read(buffer, bufferOffset);
+            
+            if (byteCount < 0) {
+                return channel.size();
+            }
+            
+            for (int index = 0; index < byteCount; index++) {
+                final byte character = buffer.get(index);
+                
+                if (character == '\n') {
+                    if (partialLine) {
+                        // The line the offset falls in is told by its end as
+                        // only the tag lines end with a closing bracket:
+                        movetextSeen = lastCharacter != 0
+                                    && lastCharacter != ']';
+                        partialLine = false;
+                    }
+                    
+                    lineStart = bufferOffset + index + 1L;
+                    lineHead = true;
+                } else if (isBlank(character)) {
+                    continue;
+                } else if (partialLine) {
+                    lastCharacter = character;
+                } else if (lineHead) {
+                    lineHead = false;
+                    
+                    if (character != '[') {
+                        movetextSeen = true;
+                    } else if (movetextSeen) {
+                        return lineStart;
+                    }
+                }
+            }
+            
+            bufferOffset += byteCount;
+        }
+    }
+    
+    private static boolean isBlank(final byte character) {
+        return character == ' ' || character == '\t' || character == '\r';
+    }
+    
+    private static Stream<PgnGame> openChunk(final Path path,
+                                             final long start,
+                                             final long end) {
+        try {
+            final FileChannel channel = FileChannel.open(path);
+            channel.position(start);
+            return stream(new PgnReader(channel, end - start));
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+    
+    private static Stream<PgnGame> stream(final PgnReader reader) {
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(
+                        reader,
+                        Spliterator.ORDERED | Spliterator.NONNULL),
+                false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                });
+    }
+}
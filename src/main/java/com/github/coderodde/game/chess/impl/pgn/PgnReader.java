@@ -0,0 +1,369 @@
+package com.github.coderodde.game.chess.impl.pgn;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PlayerTurn;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * This class reads the games of a PGN file one at a time, so the files of any
+ * size are read in constant memory. The bytes are read from a channel into a
+ * reused buffer and tokenized in place: the tokens are collected into a
+ * reused {@link PgnToken}, and the moves are resolved by {@link SanResolver}
+ * straight from it, so the only strings built are the tag pairs and the
+ * results. The comments, the variations and the numeric annotation glyphs are
+ * skipped. The text is decoded as ISO 8859-1 as the PGN standard prescribes.
+ * <p>
+ * {@link PgnParser} splits a file among several readers to read it in
+ * parallel.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class PgnReader implements Iterator<PgnGame>, Closeable {
+    
+    private static final int END_OF_FILE = -1;
+    private static final int BUFFER_SIZE = 1 << 16;
+    
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private final byte[] bytes = buffer.array();
+    private final PgnToken token = new PgnToken();
+    private int bufferPosition;
+    private int bufferLimit;
+    private long remainingByteCount;
+    private PgnGame nextGame;
+    
+    public PgnReader(final ReadableByteChannel channel) {
+        this(channel, Long.MAX_VALUE);
+    }
+    
+    /**
+     * Constructs a reader of the next {@code byteCount} bytes of
+     * {@code channel}.
+     * 
+     * @param channel   the channel to read.
+     * @param byteCount the number of the bytes to read.
+     */
+    PgnReader(final ReadableByteChannel channel, final long byteCount) {
+        Objects.requireNonNull(channel, "The input channel is null.");
+        this.channel = channel;
+        this.remainingByteCount = byteCount;
+    }
+    
+    /**
+     * Opens the PGN file {@code path}.
+     * 
+     * @param path the path of the file.
+     * 
+     * @return the reader of the games of the file.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static PgnReader open(final Path path) throws IOException {
+        Objects.requireNonNull(path, "The input path is null.");
+        return new PgnReader(FileChannel.open(path));
+    }
+    
+    /**
+     * {@inheritDoc }
+     * 
+     * @throws UncheckedIOException if the file cannot be read.
+     */
+    @Override
+    public boolean hasNext() {
+        if (nextGame == null) {
+            try {
+                nextGame = readGame();
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        
+        return nextGame != null;
+    }
+    
+    @Override
+    public PgnGame next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more games.");
+        }
+        
+        final PgnGame game = nextGame;
+        nextGame = null;
+        return game;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+    
+    private PgnGame readGame() throws IOException {
+        final Map<String, String> tags = new LinkedHashMap<>();
+        int character = skipWhitespace();
+        
+        while (character == '[') {
+            readTag(tags);
+            character = skipWhitespace();
+        }
+        
+        if (character == END_OF_FILE && tags.isEmpty()) {
+            return null;
+        }
+        
+        final List<PgnMove> moves = new ArrayList<>();
+        ChessBoardState state = new ChessBoardState();
+        PlayerTurn playerTurn = PlayerTurn.WHITE;
+        boolean complete = !tags.containsKey("FEN");
+        String result = "*";
+        
+        while (character != END_OF_FILE) {
+            if (character == '[') {
+                // Once here, the next game starts without a result:
+                unread(character);
+                break;
+            }
+            
+            if (character == '{') {
+                skipPast('}');
+            } else if (character == ';') {
+                skipPast('\n');
+            } else if (character == '(') {
+                skipVariation();
+            } else if (character == '$') {
+                readToken(character);
+            } else {
+                readToken(character);
+                
+                if (isResult(token)) {
+                    result = token.toString();
+                    break;
+                }
+                
+                final int start = skipMoveNumber(token);
+                
+                if (complete && start < token.length()) {
+                    final PgnMove move =
+                            SanResolver.resolve(state,
+                                                playerTurn,
+                                                token,
+                                                start,
+                                                token.length());
+                    
+                    if (move == null) {
+                        complete = false;
+                    } else {
+                        moves.add(move);
+                        state = move.getState();
+                        playerTurn = playerTurn == PlayerTurn.WHITE ?
+                                     PlayerTurn.BLACK :
+                                     PlayerTurn.WHITE;
+                    }
+                }
+            }
+            
+            character = skipWhitespace();
+        }
+        
+        return new PgnGame(tags, moves, result, complete);
+    }
+    
+    /**
+     * Reads a tag pair such as {@code [Event "Casual game"]} whose opening
+     * bracket is already read.
+     */
+    private void readTag(final Map<String, String> tags) throws IOException {
+        token.clear();
+        int character = skipWhitespace();
+        
+        while (character != END_OF_FILE
+                && character != '"'
+                && character != ']'
+                && !Character.isWhitespace(character)) {
+            
+            token.append(character);
+            character = read();
+        }
+        
+        final String name = token.toString();
+        token.clear();
+        
+        while (character != END_OF_FILE
+                && character != '"'
+                && character != ']') {
+            
+            character = read();
+        }
+        
+        if (character == '"') {
+            character = read();
+            
+            while (character != END_OF_FILE && character != '"') {
+                if (character == '\\') {
+                    character = read();
+                }
+                
+                if (character != END_OF_FILE) {
+                    token.append(character);
+                    character = read();
+                }
+            }
+            
+            skipPast(']');
+        }
+        
+        tags.put(name, token.toString());
+    }
+    
+    /**
+     * Reads the token starting with {@code firstCharacter} into {@link #token}.
+     */
+    private void readToken(final int firstCharacter) throws IOException {
+        token.clear();
+        int character = firstCharacter;
+        
+        while (character != END_OF_FILE
+                && !Character.isWhitespace(character)
+                && character != '{'
+                && character != '('
+                && character != ';'
+                && character != '[') {
+            
+            token.append(character);
+            character = read();
+        }
+        
+        unread(character);
+    }
+    
+    /**
+     * Skips a variation whose opening parenthesis is already read. The
+     * variations may nest and hold comments.
+     */
+    private void skipVariation() throws IOException {
+        int depth = 1;
+        
+        while (depth > 0) {
+            final int character = read();
+            
+            switch (character) {
+                case END_OF_FILE -> depth = 0;
+                case '('         -> depth++;
+                case ')'         -> depth--;
+                case '{'         -> skipPast('}');
+                case ';'         -> skipPast('\n');
+                default          -> { }
+            }
+        }
+    }
+    
+    private void skipPast(final int terminator) throws IOException {
+        int character;
+        
+        do {
+            character = read();
+        } while (character != END_OF_FILE && character != terminator);
+    }
+    
+    private int skipWhitespace() throws IOException {
+        int character;
+        
+        do {
+            character = read();
+        } while (character != END_OF_FILE
+                && (Character.isWhitespace(character) || character == ')'));
+        
+        return character;
+    }
+    
+    private int read() throws IOException {
+        if (bufferPosition == bufferLimit && !fill()) {
+            return END_OF_FILE;
+        }
+        
+        return bytes[bufferPosition++] & 0xFF;
+    }
+    
+    /**
+     * Steps back over {@code character}, the last character read.
+     */
+    private void unread(final int character) {
+        if (character != END_OF_FILE) {
+            bufferPosition--;
+        }
+    }
+    
+    /**
+     * Reads the next bytes of the channel into the buffer.
+     * 
+     * @return {@code false} if there are no more bytes to read.
+     */
+    private boolean fill() throws IOException {
+        if (remainingByteCount == 0L) {
+            return false;
+        }
+        
+        buffer.clear();
+        buffer.limit((int) Math.min(BUFFER_SIZE, remainingByteCount));
+        
+        int byteCount;
+        
+        do {
+            byteCount = channel.read(buffer);
+        } while (byteCount == 0);
+        
+        if (byteCount < 0) {
+            remainingByteCount = 0L;
+            return false;
+        }
+        
+        remainingByteCount -= byteCount;
+        bufferPosition = 0;
+        bufferLimit = byteCount;
+        return true;
+    }
+    
+    /**
+     * Returns the index of the first character of {@code token} past the
+     * leading move number, such as {@code 12.} or {@code 12...}.
+     */
+    private static int skipMoveNumber(final CharSequence token) {
+        int index = 0;
+        
+        while (index < token.length()
+                && Character.isDigit(token.charAt(index))) {
+            index++;
+        }
+        
+        if (index == token.length() || token.charAt(index) != '.') {
+            // Once here, the token does not start with a move number:
+            return 0;
+        }
+        
+        while (index < token.length() && token.charAt(index) == '.') {
+            index++;
+        }
+        
+        return index;
+    }
+    
+    private static boolean isResult(final PgnToken token) {
+        return token.contentEquals("1-0")
+            || token.contentEquals("0-1")
+            || token.contentEquals("1/2-1/2")
+            || token.contentEquals("*");
+    }
+}
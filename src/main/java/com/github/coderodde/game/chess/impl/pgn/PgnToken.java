@@ -0,0 +1,77 @@
+package com.github.coderodde.game.chess.impl.pgn;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * This class holds the bytes of the current token of {@link PgnReader}. It is
+ * reused from token to token and exposes the bytes as ISO 8859-1 characters,
+ * so the moves are resolved without building a string per token.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class PgnToken implements CharSequence {
+    
+    private static final int INITIAL_CAPACITY = 64;
+    
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+    
+    void clear() {
+        length = 0;
+    }
+    
+    void append(final int character) {
+        if (length == bytes.length) {
+            bytes = Arrays.copyOf(bytes, 2 * length);
+        }
+        
+        bytes[length++] = (byte) character;
+    }
+    
+    /**
+     * Returns {@code true} if and only if this token consists of the
+     * characters of {@code text}.
+     * 
+     * @param text the text to compare against.
+     * 
+     * @return {@code true} if the token equals {@code text}.
+     */
+    boolean contentEquals(final String text) {
+        if (length != text.length()) {
+            return false;
+        }
+        
+        for (int i = 0; i < length; i++) {
+            if (charAt(i) != text.charAt(i)) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    @Override
+    public int length() {
+        return length;
+    }
+    
+    @Override
+    public char charAt(final int index) {
+        return (char) (bytes[index] & 0xFF);
+    }
+    
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return new String(bytes,
+                          start,
+                          end - start,
+                          StandardCharsets.ISO_8859_1);
+    }
+    
+    @Override
+    public String toString() {
+        return new String(bytes, 0, length, StandardCharsets.ISO_8859_1);
+    }
+}
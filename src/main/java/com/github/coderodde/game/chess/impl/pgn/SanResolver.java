@@ -0,0 +1,343 @@
+package com.github.coderodde.game.chess.impl.pgn;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import static com.github.coderodde.game.chess.ChessBoardState.N;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceColor;
+import com.github.coderodde.game.chess.PieceType;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.attackcheck.BlackUnderAttackCheck;
+import com.github.coderodde.game.chess.impl.attackcheck.WhiteUnderAttackCheck;
+
+/**
+ * This class resolves the moves in the standard algebraic notation (SAN),
+ * such as {@code Nbd7}, {@code exd6} or {@code e8=Q+}, against the legal
+ * moves of a state. The check and annotation suffixes are ignored.
+ * <p>
+ * The states do not support castling, so the castling moves are made by
+ * relocating the king and the rook as long as they stand on their initial
+ * cells and the cells between them are empty. Whether the king passes an
+ * attacked cell is not checked.
+ * <p>
+ * The previous double move flags of the opponent are cleared in the resolved
+ * states as the en passant captures they allow expire after the move.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class SanResolver {
+    
+    private static final int KING_FILE = 4;
+    
+    private static final WhiteUnderAttackCheck WHITE_UNDER_ATTACK_CHECK =
+            new WhiteUnderAttackCheck();
+    
+    private static final BlackUnderAttackCheck BLACK_UNDER_ATTACK_CHECK =
+            new BlackUnderAttackCheck();
+    
+    private SanResolver() {
+        
+    }
+    
+    /**
+     * Resolves the move {@code san} in {@code state}.
+     * 
+     * @param state      the state before the move.
+     * @param playerTurn the player to move in {@code state}.
+     * @param san        the move in the standard algebraic notation.
+     * 
+     * @return the move or {@code null} if {@code san} is malformed or does
+     *         not match exactly one legal move.
+     */
+    public static PgnMove resolve(final ChessBoardState state,
+                                  final PlayerTurn playerTurn,
+                                  final CharSequence san) {
+        
+        return resolve(state, playerTurn, san, 0, san.length());
+    }
+    
+    /**
+     * Resolves the move in the range {@code [from, to)} of {@code san} in
+     * {@code state}. The range lets the tokenizers pass their buffers as is.
+     * 
+     * @param state      the state before the move.
+     * @param playerTurn the player to move in {@code state}.
+     * @param san        the characters holding the move.
+     * @param from       the index of the first character of the move.
+     * @param to         the index past the last character of the move.
+     * 
+     * @return the move or {@code null} if the move is malformed or does not
+     *         match exactly one legal move.
+     */
+    public static PgnMove resolve(final ChessBoardState state,
+                                  final PlayerTurn playerTurn,
+                                  final CharSequence san,
+                                  final int from,
+                                  final int to) {
+        
+        int end = to;
+        
+        while (end > from && isSuffix(san.charAt(end - 1))) {
+            end--;
+        }
+        
+        if (end == from) {
+            return null;
+        }
+        
+        if (san.charAt(from) == 'O' || san.charAt(from) == '0') {
+            return resolveCastling(state, playerTurn, san, from, end);
+        }
+        
+        int start = from;
+        PieceType pieceType = getPieceType(san.charAt(from));
+        
+        if (pieceType == null) {
+            pieceType = PieceType.PAWN;
+        } else {
+            start++;
+        }
+        
+        PieceType promotionPieceType = null;
+        
+        if (pieceType == PieceType.PAWN && end - start > 2) {
+            promotionPieceType = getPieceType(san.charAt(end - 1));
+            
+            if (promotionPieceType != null) {
+                end--;
+                
+                if (san.charAt(end - 1) == '=') {
+                    end--;
+                }
+            }
+        }
+        
+        if (end - start < 2) {
+            return null;
+        }
+        
+        final int targetFile = getFile(san.charAt(end - 2));
+        final int targetRank = getRank(san.charAt(end - 1));
+        
+        if (targetFile < 0 || targetRank < 0) {
+            return null;
+        }
+        
+        int sourceFile = -1;
+        int sourceRank = -1;
+        
+        for (int i = start; i < end - 2; i++) {
+            final char character = san.charAt(i);
+            
+            if (character == 'x' || character == '-') {
+                continue;
+            }
+            
+            if (getFile(character) >= 0) {
+                sourceFile = getFile(character);
+            } else if (getRank(character) >= 0) {
+                sourceRank = getRank(character);
+            } else {
+                return null;
+            }
+        }
+        
+        ChessMove resolvedMove = null;
+        
+        for (final ChessBoardState child : state.expand(playerTurn)) {
+            final ChessMove move = ChessMove.of(state, child);
+            
+            if (move.getTargetFile() != targetFile
+                    || move.getTargetRank() != targetRank
+                    || move.getMovedPiece().getPieceType() != pieceType
+                    || (sourceFile >= 0 && move.getSourceFile() != sourceFile)
+                    || (sourceRank >= 0 && move.getSourceRank() != sourceRank)
+                    || (promotionPieceType == null) == move.isPromotion()
+                    || (promotionPieceType != null
+                            && move.getPromotionPiece().getPieceType()
+                               != promotionPieceType)
+                    || isInCheck(child, playerTurn)) {
+                continue;
+            }
+            
+            if (resolvedMove != null) {
+                // Once here, the move is ambiguous:
+                return null;
+            }
+            
+            resolvedMove = move;
+        }
+        
+        if (resolvedMove == null) {
+            return null;
+        }
+        
+        final ChessBoardState child = resolvedMove.getState();
+        clearOpponentFlags(child, playerTurn);
+        
+        return new PgnMove(child,
+                           resolvedMove.getSourceFile(),
+                           resolvedMove.getSourceRank(),
+                           targetFile,
+                           targetRank,
+                           promotionPieceType,
+                           false);
+    }
+    
+    private static PgnMove resolveCastling(final ChessBoardState state,
+                                           final PlayerTurn playerTurn,
+                                           final CharSequence san,
+                                           final int start,
+                                           final int end) {
+        
+        final boolean queenSide;
+        
+        if (isCastling(san, start, end, "O-O")) {
+            queenSide = false;
+        } else if (isCastling(san, start, end, "O-O-O")) {
+            queenSide = true;
+        } else {
+            return null;
+        }
+        
+        final boolean white = playerTurn == PlayerTurn.WHITE;
+        final PieceColor pieceColor = white ? PieceColor.WHITE :
+                                              PieceColor.BLACK;
+        
+        final int rank = white ? N - 1 : 0;
+        final int rookFile = queenSide ? 0 : N - 1;
+        final int direction = queenSide ? -1 : 1;
+        
+        if (!isPiece(state, KING_FILE, rank, pieceColor, PieceType.KING)
+                || !isPiece(state,
+                            rookFile,
+                            rank,
+                            pieceColor,
+                            PieceType.ROOK)) {
+            return null;
+        }
+        
+        for (int file = KING_FILE + direction;
+                file != rookFile;
+                file += direction) {
+            
+            if (state.get(file, rank) != null) {
+                return null;
+            }
+        }
+        
+        final int kingTargetFile = KING_FILE + 2 * direction;
+        final ChessBoardState child = new ChessBoardState(state);
+        
+        child.move(KING_FILE, rank, kingTargetFile, rank);
+        child.move(rookFile, rank, KING_FILE + direction, rank);
+        
+        if (white) {
+            child.setWhiteKingFile(kingTargetFile);
+        } else {
+            child.setBlackKingFile(kingTargetFile);
+        }
+        
+        clearOpponentFlags(child, playerTurn);
+        
+        return new PgnMove(child,
+                           KING_FILE,
+                           rank,
+                           kingTargetFile,
+                           rank,
+                           null,
+                           true);
+    }
+    
+    private static void clearOpponentFlags(final ChessBoardState state,
+                                           final PlayerTurn playerTurn) {
+        
+        if (playerTurn == PlayerTurn.WHITE) {
+            state.clearBlackInitialDoubleMoveFlags();
+        } else {
+            state.clearWhiteInitialDoubleMoveFlags();
+        }
+    }
+    
+    /**
+     * Returns {@code true} if and only if the range {@code [start, end)} of
+     * {@code san} spells the castling {@code castling}, written either with
+     * the letter O or the digit zero.
+     */
+    private static boolean isCastling(final CharSequence san,
+                                      final int start,
+                                      final int end,
+                                      final String castling) {
+        
+        if (end - start != castling.length()) {
+            return false;
+        }
+        
+        for (int i = 0; i < castling.length(); i++) {
+            final char character = san.charAt(start + i);
+            
+            if (character != castling.charAt(i)
+                    && !(character == '0' && castling.charAt(i) == 'O')) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private static boolean isSuffix(final char character) {
+        return character == '+'
+            || character == '#'
+            || character == '!'
+            || character == '?';
+    }
+    
+    private static PieceType getPieceType(final char character) {
+        return switch (character) {
+            case 'N' -> PieceType.KNIGHT;
+            case 'B' -> PieceType.BISHOP;
+            case 'R' -> PieceType.ROOK;
+            case 'Q' -> PieceType.QUEEN;
+            case 'K' -> PieceType.KING;
+            default  -> null;
+        };
+    }
+    
+    private static int getFile(final char character) {
+        return character >= 'a' && character <= 'h' ? character - 'a' : -1;
+    }
+    
+    /**
+     * Returns the rank of the states denoted by the digit {@code character}
+     * or -1 if it is not a rank digit. The rank {@code 8} is the rank zero.
+     */
+    private static int getRank(final char character) {
+        return character >= '1' && character <= '8' ? '8' - character : -1;
+    }
+    
+    private static boolean isPiece(final ChessBoardState state,
+                                   final int file,
+                                   final int rank,
+                                   final PieceColor pieceColor,
+                                   final PieceType pieceType) {
+        
+        final Piece piece = state.get(file, rank);
+        
+        return piece != null
+                && piece.getPieceColor() == pieceColor
+                && piece.getPieceType() == pieceType;
+    }
+    
+    private static boolean isInCheck(final ChessBoardState state,
+                                     final PlayerTurn playerTurn) {
+        
+        return playerTurn == PlayerTurn.WHITE ?
+               WHITE_UNDER_ATTACK_CHECK.check(state,
+                                              state.getWhiteKingFile(),
+                                              state.getWhiteKingRank()) :
+               BLACK_UNDER_ATTACK_CHECK.check(state,
+                                              state.getBlackKingFile(),
+                                              state.getBlackKingRank());
+    }
+}
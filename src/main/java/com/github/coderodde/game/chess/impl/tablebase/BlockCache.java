@@ -0,0 +1,85 @@
+package com.github.coderodde.game.chess.impl.tablebase;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class implements a least recently used cache of the decompressed
+ * blocks of the {@link TablebaseFile}s. The cache is shared by the search
+ * threads: the lookups lock the cache, but the blocks are inflated outside
+ * the lock, so two threads missing the same block may both inflate it.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class BlockCache {
+    
+    private final Map<Long, short[]> blocks;
+    private long hits;
+    private long misses;
+    
+    /**
+     * Constructs a cache holding at most {@code capacity} blocks.
+     * 
+     * @param capacity the maximum number of cached blocks.
+     */
+    BlockCache(final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad cache capacity: %d.", capacity));
+        }
+        
+        this.blocks = new LinkedHashMap<>(16, 0.75f, true) {
+            
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<Long, short[]> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+    
+    /**
+     * Returns the values of the block {@code block} of {@code file},
+     * inflating the block on a miss.
+     * 
+     * @param file  the table file.
+     * @param block the index of the block.
+     * 
+     * @return the values of the block.
+     */
+    short[] get(final TablebaseFile file, final int block) {
+        final Long key = ((long) file.getId() << 32) | block;
+        
+        synchronized (this) {
+            final short[] values = blocks.get(key);
+            
+            if (values != null) {
+                hits++;
+                return values;
+            }
+            
+            misses++;
+        }
+        
+        final short[] values = file.decompress(block);
+        
+        synchronized (this) {
+            blocks.put(key, values);
+        }
+        
+        return values;
+    }
+    
+    synchronized int size() {
+        return blocks.size();
+    }
+    
+    synchronized long getHits() {
+        return hits;
+    }
+    
+    synchronized long getMisses() {
+        return misses;
+    }
+}
@@ -0,0 +1,315 @@
+package com.github.coderodde.game.chess.impl.tablebase;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.EndgameTablebase;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.WinDrawLoss;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * This class implements the endgame tablebases generated by the
+ * {@link TablebaseGenerator} into a directory. Each {@link MaterialSignature},
+ * such as {@code KRvK}, has a win/draw/loss table {@code KRvK.wdl.ctbl} and
+ * optionally a distance table, {@code KRvK.dtm.ctbl} or
+ * {@code KRvK.dtz.ctbl}. The tables are memory-mapped and their blocks are
+ * inflated on demand into a cache of a fixed number of blocks shared by all
+ * the tables (see {@link TablebaseFile}).
+ * <p>
+ * The tables are in the block-compressed format of the generator; the
+ * Syzygy tables ({@code .rtbw} and {@code .rtbz}) are not supported. A probe
+ * scans the board for the material, mirrors the colors if the stronger side
+ * is black, reduces the position by the symmetries of the board and reads the
+ * value at its index. The generator handles the tables of up to five pieces.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class GeneratedTablebases implements EndgameTablebase {
+    
+    /**
+     * The default number of cached blocks.
+     */
+    public static final int DEFAULT_CACHE_CAPACITY = 1 << 11;
+    
+    private static final int NO_VALUE = Integer.MIN_VALUE;
+    
+    /**
+     * Maps the material keys to the tables.
+     */
+    private final Map<Long, Table> tables = new HashMap<>();
+    
+    private final List<String> materialSignatures = new ArrayList<>();
+    private final BlockCache blockCache;
+    private int maximumPieceCount;
+    
+    private GeneratedTablebases(final int cacheCapacity) {
+        this.blockCache = new BlockCache(cacheCapacity);
+    }
+    
+    /**
+     * Loads the tablebases in {@code directory} with the default cache
+     * capacity.
+     * 
+     * @param directory the tablebase directory.
+     * 
+     * @return the tablebases.
+     * @throws IOException if a table cannot be read or is malformed.
+     */
+    public static GeneratedTablebases load(final Path directory)
+            throws IOException {
+        
+        return load(directory, DEFAULT_CACHE_CAPACITY);
+    }
+    
+    /**
+     * Loads the tablebases in {@code directory}.
+     * 
+     * @param directory     the tablebase directory.
+     * @param cacheCapacity the maximum number of cached blocks.
+     * 
+     * @return the tablebases.
+     * @throws IOException if a table cannot be read or is malformed.
+     */
+    public static GeneratedTablebases load(final Path directory,
+                                           final int cacheCapacity)
+            throws IOException {
+        
+        Objects.requireNonNull(directory, "The input directory is null.");
+        
+        final GeneratedTablebases tablebases =
+                new GeneratedTablebases(cacheCapacity);
+        final String extension = "." + TablebaseFile.Metric.WDL.getExtension();
+        
+        try (final DirectoryStream<Path> paths =
+                Files.newDirectoryStream(directory, "*" + extension)) {
+            
+            for (final Path path : paths) {
+                final String fileName = path.getFileName().toString();
+                
+                tablebases.add(
+                        directory,
+                        fileName.substring(0,
+                                           fileName.length()
+                                               - extension.length()));
+            }
+        }
+        
+        tablebases.materialSignatures.sort(null);
+        return tablebases;
+    }
+    
+    /**
+     * Returns the names of the loaded material signatures, such as
+     * {@code KQvK}, in alphabetical order.
+     * 
+     * @return the material signatures.
+     */
+    public List<String> getMaterialSignatures() {
+        return List.copyOf(materialSignatures);
+    }
+    
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int getMaximumPieceCount() {
+        return maximumPieceCount;
+    }
+    
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public WinDrawLoss probeWinDrawLoss(final ChessBoardState state,
+                                        final PlayerTurn playerTurn) {
+        
+        final int value = probe(state, playerTurn, false);
+        
+        if (value == NO_VALUE || value == TablebaseFile.ILLEGAL) {
+            return null;
+        }
+        
+        return value > 0 ? WinDrawLoss.WIN :
+               value < 0 ? WinDrawLoss.LOSS :
+                           WinDrawLoss.DRAW;
+    }
+    
+    /**
+     * {@inheritDoc }
+     */
+    @Override
+    public int probeDistance(final ChessBoardState state,
+                             final PlayerTurn playerTurn) {
+        
+        final int value = probe(state, playerTurn, true);
+        return value == NO_VALUE || value < 0 ? -1 : value;
+    }
+    
+    BlockCache getBlockCache() {
+        return blockCache;
+    }
+    
+    private void add(final Path directory, final String name)
+            throws IOException {
+        
+        final MaterialSignature signature;
+        
+        try {
+            signature = MaterialSignature.parse(name);
+        } catch (final IllegalArgumentException ex) {
+            throw new IOException(ex.getMessage(), ex);
+        }
+        
+        final TablebaseFile winDrawLossFile =
+                open(directory, signature, TablebaseFile.Metric.WDL);
+        
+        TablebaseFile distanceFile =
+                open(directory, signature, TablebaseFile.Metric.DTM);
+        
+        if (distanceFile == null) {
+            distanceFile =
+                    open(directory, signature, TablebaseFile.Metric.DTZ);
+        }
+        
+        tables.put(signature.getMaterialKey(false),
+                   new Table(signature,
+                             winDrawLossFile,
+                             distanceFile,
+                             false));
+        
+        if (!signature.isSymmetric()) {
+            tables.put(signature.getMaterialKey(true),
+                       new Table(signature,
+                                 winDrawLossFile,
+                                 distanceFile,
+                                 true));
+        }
+        
+        materialSignatures.add(name);
+        maximumPieceCount = Math.max(maximumPieceCount,
+                                     signature.getPieceCount());
+    }
+    
+    /**
+     * Opens the table of {@code signature} measuring {@code metric}.
+     * 
+     * @return the table or {@code null} if there is no such distance table.
+     */
+    private TablebaseFile open(final Path directory,
+                               final MaterialSignature signature,
+                               final TablebaseFile.Metric metric)
+            throws IOException {
+        
+        final Path path = TablebaseFile.getPath(directory,
+                                                signature.getName(),
+                                                metric);
+        
+        if (metric != TablebaseFile.Metric.WDL && !Files.exists(path)) {
+            return null;
+        }
+        
+        final TablebaseFile file = TablebaseFile.open(path, blockCache);
+        
+        if (file.getMetric() != metric
+                || file.getEntryCount() != signature.getEntryCount()) {
+            
+            throw new IOException(
+                    String.format("Bad tablebase file: %s.", path));
+        }
+        
+        return file;
+    }
+    
+    /**
+     * Probes {@code state}.
+     * 
+     * @param state      the state to probe.
+     * @param playerTurn the player to move.
+     * @param distance   whether to probe the distance table.
+     * 
+     * @return the value or {@link #NO_VALUE} if there is no table.
+     */
+    private int probe(final ChessBoardState state,
+                      final PlayerTurn playerTurn,
+                      final boolean distance) {
+        
+        Objects.requireNonNull(state, "The input state is null.");
+        Objects.requireNonNull(playerTurn, "The input player turn is null.");
+        
+        if (state.getPieceCount() > maximumPieceCount) {
+            return NO_VALUE;
+        }
+        
+        final int[] pieces = new int[state.getPieceCount()];
+        int pieceCount = 0;
+        
+        for (int rank = 0; rank < ChessBoardState.N; rank++) {
+            for (int file = 0; file < ChessBoardState.N; file++) {
+                final Piece piece = state.get(file, rank);
+                
+                if (piece != null) {
+                    pieces[pieceCount++] =
+                            MaterialSignature.encodePiece(
+                                    piece.isWhite(),
+                                    piece.getPieceType(),
+                                    rank * ChessBoardState.N + file);
+                }
+            }
+        }
+        
+        final Table table =
+                tables.get(MaterialSignature.getMaterialKey(pieces));
+        
+        if (table == null) {
+            return NO_VALUE;
+        }
+        
+        final TablebaseFile tablebaseFile =
+                distance ? table.distanceFile : table.winDrawLossFile;
+        
+        if (tablebaseFile == null) {
+            return NO_VALUE;
+        }
+        
+        Arrays.sort(pieces);
+        
+        return tablebaseFile.get(
+                table.signature.getIndex(pieces,
+                                         table.firstSideIsBlack,
+                                         playerTurn == PlayerTurn.BLACK,
+                                         new int[pieces.length]));
+    }
+    
+    /**
+     * This class holds the tables of a material signature as seen from one
+     * of the sides.
+     */
+    private static final class Table {
+        
+        final MaterialSignature signature;
+        final TablebaseFile winDrawLossFile;
+        final TablebaseFile distanceFile;
+        final boolean firstSideIsBlack;
+        
+        Table(final MaterialSignature signature,
+              final TablebaseFile winDrawLossFile,
+              final TablebaseFile distanceFile,
+              final boolean firstSideIsBlack) {
+            
+            this.signature        = signature;
+            this.winDrawLossFile  = winDrawLossFile;
+            this.distanceFile     = distanceFile;
+            this.firstSideIsBlack = firstSideIsBlack;
+        }
+    }
+}
@@ -0,0 +1,481 @@
+package com.github.coderodde.game.chess.impl.tablebase;
+
+import com.github.coderodde.game.chess.PieceType;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This class describes the material of a tablebase, such as {@code KQvKR}:
+ * the pieces of the first side, {@code v} and the pieces of the second side,
+ * each side in the order K, Q, R, B, N, P. The first side is the stronger
+ * one. The positions are indexed as if the first side played white.
+ * <p>
+ * A position is indexed by the side to move, the square of the king of the
+ * first side and the squares of the other pieces. The symmetries of the board
+ * reduce the squares of the king: the pawnless positions are mirrored and
+ * transposed until the king is in the triangle {@code a1-d1-d4} of ten
+ * squares, the positions with pawns are mirrored horizontally until the king
+ * is on the files a to d. Many indices do not stand for a legal position;
+ * the tables mark them as such.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class MaterialSignature {
+    
+    static final int SQUARES = 64;
+    
+    /**
+     * The maximum number of pieces of a signature, kings included.
+     */
+    static final int MAXIMUM_PIECE_COUNT = 7;
+    
+    /**
+     * The order of the pieces of a side.
+     */
+    static final PieceType[] ORDER = {
+        PieceType.KING,
+        PieceType.QUEEN,
+        PieceType.ROOK,
+        PieceType.BISHOP,
+        PieceType.KNIGHT,
+        PieceType.PAWN,
+    };
+    
+    private static final String LETTERS = "KQRBNP";
+    
+    /**
+     * Maps the ordinals of the piece types to their indices in
+     * {@link #ORDER}.
+     */
+    private static final int[] ORDER_INDICES =
+            new int[PieceType.values().length];
+    
+    /**
+     * The strength of each piece type, in the order of {@link #ORDER}.
+     */
+    private static final int[] STRENGTHS = { 0, 9, 5, 3, 3, 1 };
+    
+    private static final int PAWNLESS_KING_SQUARES = 10;
+    private static final int PAWN_KING_SQUARES = 32;
+    
+    /**
+     * Maps the squares of the triangle {@code a1-d1-d4} to the king indices
+     * of the pawnless positions, and the other squares to {@code -1}.
+     */
+    private static final int[] TRIANGLE_INDICES = new int[SQUARES];
+    
+    /**
+     * Maps the king indices of the pawnless positions to the squares.
+     */
+    private static final int[] TRIANGLE_SQUARES =
+            new int[PAWNLESS_KING_SQUARES];
+    
+    static {
+        for (int order = 0; order < ORDER.length; order++) {
+            ORDER_INDICES[ORDER[order].ordinal()] = order;
+        }
+        
+        Arrays.fill(TRIANGLE_INDICES, -1);
+        
+        int index = 0;
+        
+        for (int rank = 0; rank < 4; rank++) {
+            for (int file = 0; file <= rank; file++) {
+                TRIANGLE_INDICES[rank * 8 + file] = index;
+                TRIANGLE_SQUARES[index++] = rank * 8 + file;
+            }
+        }
+    }
+    
+    private final String name;
+    
+    /**
+     * The piece types of the first side followed by those of the second
+     * side.
+     */
+    private final PieceType[] pieceTypes;
+    
+    private final int firstSidePieceCount;
+    private final boolean hasPawns;
+    private final int kingSquares;
+    private final long entryCount;
+    
+    private MaterialSignature(final String name,
+                              final PieceType[] pieceTypes,
+                              final int firstSidePieceCount) {
+        this.name = name;
+        this.pieceTypes = pieceTypes;
+        this.firstSidePieceCount = firstSidePieceCount;
+        this.hasPawns = Arrays.asList(pieceTypes).contains(PieceType.PAWN);
+        this.kingSquares = hasPawns ? PAWN_KING_SQUARES :
+                                      PAWNLESS_KING_SQUARES;
+        
+        long entryCount = 2L * kingSquares;
+        
+        for (int piece = 1; piece < pieceTypes.length; piece++) {
+            entryCount *= SQUARES;
+        }
+        
+        this.entryCount = entryCount;
+    }
+    
+    /**
+     * Parses the signature {@code name}, such as {@code KRPvKR}.
+     * 
+     * @param name the name of the signature.
+     * 
+     * @return the signature.
+     * @throws IllegalArgumentException if {@code name} is malformed or its
+     *                                  first side is weaker than the second.
+     */
+    static MaterialSignature parse(final String name) {
+        Objects.requireNonNull(name, "The input name is null.");
+        
+        final int separator = name.indexOf('v');
+        
+        if (separator < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Bad material signature: %s.", name));
+        }
+        
+        final PieceType[] firstSide = parseSide(name, 0, separator);
+        final PieceType[] secondSide =
+                parseSide(name, separator + 1, name.length());
+        
+        if (firstSide.length + secondSide.length > MAXIMUM_PIECE_COUNT) {
+            throw new IllegalArgumentException(
+                    String.format("Too many pieces: %s.", name));
+        }
+        
+        if (compareSides(firstSide, secondSide) < 0) {
+            throw new IllegalArgumentException(
+                    String.format("Weaker first side: %s.", name));
+        }
+        
+        final PieceType[] pieceTypes =
+                Arrays.copyOf(firstSide,
+                              firstSide.length + secondSide.length);
+        
+        System.arraycopy(secondSide,
+                         0,
+                         pieceTypes,
+                         firstSide.length,
+                         secondSide.length);
+        
+        return new MaterialSignature(name, pieceTypes, firstSide.length);
+    }
+    
+    /**
+     * Returns the signature of the given pieces. The sides may be given in
+     * either order and their pieces in any order.
+     * 
+     * @param side      the piece types of one side, its king included.
+     * @param otherSide the piece types of the other side.
+     * 
+     * @return the signature.
+     * @throws IllegalArgumentException if a side lacks its king or has more.
+     */
+    static MaterialSignature of(final PieceType[] side,
+                                final PieceType[] otherSide) {
+        
+        final PieceType[] sortedSide = sort(side);
+        final PieceType[] sortedOtherSide = sort(otherSide);
+        
+        return compareSides(sortedSide, sortedOtherSide) >= 0 ?
+               parse(toString(sortedSide) + "v" + toString(sortedOtherSide)) :
+               parse(toString(sortedOtherSide) + "v" + toString(sortedSide));
+    }
+    
+    /**
+     * Encodes a piece of a position in the board orientation, where white
+     * pawns advance towards rank zero. Sorting the codes groups the pieces by
+     * color, white first, and orders each color as the signatures do.
+     * 
+     * @param white     whether the piece is white.
+     * @param pieceType the type of the piece.
+     * @param square    the square of the piece.
+     * 
+     * @return the code of the piece.
+     */
+    static int encodePiece(final boolean white,
+                           final PieceType pieceType,
+                           final int square) {
+        
+        return ((white ? 0 : ORDER.length) + ORDER_INDICES[pieceType.ordinal()])
+                << 6
+             | square;
+    }
+    
+    /**
+     * Returns the material key of the pieces, i.e., the count of each color
+     * and piece type packed into four bits.
+     * 
+     * @param pieces the codes of the pieces.
+     * 
+     * @return the material key.
+     */
+    static long getMaterialKey(final int[] pieces) {
+        long key = 0L;
+        
+        for (final int piece : pieces) {
+            key += 1L << (4 * (piece >>> 6));
+        }
+        
+        return key;
+    }
+    
+    /**
+     * Returns the material key of the positions of this signature.
+     * 
+     * @param firstSideIsBlack whether the first side plays black.
+     * 
+     * @return the material key.
+     */
+    long getMaterialKey(final boolean firstSideIsBlack) {
+        final int[] pieces = new int[pieceTypes.length];
+        
+        for (int piece = 0; piece < pieces.length; piece++) {
+            pieces[piece] = encodePiece(
+                    (piece < firstSidePieceCount) != firstSideIsBlack,
+                    pieceTypes[piece],
+                    0);
+        }
+        
+        return getMaterialKey(pieces);
+    }
+    
+    /**
+     * Computes the index of a position given by the codes of its pieces. The
+     * first side plays white in the tables, so if it is black, the board is
+     * mirrored vertically and the black pieces come first.
+     * 
+     * @param pieces           the sorted codes of the pieces.
+     * @param firstSideIsBlack whether the first side plays black.
+     * @param blackToMove      whether black is to move.
+     * @param squares          the output squares of the pieces reduced by the
+     *                         symmetries. Of the length of {@code pieces}.
+     * 
+     * @return the index.
+     */
+    long getIndex(final int[] pieces,
+                  final boolean firstSideIsBlack,
+                  final boolean blackToMove,
+                  final int[] squares) {
+        
+        int whitePieceCount = 0;
+        
+        while (whitePieceCount < pieces.length
+                && pieces[whitePieceCount] >>> 6 < ORDER.length) {
+            whitePieceCount++;
+        }
+        
+        for (int piece = 0; piece < pieces.length; piece++) {
+            if (firstSideIsBlack) {
+                final int source = (piece + whitePieceCount) % pieces.length;
+                squares[piece] = (pieces[source] & 63) ^ 56;
+            } else {
+                squares[piece] = pieces[piece] & 63;
+            }
+        }
+        
+        return getIndex(squares, blackToMove == firstSideIsBlack);
+    }
+    
+    String getName() {
+        return name;
+    }
+    
+    int getPieceCount() {
+        return pieceTypes.length;
+    }
+    
+    int getFirstSidePieceCount() {
+        return firstSidePieceCount;
+    }
+    
+    PieceType getPieceType(final int piece) {
+        return pieceTypes[piece];
+    }
+    
+    boolean hasPawns() {
+        return hasPawns;
+    }
+    
+    /**
+     * Returns {@code true} if and only if both sides have the same pieces.
+     * 
+     * @return {@code true} if the signature is symmetric.
+     */
+    boolean isSymmetric() {
+        return 2 * firstSidePieceCount == pieceTypes.length
+            && Arrays.equals(pieceTypes,
+                             0,
+                             firstSidePieceCount,
+                             pieceTypes,
+                             firstSidePieceCount,
+                             pieceTypes.length);
+    }
+    
+    long getEntryCount() {
+        return entryCount;
+    }
+    
+    /**
+     * Computes the index of a position. The squares are {@code rank * 8 +
+     * file}, with the first side playing white, i.e., its pawns advancing
+     * towards rank zero.
+     * 
+     * @param squares             the squares of the pieces, in the order of
+     *                            the signature. Overwritten by the squares
+     *                            reduced by the symmetries.
+     * @param firstSideToMove whether the first side is to move.
+     * 
+     * @return the index.
+     */
+    long getIndex(final int[] squares, final boolean firstSideToMove) {
+        final int kingSquare = squares[0];
+        final boolean mirrorFiles = (kingSquare & 7) > 3;
+        final boolean mirrorRanks = !hasPawns && (kingSquare >>> 3) > 3;
+        
+        for (int piece = 0; piece < squares.length; piece++) {
+            if (mirrorFiles) {
+                squares[piece] ^= 7;
+            }
+            
+            if (mirrorRanks) {
+                squares[piece] ^= 56;
+            }
+        }
+        
+        if (!hasPawns && (squares[0] & 7) > (squares[0] >>> 3)) {
+            for (int piece = 0; piece < squares.length; piece++) {
+                squares[piece] = transpose(squares[piece]);
+            }
+        }
+        
+        long index = firstSideToMove ? 0L : 1L;
+        
+        index = index * kingSquares + (hasPawns ?
+                                       (squares[0] >>> 3) * 4
+                                           + (squares[0] & 7) :
+                                       TRIANGLE_INDICES[squares[0]]);
+        
+        for (int piece = 1; piece < squares.length; piece++) {
+            index = index * SQUARES + squares[piece];
+        }
+        
+        return index;
+    }
+    
+    /**
+     * Decodes {@code index} into the squares of the pieces. The inverse of
+     * {@link #getIndex(int[], boolean)} up to the symmetries.
+     * 
+     * @param index   the index.
+     * @param squares the output squares of the pieces.
+     * 
+     * @return {@code true} if the first side is to move.
+     */
+    boolean decode(long index, final int[] squares) {
+        for (int piece = squares.length - 1; piece > 0; piece--) {
+            squares[piece] = (int)(index % SQUARES);
+            index /= SQUARES;
+        }
+        
+        final int king = (int)(index % kingSquares);
+        
+        squares[0] = hasPawns ? (king / 4) * 8 + king % 4 :
+                                TRIANGLE_SQUARES[king];
+        
+        return index / kingSquares == 0L;
+    }
+    
+    @Override
+    public String toString() {
+        return name;
+    }
+    
+    private static int transpose(final int square) {
+        return (square & 7) * 8 + (square >>> 3);
+    }
+    
+    private static PieceType[] parseSide(final String name,
+                                         final int from,
+                                         final int to) {
+        
+        final PieceType[] side = new PieceType[to - from];
+        int previousOrder = -1;
+        
+        for (int i = from; i < to; i++) {
+            final int order = LETTERS.indexOf(name.charAt(i));
+            
+            if (order < 0
+                    || order < previousOrder
+                    || (order == 0) != (i == from)) {
+                
+                throw new IllegalArgumentException(
+                        String.format("Bad material signature: %s.", name));
+            }
+            
+            side[i - from] = ORDER[order];
+            previousOrder = order;
+        }
+        
+        if (side.length == 0) {
+            throw new IllegalArgumentException(
+                    String.format("Bad material signature: %s.", name));
+        }
+        
+        return side;
+    }
+    
+    private static PieceType[] sort(final PieceType[] side) {
+        final PieceType[] sorted = side.clone();
+        
+        Arrays.sort(sorted,
+                    (pieceType, otherPieceType) ->
+                            Integer.compare(
+                                    ORDER_INDICES[pieceType.ordinal()],
+                                    ORDER_INDICES[otherPieceType.ordinal()]));
+        return sorted;
+    }
+    
+    private static String toString(final PieceType[] side) {
+        final StringBuilder stringBuilder = new StringBuilder(side.length);
+        
+        for (final PieceType pieceType : side) {
+            stringBuilder.append(
+                    LETTERS.charAt(ORDER_INDICES[pieceType.ordinal()]));
+        }
+        
+        return stringBuilder.toString();
+    }
+    
+    /**
+     * Compares the sides by the total strength of their pieces and then by
+     * their names.
+     */
+    private static int compareSides(final PieceType[] side,
+                                    final PieceType[] otherSide) {
+        
+        final int comparison =
+                Integer.compare(getStrength(side), getStrength(otherSide));
+        
+        if (comparison != 0) {
+            return comparison;
+        }
+        
+        return toString(side).compareTo(toString(otherSide));
+    }
+    
+    private static int getStrength(final PieceType[] side) {
+        int strength = 0;
+        
+        for (final PieceType pieceType : side) {
+            strength += STRENGTHS[ORDER_INDICES[pieceType.ordinal()]];
+        }
+        
+        return strength;
+    }
+}
@@ -0,0 +1,459 @@
+package com.github.coderodde.game.chess.impl.tablebase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongToIntFunction;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * This class implements a memory-mapped table of 16-bit values, one per
+ * position index of a {@link MaterialSignature}.
+ * <p>
+ * The tables are stored in the little-endian binary format of the
+ * {@link TablebaseGenerator}, with the extension {@code .ctbl} after the one
+ * of the metric: a header of the magic number ({@code CTBL}), the format
+ * version, the metric, the number of entries per block, the number of
+ * entries and the number of blocks, followed by the file
+ * offsets of the blocks plus the end offset and the blocks themselves. Each
+ * block holds the values of consecutive indices, deflated. A probe inflates
+ * the block of the index, so the decompressed blocks are kept in a
+ * {@link BlockCache} shared by all the tables.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+final class TablebaseFile {
+    
+    static final int MAGIC = 0x4C42_5443;
+    static final int VERSION = 1;
+    
+    /**
+     * The default number of entries per block. The larger the blocks, the
+     * better the compression and the slower the probes missing the cache.
+     */
+    static final int DEFAULT_BLOCK_ENTRIES = 1 << 13;
+    
+    /**
+     * The value of the indices not standing for a legal position, in the 
+     * tables of every metric.
+     */
+    static final short ILLEGAL = Short.MIN_VALUE;
+    
+    private static final int HEADER_SIZE =
+            4 * Integer.BYTES + Long.BYTES + 2 * Integer.BYTES;
+    
+    private static final AtomicInteger NEXT_ID = new AtomicInteger();
+    
+    /**
+     * This enumeration specifies what the values of a table measure.
+     */
+    enum Metric {
+        
+        /**
+         * The win, the draw or the loss of the player to move as {@code 1},
+         * {@code 0} or {@code -1}.
+         */
+        WDL("wdl.ctbl"),
+        
+        /**
+         * The number of plies to the next capture or pawn move.
+         */
+        DTZ("dtz.ctbl"),
+        
+        /**
+         * The number of plies to the mate.
+         */
+        DTM("dtm.ctbl");
+        
+        private final String extension;
+        
+        private Metric(final String extension) {
+            this.extension = extension;
+        }
+        
+        String getExtension() {
+            return extension;
+        }
+    }
+    
+    private final int id = NEXT_ID.getAndIncrement();
+    private final Path path;
+    private final Metric metric;
+    private final int blockEntries;
+    private final long entryCount;
+    private final long[] blockOffsets;
+    private final MappedByteBuffer buffer;
+    private final BlockCache blockCache;
+    
+    private TablebaseFile(final Path path,
+                          final Metric metric,
+                          final int blockEntries,
+                          final long entryCount,
+                          final long[] blockOffsets,
+                          final MappedByteBuffer buffer,
+                          final BlockCache blockCache) {
+        this.path         = path;
+        this.metric       = metric;
+        this.blockEntries = blockEntries;
+        this.entryCount   = entryCount;
+        this.blockOffsets = blockOffsets;
+        this.buffer       = buffer;
+        this.blockCache   = blockCache;
+    }
+    
+    /**
+     * Maps the table file {@code path}.
+     * 
+     * @param path       the path of the table file.
+     * @param blockCache the cache of the decompressed blocks.
+     * 
+     * @return the table.
+     * @throws IOException if the file cannot be read or is malformed.
+     */
+    static TablebaseFile open(final Path path,
+                              final BlockCache blockCache)
+            throws IOException {
+        
+        Objects.requireNonNull(path, "The input path is null.");
+        Objects.requireNonNull(blockCache, "The input block cache is null.");
+        
+        try (final FileChannel channel = FileChannel.open(path)) {
+            final long size = channel.size();
+            
+            if (size < HEADER_SIZE) {
+                throw new IOException("Truncated tablebase file.");
+            }
+            
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Too large tablebase file.");
+            }
+            
+            final MappedByteBuffer buffer =
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a tablebase file.");
+            }
+            
+            final int version = buffer.getInt();
+            
+            if (version != VERSION) {
+                throw new IOException(
+                        String.format("Bad tablebase file version: %d.",
+                                      version));
+            }
+            
+            final int metricOrdinal = buffer.getInt();
+            
+            if (metricOrdinal < 0
+                    || metricOrdinal >= Metric.values().length) {
+                
+                throw new IOException(
+                        String.format("Bad tablebase metric: %d.",
+                                      metricOrdinal));
+            }
+            
+            final int blockEntries = buffer.getInt();
+            final long entryCount = buffer.getLong();
+            final int blockCount = buffer.getInt();
+            
+            if (blockEntries < 1
+                    || entryCount < 0L
+                    || blockCount != getBlockCount(entryCount, blockEntries)
+                    || size < HEADER_SIZE
+                            + (blockCount + 1L) * Long.BYTES) {
+                
+                throw new IOException("Bad tablebase file header.");
+            }
+            
+            buffer.getInt();
+            
+            final long[] blockOffsets = new long[blockCount + 1];
+            buffer.asLongBuffer().get(blockOffsets);
+            
+            for (int block = 0; block < blockCount; block++) {
+                if (blockOffsets[block] > blockOffsets[block + 1]) {
+                    throw new IOException("Bad tablebase block offsets.");
+                }
+            }
+            
+            if (blockOffsets[0] < HEADER_SIZE
+                    || blockOffsets[blockCount] > size) {
+                throw new IOException("Bad tablebase block offsets.");
+            }
+            
+            return new TablebaseFile(path,
+                                     Metric.values()[metricOrdinal],
+                                     blockEntries,
+                                     entryCount,
+                                     blockOffsets,
+                                     buffer,
+                                     blockCache);
+        }
+    }
+    
+    /**
+     * Writes a table to the file {@code path}, replacing any existing file.
+     * 
+     * @param path       the path of the table file.
+     * @param metric     the metric of the values.
+     * @param entryCount the number of entries.
+     * @param values     maps the indices to the values.
+     * 
+     * @throws IOException if the file cannot be written.
+     */
+    static void write(final Path path,
+                      final Metric metric,
+                      final long entryCount,
+                      final LongToIntFunction values) throws IOException {
+        
+        write(path, metric, entryCount, DEFAULT_BLOCK_ENTRIES, values);
+    }
+    
+    /**
+     * Writes a table with blocks of {@code blockEntries} entries to the file
+     * {@code path}, replacing any existing file.
+     * 
+     * @param path         the path of the table file.
+     * @param metric       the metric of the values.
+     * @param entryCount   the number of entries.
+     * @param blockEntries the number of entries per block.
+     * @param values       maps the indices to the values.
+     * 
+     * @throws IOException if the file cannot be written.
+     */
+    static void write(final Path path,
+                      final Metric metric,
+                      final long entryCount,
+                      final int blockEntries,
+                      final LongToIntFunction values) throws IOException {
+        
+        Objects.requireNonNull(path, "The input path is null.");
+        Objects.requireNonNull(metric, "The input metric is null.");
+        Objects.requireNonNull(values, "The input values is null.");
+        
+        if (blockEntries < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad number of block entries: %d.",
+                                  blockEntries));
+        }
+        
+        if (entryCount < 0L
+                || getBlockCount(entryCount, blockEntries)
+                        >= Integer.MAX_VALUE) {
+            
+            throw new IllegalArgumentException(
+                    String.format("Bad number of entries: %d.", entryCount));
+        }
+        
+        final int blockCount = (int) getBlockCount(entryCount, blockEntries);
+        final long[] blockOffsets = new long[blockCount + 1];
+        final ByteBuffer header =
+                ByteBuffer.allocate(HEADER_SIZE
+                                  + blockOffsets.length * Long.BYTES)
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        
+        final ByteBuffer block =
+                ByteBuffer.allocate(blockEntries * Short.BYTES)
+                          .order(ByteOrder.LITTLE_ENDIAN);
+        
+        final byte[] compressed = new byte[block.capacity() + 64];
+        final Deflater deflater = new Deflater();
+        
+        try (final FileChannel channel =
+                FileChannel.open(path,
+                                 StandardOpenOption.CREATE,
+                                 StandardOpenOption.TRUNCATE_EXISTING,
+                                 StandardOpenOption.WRITE)) {
+            
+            long offset = header.capacity();
+            channel.position(offset);
+            
+            for (int blockIndex = 0; blockIndex < blockCount; blockIndex++) {
+                final long from = (long) blockIndex * blockEntries;
+                final long to = Math.min(entryCount, from + blockEntries);
+                
+                block.clear();
+                
+                for (long index = from; index < to; index++) {
+                    block.putShort((short) values.applyAsInt(index));
+                }
+                
+                block.flip();
+                deflater.reset();
+                deflater.setInput(block);
+                deflater.finish();
+                blockOffsets[blockIndex] = offset;
+                
+                while (!deflater.finished()) {
+                    final int length = deflater.deflate(compressed);
+                    offset += channel.write(
+                            ByteBuffer.wrap(compressed, 0, length));
+                }
+            }
+            
+            blockOffsets[blockCount] = offset;
+            
+            header.putInt(MAGIC)
+                  .putInt(VERSION)
+                  .putInt(metric.ordinal())
+                  .putInt(blockEntries)
+                  .putLong(entryCount)
+                  .putInt(blockCount)
+                  .putInt(0);
+            
+            for (final long blockOffset : blockOffsets) {
+                header.putLong(blockOffset);
+            }
+            
+            header.flip();
+            
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+    
+    static Path getPath(final Path directory,
+                        final String signature,
+                        final Metric metric) {
+        return directory.resolve(signature + "." + metric.getExtension());
+    }
+    
+    Metric getMetric() {
+        return metric;
+    }
+    
+    long getEntryCount() {
+        return entryCount;
+    }
+    
+    int getId() {
+        return id;
+    }
+    
+    /**
+     * Returns the value at {@code index}.
+     * 
+     * @param index the index.
+     * 
+     * @return the value.
+     * @throws UncheckedIOException if the block of {@code index} is corrupt.
+     */
+    short get(final long index) {
+        final short[] block =
+                blockCache.get(this, (int)(index / blockEntries));
+        
+        return block[(int)(index % blockEntries)];
+    }
+    
+    /**
+     * Inflates the block {@code block}. May be called concurrently.
+     * 
+     * @param block the index of the block.
+     * 
+     * @return the values of the block.
+     * @throws UncheckedIOException if the block is corrupt.
+     */
+    short[] decompress(final int block) {
+        final long from = (long) block * blockEntries;
+        final int entries = (int) Math.min(blockEntries, entryCount - from);
+        final byte[] bytes = new byte[entries * Short.BYTES];
+        final Inflater inflater = new Inflater();
+        
+        try {
+            inflater.setInput(
+                    buffer.slice((int) blockOffsets[block],
+                                 (int)(blockOffsets[block + 1]
+                                     - blockOffsets[block])));
+            
+            int length = 0;
+            
+            while (length < bytes.length && !inflater.finished()) {
+                final int inflated =
+                        inflater.inflate(bytes, length, bytes.length - length);
+                
+                if (inflated == 0 && inflater.needsInput()) {
+                    break;
+                }
+                
+                length += inflated;
+            }
+            
+            if (length != bytes.length) {
+                throw new DataFormatException("Truncated block.");
+            }
+        } catch (final DataFormatException ex) {
+            throw new UncheckedIOException(
+                    new IOException(
+                            String.format("Corrupt block %d of %s.",
+                                          block,
+                                          path),
+                            ex));
+        } finally {
+            inflater.end();
+        }
+        
+        final short[] values = new short[entries];
+        
+        ByteBuffer.wrap(bytes)
+                  .order(ByteOrder.LITTLE_ENDIAN)
+                  .asShortBuffer()
+                  .get(values);
+        
+        return values;
+    }
+    
+    /**
+     * Inflates the whole table bypassing the cache. Used by the
+     * {@link TablebaseGenerator} to look up the tables a capture or a
+     * promotion leads to.
+     * 
+     * @return the values of the table.
+     * @throws UncheckedIOException if a block is corrupt.
+     */
+    short[] readAll() {
+        if (entryCount > Integer.MAX_VALUE) {
+            throw new IllegalStateException(
+                    String.format("Too large table: %s.", path));
+        }
+        
+        final short[] values = new short[(int) entryCount];
+        
+        for (int block = 0; block < blockOffsets.length - 1; block++) {
+            final short[] blockValues = decompress(block);
+            
+            System.arraycopy(blockValues,
+                             0,
+                             values,
+                             block * blockEntries,
+                             blockValues.length);
+        }
+        
+        return values;
+    }
+    
+    @Override
+    public String toString() {
+        return path.toString();
+    }
+    
+    private static long getBlockCount(final long entryCount,
+                                      final int blockEntries) {
+        return (entryCount + blockEntries - 1L) / blockEntries;
+    }
+}
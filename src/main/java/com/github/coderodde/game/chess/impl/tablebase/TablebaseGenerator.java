@@ -0,0 +1,1428 @@
+package com.github.coderodde.game.chess.impl.tablebase;
+
+import com.github.coderodde.game.chess.PieceType;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * This class implements a generator of the {@link GeneratedTablebases} of
+ * small endgames by retrograde analysis. A table is generated after the
+ * tables its captures and promotions lead to, which the generator generates
+ * first if they are missing from the directory.
+ * <p>
+ * The generator keeps the value of each index of the table in a 16-bit
+ * entry: the kind of the value in the top three bits and the distance to the
+ * mate in the rest. The generation proceeds in passes over the chunks of the
+ * indices, the chunks processed in parallel:
+ * <ol>
+ *   <li>the initial pass marks the illegal positions, resolves the mates and
+ *       the stalemates and schedules the positions whose value a capture or
+ *       a promotion decides,</li>
+ *   <li>the pass {@code n} unmoves the positions resolved in the pass
+ *       {@code n - 1} from each of their symmetric images and marks the
+ *       predecessors as candidates in a bitset,</li>
+ *   <li>the candidates and the positions scheduled for the pass {@code n}
+ *       are then evaluated by their moves: a position wins in {@code n}
+ *       plies if a move leads to a loss in {@code n - 1} plies, and loses in
+ *       {@code n} plies if all its moves lead to wins the longest of which
+ *       takes {@code n - 1} plies.</li>
+ * </ol>
+ * Each pass reads only the values resolved by the previous passes, so the
+ * threads need no locking. The positions left unresolved are draws. Neither
+ * castling nor en passant is considered.
+ * <p>
+ * The generation holds the whole table in memory, two bytes per index, plus
+ * the tables the captures and the promotions lead to. The five-piece tables
+ * with pawns take about two gigabytes.
+ * 
+ * @version 1.0.0 (Oct 19, 2026)
+ * @since 1.0.0 (Oct 19, 2026)
+ */
+public final class TablebaseGenerator {
+    
+    /**
+     * The maximum number of pieces of a generated table, kings included.
+     */
+    public static final int MAXIMUM_PIECE_COUNT = 5;
+    
+    /**
+     * The number of indices per task. A multiple of 64 so that no two tasks
+     * share a word of the candidate bitset.
+     */
+    private static final int CHUNK_SIZE = 1 << 15;
+    
+    private static final int KIND_SHIFT = 13;
+    private static final int DISTANCE_MASK = (1 << KIND_SHIFT) - 1;
+    
+    private static final int UNKNOWN   = 0;
+    private static final int WIN       = 1;
+    private static final int LOSS      = 2;
+    private static final int DRAW      = 3;
+    private static final int ILLEGAL   = 4;
+    
+    /**
+     * The kind of the indices whose pieces of the same type and side are not
+     * in the ascending order of their squares. They take the value of the
+     * index with the squares sorted.
+     */
+    private static final int DUPLICATE = 5;
+    
+    private static final PieceType[] PIECE_TYPES = {
+        PieceType.QUEEN,
+        PieceType.ROOK,
+        PieceType.BISHOP,
+        PieceType.KNIGHT,
+        PieceType.PAWN,
+    };
+    
+    private static final PieceType[] PIECE_TYPE_VALUES = PieceType.values();
+    
+    private static final PieceType[] PROMOTION_PIECE_TYPES = {
+        PieceType.QUEEN,
+        PieceType.ROOK,
+        PieceType.BISHOP,
+        PieceType.KNIGHT,
+    };
+    
+    private static final int[] KING_OFFSETS = {
+        -1, -1,  0, -1,  1, -1,
+        -1,  0,          1,  0,
+        -1,  1,  0,  1,  1,  1,
+    };
+    
+    private static final int[] KNIGHT_OFFSETS = {
+        -1, -2,  1, -2,  -2, -1,  2, -1,
+        -2,  1,  2,  1,  -1,  2,  1,  2,
+    };
+    
+    private static final int[] BISHOP_OFFSETS = {
+        -1, -1,  1, -1,  -1,  1,  1,  1,
+    };
+    
+    private static final int[] ROOK_OFFSETS = {
+         0, -1,  -1,  0,  1,  0,  0,  1,
+    };
+    
+    private static final int[] QUEEN_OFFSETS = {
+        -1, -1,  1, -1,  -1,  1,  1,  1,
+         0, -1,  -1,  0,  1,  0,  0,  1,
+    };
+    
+    private final Path directory;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    
+    /**
+     * Constructs a generator writing the tables into {@code directory}.
+     * 
+     * @param directory the tablebase directory.
+     */
+    public TablebaseGenerator(final Path directory) {
+        this.directory =
+                Objects.requireNonNull(directory,
+                                       "The input directory is null.");
+    }
+    
+    public void setThreads(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Bad number of threads: %d.", threads));
+        }
+        
+        this.threads = threads;
+    }
+    
+    /**
+     * Generates the table {@code name}, such as {@code KRPvKR}, and the
+     * missing tables it depends on. Does nothing if the table exists.
+     * 
+     * @param name the name of the material signature.
+     * 
+     * @throws IOException if a table cannot be read or written.
+     * @throws IllegalArgumentException if {@code name} is malformed or has
+     *                                  too many pieces.
+     */
+    public void generate(final String name) throws IOException {
+        final MaterialSignature signature = MaterialSignature.parse(name);
+        
+        if (signature.getPieceCount() > MAXIMUM_PIECE_COUNT) {
+            throw new IllegalArgumentException(
+                    String.format("Bad material signature: %s.", name));
+        }
+        
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        
+        try {
+            generate(executor, signature);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    /**
+     * Generates all the missing tables of at most {@code maximumPieceCount}
+     * pieces.
+     * 
+     * @param maximumPieceCount the maximum number of pieces, kings included.
+     * 
+     * @throws IOException if a table cannot be read or written.
+     */
+    public void generateAll(final int maximumPieceCount) throws IOException {
+        if (maximumPieceCount < 2 || maximumPieceCount > MAXIMUM_PIECE_COUNT) {
+            throw new IllegalArgumentException(
+                    String.format("Bad maximum piece count: %d.",
+                                  maximumPieceCount));
+        }
+        
+        final List<List<PieceType>> sides = new ArrayList<>();
+        
+        addSides(sides,
+                 new ArrayList<>(List.of(PieceType.KING)),
+                 0,
+                 maximumPieceCount - 1);
+        
+        final Set<String> names = new LinkedHashSet<>();
+        
+        for (int pieceCount = 2;
+                pieceCount <= maximumPieceCount;
+                pieceCount++) {
+            
+            for (final List<PieceType> side : sides) {
+                for (final List<PieceType> otherSide : sides) {
+                    if (side.size() + otherSide.size() == pieceCount) {
+                        names.add(
+                                MaterialSignature.of(
+                                        side.toArray(PieceType[]::new),
+                                        otherSide.toArray(PieceType[]::new))
+                                                 .getName());
+                    }
+                }
+            }
+        }
+        
+        for (final String name : names) {
+            generate(name);
+        }
+    }
+    
+    /**
+     * Adds to {@code sides} the sides extending {@code side} by at most
+     * {@code remaining} pieces of the types from {@code firstType} on.
+     */
+    private static void addSides(final List<List<PieceType>> sides,
+                                 final List<PieceType> side,
+                                 final int firstType,
+                                 final int remaining) {
+        
+        sides.add(List.copyOf(side));
+        
+        if (remaining == 0) {
+            return;
+        }
+        
+        for (int type = firstType; type < PIECE_TYPES.length; type++) {
+            side.add(PIECE_TYPES[type]);
+            addSides(sides, side, type, remaining - 1);
+            side.remove(side.size() - 1);
+        }
+    }
+    
+    private void generate(final ExecutorService executor,
+                          final MaterialSignature signature)
+            throws IOException {
+        
+        final Path path = TablebaseFile.getPath(directory,
+                                                signature.getName(),
+                                                TablebaseFile.Metric.WDL);
+        if (Files.exists(path)) {
+            return;
+        }
+        
+        final Map<Long, SubTable> subTables = new HashMap<>();
+        
+        for (final MaterialSignature subSignature
+                : getSubSignatures(signature)) {
+            
+            generate(executor, subSignature);
+            load(subSignature, subTables);
+        }
+        
+        final Generation generation = new Generation(signature, subTables);
+        
+        generation.run(executor);
+        
+        TablebaseFile.write(
+                TablebaseFile.getPath(directory,
+                                      signature.getName(),
+                                      TablebaseFile.Metric.DTM),
+                TablebaseFile.Metric.DTM,
+                signature.getEntryCount(),
+                index -> generation.getFinalDistance((int) index));
+        
+        // The win/draw/loss table is written last and moved into place, so
+        // that its presence means the generation completed:
+        final Path temporaryPath =
+                path.resolveSibling(path.getFileName() + ".tmp");
+        
+        TablebaseFile.write(
+                temporaryPath,
+                TablebaseFile.Metric.WDL,
+                signature.getEntryCount(),
+                index -> generation.getFinalWinDrawLoss((int) index));
+        
+        Files.move(temporaryPath, path, StandardCopyOption.REPLACE_EXISTING);
+    }
+    
+    /**
+     * Returns the signatures the captures and the promotions of
+     * {@code signature} lead to.
+     */
+    private static Set<MaterialSignature>
+        getSubSignatures(final MaterialSignature signature) {
+        
+        final Set<String> names = new LinkedHashSet<>();
+        final Set<MaterialSignature> subSignatures = new LinkedHashSet<>();
+        final int pieceCount = signature.getPieceCount();
+        final int firstSidePieceCount = signature.getFirstSidePieceCount();
+        
+        for (int piece = 0; piece < pieceCount; piece++) {
+            final PieceType pieceType = signature.getPieceType(piece);
+            
+            if (pieceType == PieceType.KING) {
+                continue;
+            }
+            
+            final List<PieceType> side = new ArrayList<>();
+            final List<PieceType> otherSide = new ArrayList<>();
+            
+            for (int other = 0; other < pieceCount; other++) {
+                if (other != piece) {
+                    (other < firstSidePieceCount ? side : otherSide)
+                            .add(signature.getPieceType(other));
+                }
+            }
+            
+            addSubSignature(names, subSignatures, side, otherSide);
+            
+            if (pieceType != PieceType.PAWN) {
+                continue;
+            }
+            
+            final List<PieceType> promotingSide =
+                    piece < firstSidePieceCount ? side : otherSide;
+            
+            for (final PieceType promotionPieceType : PROMOTION_PIECE_TYPES) {
+                promotingSide.add(promotionPieceType);
+                addSubSignature(names, subSignatures, side, otherSide);
+                promotingSide.remove(promotingSide.size() - 1);
+            }
+        }
+        
+        return subSignatures;
+    }
+    
+    private static void addSubSignature(
+            final Set<String> names,
+            final Set<MaterialSignature> subSignatures,
+            final List<PieceType> side,
+            final List<PieceType> otherSide) {
+        
+        final MaterialSignature subSignature =
+                MaterialSignature.of(side.toArray(PieceType[]::new),
+                                     otherSide.toArray(PieceType[]::new));
+        
+        if (names.add(subSignature.getName())) {
+            subSignatures.add(subSignature);
+        }
+    }
+    
+    /**
+     * Reads the tables of {@code signature} into {@code subTables} under the
+     * material keys of both the orientations.
+     */
+    private void load(final MaterialSignature signature,
+                      final Map<Long, SubTable> subTables)
+            throws IOException {
+        
+        final BlockCache blockCache = new BlockCache(1);
+        final short[] winDrawLoss =
+                TablebaseFile.open(
+                        TablebaseFile.getPath(directory,
+                                              signature.getName(),
+                                              TablebaseFile.Metric.WDL),
+                        blockCache).readAll();
+        
+        final short[] distances =
+                TablebaseFile.open(
+                        TablebaseFile.getPath(directory,
+                                              signature.getName(),
+                                              TablebaseFile.Metric.DTM),
+                        blockCache).readAll();
+        
+        if (winDrawLoss.length != signature.getEntryCount()
+                || distances.length != signature.getEntryCount()) {
+            
+            throw new IOException(
+                    String.format("Bad tablebase file: %s.", signature));
+        }
+        
+        subTables.put(signature.getMaterialKey(false),
+                      new SubTable(signature, winDrawLoss, distances, false));
+        
+        if (!signature.isSymmetric()) {
+            subTables.put(signature.getMaterialKey(true),
+                          new SubTable(signature,
+                                       winDrawLoss,
+                                       distances,
+                                       true));
+        }
+    }
+    
+    private static int encode(final int kind, final int distance) {
+        if (distance > DISTANCE_MASK) {
+            throw new IllegalStateException(
+                    String.format("Too long distance: %d.", distance));
+        }
+        
+        return (kind << KIND_SHIFT) | distance;
+    }
+    
+    private static int getKind(final int entry) {
+        return (entry & 0xffff) >>> KIND_SHIFT;
+    }
+    
+    private static int getDistance(final int entry) {
+        return entry & DISTANCE_MASK;
+    }
+    
+    /**
+     * This class holds a loaded table of a capture or a promotion as seen
+     * from one of the sides.
+     */
+    private static final class SubTable {
+        
+        final MaterialSignature signature;
+        final short[] winDrawLoss;
+        final short[] distances;
+        final boolean firstSideIsBlack;
+        
+        SubTable(final MaterialSignature signature,
+                 final short[] winDrawLoss,
+                 final short[] distances,
+                 final boolean firstSideIsBlack) {
+            
+            this.signature        = signature;
+            this.winDrawLoss      = winDrawLoss;
+            this.distances        = distances;
+            this.firstSideIsBlack = firstSideIsBlack;
+        }
+    }
+    
+    /**
+     * This class holds the state of the generation of a table.
+     */
+    private static final class Generation {
+        
+        /**
+         * This interface specifies a task over a chunk of the indices.
+         */
+        @FunctionalInterface
+        private interface ChunkTask {
+            
+            /**
+             * Processes the indices from {@code from} inclusive to {@code to}
+             * exclusive.
+             * 
+             * @return the number of resolved indices.
+             */
+            long run(Worker worker, int from, int to);
+        }
+        
+        private final MaterialSignature signature;
+        private final Map<Long, SubTable> subTables;
+        private final PieceType[] pieceTypes;
+        private final int firstSidePieceCount;
+        
+        /**
+         * Whether each piece is of the same type and side as the previous
+         * one.
+         */
+        private final boolean[] sameAsPrevious;
+        
+        /**
+         * The symmetries of the board as the mask to exclusive-or the squares
+         * with, plus {@code 64} if the squares are transposed first.
+         */
+        private final int[] symmetries;
+        
+        private final short[] entries;
+        private final AtomicLongArray candidates;
+        private final AtomicInteger lastScheduledPass = new AtomicInteger();
+        private final Worker writer;
+        
+        Generation(final MaterialSignature signature,
+                   final Map<Long, SubTable> subTables) {
+            
+            this.signature = signature;
+            this.subTables = subTables;
+            this.pieceTypes = new PieceType[signature.getPieceCount()];
+            this.firstSidePieceCount = signature.getFirstSidePieceCount();
+            this.sameAsPrevious = new boolean[pieceTypes.length];
+            
+            for (int piece = 0; piece < pieceTypes.length; piece++) {
+                pieceTypes[piece] = signature.getPieceType(piece);
+                sameAsPrevious[piece] =
+                        piece > 0
+                        && piece != firstSidePieceCount
+                        && pieceTypes[piece] == pieceTypes[piece - 1];
+            }
+            
+            this.symmetries = signature.hasPawns() ?
+                              new int[] { 0, 7 } :
+                              new int[] { 0, 7, 56, 63, 64, 71, 120, 127 };
+            
+            if (signature.getEntryCount() > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException(
+                        String.format("Too large table: %s.", signature));
+            }
+            
+            this.entries = new short[(int) signature.getEntryCount()];
+            this.candidates = new AtomicLongArray((entries.length + 63) / 64);
+            this.writer = new Worker();
+        }
+        
+        void run(final ExecutorService executor) {
+            runChunks(executor, this::initialize);
+            
+            for (int pass = 1; ; pass++) {
+                final int currentPass = pass;
+                
+                runChunks(executor,
+                          (worker, from, to) ->
+                                  markCandidates(worker,
+                                                 from,
+                                                 to,
+                                                 currentPass));
+                
+                final long resolved =
+                        runChunks(executor,
+                                  (worker, from, to) ->
+                                          resolve(worker,
+                                                  from,
+                                                  to,
+                                                  currentPass));
+                
+                if (resolved == 0L && pass >= lastScheduledPass.get()) {
+                    return;
+                }
+            }
+        }
+        
+        int getFinalWinDrawLoss(final int index) {
+            final int entry = getFinalEntry(index);
+            
+            switch (getKind(entry)) {
+                case WIN:
+                    return 1;
+                
+                case LOSS:
+                    return -1;
+                
+                case ILLEGAL:
+                    return TablebaseFile.ILLEGAL;
+                
+                default:
+                    return 0;
+            }
+        }
+        
+        int getFinalDistance(final int index) {
+            final int entry = getFinalEntry(index);
+            
+            switch (getKind(entry)) {
+                case WIN:
+                case LOSS:
+                    return getDistance(entry);
+                
+                case ILLEGAL:
+                    return TablebaseFile.ILLEGAL;
+                
+                default:
+                    return 0;
+            }
+        }
+        
+        /**
+         * Returns the entry of {@code index} after the generation, resolving
+         * the duplicates. Called by the writing thread only.
+         */
+        private int getFinalEntry(final int index) {
+            final int entry = entries[index];
+            
+            if (getKind(entry) != DUPLICATE) {
+                return entry;
+            }
+            
+            final boolean firstSideToMove =
+                    signature.decode(index, writer.squares);
+            
+            return entries[writer.getIndex(firstSideToMove)];
+        }
+        
+        private long runChunks(final ExecutorService executor,
+                               final ChunkTask task) {
+            
+            final List<Callable<Long>> tasks = new ArrayList<>();
+            
+            for (int from = 0; from < entries.length; from += CHUNK_SIZE) {
+                final int chunkFrom = from;
+                final int chunkTo = Math.min(entries.length,
+                                             from + CHUNK_SIZE);
+                
+                tasks.add(() -> task.run(new Worker(), chunkFrom, chunkTo));
+            }
+            
+            long total = 0L;
+            
+            try {
+                for (final Future<Long> future : executor.invokeAll(tasks)) {
+                    total += future.get();
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(
+                        "The generation was interrupted.", ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) ex.getCause();
+                }
+                
+                throw new IllegalStateException(ex.getCause());
+            }
+            
+            return total;
+        }
+        
+        /**
+         * Marks the illegal positions and the duplicates, resolves the mates
+         * and the stalemates and schedules the positions decided by a
+         * capture or a promotion.
+         */
+        private long initialize(final Worker worker,
+                                final int from,
+                                final int to) {
+            long resolved = 0L;
+            
+            for (int index = from; index < to; index++) {
+                final boolean firstSideToMove =
+                        signature.decode(index, worker.squares);
+                
+                final int entry;
+                
+                if (!worker.load()
+                        || worker.isInCheck(!firstSideToMove)) {
+                    entry = encode(ILLEGAL, 0);
+                } else if (!worker.isCanonical()) {
+                    entry = encode(DUPLICATE, 0);
+                } else {
+                    entry = worker.evaluate(firstSideToMove,
+                                            encode(UNKNOWN, 0),
+                                            0);
+                }
+                
+                entries[index] = (short) entry;
+                
+                if (getKind(entry) != UNKNOWN) {
+                    resolved++;
+                }
+            }
+            
+            return resolved;
+        }
+        
+        /**
+         * Marks the unresolved predecessors of the positions resolved in the
+         * pass {@code pass - 1}.
+         */
+        private long markCandidates(final Worker worker,
+                                    final int from,
+                                    final int to,
+                                    final int pass) {
+            
+            for (int index = from; index < to; index++) {
+                final int entry = entries[index];
+                final int kind = getKind(entry);
+                
+                if ((kind != WIN && kind != LOSS)
+                        || getDistance(entry) != pass - 1) {
+                    continue;
+                }
+                
+                final boolean firstSideToMove =
+                        signature.decode(index, worker.squares);
+                
+                System.arraycopy(worker.squares,
+                                 0,
+                                 worker.resolvedSquares,
+                                 0,
+                                 pieceTypes.length);
+                
+                for (final int symmetry : symmetries) {
+                    for (int piece = 0; piece < pieceTypes.length; piece++) {
+                        final int square = worker.resolvedSquares[piece];
+                        
+                        worker.squares[piece] =
+                                ((symmetry & 64) != 0 ?
+                                        (square & 7) * 8 + (square >>> 3) :
+                                        square)
+                                ^ (symmetry & 63);
+                    }
+                    
+                    worker.load();
+                    worker.markPredecessors(!firstSideToMove);
+                }
+            }
+            
+            return 0L;
+        }
+        
+        /**
+         * Evaluates the candidates and the positions scheduled for the pass
+         * {@code pass}.
+         */
+        private long resolve(final Worker worker,
+                             final int from,
+                             final int to,
+                             final int pass) {
+            long resolved = 0L;
+            
+            for (int index = from; index < to; index++) {
+                final int entry = entries[index];
+                
+                if (getKind(entry) != UNKNOWN) {
+                    continue;
+                }
+                
+                final boolean candidate =
+                        (candidates.get(index >>> 6) & (1L << index)) != 0L;
+                
+                if (!candidate && getDistance(entry) != pass) {
+                    continue;
+                }
+                
+                final boolean firstSideToMove =
+                        signature.decode(index, worker.squares);
+                
+                worker.load();
+                
+                final int value =
+                        worker.evaluate(firstSideToMove, entry, pass);
+                
+                entries[index] = (short) value;
+                
+                if (getKind(value) != UNKNOWN) {
+                    resolved++;
+                }
+            }
+            
+            for (int word = from >>> 6; word < (to + 63) >>> 6; word++) {
+                candidates.set(word, 0L);
+            }
+            
+            return resolved;
+        }
+        
+        private boolean isFirstSide(final int piece) {
+            return piece < firstSidePieceCount;
+        }
+        
+        /**
+         * This class holds the scratch arrays of a thread: a position given
+         * by the squares of its pieces and the board of the piece on each
+         * square.
+         */
+        private final class Worker {
+            
+            final int[] squares = new int[pieceTypes.length];
+            final int[] resolvedSquares = new int[pieceTypes.length];
+            final int[] indexSquares = new int[pieceTypes.length];
+            final int[] board = new int[MaterialSignature.SQUARES];
+            
+            /**
+             * The moves as the piece, the target square and the promotion
+             * piece type ordinal plus one.
+             */
+            final int[] moves = new int[256 * 3];
+            
+            /**
+             * The piece codes and the scratch squares of the positions after
+             * a capture or a promotion by their number of pieces.
+             */
+            final int[][] exitPieces = new int[pieceTypes.length + 1][];
+            final int[][] exitSquares = new int[pieceTypes.length + 1][];
+            
+            Worker() {
+                for (int count = 0; count <= pieceTypes.length; count++) {
+                    exitPieces[count] = new int[count];
+                    exitSquares[count] = new int[count];
+                }
+            }
+            
+            /**
+             * Places the pieces of {@link #squares} on the board.
+             * 
+             * @return {@code false} if two pieces share a square or a pawn is
+             *         on a back rank.
+             */
+            boolean load() {
+                Arrays.fill(board, -1);
+                
+                boolean legal = true;
+                
+                for (int piece = 0; piece < pieceTypes.length; piece++) {
+                    final int square = squares[piece];
+                    
+                    if (board[square] >= 0) {
+                        legal = false;
+                    }
+                    
+                    if (pieceTypes[piece] == PieceType.PAWN
+                            && (square < 8 || square >= 56)) {
+                        legal = false;
+                    }
+                    
+                    board[square] = piece;
+                }
+                
+                return legal;
+            }
+            
+            boolean isCanonical() {
+                for (int piece = 1; piece < pieceTypes.length; piece++) {
+                    if (sameAsPrevious[piece]
+                            && squares[piece] < squares[piece - 1]) {
+                        return false;
+                    }
+                }
+                
+                return true;
+            }
+            
+            boolean isInCheck(final boolean firstSide) {
+                return isAttacked(squares[firstSide ? 0 : firstSidePieceCount],
+                                  !firstSide);
+            }
+            
+            /**
+             * Returns the canonical index of {@link #squares}.
+             */
+            int getIndex(final boolean firstSideToMove) {
+                System.arraycopy(squares,
+                                 0,
+                                 indexSquares,
+                                 0,
+                                 indexSquares.length);
+                
+                long index = signature.getIndex(indexSquares, firstSideToMove);
+                boolean sorted = true;
+                
+                // The squares are now reduced by the symmetries, so sorting
+                // the pieces of a kind does not change the reduction:
+                for (int piece = 1; piece < indexSquares.length; piece++) {
+                    for (int other = piece;
+                            other > 0
+                            && sameAsPrevious[other]
+                            && indexSquares[other] < indexSquares[other - 1];
+                            other--) {
+                        
+                        final int square = indexSquares[other];
+                        indexSquares[other] = indexSquares[other - 1];
+                        indexSquares[other - 1] = square;
+                        sorted = false;
+                    }
+                }
+                
+                if (!sorted) {
+                    index = signature.getIndex(indexSquares, firstSideToMove);
+                }
+                
+                return (int) index;
+            }
+            
+            /**
+             * Evaluates the loaded position by its moves.
+             * 
+             * @param firstSideToMove whether the first side is to move.
+             * @param entry           the current entry of the position.
+             * @param pass            the current pass.
+             * 
+             * @return the new entry of the position.
+             */
+            int evaluate(final boolean firstSideToMove,
+                         final int entry,
+                         final int pass) {
+                
+                final int moveCount = generateMoves(firstSideToMove);
+                int legalMoveCount = 0;
+                int shortestWin = Integer.MAX_VALUE;
+                int longestLoss = -1;
+                boolean allMovesLose = true;
+                
+                for (int move = 0; move < moveCount; move++) {
+                    final int value = makeMove(move, firstSideToMove, pass);
+                    
+                    if (value < 0) {
+                        continue;
+                    }
+                    
+                    legalMoveCount++;
+                    
+                    switch (getKind(value)) {
+                        case LOSS:
+                            shortestWin = Math.min(shortestWin,
+                                                   getDistance(value) + 1);
+                            allMovesLose = false;
+                            break;
+                        
+                        case WIN:
+                            longestLoss = Math.max(longestLoss,
+                                                   getDistance(value) + 1);
+                            break;
+                        
+                        default:
+                            allMovesLose = false;
+                    }
+                }
+                
+                if (legalMoveCount == 0) {
+                    return isInCheck(firstSideToMove) ? encode(LOSS, 0) :
+                                                        encode(DRAW, 0);
+                }
+                
+                final int kind;
+                final int distance;
+                
+                if (shortestWin != Integer.MAX_VALUE) {
+                    kind = WIN;
+                    distance = shortestWin;
+                } else if (allMovesLose) {
+                    kind = LOSS;
+                    distance = longestLoss;
+                } else {
+                    return entry;
+                }
+                
+                if (distance == pass) {
+                    return encode(kind, distance);
+                }
+                
+                if (distance < pass) {
+                    throw new IllegalStateException(
+                            String.format("Missed position in %s.",
+                                          signature));
+                }
+                
+                final int scheduledPass = getDistance(entry);
+                
+                lastScheduledPass.accumulateAndGet(distance, Math::max);
+                
+                return encode(UNKNOWN,
+                              scheduledPass == 0 ?
+                                      distance :
+                                      Math.min(scheduledPass, distance));
+            }
+            
+            /**
+             * Makes the move {@code move} and returns the entry of the
+             * resulting position for the opponent, or {@code -1} if the move
+             * is illegal. The entries of the positions within the table
+             * count only if resolved before the pass {@code pass}.
+             */
+            private int makeMove(final int move,
+                                 final boolean firstSideToMove,
+                                 final int pass) {
+                
+                final int piece = moves[3 * move];
+                final int target = moves[3 * move + 1];
+                final int promotion = moves[3 * move + 2];
+                final int source = squares[piece];
+                final int captured = board[target];
+                
+                if (captured >= 0
+                        && pieceTypes[captured] == PieceType.KING) {
+                    return -1;
+                }
+                
+                board[source] = -1;
+                board[target] = piece;
+                squares[piece] = target;
+                
+                if (captured >= 0) {
+                    squares[captured] = -1;
+                }
+                
+                int value = -1;
+                
+                if (!isInCheck(firstSideToMove)) {
+                    if (captured < 0 && promotion == 0) {
+                        value = entries[getIndex(!firstSideToMove)] & 0xffff;
+                        
+                        final int kind = getKind(value);
+                        
+                        if ((kind != WIN && kind != LOSS)
+                                || getDistance(value) >= pass) {
+                            value = encode(UNKNOWN, 0);
+                        }
+                    } else {
+                        value = probeExit(piece,
+                                          promotion,
+                                          captured >= 0,
+                                          firstSideToMove);
+                    }
+                }
+                
+                squares[piece] = source;
+                board[source] = piece;
+                board[target] = captured;
+                
+                if (captured >= 0) {
+                    squares[captured] = target;
+                }
+                
+                return value;
+            }
+            
+            /**
+             * Looks up the position after a capture or a promotion in its
+             * table.
+             */
+            private int probeExit(final int movedPiece,
+                                  final int promotion,
+                                  final boolean capture,
+                                  final boolean firstSideMoved) {
+                
+                final int count = pieceTypes.length - (capture ? 1 : 0);
+                final int[] pieces = exitPieces[count];
+                int pieceCount = 0;
+                
+                for (int piece = 0; piece < pieceTypes.length; piece++) {
+                    if (squares[piece] < 0) {
+                        continue;
+                    }
+                    
+                    final PieceType pieceType =
+                            piece == movedPiece && promotion != 0 ?
+                            PIECE_TYPE_VALUES[promotion - 1] :
+                            pieceTypes[piece];
+                    
+                    pieces[pieceCount++] =
+                            MaterialSignature.encodePiece(isFirstSide(piece),
+                                                          pieceType,
+                                                          squares[piece]);
+                }
+                
+                final SubTable subTable =
+                        subTables.get(MaterialSignature.getMaterialKey(pieces));
+                
+                if (subTable == null) {
+                    throw new IllegalStateException(
+                            String.format("Missing table of %s.", signature));
+                }
+                
+                Arrays.sort(pieces);
+                
+                final int index =
+                        (int) subTable.signature
+                                      .getIndex(pieces,
+                                                subTable.firstSideIsBlack,
+                                                firstSideMoved,
+                                                exitSquares[count]);
+                
+                final short winDrawLoss = subTable.winDrawLoss[index];
+                
+                if (winDrawLoss == TablebaseFile.ILLEGAL) {
+                    throw new IllegalStateException(
+                            String.format("Illegal exit from %s.", signature));
+                }
+                
+                return winDrawLoss > 0 ?
+                       encode(WIN, subTable.distances[index]) :
+                       winDrawLoss < 0 ?
+                       encode(LOSS, subTable.distances[index]) :
+                       encode(DRAW, 0);
+            }
+            
+            /**
+             * Generates the pseudo-legal moves of the loaded position into
+             * {@link #moves}.
+             * 
+             * @return the number of moves.
+             */
+            private int generateMoves(final boolean firstSide) {
+                int moveCount = 0;
+                
+                for (int piece = 0; piece < pieceTypes.length; piece++) {
+                    if (isFirstSide(piece) != firstSide) {
+                        continue;
+                    }
+                    
+                    final int square = squares[piece];
+                    
+                    switch (pieceTypes[piece]) {
+                        case KING:
+                            moveCount = addSteps(piece,
+                                                 KING_OFFSETS,
+                                                 false,
+                                                 moveCount);
+                            break;
+                        
+                        case KNIGHT:
+                            moveCount = addSteps(piece,
+                                                 KNIGHT_OFFSETS,
+                                                 false,
+                                                 moveCount);
+                            break;
+                        
+                        case BISHOP:
+                            moveCount = addSteps(piece,
+                                                 BISHOP_OFFSETS,
+                                                 true,
+                                                 moveCount);
+                            break;
+                        
+                        case ROOK:
+                            moveCount = addSteps(piece,
+                                                 ROOK_OFFSETS,
+                                                 true,
+                                                 moveCount);
+                            break;
+                        
+                        case QUEEN:
+                            moveCount = addSteps(piece,
+                                                 QUEEN_OFFSETS,
+                                                 true,
+                                                 moveCount);
+                            break;
+                        
+                        case PAWN:
+                            moveCount = addPawnMoves(piece,
+                                                     square,
+                                                     firstSide,
+                                                     moveCount);
+                            break;
+                    }
+                }
+                
+                return moveCount;
+            }
+            
+            private int addSteps(final int piece,
+                                 final int[] offsets,
+                                 final boolean slides,
+                                 int moveCount) {
+                
+                final int square = squares[piece];
+                
+                for (int offset = 0; offset < offsets.length; offset += 2) {
+                    int file = (square & 7) + offsets[offset];
+                    int rank = (square >>> 3) + offsets[offset + 1];
+                    
+                    while (file >= 0 && file < 8 && rank >= 0 && rank < 8) {
+                        final int target = rank * 8 + file;
+                        final int occupant = board[target];
+                        
+                        if (occupant >= 0
+                                && isFirstSide(occupant)
+                                        == isFirstSide(piece)) {
+                            break;
+                        }
+                        
+                        moveCount = addMove(piece, target, 0, moveCount);
+                        
+                        if (occupant >= 0 || !slides) {
+                            break;
+                        }
+                        
+                        file += offsets[offset];
+                        rank += offsets[offset + 1];
+                    }
+                }
+                
+                return moveCount;
+            }
+            
+            /**
+             * Adds the moves of a pawn. The pawns of the first side advance
+             * towards the rank zero.
+             */
+            private int addPawnMoves(final int piece,
+                                     final int square,
+                                     final boolean firstSide,
+                                     int moveCount) {
+                
+                final int forward = firstSide ? -8 : 8;
+                final int target = square + forward;
+                final int file = square & 7;
+                
+                if (board[target] < 0) {
+                    moveCount = addPawnMove(piece, target, moveCount);
+                    
+                    final int startRank = firstSide ? 6 : 1;
+                    
+                    if ((square >>> 3) == startRank
+                            && board[target + forward] < 0) {
+                        moveCount = addMove(piece,
+                                            target + forward,
+                                            0,
+                                            moveCount);
+                    }
+                }
+                
+                for (int side = -1; side <= 1; side += 2) {
+                    if (file + side < 0 || file + side > 7) {
+                        continue;
+                    }
+                    
+                    final int occupant = board[target + side];
+                    
+                    if (occupant >= 0 && isFirstSide(occupant) != firstSide) {
+                        moveCount = addPawnMove(piece,
+                                                target + side,
+                                                moveCount);
+                    }
+                }
+                
+                return moveCount;
+            }
+            
+            private int addPawnMove(final int piece,
+                                    final int target,
+                                    int moveCount) {
+                
+                if (target >= 8 && target < 56) {
+                    return addMove(piece, target, 0, moveCount);
+                }
+                
+                for (final PieceType pieceType : PROMOTION_PIECE_TYPES) {
+                    moveCount = addMove(piece,
+                                        target,
+                                        pieceType.ordinal() + 1,
+                                        moveCount);
+                }
+                
+                return moveCount;
+            }
+            
+            private int addMove(final int piece,
+                                final int target,
+                                final int promotion,
+                                final int moveCount) {
+                
+                moves[3 * moveCount]     = piece;
+                moves[3 * moveCount + 1] = target;
+                moves[3 * moveCount + 2] = promotion;
+                
+                return moveCount + 1;
+            }
+            
+            /**
+             * Marks the canonical indices of the unresolved positions that
+             * reach the loaded position by a move of a piece of the side
+             * {@code firstSideMoved} to an empty square.
+             */
+            void markPredecessors(final boolean firstSideMoved) {
+                for (int piece = 0; piece < pieceTypes.length; piece++) {
+                    if (isFirstSide(piece) != firstSideMoved) {
+                        continue;
+                    }
+                    
+                    switch (pieceTypes[piece]) {
+                        case KING:
+                            markOrigins(piece, KING_OFFSETS, false);
+                            break;
+                        
+                        case KNIGHT:
+                            markOrigins(piece, KNIGHT_OFFSETS, false);
+                            break;
+                        
+                        case BISHOP:
+                            markOrigins(piece, BISHOP_OFFSETS, true);
+                            break;
+                        
+                        case ROOK:
+                            markOrigins(piece, ROOK_OFFSETS, true);
+                            break;
+                        
+                        case QUEEN:
+                            markOrigins(piece, QUEEN_OFFSETS, true);
+                            break;
+                        
+                        case PAWN:
+                            markPawnOrigins(piece, firstSideMoved);
+                            break;
+                    }
+                }
+            }
+            
+            private void markOrigins(final int piece,
+                                     final int[] offsets,
+                                     final boolean slides) {
+                
+                final int square = squares[piece];
+                
+                for (int offset = 0; offset < offsets.length; offset += 2) {
+                    int file = (square & 7) + offsets[offset];
+                    int rank = (square >>> 3) + offsets[offset + 1];
+                    
+                    while (file >= 0 && file < 8 && rank >= 0 && rank < 8) {
+                        final int origin = rank * 8 + file;
+                        
+                        if (board[origin] >= 0) {
+                            break;
+                        }
+                        
+                        markOrigin(piece, origin);
+                        
+                        if (!slides) {
+                            break;
+                        }
+                        
+                        file += offsets[offset];
+                        rank += offsets[offset + 1];
+                    }
+                }
+            }
+            
+            private void markPawnOrigins(final int piece,
+                                         final boolean firstSide) {
+                
+                final int backward = firstSide ? 8 : -8;
+                final int square = squares[piece];
+                final int origin = square + backward;
+                
+                if (origin < 8 || origin >= 56 || board[origin] >= 0) {
+                    return;
+                }
+                
+                markOrigin(piece, origin);
+                
+                final int doubleStepRank = firstSide ? 4 : 3;
+                
+                if ((square >>> 3) == doubleStepRank
+                        && board[origin + backward] < 0) {
+                    markOrigin(piece, origin + backward);
+                }
+            }
+            
+            private void markOrigin(final int piece, final int origin) {
+                final int square = squares[piece];
+                
+                squares[piece] = origin;
+                
+                final int index = getIndex(isFirstSide(piece));
+                
+                squares[piece] = square;
+                
+                if (getKind(entries[index]) == UNKNOWN) {
+                    candidates.getAndUpdate(index >>> 6,
+                                            word -> word | (1L << index));
+                }
+            }
+            
+            private boolean isAttacked(final int target,
+                                       final boolean byFirstSide) {
+                
+                for (int piece = 0; piece < pieceTypes.length; piece++) {
+                    if (isFirstSide(piece) == byFirstSide
+                            && squares[piece] >= 0
+                            && attacks(piece, target)) {
+                        return true;
+                    }
+                }
+                
+                return false;
+            }
+            
+            private boolean attacks(final int piece, final int target) {
+                final int source = squares[piece];
+                final int fileDelta = (target & 7) - (source & 7);
+                final int rankDelta = (target >>> 3) - (source >>> 3);
+                final int absoluteFileDelta = Math.abs(fileDelta);
+                final int absoluteRankDelta = Math.abs(rankDelta);
+                
+                switch (pieceTypes[piece]) {
+                    case KING:
+                        return Math.max(absoluteFileDelta,
+                                        absoluteRankDelta) == 1;
+                    
+                    case KNIGHT:
+                        return absoluteFileDelta * absoluteRankDelta == 2;
+                    
+                    case PAWN:
+                        return absoluteFileDelta == 1
+                            && rankDelta == (isFirstSide(piece) ? -1 : 1);
+                    
+                    case BISHOP:
+                        return absoluteFileDelta == absoluteRankDelta
+                            && isPathClear(source, fileDelta, rankDelta);
+                    
+                    case ROOK:
+                        return (fileDelta == 0 || rankDelta == 0)
+                            && isPathClear(source, fileDelta, rankDelta);
+                    
+                    case QUEEN:
+                        return (fileDelta == 0
+                                    || rankDelta == 0
+                                    || absoluteFileDelta == absoluteRankDelta)
+                            && isPathClear(source, fileDelta, rankDelta);
+                    
+                    default:
+                        return false;
+                }
+            }
+            
+            private boolean isPathClear(final int source,
+                                        final int fileDelta,
+                                        final int rankDelta) {
+                
+                final int steps = Math.max(Math.abs(fileDelta),
+                                           Math.abs(rankDelta));
+                
+                if (steps == 0) {
+                    return false;
+                }
+                
+                final int step =
+                        Integer.signum(rankDelta) * 8
+                        + Integer.signum(fileDelta);
+                
+                for (int i = 1, square = source + step;
+                        i < steps;
+                        i++, square += step) {
+                    
+                    if (board[square] >= 0) {
+                        return false;
+                    }
+                }
+                
+                return true;
+            }
+        }
+    }
+}
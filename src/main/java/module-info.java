@@ -1,3 +1,5 @@
 module ChessJava {
+    requires jdk.jfr;
+    requires static jdk.incubator.vector;
     exports com.github.coderodde.game.chess;
 }
@@ -127,4 +127,118 @@ public final class ChessBoardStateTest {
         
         assertFalse(checkMate);
     }
+    
+    @Test
+    public void makeAndUnmakeNullMove() {
+        state.markWhitePawnInitialDoubleMove(2);
+        state.markBlackPawnInitialDoubleMove(7);
+        
+        final int savedFlags = state.makeNullMove();
+        
+        for (int file = 0; file < ChessBoardState.N; file++) {
+            assertFalse(state.getWhiteIsPreviouslyDoubleMoved()[file]);
+            assertFalse(state.getBlackIsPreviouslyDoubleMoved()[file]);
+        }
+        
+        state.unmakeNullMove(savedFlags);
+        
+        for (int file = 0; file < ChessBoardState.N; file++) {
+            assertEquals(file == 2, state.getWhiteIsPreviouslyDoubleMoved()[file]);
+            assertEquals(file == 7, state.getBlackIsPreviouslyDoubleMoved()[file]);
+        }
+    }
+    
+    @Test
+    public void copyDoesNotClearDoubleMoveFlagsOfOriginal() {
+        state.markBlackPawnInitialDoubleMove(4);
+        
+        final ChessBoardState copy = new ChessBoardState(state);
+        
+        assertTrue(state.getBlackIsPreviouslyDoubleMoved()[4]);
+        assertFalse(copy.getBlackIsPreviouslyDoubleMoved()[4]);
+    }
+    
+    @Test
+    public void copyOfKeepsDoubleMoveFlags() {
+        state.markWhitePawnInitialDoubleMove(2);
+        state.markBlackPawnInitialDoubleMove(4);
+        
+        final ChessBoardState copy = ChessBoardState.copyOf(state);
+        
+        assertTrue(copy.strongEquals(state));
+        assertTrue(copy.getWhiteIsPreviouslyDoubleMoved()[2]);
+        assertTrue(copy.getBlackIsPreviouslyDoubleMoved()[4]);
+        assertFalse(new ChessBoardState(state).strongEquals(state));
+    }
+    
+    @Test
+    public void expandKeepsDoubleMoveFlagsOfParent() {
+        final ChessBoardState parent = new ChessBoardState();
+        
+        parent.markWhitePawnInitialDoubleMove(2);
+        parent.markBlackPawnInitialDoubleMove(7);
+        
+        final ChessBoardState copy = ChessBoardState.copyOf(parent);
+        boolean doubleMoveFound = false;
+        
+        for (final ChessBoardState child : parent.expand(PlayerTurn.BLACK)) {
+            assertFalse(child.getWhiteIsPreviouslyDoubleMoved()[2]);
+            
+            // Only the double move to the child itself is marked in it:
+            for (int file = 0; file < ChessBoardState.N; file++) {
+                if (child.getBlackIsPreviouslyDoubleMoved()[file]) {
+                    assertEquals(file, 
+                                 ChessMove.of(parent, child).getSourceFile());
+                    
+                    assertTrue(
+                            ChessBoardState.copyOf(child).strongEquals(child));
+                    doubleMoveFound = true;
+                }
+            }
+        }
+        
+        assertTrue(doubleMoveFound);
+        assertTrue(parent.strongEquals(copy));
+        assertTrue(parent.getWhiteIsPreviouslyDoubleMoved()[2]);
+        assertTrue(parent.getBlackIsPreviouslyDoubleMoved()[7]);
+    }
+    
+    @Test
+    public void maintainsMaterialAndPawnKey() {
+        final ChessBoardState board = new ChessBoardState();
+        
+        assertEquals(0.0, board.getMaterialScore(), 0.0);
+        
+        final long initialPawnKey = board.getPawnKey();
+        final Piece whitePawn = board.get(4, 6);
+        
+        board.move(4, 6, 4, 4);
+        
+        assertNotEquals(initialPawnKey, board.getPawnKey());
+        
+        board.move(4, 4, 4, 6);
+        
+        assertEquals(initialPawnKey, board.getPawnKey());
+        
+        // A knight move leaves the pawn key intact:
+        board.move(1, 7, 2, 5);
+        
+        assertEquals(initialPawnKey, board.getPawnKey());
+        
+        // Capture the black queen:
+        board.set(3, 0, whitePawn);
+        
+        assertEquals(-10.0, board.getMaterialScore(), 0.0);
+        assertNotEquals(initialPawnKey, board.getPawnKey());
+        
+        final ChessBoardState copy = new ChessBoardState(board);
+        
+        assertEquals(board.getMaterialScore(), copy.getMaterialScore(), 0.0);
+        assertEquals(board.getPawnKey(), copy.getPawnKey());
+        
+        board.clear();
+        
+        assertEquals(0.0, board.getMaterialScore(), 0.0);
+        assertEquals(0L, board.getPawnKey());
+    }
 }
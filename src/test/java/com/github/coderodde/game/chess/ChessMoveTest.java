@@ -0,0 +1,97 @@
+package com.github.coderodde.game.chess;
+
+import static com.github.coderodde.game.chess.PieceColor.BLACK;
+import static com.github.coderodde.game.chess.PieceColor.WHITE;
+import static com.github.coderodde.game.chess.PieceType.KNIGHT;
+import static com.github.coderodde.game.chess.PieceType.PAWN;
+import static com.github.coderodde.game.chess.PieceType.QUEEN;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class ChessMoveTest {
+    
+    @Test
+    public void quietMove() {
+        final ChessBoardState parent = new ChessBoardState();
+        final ChessBoardState child = new ChessBoardState(parent);
+        
+        child.move(4, 6, 4, 4);
+        
+        final ChessMove move = ChessMove.of(parent, child);
+        
+        assertEquals(4, move.getSourceFile());
+        assertEquals(6, move.getSourceRank());
+        assertEquals(4, move.getTargetFile());
+        assertEquals(4, move.getTargetRank());
+        assertEquals(new Piece(WHITE, PAWN), move.getMovedPiece());
+        assertTrue(move.isQuiet());
+        assertSame(child, move.getState());
+        assertEquals("e2e4", move.toString());
+    }
+    
+    @Test
+    public void capture() {
+        final ChessBoardState parent = new ChessBoardState();
+        
+        parent.clear();
+        parent.set(3, 3, new Piece(WHITE, KNIGHT));
+        parent.set(4, 1, new Piece(BLACK, PAWN));
+        
+        final ChessBoardState child = new ChessBoardState(parent);
+        
+        child.move(3, 3, 4, 1);
+        
+        final ChessMove move = ChessMove.of(parent, child);
+        
+        assertTrue(move.isCapture());
+        assertFalse(move.isQuiet());
+        assertEquals(new Piece(BLACK, PAWN), move.getCapturedPiece());
+        assertEquals("d5e7", move.toString());
+    }
+    
+    @Test
+    public void enPassant() {
+        final ChessBoardState parent = new ChessBoardState();
+        
+        parent.clear();
+        parent.set(1, 3, new Piece(WHITE, PAWN));
+        parent.set(2, 3, new Piece(BLACK, PAWN));
+        
+        final ChessBoardState child = new ChessBoardState(parent);
+        
+        child.move(1, 3, 2, 2);
+        child.clear(2, 3);
+        
+        final ChessMove move = ChessMove.of(parent, child);
+        
+        assertEquals(1, move.getSourceFile());
+        assertEquals(3, move.getSourceRank());
+        assertEquals(new Piece(BLACK, PAWN), move.getCapturedPiece());
+    }
+    
+    @Test
+    public void promotion() {
+        final ChessBoardState parent = new ChessBoardState();
+        
+        parent.clear();
+        parent.set(0, 1, new Piece(WHITE, PAWN));
+        
+        final ChessBoardState child = new ChessBoardState(parent);
+        
+        child.clear(0, 1);
+        child.set(0, 0, new Piece(WHITE, QUEEN));
+        
+        final ChessMove move = ChessMove.of(parent, child);
+        
+        assertTrue(move.isPromotion());
+        assertFalse(move.isCapture());
+        assertEquals(new Piece(WHITE, QUEEN), move.getPromotionPiece());
+        assertEquals("a7a8q", move.toString());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnIdenticalStates() {
+        final ChessBoardState parent = new ChessBoardState();
+        ChessMove.of(parent, new ChessBoardState(parent));
+    }
+}
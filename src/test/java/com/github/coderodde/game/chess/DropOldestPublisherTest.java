@@ -0,0 +1,99 @@
+package com.github.coderodde.game.chess;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Flow;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class DropOldestPublisherTest {
+    
+    private final DropOldestPublisher<Integer> publisher =
+            new DropOldestPublisher<>(Runnable::run, 3);
+    
+    @Test
+    public void dropsOldestItemsWithoutDemand() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        
+        for (int i = 1; i <= 5; i++) {
+            publisher.submit(i);
+        }
+        
+        assertTrue(subscriber.items.isEmpty());
+        
+        subscriber.subscription.request(Long.MAX_VALUE);
+        
+        assertEquals(List.of(3, 4, 5), subscriber.items);
+        
+        publisher.submit(6);
+        
+        assertEquals(List.of(3, 4, 5, 6), subscriber.items);
+    }
+    
+    @Test
+    public void deliversOnlyRequestedItems() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        
+        publisher.submit(1);
+        publisher.submit(2);
+        subscriber.subscription.request(1L);
+        
+        assertEquals(List.of(1), subscriber.items);
+        
+        subscriber.subscription.request(1L);
+        
+        assertEquals(List.of(1, 2), subscriber.items);
+    }
+    
+    @Test
+    public void cancelUnsubscribes() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        
+        assertTrue(publisher.hasSubscribers());
+        
+        subscriber.subscription.cancel();
+        
+        assertFalse(publisher.hasSubscribers());
+    }
+    
+    @Test
+    public void badRequestSignalsError() {
+        final RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.subscription.request(0L);
+        
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertFalse(publisher.hasSubscribers());
+    }
+    
+    private static final class RecordingSubscriber
+            implements Flow.Subscriber<Integer> {
+        
+        final List<Integer> items = new CopyOnWriteArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+        
+        @Override
+        public void onNext(final Integer item) {
+            items.add(item);
+        }
+        
+        @Override
+        public void onError(final Throwable throwable) {
+            this.error = throwable;
+        }
+        
+        @Override
+        public void onComplete() {
+            
+        }
+    }
+}
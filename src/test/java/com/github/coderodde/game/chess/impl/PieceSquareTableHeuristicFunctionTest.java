@@ -0,0 +1,118 @@
+package com.github.coderodde.game.chess.impl;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PieceSquareTables;
+import com.github.coderodde.game.chess.PlayerTurn;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class PieceSquareTableHeuristicFunctionTest {
+    
+    private static final double EPSILON = 0.00001;
+    
+    private final PieceSquareTableHeuristicFunction heuristicFunction = 
+            new PieceSquareTableHeuristicFunction();
+    
+    @Test
+    public void initialStateIsBalanced() {
+        final ChessBoardState state = new ChessBoardState();
+        
+        assertEquals(0.0, heuristicFunction.evaluate(state, 0), EPSILON);
+        assertEquals(PieceSquareTables.MAXIMUM_PHASE, state.getGamePhase());
+    }
+    
+    @Test
+    public void mirroredStatesHaveOppositeScores() {
+        final ChessBoardState state = new ChessBoardState(new String[] {
+            "....k...",
+            "..p.....",
+            "........",
+            "...n....",
+            "........",
+            "........",
+            "PP......",
+            "....K..R",
+        });
+        
+        final ChessBoardState mirror = new ChessBoardState(new String[] {
+            "....k..r",
+            "pp......",
+            "........",
+            "........",
+            "...N....",
+            "........",
+            "..P.....",
+            "....K...",
+        });
+        
+        assertEquals(-heuristicFunction.evaluate(state, 0),
+                     heuristicFunction.evaluate(mirror, 0),
+                     EPSILON);
+    }
+    
+    @Test
+    public void favorsMaterial() {
+        final ChessBoardState state = new ChessBoardState(new String[] {
+            "....k...",
+            "...q....",
+            "........",
+            "........",
+            "........",
+            "........",
+            "........",
+            "....K...",
+        });
+        
+        assertTrue(heuristicFunction.evaluate(state, 0) > 8.0);
+    }
+    
+    @Test
+    public void incrementalScoresMatchRecomputedScores() {
+        final ChessBoardState root = new ChessBoardState();
+        
+        for (final ChessBoardState child : root.expand(PlayerTurn.WHITE)) {
+            for (final ChessBoardState grandChild : 
+                    child.expand(PlayerTurn.BLACK)) {
+                
+                assertScoresAreRecomputed(grandChild);
+            }
+        }
+    }
+    
+    @Test
+    public void positionalBoundBoundsNonMaterialTerms() {
+        final double bound = heuristicFunction.getPositionalBound();
+        final ChessBoardState root = new ChessBoardState();
+        
+        assertTrue(bound > 0.0);
+        assertTrue(Double.isFinite(bound));
+        
+        for (final ChessBoardState child : root.expand(PlayerTurn.WHITE)) {
+            for (final ChessBoardState grandChild : 
+                    child.expand(PlayerTurn.BLACK)) {
+                
+                assertTrue(Math.abs(heuristicFunction.evaluate(grandChild, 2)
+                                  - grandChild.getMaterialScore()) <= bound);
+            }
+        }
+    }
+    
+    private static void assertScoresAreRecomputed(
+            final ChessBoardState state) {
+        
+        final ChessBoardState recomputed = new ChessBoardState(state);
+        recomputed.clear();
+        
+        for (int rank = 0; rank < ChessBoardState.N; rank++) {
+            for (int file = 0; file < ChessBoardState.N; file++) {
+                recomputed.set(file, rank, state.get(file, rank));
+            }
+        }
+        
+        assertEquals(recomputed.getMiddlegameScore(), 
+                     state.getMiddlegameScore());
+        
+        assertEquals(recomputed.getEndgameScore(), state.getEndgameScore());
+        assertEquals(recomputed.getGamePhase(), state.getGamePhase());
+    }
+}
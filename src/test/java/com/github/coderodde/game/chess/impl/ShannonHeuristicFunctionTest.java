@@ -2,10 +2,14 @@ package com.github.coderodde.game.chess.impl;
 
 import com.github.coderodde.game.chess.ChessBoardState;
 import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PlayerTurn;
 import static com.github.coderodde.game.chess.PieceColor.BLACK;
 import static com.github.coderodde.game.chess.PieceColor.WHITE;
+import static com.github.coderodde.game.chess.PieceType.KING;
 import static com.github.coderodde.game.chess.PieceType.PAWN;
+import static com.github.coderodde.game.chess.PieceType.QUEEN;
 import static com.github.coderodde.game.chess.PieceType.ROOK;
+import java.util.Arrays;
 import org.junit.Test;
 import org.junit.Before;
 import static org.junit.Assert.*;
@@ -15,6 +19,53 @@ public final class ShannonHeuristicFunctionTest {
     private static final ShannonHeuristicFunction heuristicFunction = 
             new ShannonHeuristicFunction();
     
+    /**
+     * A hanging white queen, a white king in check, a knight fork and a 
+     * middlegame with queens on both sides.
+     */
+    private static final String[][] TACTICAL_DESCRIPTIONS = {
+        {
+            "....k...",
+            "...r....",
+            "........",
+            "........",
+            "........",
+            "...Q....",
+            "........",
+            "....K...",
+        },
+        {
+            "....k...",
+            "........",
+            "........",
+            "....q...",
+            "........",
+            "........",
+            "........",
+            "....K...",
+        },
+        {
+            "....k...",
+            "ppp.pppp",
+            "........",
+            "........",
+            "........",
+            "...n....",
+            "PP...PPP",
+            "..Q.R..K",
+        },
+        {
+            "r...k..r",
+            "ppp..ppp",
+            "..n.....",
+            "...q....",
+            "R.......",
+            "..N..B..",
+            "PPP..PPP",
+            "....K..R",
+        },
+    };
+    
     private final ChessBoardState state = new ChessBoardState();
     
     private static final double EPSILON = 0.00001;
@@ -175,4 +226,139 @@ public final class ShannonHeuristicFunctionTest {
     public void evaluate() {
         assertEquals(0.0, heuristicFunction.evaluate(state, 0), EPSILON);
     }
+    
+    @Test
+    public void lazyEvaluationWithinWindowIsExact() {
+        state.set(4, 4, blackRook);
+        state.set(2, 6, whitePawn);
+        
+        final double score = heuristicFunction.evaluate(state, 0);
+        
+        assertEquals(score, 
+                     heuristicFunction.evaluate(state, 
+                                                0, 
+                                                score - 0.5, 
+                                                score + 0.5), 
+                     EPSILON);
+    }
+    
+    @Test
+    public void lazyEvaluationStopsOutsideWindow() {
+        state.set(4, 4, blackRook);
+        state.set(2, 6, whitePawn);
+        
+        final double cap = ShannonWeights.getDefaults().getPositionalCap();
+        
+        // The material is 4.0, so the rest of the terms are skipped:
+        assertEquals(4.0 - cap,
+                     heuristicFunction.evaluate(state, 0, -10.0, -6.0), 
+                     EPSILON);
+        
+        assertEquals(4.0 + cap,
+                     heuristicFunction.evaluate(state, 0, 14.0, 18.0), 
+                     EPSILON);
+    }
+    
+    @Test
+    public void lazyEvaluationBoundsFullEvaluationOfTacticalPositions() {
+        for (final String[] description : TACTICAL_DESCRIPTIONS) {
+            final ChessBoardState tacticalState = 
+                    new ChessBoardState(description);
+            
+            final double score = heuristicFunction.evaluate(tacticalState, 0);
+            
+            for (double alpha = -20.0; alpha <= 20.0; alpha += 0.5) {
+                final double beta = alpha + 0.5;
+                final double lazyScore = 
+                        heuristicFunction.evaluate(tacticalState, 
+                                                   0, 
+                                                   alpha, 
+                                                   beta);
+                
+                if (lazyScore >= beta) {
+                    assertTrue(score >= lazyScore);
+                } else if (lazyScore <= alpha) {
+                    assertTrue(score <= lazyScore);
+                } else {
+                    assertEquals(score, lazyScore, EPSILON);
+                }
+            }
+        }
+    }
+    
+    @Test
+    public void positionalBoundBoundsNonMaterialTerms() {
+        final double bound = heuristicFunction.getPositionalBound();
+        final ChessBoardState root = new ChessBoardState();
+        
+        assertEquals(9.0, bound, EPSILON);
+        
+        for (final ChessBoardState child : root.expand(PlayerTurn.WHITE)) {
+            for (final ChessBoardState grandChild : 
+                    child.expand(PlayerTurn.BLACK)) {
+                
+                assertTrue(Math.abs(heuristicFunction.evaluate(grandChild, 2)
+                                  - grandChild.getMaterialScore()) <= bound);
+            }
+        }
+    }
+    
+    @Test
+    public void capsHangingKing() {
+        state.set(4, 7, new Piece(WHITE, KING));
+        state.set(4, 0, new Piece(BLACK, KING));
+        state.set(4, 4, new Piece(BLACK, QUEEN));
+        
+        // The hanging white king alone would be worth 250 pawns:
+        assertEquals(state.getMaterialScore() 
+                        + ShannonWeights.getDefaults().getPositionalCap(),
+                     heuristicFunction.evaluate(state, 0),
+                     EPSILON);
+    }
+    
+    @Test
+    public void isHanging() {
+        state.set(3, 3, blackPawn);
+        state.set(3, 7, new Piece(WHITE, ROOK));
+        
+        assertTrue(heuristicFunction.isHanging(state, 3, 3));
+        
+        state.set(3, 0, blackRook);
+        
+        assertFalse(heuristicFunction.isHanging(state, 3, 3));
+    }
+    
+    @Test
+    public void onlyPiecesLosingExchangesAreVulnerable() {
+        final double[] weights = new double[ShannonWeights.FEATURES];
+        
+        for (int feature = 0; feature < weights.length; feature++) {
+            weights[feature] = ShannonWeights.getDefaults().get(feature);
+        }
+        
+        Arrays.fill(weights, 
+                    ShannonWeights.VULNERABILITY, 
+                    ShannonWeights.PAWN_DEFECTS, 
+                    0.0);
+        
+        final ShannonHeuristicFunction invulnerableHeuristicFunction = 
+                new ShannonHeuristicFunction(new ShannonWeights(weights));
+        
+        state.set(3, 3, blackPawn);
+        state.set(3, 7, new Piece(WHITE, ROOK));
+        
+        // The attacked pawn is not defended, so it is vulnerable:
+        assertEquals(
+                -ShannonWeights.getDefaults().getVulnerabilityScore(PAWN),
+                heuristicFunction.evaluate(state, 0) 
+                        - invulnerableHeuristicFunction.evaluate(state, 0),
+                EPSILON);
+        
+        state.set(3, 0, blackRook);
+        
+        // The pawn is still attacked, but the rook would lose the exchange:
+        assertEquals(invulnerableHeuristicFunction.evaluate(state, 0),
+                     heuristicFunction.evaluate(state, 0),
+                     EPSILON);
+    }
 }
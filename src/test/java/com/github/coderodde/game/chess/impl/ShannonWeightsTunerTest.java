@@ -0,0 +1,124 @@
+package com.github.coderodde.game.chess.impl;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PieceType;
+import com.github.coderodde.game.chess.PlayerTurn;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class ShannonWeightsTunerTest {
+    
+    private static final String[] DESCRIPTION = new String[] {
+        "r...k..r",
+        "ppp..ppp",
+        "..n.....",
+        "...q....",
+        "R.......",
+        "..N..B..",
+        "PPP..PPP",
+        "....K..R",
+    };
+    
+    private final ShannonWeightsTuner tuner = new ShannonWeightsTuner();
+    
+    @Before
+    public void before() {
+        for (final ChessBoardState child : 
+                new ChessBoardState(DESCRIPTION).expand(PlayerTurn.BLACK)) {
+            
+            for (final ChessBoardState leaf : child.expand(PlayerTurn.WHITE)) {
+                final double material = leaf.getMaterialScore();
+                
+                tuner.add(leaf, 
+                          material > 0.0 ? 1.0 : 
+                                  (material < 0.0 ? 0.0 : 0.5));
+            }
+        }
+    }
+    
+    @Test
+    public void tuningDecreasesError() {
+        tuner.setThreads(3);
+        
+        final ShannonWeights initialWeights = ShannonWeights.getDefaults();
+        final ShannonWeights tunedWeights = tuner.tune(initialWeights, 50);
+        final double scale = tuner.getScale();
+        
+        assertTrue(tuner.computeError(tunedWeights, scale) 
+                 < tuner.computeError(initialWeights, scale));
+        
+        assertEquals(initialWeights.getPresenceScore(PieceType.KING),
+                     tunedWeights.getPresenceScore(PieceType.KING),
+                     0.0);
+    }
+    
+    @Test
+    public void tuningIsIndependentOfThreads() {
+        tuner.setThreads(1);
+        
+        final ShannonWeights weights1 = 
+                tuner.tune(ShannonWeights.getDefaults(), 5);
+        
+        tuner.setThreads(4);
+        
+        final ShannonWeights weights4 = 
+                tuner.tune(ShannonWeights.getDefaults(), 5);
+        
+        assertEquals(weights1.getMobilityScore(), 
+                     weights4.getMobilityScore(), 
+                     1e-9);
+    }
+    
+    @Test
+    public void featuresMatchEvaluation() {
+        final ChessBoardState state = new ChessBoardState(DESCRIPTION);
+        final ShannonHeuristicFunction heuristicFunction = 
+                new ShannonHeuristicFunction(ShannonWeights.getDefaults());
+        
+        final short[] features = new short[ShannonWeights.FEATURES];
+        heuristicFunction.computeFeatures(state, features, 0);
+        
+        assertEquals(heuristicFunction.evaluate(state, 0), 
+                     ShannonWeights.getDefaults()
+                                   .evaluate(features, 0, 0), 
+                     1e-9);
+    }
+    
+    @Test
+    public void storesAndLoadsWeights() throws IOException {
+        final ShannonWeights weights = 
+                tuner.tune(ShannonWeights.getDefaults(), 5);
+        
+        final Path file = Files.createTempFile("weights", ".properties");
+        
+        try {
+            weights.store(file);
+            
+            assertEquals(weights, ShannonWeights.load(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test(expected = IOException.class)
+    public void throwsOnMissingWeight() throws IOException {
+        final Path file = Files.createTempFile("weights", ".properties");
+        
+        try {
+            Files.writeString(file, "presence.pawn=1.0\n");
+            ShannonWeights.load(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    public void usesDefaultWeightsWithoutConfiguration() {
+        assertEquals(ShannonWeights.getDefaults(), 
+                     new ShannonHeuristicFunction().getWeights());
+    }
+}
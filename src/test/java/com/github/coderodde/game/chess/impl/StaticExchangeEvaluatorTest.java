@@ -0,0 +1,102 @@
+package com.github.coderodde.game.chess.impl;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.Piece;
+import static com.github.coderodde.game.chess.PieceColor.BLACK;
+import static com.github.coderodde.game.chess.PieceColor.WHITE;
+import static com.github.coderodde.game.chess.PieceType.KNIGHT;
+import static com.github.coderodde.game.chess.PieceType.PAWN;
+import static com.github.coderodde.game.chess.PieceType.QUEEN;
+import static com.github.coderodde.game.chess.PieceType.ROOK;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class StaticExchangeEvaluatorTest {
+    
+    private static final double EPSILON = 0.00001;
+    
+    private static final Piece whiteRook = new Piece(WHITE, ROOK);
+    private static final Piece blackRook = new Piece(BLACK, ROOK);
+    private static final Piece whitePawn = new Piece(WHITE, PAWN);
+    private static final Piece blackPawn = new Piece(BLACK, PAWN);
+    private static final Piece whiteQueen = new Piece(WHITE, QUEEN);
+    private static final Piece blackKnight = new Piece(BLACK, KNIGHT);
+    
+    private final StaticExchangeEvaluator evaluator = 
+            new StaticExchangeEvaluator();
+    
+    private final ChessBoardState state = new ChessBoardState();
+    
+    @Before
+    public void before() {
+        state.clear();
+        state.set(3, 3, blackKnight);
+    }
+    
+    @Test
+    public void emptyCell() {
+        assertEquals(0.0, evaluator.evaluate(state, 4, 4), EPSILON);
+    }
+    
+    @Test
+    public void notAttacked() {
+        assertEquals(0.0, evaluator.evaluate(state, 3, 3), EPSILON);
+    }
+    
+    @Test
+    public void undefendedPiece() {
+        state.set(3, 7, whiteRook);
+        assertEquals(3.0, evaluator.evaluate(state, 3, 3), EPSILON);
+    }
+    
+    @Test
+    public void defendedPieceIsNotCapturedByMoreValuablePiece() {
+        state.set(3, 7, whiteRook);
+        state.set(3, 0, blackRook);
+        assertEquals(0.0, evaluator.evaluate(state, 3, 3), EPSILON);
+    }
+    
+    @Test
+    public void defendedPieceIsCapturedByPawn() {
+        state.set(2, 4, whitePawn);
+        state.set(3, 0, blackRook);
+        assertEquals(2.0, evaluator.evaluate(state, 3, 3), EPSILON);
+    }
+    
+    @Test
+    public void xRayAttacker() {
+        state.set(3, 6, whiteRook);
+        state.set(3, 7, whiteRook);
+        state.set(3, 0, blackRook);
+        assertEquals(3.0, evaluator.evaluate(state, 3, 3), EPSILON);
+    }
+    
+    @Test
+    public void losingCapture() {
+        state.clear();
+        state.set(3, 3, blackPawn);
+        state.set(3, 0, blackRook);
+        state.set(3, 7, whiteQueen);
+        
+        final ChessBoardState child = new ChessBoardState(state);
+        child.move(3, 7, 3, 3);
+        
+        final ChessMove move = ChessMove.of(state, child);
+        
+        assertEquals(-8.0, evaluator.evaluate(move), EPSILON);
+    }
+    
+    @Test
+    public void winningCapture() {
+        state.set(3, 7, whiteQueen);
+        
+        final ChessBoardState child = new ChessBoardState(state);
+        child.move(3, 7, 3, 3);
+        
+        final ChessMove move = ChessMove.of(state, child);
+        
+        assertEquals(3.0, evaluator.evaluate(move), EPSILON);
+    }
+}
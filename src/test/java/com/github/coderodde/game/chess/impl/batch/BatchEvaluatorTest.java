@@ -0,0 +1,126 @@
+package com.github.coderodde.game.chess.impl.batch;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.Piece;
+import static com.github.coderodde.game.chess.PieceColor.BLACK;
+import static com.github.coderodde.game.chess.PieceColor.WHITE;
+import static com.github.coderodde.game.chess.PieceType.KING;
+import static com.github.coderodde.game.chess.PieceType.KNIGHT;
+import static com.github.coderodde.game.chess.PieceType.PAWN;
+import static com.github.coderodde.game.chess.PieceType.ROOK;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.PieceSquareTableHeuristicFunction;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public final class BatchEvaluatorTest {
+    
+    private static final String[] DESCRIPTION = new String[] {
+        "r...k..r",
+        "ppp..ppp",
+        "..n.....",
+        "...q....",
+        "R.......",
+        "..N..B..",
+        "PPP..PPP",
+        "....K..R",
+    };
+    
+    @Test
+    public void matchesPieceSquareTableHeuristicFunction() {
+        final List<ChessBoardState> leaves = getLeaves();
+        final double[] scores = 
+                new BatchEvaluator(0.0, new ScalarBatchKernel())
+                        .evaluate(leaves);
+        
+        final PieceSquareTableHeuristicFunction heuristicFunction = 
+                new PieceSquareTableHeuristicFunction();
+        
+        for (int i = 0; i < leaves.size(); i++) {
+            assertEquals(heuristicFunction.evaluate(leaves.get(i), 0), 
+                         scores[i], 
+                         1e-9);
+        }
+    }
+    
+    @Test
+    public void vectorKernelMatchesScalarKernel() {
+        final BatchKernel best = BatchKernel.getBest();
+        
+        assumeTrue(best instanceof VectorApiBatchKernel);
+        
+        final List<ChessBoardState> leaves = getLeaves();
+        
+        // Not a multiple of the vector length, so the tail is exercised:
+        final PositionBatch batch = new PositionBatch(leaves.size() + 3);
+        
+        for (final ChessBoardState leaf : leaves) {
+            batch.add(leaf);
+        }
+        
+        batch.add(new ChessBoardState());
+        
+        final double[] scalarScores = new double[batch.size()];
+        final double[] vectorScores = new double[batch.size()];
+        
+        new BatchEvaluator(0.05, new ScalarBatchKernel())
+                .evaluate(batch, scalarScores);
+        
+        final int[] scalarMobilities = new int[batch.size()];
+        
+        for (int i = 0; i < batch.size(); i++) {
+            scalarMobilities[i] = batch.getMobility(i);
+        }
+        
+        new BatchEvaluator(0.05, best).evaluate(batch, vectorScores);
+        
+        assertArrayEquals(scalarScores, vectorScores, 0.0);
+        
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(scalarMobilities[i], batch.getMobility(i));
+        }
+    }
+    
+    @Test
+    public void countsMobility() {
+        final ChessBoardState state = new ChessBoardState();
+        state.clear();
+        
+        state.set(0, 0, new Piece(BLACK, ROOK));   // 10 moves.
+        state.set(0, 3, new Piece(WHITE, PAWN));   // Blocks the rook, 1 push.
+        state.set(7, 7, new Piece(WHITE, KNIGHT)); // 2 moves.
+        state.set(4, 1, new Piece(BLACK, PAWN));   // 1 push.
+        state.set(4, 4, new Piece(BLACK, KING));   // 8 moves.
+        
+        final PositionBatch batch = new PositionBatch(1);
+        batch.add(state);
+        
+        new BatchEvaluator(0.0, new ScalarBatchKernel())
+                .evaluate(batch, new double[1]);
+        
+        // The rook: 7 along the rank, 3 along the file including the pawn:
+        assertEquals((7 + 3 + 1 + 8) - (1 + 2), batch.getMobility(0));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void throwsOnFullBatch() {
+        final PositionBatch batch = new PositionBatch(1);
+        batch.add(new ChessBoardState());
+        batch.add(new ChessBoardState());
+    }
+    
+    private static List<ChessBoardState> getLeaves() {
+        final List<ChessBoardState> leaves = new ArrayList<>();
+        
+        for (final ChessBoardState child : 
+                new ChessBoardState(DESCRIPTION).expand(PlayerTurn.BLACK)) {
+            
+            leaves.addAll(child.expand(PlayerTurn.WHITE));
+        }
+        
+        return leaves;
+    }
+}
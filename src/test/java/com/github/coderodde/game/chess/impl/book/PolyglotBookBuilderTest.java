@@ -0,0 +1,232 @@
+package com.github.coderodde.game.chess.impl.book;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.pgn.PgnGame;
+import com.github.coderodde.game.chess.impl.pgn.PgnParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class PolyglotBookBuilderTest {
+    
+    /**
+     * The games in the coordinate notation.
+     */
+    private static final String[] GAMES = {
+        "e2e4 e7e5 g1f3 b8c6 f1c4 g8f6",
+        "e2e4 c7c5 g1f3 d7d6",
+        "d2d4 d7d5 c2c4 e7e6",
+        "e2e4 e7e5 g1f3 b8c6 f1c4 f8c5",
+    };
+    
+    private static final String PGN =
+            "[Event \"Italian\"]\n\n"
+            + "1. e4 e5 2. Nf3 Nc6 3. Bc4 Nf6 4. O-O Bc5 1-0\n\n"
+            + "[Event \"Sicilian\"]\n\n"
+            + "1. e4 c5 2. Nf3 d6 1/2-1/2\n\n"
+            + "[Event \"Queen's gambit\"]\n\n"
+            + "1. d4 {Solid.} d5 (1... Nf6) 2. c4 e6 0-1\n\n"
+            + "[Event \"Italian again\"]\n\n"
+            + "1. e4 e5 2. Nf3 Nc6 3. Bc4 Bc5 *\n";
+    
+    private final PolyglotKeys keys =
+            new PolyglotKeys(
+                    new SplittableRandom(13L)
+                            .longs(PolyglotKeys.KEY_COUNT)
+                            .toArray());
+    
+    private Path directory;
+    
+    @Before
+    public void before() throws IOException {
+        directory = Files.createTempDirectory("builder");
+    }
+    
+    @After
+    public void after() throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder())
+                                        .toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+    
+    @Test
+    public void countsMovesOfPositions() throws IOException {
+        final PolyglotBook book =
+                build(PolyglotBookBuilder.DEFAULT_BUFFER_CAPACITY,
+                      PolyglotBookBuilder.DEFAULT_MERGE_WAYS);
+        
+        final ChessBoardState start = new ChessBoardState();
+        
+        assertEquals("[e2e4 (3), d2d4 (1)]",
+                     book.getEntries(start, PlayerTurn.WHITE).toString());
+        
+        assertEquals("[e7e5 (2), c7c5 (1)]",
+                     book.getEntries(getState(1), PlayerTurn.BLACK)
+                         .toString());
+        
+        assertEquals("[b8c6 (2)]",
+                     book.getEntries(getState(3), PlayerTurn.BLACK)
+                         .toString());
+        
+        assertEquals(2, book.getEntries(getState(5), PlayerTurn.BLACK)
+                            .size());
+        
+        assertEquals(14, book.size());
+    }
+    
+    @Test
+    public void spilledRunsMergeIntoSameBook() throws IOException {
+        build(PolyglotBookBuilder.DEFAULT_BUFFER_CAPACITY,
+              PolyglotBookBuilder.DEFAULT_MERGE_WAYS);
+        
+        final byte[] expected =
+                Files.readAllBytes(directory.resolve("book.bin"));
+        
+        build(3, 2);
+        
+        assertArrayEquals(expected,
+                          Files.readAllBytes(directory.resolve("book.bin")));
+        
+        // Only the book is left:
+        try (final Stream<Path> paths = Files.list(directory)) {
+            assertEquals(1L, paths.count());
+        }
+    }
+    
+    @Test
+    public void dropsRareMovesAndLatePlies() throws IOException {
+        final PolyglotBookBuilder builder =
+                new PolyglotBookBuilder(keys, directory);
+        
+        builder.setMinimumCount(2);
+        builder.setMaximumPly(2);
+        addGames(builder);
+        
+        assertEquals(4L, builder.getGameCount());
+        
+        final Path bookFile = directory.resolve("book.bin");
+        builder.build(bookFile);
+        
+        final PolyglotBook book = PolyglotBook.open(bookFile, keys);
+        
+        assertEquals("[e2e4 (3)]",
+                     book.getEntries(new ChessBoardState(), PlayerTurn.WHITE)
+                         .toString());
+        
+        assertEquals(2, book.size());
+    }
+    
+    @Test
+    public void addsGamesOfPgnFile() throws IOException {
+        final Path pgnFile = directory.resolve("games.pgn");
+        Files.writeString(pgnFile, PGN);
+        
+        final PolyglotBookBuilder builder =
+                new PolyglotBookBuilder(keys, directory);
+        
+        builder.addGames(pgnFile);
+        
+        assertEquals(4L, builder.getGameCount());
+        
+        final Path bookFile = directory.resolve("book.bin");
+        builder.build(bookFile);
+        
+        final PolyglotBook book = PolyglotBook.open(bookFile, keys);
+        
+        assertEquals("[e2e4 (3), d2d4 (1)]",
+                     book.getEntries(new ChessBoardState(), PlayerTurn.WHITE)
+                         .toString());
+        
+        // The castling is written as the king capturing its rook:
+        assertEquals("[e1h1 (1)]",
+                     book.getEntries(getPgnState(pgnFile, 6),
+                                     PlayerTurn.WHITE)
+                         .toString());
+        
+        assertEquals(16, book.size());
+    }
+    
+    private PolyglotBook build(final int bufferCapacity,
+                               final int mergeWays) throws IOException {
+        
+        final PolyglotBookBuilder builder =
+                new PolyglotBookBuilder(keys, directory, bufferCapacity);
+        
+        builder.setMergeWays(mergeWays);
+        addGames(builder);
+        
+        final Path bookFile = directory.resolve("book.bin");
+        builder.build(bookFile);
+        return PolyglotBook.open(bookFile, keys);
+    }
+    
+    private static void addGames(final PolyglotBookBuilder builder)
+            throws IOException {
+        
+        for (final String game : GAMES) {
+            builder.addGame(replay(game));
+        }
+    }
+    
+    /**
+     * Returns the state after the ply {@code ply} of the first game of
+     * {@link #GAMES}, counting from one.
+     */
+    private static ChessBoardState getState(final int ply) {
+        return replay(GAMES[0]).get(ply - 1).getState();
+    }
+    
+    /**
+     * Returns the state after the ply {@code ply} of the first game of the
+     * PGN file {@code pgnFile}, counting from one.
+     */
+    private static ChessBoardState getPgnState(final Path pgnFile,
+                                               final int ply)
+            throws IOException {
+        
+        try (final Stream<PgnGame> games = PgnParser.games(pgnFile)) {
+            return games.findFirst()
+                        .orElseThrow()
+                        .getMoves()
+                        .get(ply - 1)
+                        .getState();
+        }
+    }
+    
+    /**
+     * Replays the game {@code game} given in the coordinate notation, such as
+     * {@code e2e4 e7e5}, from the initial state.
+     */
+    private static List<ChessMove> replay(final String game) {
+        final List<ChessMove> moves = new ArrayList<>();
+        ChessBoardState state = new ChessBoardState();
+        
+        for (final String move : game.split(" ")) {
+            final ChessBoardState child = new ChessBoardState(state);
+            
+            child.move(move.charAt(0) - 'a',
+                       '8' - move.charAt(1),
+                       move.charAt(2) - 'a',
+                       '8' - move.charAt(3));
+            
+            moves.add(ChessMove.of(state, child));
+            state = child;
+        }
+        
+        return moves;
+    }
+}
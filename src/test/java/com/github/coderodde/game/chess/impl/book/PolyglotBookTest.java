@@ -0,0 +1,320 @@
+package com.github.coderodde.game.chess.impl.book;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.PieceType;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import com.github.coderodde.game.chess.impl.engine.AlphaBetaPruningGameEngine;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class PolyglotBookTest {
+    
+    private static final long[] RANDOMS =
+            new SplittableRandom(11L).longs(PolyglotKeys.KEY_COUNT).toArray();
+    
+    private final PolyglotKeys keys = new PolyglotKeys(RANDOMS);
+    private Path directory;
+    
+    @Before
+    public void before() throws IOException {
+        directory = Files.createTempDirectory("books");
+    }
+    
+    @After
+    public void after() throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder())
+                                        .toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+    
+    @Test
+    public void picksMovesByWeight() throws IOException {
+        final ChessBoardState start = new ChessBoardState();
+        final long key = keys.getKey(start, PlayerTurn.WHITE);
+        final PolyglotBook book =
+                writeBook(new long[] { key - 1L, 0L, 0L, 7L },
+                          new long[] { key, move(start, 4, 6, 4, 4), 3L, 0L },
+                          new long[] { key, move(start, 3, 6, 3, 4), 1L, 0L },
+                          new long[] { key, move(start, 6, 7, 5, 5), 0L, 0L },
+                          new long[] { key + 1L, 0L, 0L, 0L });
+        
+        assertEquals(5, book.size());
+        assertEquals(3, book.getEntries(start, PlayerTurn.WHITE).size());
+        assertEquals("e2e4 (3)",
+                     book.getEntries(key).get(0).toString());
+        
+        final SplittableRandom random = new SplittableRandom(3L);
+        int kingPawnMoves = 0;
+        
+        for (int i = 0; i < 4000; i++) {
+            final ChessMove move =
+                    ChessMove.of(start,
+                                 book.probe(start, PlayerTurn.WHITE, random));
+            
+            assertEquals(6, move.getSourceRank());
+            assertEquals(4, move.getTargetRank());
+            
+            if (move.getSourceFile() == 4) {
+                kingPawnMoves++;
+            }
+        }
+        
+        assertEquals(3000.0, kingPawnMoves, 100.0);
+        assertNull(book.probe(start, PlayerTurn.BLACK));
+    }
+    
+    @Test
+    public void skipsUnknownAndCastlingMoves() throws IOException {
+        final ChessBoardState start = new ChessBoardState();
+        final long key = keys.getKey(start, PlayerTurn.WHITE);
+        
+        // The e1h1 castling and a move of an absent piece:
+        final PolyglotBook book =
+                writeBook(new long[] { key, 4 << 6 | 7, 1L, 0L },
+                          new long[] { key, 4 << 6 | 4 << 9 | 4, 1L, 0L });
+        
+        assertNull(book.probe(start, PlayerTurn.WHITE));
+    }
+    
+    @Test
+    public void keysTrackTurnCastlingAndEnPassant() {
+        final ChessBoardState state = new ChessBoardState();
+        final long key = keys.getKey(state, PlayerTurn.WHITE);
+        
+        assertEquals(key ^ RANDOMS[780], keys.getKey(state, PlayerTurn.BLACK));
+        
+        // Removing the rook of h1 drops the short castling of white:
+        final ChessBoardState noRook = new ChessBoardState(state);
+        noRook.clear(7, 7);
+        
+        assertEquals(key ^ RANDOMS[64 * 7 + 7] ^ RANDOMS[768],
+                     keys.getKey(noRook, PlayerTurn.WHITE));
+        
+        // A black pawn double moved to d5 next to a white pawn on e5:
+        final ChessBoardState enPassant = new ChessBoardState(state);
+        enPassant.move(4, 6, 4, 3);
+        enPassant.move(3, 1, 3, 3);
+        
+        final long keyWithoutFlag = keys.getKey(enPassant, PlayerTurn.WHITE);
+        
+        enPassant.markBlackPawnInitialDoubleMove(3);
+        
+        assertEquals(keyWithoutFlag ^ RANDOMS[772 + 3],
+                     keys.getKey(enPassant, PlayerTurn.WHITE));
+        
+        // No white pawn can capture en passant on the a file:
+        final ChessBoardState noCapture = new ChessBoardState(state);
+        noCapture.move(0, 1, 0, 3);
+        noCapture.markBlackPawnInitialDoubleMove(0);
+        
+        assertEquals(keys.getKey(noCapture, PlayerTurn.WHITE),
+                     keyWithoutFlags(noCapture));
+    }
+    
+    @Test
+    public void standardKeysMatchReferenceKeys() {
+        final PolyglotKeys standardKeys = PolyglotKeys.standard();
+        final ChessBoardState start = new ChessBoardState();
+        
+        assertEquals(0x463b96181691fc9cL,
+                     standardKeys.getKey(start, PlayerTurn.WHITE));
+        
+        // No black pawn may capture the e4 pawn en passant on e3:
+        ChessBoardState state = play(start, "e2e4");
+        
+        assertTrue(state.getWhiteIsPreviouslyDoubleMoved()[4]);
+        assertEquals(0x823c9b50fd114196L,
+                     standardKeys.getKey(state, PlayerTurn.BLACK));
+        
+        state = play(state, "d7d5");
+        
+        assertEquals(0x0756b94461c50fb0L,
+                     standardKeys.getKey(state, PlayerTurn.WHITE));
+        
+        state = play(state, "e4e5");
+        
+        assertEquals(0x662fafb965db29d4L,
+                     standardKeys.getKey(state, PlayerTurn.BLACK));
+        
+        // The e5 pawn may capture on f6 en passant:
+        state = play(state, "f7f5");
+        
+        assertEquals(0x22a48b5a8e47ff78L,
+                     standardKeys.getKey(state, PlayerTurn.WHITE));
+        
+        state = play(state, "e1e2");
+        
+        assertEquals(0x652a607ca3f242c1L,
+                     standardKeys.getKey(state, PlayerTurn.BLACK));
+        
+        state = play(state, "e8f7");
+        
+        assertEquals(0x00fdd303c946bdd9L,
+                     standardKeys.getKey(state, PlayerTurn.WHITE));
+        
+        state = play(play(play(play(play(start, "a2a4"),
+                                    "b7b5"),
+                               "h2h4"),
+                          "b5b4"),
+                     "c2c4");
+        
+        assertEquals(0x3c8123ea7b067637L,
+                     standardKeys.getKey(state, PlayerTurn.BLACK));
+        
+        // The b4 pawn captures en passant and white loses the long castling:
+        state = play(state, "b4c3");
+        state.clear(2, 4);
+        state = play(state, "a1a3");
+        
+        assertEquals(0x5c3f9b829b279560L,
+                     standardKeys.getKey(state, PlayerTurn.BLACK));
+    }
+    
+    @Test
+    public void loadsKeysFromSource() throws IOException {
+        final Path path = directory.resolve("random64.c");
+        
+        Files.writeString(
+                path,
+                "const uint64 Random64[781] = {\n"
+                + LongStream.of(RANDOMS)
+                            .mapToObj(random ->
+                                    String.format("   U64(0x%016X),",
+                                                  random))
+                            .collect(Collectors.joining("\n"))
+                + "\n};\n");
+        
+        final ChessBoardState state = new ChessBoardState();
+        
+        assertEquals(keys.getKey(state, PlayerTurn.BLACK),
+                     PolyglotKeys.load(path)
+                                 .getKey(state, PlayerTurn.BLACK));
+    }
+    
+    @Test(expected = IOException.class)
+    public void rejectsTruncatedKeys() throws IOException {
+        final Path path = directory.resolve("random64.txt");
+        Files.writeString(path, "0x9D39247E33776D41, 0x2AF7398005AAA5C7");
+        PolyglotKeys.load(path);
+    }
+    
+    @Test
+    public void enginePlaysBookMove() throws Exception {
+        final ChessBoardState start = new ChessBoardState();
+        final long key = keys.getKey(start, PlayerTurn.WHITE);
+        final AlphaBetaPruningGameEngine engine =
+                new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction());
+        
+        engine.setOpeningBook(
+                writeBook(new long[] {
+                    key, move(start, 2, 6, 2, 4), 1L, 0L
+                }));
+        
+        engine.setStatisticsEnabled(true);
+        
+        final ChessMove move =
+                ChessMove.of(start,
+                             engine.search(start, 4, PlayerTurn.WHITE));
+        
+        assertEquals(2, move.getSourceFile());
+        assertEquals(4, move.getTargetRank());
+        assertEquals(0L, engine.getStatistics().getNodes());
+    }
+    
+    private long keyWithoutFlags(final ChessBoardState state) {
+        final ChessBoardState copy = new ChessBoardState(state);
+        copy.clearBlackInitialDoubleMoveFlags();
+        return keys.getKey(copy, PlayerTurn.WHITE);
+    }
+    
+    /**
+     * Plays the move {@code move} given in the coordinate notation, such as
+     * {@code e2e4}, marking the double moves of the pawns.
+     */
+    private static ChessBoardState play(final ChessBoardState state,
+                                        final String move) {
+        
+        final int sourceFile = move.charAt(0) - 'a';
+        final int sourceRank = '8' - move.charAt(1);
+        final int targetFile = move.charAt(2) - 'a';
+        final int targetRank = '8' - move.charAt(3);
+        final boolean white = state.get(sourceFile, sourceRank).isWhite();
+        final boolean doubleMove =
+                state.get(sourceFile, sourceRank).getPieceType()
+                        == PieceType.PAWN
+                && Math.abs(targetRank - sourceRank) == 2;
+        
+        final ChessBoardState child = new ChessBoardState(state);
+        child.move(sourceFile, sourceRank, targetFile, targetRank);
+        
+        if (white) {
+            child.clearWhiteInitialDoubleMoveFlags();
+            
+            if (doubleMove) {
+                child.markWhitePawnInitialDoubleMove(sourceFile);
+            }
+        } else {
+            child.clearBlackInitialDoubleMoveFlags();
+            
+            if (doubleMove) {
+                child.markBlackPawnInitialDoubleMove(sourceFile);
+            }
+        }
+        
+        return child;
+    }
+    
+    private static long move(final ChessBoardState state,
+                             final int sourceFile,
+                             final int sourceRank,
+                             final int targetFile,
+                             final int targetRank) {
+        
+        final ChessBoardState child = new ChessBoardState(state);
+        child.move(sourceFile, sourceRank, targetFile, targetRank);
+        return PolyglotEntry.encodeMove(ChessMove.of(state, child));
+    }
+    
+    /**
+     * Writes a book of the entries given as the key, the move, the weight and
+     * the learning value, sorting them by the key.
+     */
+    private PolyglotBook writeBook(final long[]... entries)
+            throws IOException {
+        
+        final ByteBuffer buffer =
+                ByteBuffer.allocate(entries.length * PolyglotBook.ENTRY_SIZE);
+        
+        Arrays.sort(entries,
+                    (entry, otherEntry) ->
+                            Long.compareUnsigned(entry[0], otherEntry[0]));
+        
+        for (final long[] entry : entries) {
+            buffer.putLong(entry[0])
+                  .putShort((short) entry[1])
+                  .putShort((short) entry[2])
+                  .putInt((int) entry[3]);
+        }
+        
+        final Path path = directory.resolve("book.bin");
+        Files.write(path, buffer.array());
+        return PolyglotBook.open(path, keys);
+    }
+}
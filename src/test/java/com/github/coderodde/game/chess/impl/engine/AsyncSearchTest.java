@@ -0,0 +1,206 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.AbstractGameEngine;
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.SearchLimits;
+import com.github.coderodde.game.chess.SearchProgress;
+import com.github.coderodde.game.chess.SearchResult;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class AsyncSearchTest {
+    
+    private static final String[] HANGING_ROOK_DESCRIPTION = new String[] {
+        "....k...",
+        "........",
+        "........",
+        "R..q....",
+        "........",
+        "........",
+        "........",
+        "....K...",
+    };
+    
+    @Test
+    public void negamaxFindsCapture() throws Exception {
+        assertFindsCapture(
+                new NegamaxGameEngine(new ShannonHeuristicFunction()));
+    }
+    
+    @Test
+    public void alphaBetaFindsCapture() throws Exception {
+        assertFindsCapture(
+                new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction()));
+    }
+    
+    @Test
+    public void youngBrothersWaitFindsCapture() throws Exception {
+        assertFindsCapture(
+                new YoungBrothersWaitGameEngine(
+                        new ShannonHeuristicFunction()));
+    }
+    
+    @Test
+    public void cancelReturnsLastCompletedIteration() throws Exception {
+        final AbstractGameEngine engine =
+                new NegamaxGameEngine(new ShannonHeuristicFunction());
+        
+        final CompletableFuture<SearchResult> future =
+                engine.searchAsync(new ChessBoardState(),
+                                   PlayerTurn.WHITE,
+                                   SearchLimits.ofDepth(100));
+        
+        Thread.sleep(200L);
+        engine.cancel();
+        
+        final SearchResult result = future.get(30L, TimeUnit.SECONDS);
+        
+        assertTrue(result.getDepth() >= 1);
+        assertTrue(result.getDepth() < 100);
+        assertEquals(result.getBestMove(),
+                     result.getPrincipalVariation().get(0));
+        
+        // The engine is usable after the cancellation:
+        assertNotNull(engine.searchAsync(new ChessBoardState(),
+                                         PlayerTurn.WHITE,
+                                         SearchLimits.ofDepth(1))
+                            .get(30L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void stopsAtNodeLimit() throws Exception {
+        final AbstractGameEngine engine =
+                new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction());
+        
+        final SearchResult result =
+                engine.searchAsync(new ChessBoardState(),
+                                   PlayerTurn.WHITE,
+                                   new SearchLimits(100,
+                                                    5_000L,
+                                                    SearchLimits.UNLIMITED))
+                      .get(60L, TimeUnit.SECONDS);
+        
+        assertTrue(result.getDepth() < 100);
+        assertTrue(result.getNodeCount() > 0L);
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void throwsOnConcurrentSearches() {
+        final AbstractGameEngine engine =
+                new NegamaxGameEngine(new ShannonHeuristicFunction());
+        
+        engine.searchAsync(new ChessBoardState(),
+                           PlayerTurn.WHITE,
+                           SearchLimits.ofDepth(100));
+        try {
+            engine.searchAsync(new ChessBoardState(),
+                               PlayerTurn.WHITE,
+                               SearchLimits.ofDepth(1));
+        } finally {
+            engine.cancel();
+        }
+    }
+    
+    @Test
+    public void publishesProgress() throws Exception {
+        final AbstractGameEngine engine =
+                new NegamaxGameEngine(new ShannonHeuristicFunction());
+        
+        final List<SearchProgress> reports = new CopyOnWriteArrayList<>();
+        final CountDownLatch lastIteration = new CountDownLatch(1);
+        
+        engine.getProgressPublisher().subscribe(
+                new Flow.Subscriber<SearchProgress>() {
+            
+            @Override
+            public void onSubscribe(final Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+            
+            @Override
+            public void onNext(final SearchProgress progress) {
+                reports.add(progress);
+                
+                if (progress.isIterationCompleted()
+                        && progress.getDepth() == 3) {
+                    lastIteration.countDown();
+                }
+            }
+            
+            @Override
+            public void onError(final Throwable throwable) {
+                
+            }
+            
+            @Override
+            public void onComplete() {
+                
+            }
+        });
+        
+        final ChessBoardState root =
+                new ChessBoardState(HANGING_ROOK_DESCRIPTION);
+        
+        final SearchResult result =
+                engine.searchAsync(root,
+                                   PlayerTurn.BLACK,
+                                   SearchLimits.ofDepth(3))
+                      .get(60L, TimeUnit.SECONDS);
+        
+        assertTrue(lastIteration.await(10L, TimeUnit.SECONDS));
+        
+        int completedDepth = 0;
+        
+        for (final SearchProgress progress : reports) {
+            if (progress.isIterationCompleted()) {
+                assertEquals(completedDepth + 1, progress.getDepth());
+                completedDepth = progress.getDepth();
+            }
+        }
+        
+        final SearchProgress last = reports.get(reports.size() - 1);
+        
+        assertEquals(3, completedDepth);
+        assertEquals(result.getBestMove(), last.getBestMove());
+        assertEquals(result.getPrincipalVariation(),
+                     last.getPrincipalVariation());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnBadDepth() {
+        SearchLimits.ofDepth(0);
+    }
+    
+    private static void assertFindsCapture(final AbstractGameEngine engine)
+            throws Exception {
+        
+        final ChessBoardState root =
+                new ChessBoardState(HANGING_ROOK_DESCRIPTION);
+        
+        final SearchResult result =
+                engine.searchAsync(root,
+                                   PlayerTurn.BLACK,
+                                   SearchLimits.ofDepth(3))
+                      .get(60L, TimeUnit.SECONDS);
+        
+        final ChessMove move = result.getBestMove();
+        
+        assertEquals(3, result.getDepth());
+        assertTrue(move.isCapture());
+        assertEquals(0, move.getTargetFile());
+        assertEquals(3, move.getTargetRank());
+        assertEquals(move, result.getPrincipalVariation().get(0));
+        assertTrue(result.getPrincipalVariation().size() <= 3);
+        assertTrue(result.getScore() > 0.0);
+        assertTrue(result.getNodeCount() > 0L);
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class FlightRecorderEventsTest {
+    
+    private static final String SEARCH_EVENT = 
+            "com.github.coderodde.game.chess.Search";
+    
+    private static final String ITERATION_EVENT = 
+            "com.github.coderodde.game.chess.Iteration";
+    
+    private static final String EVALUATION_EVENT = 
+            "com.github.coderodde.game.chess.Evaluation";
+    
+    @Test
+    public void recordsSearchIterationsAndEvaluations() throws Exception {
+        final List<RecordedEvent> events = record(() -> {
+            new NegamaxGameEngine(new ShannonHeuristicFunction())
+                    .search(new ChessBoardState(), 3, PlayerTurn.WHITE);
+        });
+        
+        final List<RecordedEvent> searchEvents = filter(events, SEARCH_EVENT);
+        
+        assertEquals(1, searchEvents.size());
+        assertEquals("NegamaxGameEngine", 
+                     searchEvents.get(0).getString("engine"));
+        
+        assertEquals(3, searchEvents.get(0).getInt("maximumDepth"));
+        assertTrue(searchEvents.get(0).getLong("nodes") > 0L);
+        assertNotNull(searchEvents.get(0).getString("bestMove"));
+        assertFalse(searchEvents.get(0).getBoolean("stopped"));
+        
+        final List<RecordedEvent> iterationEvents = 
+                filter(events, ITERATION_EVENT);
+        
+        assertEquals(3, iterationEvents.size());
+        
+        for (int depth = 1; depth <= 3; depth++) {
+            assertEquals(depth, iterationEvents.get(depth - 1).getInt("depth"));
+        }
+        
+        assertFalse(filter(events, EVALUATION_EVENT).isEmpty());
+    }
+    
+    @Test
+    public void recordsOneEventPerNestedSearch() throws Exception {
+        final List<RecordedEvent> events = record(() -> {
+            new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction())
+                    .search(new ChessBoardState(), 2, PlayerTurn.WHITE);
+        });
+        
+        assertEquals(1, filter(events, SEARCH_EVENT).size());
+        assertTrue(filter(events, ITERATION_EVENT).isEmpty());
+    }
+    
+    @Test
+    public void disabledByDefault() throws Exception {
+        final List<RecordedEvent> events;
+        
+        try (final Recording recording = new Recording()) {
+            recording.start();
+            new YoungBrothersWaitGameEngine(new ShannonHeuristicFunction())
+                    .search(new ChessBoardState(), 2, PlayerTurn.WHITE);
+            recording.stop();
+            events = dump(recording);
+        }
+        
+        assertTrue(filter(events, SEARCH_EVENT).isEmpty());
+    }
+    
+    private static List<RecordedEvent> record(final SearchTask task) 
+            throws Exception {
+        
+        try (final Recording recording = new Recording()) {
+            recording.enable(SEARCH_EVENT);
+            recording.enable(ITERATION_EVENT);
+            recording.enable(EVALUATION_EVENT).withThreshold(Duration.ZERO);
+            recording.start();
+            task.run();
+            recording.stop();
+            return dump(recording);
+        }
+    }
+    
+    private static List<RecordedEvent> dump(final Recording recording) 
+            throws Exception {
+        
+        final Path file = Files.createTempFile("chess", ".jfr");
+        
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    private static List<RecordedEvent> filter(final List<RecordedEvent> events,
+                                              final String name) {
+        return events.stream()
+                     .filter(event -> event.getEventType()
+                                           .getName()
+                                           .equals(name))
+                     .toList();
+    }
+    
+    @FunctionalInterface
+    private interface SearchTask {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,171 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class LateMoveReductionTest {
+    
+    /**
+     * The white rook may capture on a6, give check from e1 or move quietly.
+     */
+    private static final String[] ROOK_DESCRIPTION = new String[] {
+        "....k...",
+        "........",
+        "p.......",
+        "........",
+        "........",
+        "........",
+        "........",
+        "R......K",
+    };
+    
+    /**
+     * The black knight threatens to fork the white queen and rook from d3, 
+     * but the white player to move captures it first.
+     */
+    private static final String[] FORK_DESCRIPTION = new String[] {
+        "....k...",
+        "ppp.pppp",
+        "........",
+        "....n...",
+        "........",
+        "........",
+        "PP...PPP",
+        "..Q.R..K",
+    };
+    
+    private final ChessBoardState root =
+            new ChessBoardState(ROOK_DESCRIPTION);
+    
+    @Test
+    public void reductionsGrowWithDepthAndMoveIndex() {
+        final ChessMove quietMove = getMove(0, 6);
+        
+        assertEquals(1, reduction(quietMove, 3, 3));
+        assertEquals(1, reduction(quietMove, 3, 40));
+        assertEquals(1, reduction(quietMove, 4, 3));
+        assertEquals(2, reduction(quietMove, 8, 8));
+        assertEquals(3, reduction(quietMove, 8, 20));
+        assertEquals(8, reduction(quietMove, 63, 63));
+        
+        // The indices and depths beyond the table share its last entries:
+        assertEquals(reduction(quietMove, 63, 63),
+                     reduction(quietMove, 100, 200));
+        
+        for (int depth = 3; depth < 20; depth++) {
+            for (int moveIndex = 3; moveIndex < 60; moveIndex++) {
+                final int reduction = reduction(quietMove, depth, moveIndex);
+                
+                assertTrue(reduction <= depth - 2);
+                assertTrue(reduction <= reduction(quietMove,
+                                                  depth + 1,
+                                                  moveIndex));
+                
+                assertTrue(reduction <= reduction(quietMove,
+                                                  depth,
+                                                  moveIndex + 1));
+            }
+        }
+    }
+    
+    @Test
+    public void doesNotReduceEarlyMovesOrShallowNodes() {
+        final ChessMove quietMove = getMove(0, 6);
+        
+        assertEquals(0, reduction(quietMove, 8, 0));
+        assertEquals(0, reduction(quietMove, 8, 2));
+        assertEquals(0, reduction(quietMove, 2, 30));
+    }
+    
+    @Test
+    public void doesNotReduceCapturesChecksOrEvasions() {
+        final ChessMove capture = getMove(0, 2);
+        final ChessMove check = getMove(4, 7);
+        final ChessMove quietMove = getMove(0, 6);
+        
+        assertTrue(capture.isCapture());
+        assertTrue(check.isQuiet());
+        
+        assertEquals(0, reduction(capture, 10, 30));
+        assertEquals(0, reduction(check, 10, 30));
+        assertEquals(0,
+                     AlphaBetaPruningGameEngine.getLateMoveReduction(
+                             quietMove,
+                             30,
+                             10,
+                             PlayerTurn.BLACK,
+                             true));
+        
+        assertTrue(reduction(quietMove, 10, 30) > 0);
+    }
+    
+    @Test
+    public void reSearchesReducedMovesBeatingBound() throws Exception {
+        final ChessBoardState forkRoot = new ChessBoardState(FORK_DESCRIPTION);
+        final AlphaBetaPruningGameEngine engine =
+                new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction());
+        
+        engine.setStatisticsEnabled(true);
+        
+        final ChessMove move =
+                ChessMove.of(forkRoot,
+                             engine.search(forkRoot, 4, PlayerTurn.WHITE));
+        
+        final ChessMove unreducedMove =
+                ChessMove.of(forkRoot,
+                             new NegamaxGameEngine(
+                                     new ShannonHeuristicFunction())
+                                     .search(forkRoot, 4, PlayerTurn.WHITE));
+        
+        final SearchStatistics statistics = engine.getStatistics();
+        
+        assertTrue(statistics.getLateMoveReductions() > 0L);
+        assertTrue(statistics.getLateMoveReSearches() > 0L);
+        assertTrue(statistics.getLateMoveReSearches()
+                <= statistics.getLateMoveReductions());
+        
+        // The rook captures the knight on e5 (file 4, rank 3) in both:
+        assertEquals(4, move.getTargetFile());
+        assertEquals(3, move.getTargetRank());
+        assertEquals(unreducedMove.getSourceFile(), move.getSourceFile());
+        assertEquals(unreducedMove.getSourceRank(), move.getSourceRank());
+        assertEquals(unreducedMove.getTargetFile(), move.getTargetFile());
+        assertEquals(unreducedMove.getTargetRank(), move.getTargetRank());
+    }
+    
+    private static int reduction(final ChessMove move,
+                                 final int depth,
+                                 final int moveIndex) {
+        
+        return AlphaBetaPruningGameEngine.getLateMoveReduction(
+                move,
+                moveIndex,
+                depth,
+                PlayerTurn.BLACK,
+                false);
+    }
+    
+    /**
+     * Returns the move of the white rook to the file {@code file} and the rank
+     * {@code rank}.
+     */
+    private ChessMove getMove(final int file, final int rank) {
+        for (final ChessBoardState child : root.expand(PlayerTurn.WHITE)) {
+            final ChessMove move = ChessMove.of(root, child);
+            
+            if (move.getSourceFile() == 0
+                    && move.getSourceRank() == 7
+                    && move.getTargetFile() == file
+                    && move.getTargetRank() == rank) {
+                
+                return move;
+            }
+        }
+        
+        throw new AssertionError("No such move.");
+    }
+}
@@ -0,0 +1,150 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import static com.github.coderodde.game.chess.PieceColor.BLACK;
+import static com.github.coderodde.game.chess.PieceType.QUEEN;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class NegamaxGameEngineTest {
+    
+    private static final String[] HANGING_ROOK_DESCRIPTION = new String[] {
+        "....k...",
+        "........",
+        "........",
+        "R..q....",
+        "........",
+        "........",
+        "........",
+        "....K...",
+    };
+    
+    private static final String[] EN_PASSANT_DESCRIPTION = new String[] {
+        "....k...",
+        "........",
+        "........",
+        "........",
+        "...p....",
+        "........",
+        "....P...",
+        "....K...",
+    };
+    
+    private final NegamaxGameEngine engine = 
+            new NegamaxGameEngine(new ShannonHeuristicFunction());
+    
+    @Test
+    public void blackCapturesHangingRook() {
+        final ChessBoardState root = 
+                new ChessBoardState(HANGING_ROOK_DESCRIPTION);
+        
+        final ChessBoardState next = engine.search(root, 2, PlayerTurn.BLACK);
+        
+        assertNotNull(next);
+        
+        final ChessMove move = ChessMove.of(root, next);
+        
+        assertEquals(0, move.getTargetFile());
+        assertEquals(3, move.getTargetRank());
+        assertEquals(BLACK, move.getMovedPiece().getPieceColor());
+        assertEquals(QUEEN, move.getMovedPiece().getPieceType());
+    }
+    
+    @Test
+    public void deeperSearchKeepsCapture() {
+        final ChessBoardState root = 
+                new ChessBoardState(HANGING_ROOK_DESCRIPTION);
+        
+        final ChessBoardState next = engine.search(root, 3, PlayerTurn.BLACK);
+        final ChessMove move = ChessMove.of(root, next);
+        
+        assertTrue(move.isCapture());
+        assertEquals(0, move.getTargetFile());
+        assertEquals(3, move.getTargetRank());
+    }
+    
+    @Test
+    public void returnsMoveFromInitialState() {
+        final ChessBoardState root = new ChessBoardState();
+        final ChessBoardState next = engine.search(root, 2, PlayerTurn.WHITE);
+        
+        assertNotNull(next);
+        assertTrue(root.expand(PlayerTurn.WHITE).contains(next));
+    }
+    
+    @Test
+    public void ponderHit() throws Exception {
+        final ChessBoardState root = 
+                new ChessBoardState(HANGING_ROOK_DESCRIPTION);
+        
+        engine.startPondering(root, 3, PlayerTurn.BLACK);
+        
+        assertTrue(engine.isPondering());
+        
+        final ChessBoardState next = 
+                engine.stopPondering(new ChessBoardState(root));
+        
+        assertFalse(engine.isPondering());
+        
+        final ChessMove move = ChessMove.of(root, next);
+        
+        assertTrue(move.isCapture());
+        assertEquals(0, move.getTargetFile());
+        assertEquals(3, move.getTargetRank());
+    }
+    
+    @Test
+    public void ponderHitOnDoublePawnPush() throws Exception {
+        final ChessBoardState root = 
+                new ChessBoardState(EN_PASSANT_DESCRIPTION);
+        
+        ChessBoardState doublePush = null;
+        
+        for (final ChessBoardState child : root.expand(PlayerTurn.WHITE)) {
+            if (child.get(4, 4) != null) {
+                doublePush = child;
+            }
+        }
+        
+        assertNotNull(doublePush);
+        
+        engine.startPondering(doublePush, 1, PlayerTurn.BLACK);
+        
+        // The ponder state must keep the en passant right of the reply:
+        final ChessBoardState next = 
+                engine.stopPondering(ChessBoardState.copyOf(doublePush));
+        
+        assertNotNull(next);
+        
+        final ChessMove move = ChessMove.of(doublePush, next);
+        
+        assertTrue(move.isCapture());
+        assertEquals(4, move.getTargetFile());
+        assertEquals(5, move.getTargetRank());
+    }
+    
+    @Test
+    public void ponderMiss() throws Exception {
+        engine.startPondering(new ChessBoardState(), 6, PlayerTurn.WHITE);
+        
+        final ChessBoardState actualState = new ChessBoardState();
+        actualState.move(4, 6, 4, 4);
+        
+        assertNull(engine.stopPondering(actualState));
+        assertFalse(engine.isPondering());
+        
+        // The engine is usable after a miss:
+        assertNotNull(engine.search(new ChessBoardState(
+                                            HANGING_ROOK_DESCRIPTION), 
+                                    2,
+                                    PlayerTurn.BLACK));
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void throwsOnStopPonderingWhenNotPondering() throws Exception {
+        engine.stopPondering(new ChessBoardState());
+    }
+}
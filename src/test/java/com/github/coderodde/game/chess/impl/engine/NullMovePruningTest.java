@@ -0,0 +1,303 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.AbstractHeuristicFunction;
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceType;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class NullMovePruningTest {
+    
+    /**
+     * The black player is a queen and a knight up, and nothing hangs.
+     */
+    private static final String[] QUEEN_UP_DESCRIPTION = new String[] {
+        "....k...",
+        "ppp..ppp",
+        "..nq....",
+        "........",
+        "........",
+        "........",
+        "PPP..PPP",
+        "....K...",
+    };
+    
+    private static final String[] MIDDLEGAME_DESCRIPTION = new String[] {
+        "r...k..r",
+        "ppp..ppp",
+        "..n.....",
+        "...q....",
+        "R.......",
+        "..N..B..",
+        "PPP..PPP",
+        "....K..R",
+    };
+    
+    /**
+     * Nothing but pawn moves is possible for either player, and every pawn 
+     * move frees the bishop or the king. See 
+     * {@link ZugzwangHeuristicFunction}.
+     */
+    private static final String[] ZUGZWANG_DESCRIPTION = new String[] {
+        "......bk",
+        ".....ppp",
+        "........",
+        "........",
+        "........",
+        "........",
+        ".....PPP",
+        "......BK",
+    };
+    
+    /**
+     * The black knight threatens to fork the white queen and rook from d3,
+     * but the white player to move captures it first.
+     */
+    private static final String[] FORK_DESCRIPTION = new String[] {
+        "....k...",
+        "ppp.pppp",
+        "........",
+        "....n...",
+        "........",
+        "........",
+        "PP...PPP",
+        "..Q.R..K",
+    };
+    
+    /**
+     * The white pawn has just moved from e2 to e4, so the black pawn on d4 may
+     * capture it en passant.
+     */
+    private static final String[] EN_PASSANT_DESCRIPTION = new String[] {
+        "....k...",
+        "ppp..ppp",
+        "..nq....",
+        "........",
+        "...pP...",
+        "........",
+        "PPPP.PPP",
+        ".......K",
+    };
+    
+    @Test
+    public void cutsOffWhenPassingStillFailsHigh() throws Exception {
+        final ChessBoardState root =
+                new ChessBoardState(QUEEN_UP_DESCRIPTION);
+        
+        final AlphaBetaPruningGameEngine engine =
+                new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction());
+        
+        // Even after passing, black stays far above 2:
+        assertTrue(engine.nullMoveCutsOff(root,
+                                          4,
+                                          1.0,
+                                          2.0,
+                                          PlayerTurn.BLACK,
+                                          null));
+        
+        // ... but not above a bound no move reaches:
+        assertFalse(engine.nullMoveCutsOff(root,
+                                           4,
+                                           99.0,
+                                           100.0,
+                                           PlayerTurn.BLACK,
+                                           null));
+        
+        // Too shallow to pass:
+        assertFalse(engine.nullMoveCutsOff(root,
+                                           2,
+                                           1.0,
+                                           2.0,
+                                           PlayerTurn.BLACK,
+                                           null));
+        
+        engine.setStatisticsEnabled(true);
+        engine.search(new ChessBoardState(MIDDLEGAME_DESCRIPTION), 
+                      4,
+                      PlayerTurn.WHITE);
+        
+        assertTrue(engine.getStatistics().getNullMoveCutoffs() > 0L);
+    }
+    
+    @Test
+    public void verificationRefutesCutoffsInZugzwang() throws Exception {
+        // Every move only worsens the position of the player making it, so 
+        // passing would be the best move:
+        final ChessBoardState root = new ChessBoardState(ZUGZWANG_DESCRIPTION);
+        final AlphaBetaPruningGameEngine engine =
+                new AlphaBetaPruningGameEngine(
+                        new ZugzwangHeuristicFunction(root));
+        
+        // Below the verification depth, the null move fails high and cuts off:
+        assertTrue(engine.nullMoveCutsOff(root,
+                                          4,
+                                          -1.5,
+                                          -0.5,
+                                          PlayerTurn.BLACK,
+                                          null));
+        
+        // ... but the verification search of the actual moves scores -1.0:
+        assertFalse(engine.nullMoveCutsOff(root,
+                                           5,
+                                           -1.5,
+                                           -0.5,
+                                           PlayerTurn.BLACK,
+                                           null));
+        
+        assertFalse(engine.nullMoveCutsOff(root,
+                                           5,
+                                           0.5,
+                                           1.5,
+                                           PlayerTurn.WHITE,
+                                           null));
+        
+        engine.setStatisticsEnabled(true);
+        engine.search(root, 6, PlayerTurn.BLACK);
+        
+        assertTrue(engine.getStatistics().getRefutedNullMoveCutoffs() > 0L);
+    }
+    
+    @Test
+    public void keepsBestMove() throws Exception {
+        final ChessBoardState root = new ChessBoardState(FORK_DESCRIPTION);
+        final AlphaBetaPruningGameEngine engine =
+                new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction());
+        
+        engine.setStatisticsEnabled(true);
+        
+        final ChessMove move =
+                ChessMove.of(root, engine.search(root, 5, PlayerTurn.WHITE));
+        
+        final ChessMove negamaxMove =
+                ChessMove.of(root,
+                             new NegamaxGameEngine(
+                                     new ShannonHeuristicFunction())
+                                     .search(root, 5, PlayerTurn.WHITE));
+        
+        assertTrue(engine.getStatistics().getNullMoveCutoffs() > 0L);
+        assertEquals(negamaxMove.getSourceFile(), move.getSourceFile());
+        assertEquals(negamaxMove.getSourceRank(), move.getSourceRank());
+        assertEquals(negamaxMove.getTargetFile(), move.getTargetFile());
+        assertEquals(negamaxMove.getTargetRank(), move.getTargetRank());
+    }
+    
+    @Test
+    public void restoresDoubleMoveFlagsOfRoot() throws Exception {
+        final ChessBoardState root =
+                new ChessBoardState(EN_PASSANT_DESCRIPTION);
+        
+        root.markWhitePawnInitialDoubleMove(4);
+        
+        final ChessBoardState copy = ChessBoardState.copyOf(root);
+        final AlphaBetaPruningGameEngine engine =
+                new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction());
+        
+        // Cut off without verification:
+        assertTrue(engine.nullMoveCutsOff(root,
+                                          4,
+                                          1.0,
+                                          2.0,
+                                          PlayerTurn.BLACK,
+                                          null));
+        
+        assertTrue(root.strongEquals(copy));
+        
+        // Cut off after verification:
+        assertTrue(engine.nullMoveCutsOff(root,
+                                          5,
+                                          1.0,
+                                          2.0,
+                                          PlayerTurn.BLACK,
+                                          null));
+        
+        assertTrue(root.strongEquals(copy));
+        
+        // No cutoff:
+        assertFalse(engine.nullMoveCutsOff(root,
+                                           4,
+                                           99.0,
+                                           100.0,
+                                           PlayerTurn.BLACK,
+                                           null));
+        
+        assertTrue(root.strongEquals(copy));
+        
+        engine.search(root, 4, PlayerTurn.BLACK);
+        
+        assertTrue(root.strongEquals(copy));
+        assertTrue(root.getWhiteIsPreviouslyDoubleMoved()[4]);
+        
+        // The en passant capture d4xe3 is still available:
+        boolean enPassantFound = false;
+        
+        for (final ChessBoardState child : root.expand(PlayerTurn.BLACK)) {
+            if (child.get(4, 4) == null
+                    && child.get(4, 5) != null
+                    && child.get(4, 5).isBlack()) {
+                
+                enPassantFound = true;
+            }
+        }
+        
+        assertTrue(enPassantFound);
+    }
+    
+    /**
+     * Scores the number of ranks the white pawns have advanced plus the number 
+     * of the other white pieces off their cells in {@code initialState}, minus
+     * the same for the black player. Since the pieces other than the pawns 
+     * are boxed in {@code initialState}, every move of three plies from it 
+     * costs the moving player at least one point.
+     */
+    private static final class ZugzwangHeuristicFunction
+            extends AbstractHeuristicFunction {
+        
+        private final Map<ChessBoardState, Integer> stateFrequencyMap =
+                new HashMap<>();
+        
+        private final ChessBoardState initialState;
+        
+        ZugzwangHeuristicFunction(final ChessBoardState initialState) {
+            this.initialState = new ChessBoardState(initialState);
+        }
+        
+        @Override
+        public double evaluate(final ChessBoardState state, final int depth) {
+            double score = 0.0;
+            
+            for (int rank = 0; rank < 8; rank++) {
+                for (int file = 0; file < 8; file++) {
+                    final Piece piece = state.get(file, rank);
+                    
+                    if (piece == null) {
+                        continue;
+                    }
+                    
+                    if (piece.getPieceType() == PieceType.PAWN) {
+                        score += piece.isWhite() ? 6 - rank : 1 - rank;
+                    } else if (!piece.equals(initialState.get(file, rank))) {
+                        score += piece.isWhite() ? 1.0 : -1.0;
+                    }
+                }
+            }
+            
+            return score;
+        }
+        
+        @Override
+        public void clearStateFrequencyMap() {
+            stateFrequencyMap.clear();
+        }
+        
+        @Override
+        public Map<ChessBoardState, Integer> getStateFrequencyMap() {
+            return stateFrequencyMap;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class PerThreadTest {
+    
+    @Test
+    public void pruneDropsInstancesOfTerminatedThreads()
+            throws InterruptedException {
+        
+        final PerThread<AtomicLong> perThread =
+                new PerThread<>(AtomicLong::new);
+        
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        
+        final Thread liveThread = new Thread(() -> {
+            perThread.get().addAndGet(2L);
+            started.countDown();
+            
+            try {
+                release.await();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        
+        final Thread endedThread =
+                new Thread(() -> perThread.get().addAndGet(3L));
+        
+        liveThread.start();
+        endedThread.start();
+        started.await();
+        endedThread.join();
+        
+        perThread.get().addAndGet(5L);
+        
+        assertEquals(3, perThread.size());
+        assertEquals(10L, perThread.sum(AtomicLong::get));
+        
+        perThread.prune();
+        
+        assertEquals(2, perThread.size());
+        assertEquals(7L, perThread.sum(AtomicLong::get));
+        
+        release.countDown();
+        liveThread.join();
+        perThread.prune();
+        
+        assertEquals(1, perThread.size());
+        assertEquals(5L, perThread.sum(AtomicLong::get));
+    }
+    
+    @Test
+    public void threadPerSearchDoesNotPileUpInstances() {
+        final PerThread<AtomicLong> perThread =
+                new PerThread<>(AtomicLong::new);
+        
+        for (int search = 0; search < 100; search++) {
+            final Thread thread =
+                    new Thread(() -> perThread.get().incrementAndGet());
+            
+            thread.start();
+            
+            try {
+                thread.join();
+            } catch (final InterruptedException ex) {
+                fail("Interrupted.");
+            }
+            
+            perThread.prune();
+        }
+        
+        assertEquals(0, perThread.size());
+    }
+}
@@ -0,0 +1,170 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.AbstractHeuristicFunction;
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class PruningTest {
+    
+    private static final String[] DESCRIPTION = new String[] {
+        "r...k..r",
+        "ppp..ppp",
+        "..n.....",
+        "...q....",
+        "R.......",
+        "..N..B..",
+        "PPP..PPP",
+        "....K..R",
+    };
+    
+    /**
+     * The black knight forks the white queen and rook from d3.
+     */
+    private static final String[] FORK_DESCRIPTION = new String[] {
+        "....k...",
+        "ppp.pppp",
+        "........",
+        "....n...",
+        "........",
+        "........",
+        "PP...PPP",
+        "..Q.R..K",
+    };
+    
+    @Test
+    public void prunesUnderBoundedHeuristicFunction() throws Exception {
+        final AlphaBetaPruningGameEngine engine =
+                new AlphaBetaPruningGameEngine(
+                        new MaterialHeuristicFunction(0.0));
+        
+        engine.setStatisticsEnabled(true);
+        engine.search(new ChessBoardState(DESCRIPTION), 4, PlayerTurn.BLACK);
+        
+        final SearchStatistics statistics = engine.getStatistics();
+        
+        assertTrue(statistics.getFutilityPrunes() > 0L);
+        assertTrue(statistics.getRazorings() > 0L);
+        assertTrue(statistics.getDeltaPrunes() > 0L);
+    }
+    
+    @Test
+    public void prunesUnderShannonHeuristicFunction() throws Exception {
+        final AlphaBetaPruningGameEngine engine =
+                new AlphaBetaPruningGameEngine(
+                        new ShannonHeuristicFunction());
+        
+        engine.setStatisticsEnabled(true);
+        engine.search(new ChessBoardState(FORK_DESCRIPTION), 
+                      5, 
+                      PlayerTurn.BLACK);
+        
+        final SearchStatistics statistics = engine.getStatistics();
+        
+        assertTrue(statistics.getFutilityPrunes() > 0L);
+        assertTrue(statistics.getRazorings() > 0L);
+        assertTrue(statistics.getDeltaPrunes() > 0L);
+    }
+    
+    @Test
+    public void doesNotPruneUnderUnboundedHeuristicFunction()
+            throws Exception {
+        
+        final AlphaBetaPruningGameEngine engine =
+                new AlphaBetaPruningGameEngine(
+                        new MaterialHeuristicFunction(
+                                Double.POSITIVE_INFINITY));
+        
+        engine.setStatisticsEnabled(true);
+        engine.search(new ChessBoardState(DESCRIPTION), 3, PlayerTurn.BLACK);
+        
+        final SearchStatistics statistics = engine.getStatistics();
+        
+        assertEquals(0L, statistics.getFutilityPrunes());
+        assertEquals(0L, statistics.getRazorings());
+        assertEquals(0L, statistics.getDeltaPrunes());
+    }
+    
+    @Test
+    public void pruningKeepsBestMoveOfTacticalPosition() throws Exception {
+        final ChessBoardState root = new ChessBoardState(FORK_DESCRIPTION);
+        
+        final AlphaBetaPruningGameEngine pruningEngine =
+                new AlphaBetaPruningGameEngine(
+                        new MaterialHeuristicFunction(0.0));
+        
+        final AlphaBetaPruningGameEngine fullEngine =
+                new AlphaBetaPruningGameEngine(
+                        new MaterialHeuristicFunction(0.0));
+        
+        fullEngine.setFutilityMargin(Double.POSITIVE_INFINITY);
+        fullEngine.setRazoringMargin(Double.POSITIVE_INFINITY);
+        fullEngine.setDeltaMargin(Double.POSITIVE_INFINITY);
+        
+        pruningEngine.setStatisticsEnabled(true);
+        
+        final ChessMove pruningMove =
+                ChessMove.of(root,
+                             pruningEngine.search(root, 4, PlayerTurn.BLACK));
+        
+        final ChessMove fullMove =
+                ChessMove.of(root,
+                             fullEngine.search(root, 4, PlayerTurn.BLACK));
+        
+        // The knight jumps to d3 (file 3, rank 5):
+        assertEquals(3, pruningMove.getTargetFile());
+        assertEquals(5, pruningMove.getTargetRank());
+        assertEquals(fullMove.getSourceFile(), pruningMove.getSourceFile());
+        assertEquals(fullMove.getSourceRank(), pruningMove.getSourceRank());
+        assertEquals(fullMove.getTargetFile(), pruningMove.getTargetFile());
+        assertEquals(fullMove.getTargetRank(), pruningMove.getTargetRank());
+        
+        final SearchStatistics statistics = pruningEngine.getStatistics();
+        
+        assertTrue(statistics.getFutilityPrunes()
+                 + statistics.getRazorings()
+                 + statistics.getDeltaPrunes() > 0L);
+    }
+    
+    /**
+     * Evaluates the states by their material balance only, so any 
+     * non-negative positional bound holds.
+     */
+    private static final class MaterialHeuristicFunction
+            extends AbstractHeuristicFunction {
+        
+        private final Map<ChessBoardState, Integer> stateFrequencyMap =
+                new HashMap<>();
+        
+        private final double positionalBound;
+        
+        MaterialHeuristicFunction(final double positionalBound) {
+            this.positionalBound = positionalBound;
+        }
+        
+        @Override
+        public double evaluate(final ChessBoardState state, final int depth) {
+            return state.getMaterialScore();
+        }
+        
+        @Override
+        public double getPositionalBound() {
+            return positionalBound;
+        }
+        
+        @Override
+        public void clearStateFrequencyMap() {
+            stateFrequencyMap.clear();
+        }
+        
+        @Override
+        public Map<ChessBoardState, Integer> getStateFrequencyMap() {
+            return stateFrequencyMap;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class QuietMoveHistoryTest {
+    
+    private final QuietMoveHistory history = new QuietMoveHistory();
+    
+    @Test
+    public void cutoffRewardsMove() {
+        final ChessMove move = move(4, 6, 4, 4);
+        
+        assertEquals(0, history.getHistoryScore(move));
+        
+        history.recordCutoff(move, null, 3);
+        
+        assertEquals(9, history.getHistoryScore(move));
+        
+        history.recordFailure(move, 2);
+        
+        assertTrue(history.getHistoryScore(move) < 9);
+    }
+    
+    @Test
+    public void scoresStayBounded() {
+        final ChessMove move = move(4, 6, 4, 4);
+        
+        for (int i = 0; i < 10_000; i++) {
+            history.recordCutoff(move, null, 100);
+        }
+        
+        assertTrue(history.getHistoryScore(move) <= 
+                   QuietMoveHistory.MAXIMUM_HISTORY_SCORE);
+        
+        for (int i = 0; i < 10_000; i++) {
+            history.recordFailure(move, 100);
+        }
+        
+        assertTrue(history.getHistoryScore(move) >= 
+                   -QuietMoveHistory.MAXIMUM_HISTORY_SCORE);
+    }
+    
+    @Test
+    public void ageHalvesScores() {
+        final ChessMove move = move(4, 6, 4, 4);
+        
+        history.recordCutoff(move, null, 4);
+        history.age();
+        
+        assertEquals(8, history.getHistoryScore(move));
+    }
+    
+    @Test
+    public void counterMove() {
+        final ChessMove previousMove = move(4, 6, 4, 4);
+        final ChessMove reply = move(1, 0, 2, 2);
+        final ChessMove otherReply = move(6, 0, 5, 2);
+        
+        assertFalse(history.isCounterMove(reply, previousMove));
+        
+        history.recordCutoff(reply, previousMove, 1);
+        
+        assertTrue(history.isCounterMove(reply, previousMove));
+        assertFalse(history.isCounterMove(otherReply, previousMove));
+        assertFalse(history.isCounterMove(reply, null));
+        
+        history.clear();
+        
+        assertFalse(history.isCounterMove(reply, previousMove));
+    }
+    
+    private static ChessMove move(final int sourceFile,
+                                  final int sourceRank,
+                                  final int targetFile,
+                                  final int targetRank) {
+        
+        final ChessBoardState parent = new ChessBoardState();
+        final ChessBoardState child = new ChessBoardState(parent);
+        
+        child.move(sourceFile, sourceRank, targetFile, targetRank);
+        return ChessMove.of(parent, child);
+    }
+}
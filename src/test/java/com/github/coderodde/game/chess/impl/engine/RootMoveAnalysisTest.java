@@ -0,0 +1,71 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class RootMoveAnalysisTest {
+    
+    private static final String[] HANGING_ROOK_DESCRIPTION = new String[] {
+        "....k...",
+        "........",
+        "........",
+        "R..q....",
+        "........",
+        "........",
+        "........",
+        "....K...",
+    };
+    
+    private final ExecutorService executorService = 
+            Executors.newFixedThreadPool(3);
+    
+    private final AlphaBetaPruningGameEngine engine = 
+            new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction());
+    
+    @After
+    public void after() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    public void scoresAllRootMoves() {
+        final ChessBoardState root = 
+                new ChessBoardState(HANGING_ROOK_DESCRIPTION);
+        
+        final List<RootMoveScore> scores = 
+                engine.analyzeRootMoves(root, 
+                                        2, 
+                                        PlayerTurn.BLACK, 
+                                        executorService);
+        
+        assertEquals(root.expand(PlayerTurn.BLACK).size(), scores.size());
+        
+        final RootMoveScore best = scores.get(0);
+        final ChessMove bestMove = best.getMove();
+        
+        assertTrue(best.isExact());
+        assertTrue(bestMove.isCapture());
+        assertEquals(0, bestMove.getTargetFile());
+        assertEquals(3, bestMove.getTargetRank());
+        
+        for (final RootMoveScore score : scores) {
+            assertTrue(score.getScore() <= best.getScore());
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnBadDepth() {
+        engine.analyzeRootMoves(new ChessBoardState(), 
+                                0,
+                                PlayerTurn.WHITE, 
+                                executorService);
+    }
+}
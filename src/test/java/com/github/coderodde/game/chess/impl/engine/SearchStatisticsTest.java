@@ -0,0 +1,63 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class SearchStatisticsTest {
+    
+    private static final String[] DESCRIPTION = new String[] {
+        "r...k..r",
+        "ppp..ppp",
+        "..n.....",
+        "...q....",
+        "R.......",
+        "..N..B..",
+        "PPP..PPP",
+        "....K..R",
+    };
+    
+    private final AlphaBetaPruningGameEngine engine =
+            new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction());
+    
+    @Test
+    public void disabledByDefault() throws Exception {
+        engine.search(new ChessBoardState(DESCRIPTION), 2, PlayerTurn.BLACK);
+        
+        assertFalse(engine.isStatisticsEnabled());
+        assertNull(engine.getStatistics());
+    }
+    
+    @Test
+    public void collectsStatistics() throws Exception {
+        engine.setStatisticsEnabled(true);
+        engine.search(new ChessBoardState(DESCRIPTION), 3, PlayerTurn.BLACK);
+        
+        final SearchStatistics statistics = engine.getStatistics();
+        
+        assertEquals(3, statistics.getDepth());
+        assertTrue(statistics.getNodes() > 0L);
+        assertTrue(statistics.getQuiescenceNodes() > 0L);
+        assertTrue(statistics.getBetaCutoffs() > 0L);
+        assertTrue(statistics.getFirstMoveBetaCutoffs()
+                <= statistics.getBetaCutoffs());
+        assertTrue(statistics.getFirstMoveCutoffRatio() <= 1.0);
+        assertTrue(statistics.getSelectiveDepth() >= 3);
+        assertTrue(statistics.getEffectiveBranchingFactor() > 1.0);
+    }
+    
+    @Test
+    public void collectsStatisticsOfRootMoveAnalysis() {
+        engine.setStatisticsEnabled(true);
+        engine.analyzeRootMoves(new ChessBoardState(DESCRIPTION),
+                                2,
+                                PlayerTurn.BLACK);
+        
+        final SearchStatistics statistics = engine.getStatistics();
+        
+        assertEquals(2, statistics.getDepth());
+        assertTrue(statistics.getNodes() > 0L);
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.EndgameTablebase;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceColor;
+import com.github.coderodde.game.chess.PieceType;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.WinDrawLoss;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class TablebaseSearchTest {
+    
+    private static final String[] DESCRIPTION = new String[] {
+        "k.......",
+        "........",
+        "........",
+        "...r....",
+        "........",
+        "........",
+        "........",
+        ".......K",
+    };
+    
+    private final AlphaBetaPruningGameEngine engine =
+            new AlphaBetaPruningGameEngine(new ShannonHeuristicFunction());
+    
+    @Test
+    public void picksRootMoveByTablebase() throws Exception {
+        engine.setEndgameTablebase(new RookTablebase(true));
+        engine.setStatisticsEnabled(true);
+        
+        final ChessBoardState next =
+                engine.search(new ChessBoardState(DESCRIPTION),
+                              4,
+                              PlayerTurn.BLACK);
+        
+        // Both the rook moves to the edges win; the one to the rank seven
+        // mates sooner:
+        final Piece rook = next.get(3, 7);
+        
+        assertNotNull(rook);
+        assertEquals(PieceType.ROOK, rook.getPieceType());
+        assertEquals(PieceColor.BLACK, rook.getPieceColor());
+        assertEquals(0L, engine.getStatistics().getNodes());
+    }
+    
+    @Test
+    public void probesTablebaseInsideSearch() throws Exception {
+        engine.setEndgameTablebase(new RookTablebase(false));
+        engine.setStatisticsEnabled(true);
+        engine.search(new ChessBoardState(DESCRIPTION), 3, PlayerTurn.BLACK);
+        
+        assertTrue(engine.getStatistics().getTablebaseHits() > 0L);
+        assertEquals(engine.getStatistics().getTablebaseHits(),
+                     engine.getStatistics().getNodes());
+    }
+    
+    /**
+     * A tablebase of the rook and king versus king where the black rook on the
+     * file seven or the rank seven wins, the former in nine plies and the
+     * latter in five, and the rest is a draw.
+     */
+    private static final class RookTablebase implements EndgameTablebase {
+        
+        private final boolean knowsDistances;
+        
+        RookTablebase(final boolean knowsDistances) {
+            this.knowsDistances = knowsDistances;
+        }
+        
+        @Override
+        public int getMaximumPieceCount() {
+            return 3;
+        }
+        
+        @Override
+        public WinDrawLoss probeWinDrawLoss(final ChessBoardState state,
+                                            final PlayerTurn playerTurn) {
+            final WinDrawLoss value =
+                    getRookFile(state) == 7 || getRookRank(state) == 7 ?
+                    WinDrawLoss.WIN :
+                    WinDrawLoss.DRAW;
+            
+            return playerTurn == PlayerTurn.BLACK ? value : value.negate();
+        }
+        
+        @Override
+        public int probeDistance(final ChessBoardState state,
+                                 final PlayerTurn playerTurn) {
+            if (!knowsDistances) {
+                return -1;
+            }
+            
+            return getRookRank(state) == 7 ? 5 : 9;
+        }
+        
+        private static int getRookFile(final ChessBoardState state) {
+            return getRookSquare(state) % ChessBoardState.N;
+        }
+        
+        private static int getRookRank(final ChessBoardState state) {
+            return getRookSquare(state) / ChessBoardState.N;
+        }
+        
+        private static int getRookSquare(final ChessBoardState state) {
+            for (int rank = 0; rank < ChessBoardState.N; rank++) {
+                for (int file = 0; file < ChessBoardState.N; file++) {
+                    final Piece piece = state.get(file, rank);
+                    
+                    if (piece != null
+                            && piece.getPieceType() == PieceType.ROOK) {
+                        return rank * ChessBoardState.N + file;
+                    }
+                }
+            }
+            
+            return -1;
+        }
+    }
+}
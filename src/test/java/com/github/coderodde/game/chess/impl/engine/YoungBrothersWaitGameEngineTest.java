@@ -0,0 +1,110 @@
+package com.github.coderodde.game.chess.impl.engine;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.ChessMove;
+import static com.github.coderodde.game.chess.PieceColor.BLACK;
+import static com.github.coderodde.game.chess.PieceType.QUEEN;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.impl.ShannonHeuristicFunction;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.After;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class YoungBrothersWaitGameEngineTest {
+    
+    private static final String[] HANGING_ROOK_DESCRIPTION = new String[] {
+        "....k...",
+        "........",
+        "........",
+        "R..q....",
+        "........",
+        "........",
+        "........",
+        "....K...",
+    };
+    
+    private static final String[] MIDDLEGAME_DESCRIPTION = new String[] {
+        "r...k..r",
+        "ppp..ppp",
+        "..n.....",
+        "...q....",
+        "R.......",
+        "..N..B..",
+        "PPP..PPP",
+        "....K..R",
+    };
+    
+    private final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+    
+    private final YoungBrothersWaitGameEngine engine = 
+            new YoungBrothersWaitGameEngine(new ShannonHeuristicFunction(),
+                                            forkJoinPool);
+    
+    @After
+    public void after() {
+        forkJoinPool.shutdown();
+    }
+    
+    @Test
+    public void blackCapturesHangingRook() {
+        final ChessBoardState root = 
+                new ChessBoardState(HANGING_ROOK_DESCRIPTION);
+        
+        final ChessBoardState next = engine.search(root, 3, PlayerTurn.BLACK);
+        final ChessMove move = ChessMove.of(root, next);
+        
+        assertTrue(move.isCapture());
+        assertEquals(0, move.getTargetFile());
+        assertEquals(3, move.getTargetRank());
+        assertEquals(BLACK, move.getMovedPiece().getPieceColor());
+        assertEquals(QUEEN, move.getMovedPiece().getPieceType());
+    }
+    
+    @Test
+    public void sameMoveAsSingleThread() {
+        final ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        
+        try {
+            final YoungBrothersWaitGameEngine serialEngine = 
+                    new YoungBrothersWaitGameEngine(
+                            new ShannonHeuristicFunction(),
+                            singleThreadPool);
+            
+            final ChessBoardState root = 
+                    new ChessBoardState(MIDDLEGAME_DESCRIPTION);
+            
+            assertEquals(serialEngine.search(root, 3, PlayerTurn.BLACK),
+                         engine.search(root, 3, PlayerTurn.BLACK));
+        } finally {
+            singleThreadPool.shutdown();
+        }
+    }
+    
+    @Test
+    public void sameMoveAsSingleThreadUnderNestedSplitNodes() {
+        final ForkJoinPool singleThreadPool = new ForkJoinPool(1);
+        
+        try {
+            final YoungBrothersWaitGameEngine serialEngine = 
+                    new YoungBrothersWaitGameEngine(
+                            new ShannonHeuristicFunction(),
+                            singleThreadPool);
+            
+            final ChessBoardState root = 
+                    new ChessBoardState(MIDDLEGAME_DESCRIPTION);
+            
+            // At depth 4 the young brothers split too, so their beta bounds
+            // follow the alpha bounds raised by the siblings:
+            assertEquals(serialEngine.search(root, 4, PlayerTurn.WHITE),
+                         engine.search(root, 4, PlayerTurn.WHITE));
+        } finally {
+            singleThreadPool.shutdown();
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class) 
+    public void throwsOnBadDepth() {
+        engine.search(new ChessBoardState(), 0, PlayerTurn.WHITE);
+    }
+}
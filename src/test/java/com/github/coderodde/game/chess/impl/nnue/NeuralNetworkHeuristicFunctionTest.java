@@ -0,0 +1,185 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PlayerTurn;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+public final class NeuralNetworkHeuristicFunctionTest {
+    
+    private static final String[] DESCRIPTION = new String[] {
+        "r...k..r",
+        "ppp..ppp",
+        "..n.....",
+        "...q....",
+        "R.......",
+        "..N..B..",
+        "PPP..PPP",
+        "....K..R",
+    };
+    
+    private final NeuralNetwork network = createRandomNetwork(16, 8, 4, 13L);
+    
+    @Test
+    public void incrementalUpdatesMatchRefreshes() {
+        final NeuralNetworkHeuristicFunction incremental = 
+                new NeuralNetworkHeuristicFunction(network);
+        
+        for (final ChessBoardState state : getLeaves()) {
+            final NeuralNetworkHeuristicFunction refreshing = 
+                    new NeuralNetworkHeuristicFunction(network);
+            
+            assertEquals(refreshing.evaluate(state, 0), 
+                         incremental.evaluate(state, 0),
+                         0.0);
+        }
+    }
+    
+    @Test
+    public void vectorOperationsMatchScalarOperations() {
+        final VectorOperations best = VectorOperations.getBest();
+        
+        assumeTrue(best instanceof VectorApiOperations);
+        
+        final NeuralNetworkHeuristicFunction scalar = 
+                new NeuralNetworkHeuristicFunction(network, 
+                                                   new ScalarOperations());
+        
+        final NeuralNetworkHeuristicFunction vector = 
+                new NeuralNetworkHeuristicFunction(network, best);
+        
+        for (final ChessBoardState state : getLeaves()) {
+            assertEquals(scalar.evaluate(state, 0), 
+                         vector.evaluate(state, 0), 
+                         0.0);
+        }
+    }
+    
+    @Test
+    public void writesAndLoads() throws IOException {
+        final Path file = Files.createTempFile("network", ".nnue");
+        
+        try {
+            network.write(file);
+            
+            final NeuralNetwork loaded = NeuralNetwork.load(file);
+            
+            assertEquals(16, loaded.getAccumulatorSize());
+            assertEquals(8, loaded.getFirstHiddenSize());
+            assertEquals(4, loaded.getSecondHiddenSize());
+            assertArrayEquals(network.featureWeights, loaded.featureWeights);
+            assertArrayEquals(network.firstWeights, loaded.firstWeights);
+            assertArrayEquals(network.secondBiases, loaded.secondBiases);
+            assertEquals(network.outputBias, loaded.outputBias);
+            
+            final ChessBoardState state = new ChessBoardState(DESCRIPTION);
+            
+            assertEquals(
+                    new NeuralNetworkHeuristicFunction(network)
+                            .evaluate(state, 0),
+                    new NeuralNetworkHeuristicFunction(loaded)
+                            .evaluate(state, 0), 
+                    0.0);
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test(expected = IOException.class)
+    public void throwsOnBadFile() throws IOException {
+        final Path file = Files.createTempFile("network", ".nnue");
+        
+        try {
+            Files.write(file, new byte[100]);
+            NeuralNetwork.load(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+    
+    @Test
+    public void scoresMissingKing() {
+        final ChessBoardState state = new ChessBoardState(DESCRIPTION);
+        state.clear(4, 7);
+        
+        assertEquals(500.0, 
+                     new NeuralNetworkHeuristicFunction(network)
+                             .evaluate(state, 0), 
+                     0.0);
+    }
+    
+    private static List<ChessBoardState> getLeaves() {
+        final List<ChessBoardState> leaves = new ArrayList<>();
+        
+        for (final ChessBoardState child : 
+                new ChessBoardState(DESCRIPTION).expand(PlayerTurn.BLACK)) {
+            
+            leaves.addAll(child.expand(PlayerTurn.WHITE));
+        }
+        
+        return leaves;
+    }
+    
+    static NeuralNetwork createRandomNetwork(final int accumulatorSize,
+                                             final int firstHiddenSize,
+                                             final int secondHiddenSize,
+                                             final long seed) {
+        final Random random = new Random(seed);
+        final short[] featureWeights = 
+                new short[HalfKp.FEATURES * accumulatorSize];
+        
+        for (int i = 0; i < featureWeights.length; i++) {
+            featureWeights[i] = (short)(random.nextInt(65) - 32);
+        }
+        
+        final short[] featureBiases = new short[accumulatorSize];
+        
+        for (int i = 0; i < featureBiases.length; i++) {
+            featureBiases[i] = (short)(random.nextInt(129) - 64);
+        }
+        
+        return new NeuralNetwork(
+                accumulatorSize,
+                firstHiddenSize,
+                secondHiddenSize,
+                featureWeights,
+                featureBiases,
+                randomBytes(random, 2 * accumulatorSize * firstHiddenSize, 16),
+                randomInts(random, firstHiddenSize, 1024),
+                randomBytes(random, firstHiddenSize * secondHiddenSize, 16),
+                randomInts(random, secondHiddenSize, 1024),
+                randomBytes(random, secondHiddenSize, 127),
+                random.nextInt(1024));
+    }
+    
+    private static byte[] randomBytes(final Random random, 
+                                      final int length, 
+                                      final int bound) {
+        final byte[] values = new byte[length];
+        
+        for (int i = 0; i < length; i++) {
+            values[i] = (byte)(random.nextInt(2 * bound + 1) - bound);
+        }
+        
+        return values;
+    }
+    
+    private static int[] randomInts(final Random random, 
+                                    final int length, 
+                                    final int bound) {
+        final int[] values = new int[length];
+        
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextInt(2 * bound + 1) - bound;
+        }
+        
+        return values;
+    }
+}
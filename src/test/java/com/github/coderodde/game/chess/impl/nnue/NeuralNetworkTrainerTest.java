@@ -0,0 +1,140 @@
+package com.github.coderodde.game.chess.impl.nnue;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PlayerTurn;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class NeuralNetworkTrainerTest {
+    
+    private static final String[] DESCRIPTION = new String[] {
+        "r...k..r",
+        "ppp..ppp",
+        "..n.....",
+        "...q....",
+        "R.......",
+        "..N..B..",
+        "PPP..PPP",
+        "....K..R",
+    };
+    
+    private Path data;
+    private List<ChessBoardState> states;
+    
+    @Before
+    public void before() throws IOException {
+        data = Files.createTempFile("training", ".data");
+        states = getLeaves();
+        
+        try (final TrainingDataWriter writer = new TrainingDataWriter(data)) {
+            for (final ChessBoardState state : states) {
+                final double material = state.getMaterialScore();
+                
+                writer.write(state, 
+                             (int) Math.round(100.0 * material), 
+                             material > 0.0 ? 1.0 : 
+                                     (material < 0.0 ? 0.0 : 0.5));
+            }
+        }
+    }
+    
+    @After
+    public void after() throws IOException {
+        Files.delete(data);
+    }
+    
+    @Test
+    public void readsWrittenPositions() throws IOException {
+        final TrainingBatch batch = new TrainingBatch(states.size());
+        
+        try (final TrainingDataReader reader = 
+                new TrainingDataReader(data, states.size())) {
+            
+            assertTrue(reader.read(batch));
+            assertEquals(states.size(), batch.size);
+            assertFalse(reader.read(batch));
+        }
+        
+        final byte[] cells = new byte[HalfKp.SQUARES];
+        TrainingDataWriter.encode(states.get(0), cells, 0);
+        
+        for (int i = 0; i < HalfKp.SQUARES; i++) {
+            assertEquals(cells[i], batch.cells[i]);
+        }
+        
+        assertEquals(Math.round(100.0 * states.get(0).getMaterialScore()), 
+                     batch.scores[0]);
+    }
+    
+    @Test
+    public void lossDecreases() throws IOException {
+        final NeuralNetworkTrainer trainer = 
+                new NeuralNetworkTrainer(16, 8, 4, 1L);
+        
+        trainer.setBatchSize(64);
+        trainer.setThreads(3);
+        trainer.setLearningRate(1e-2);
+        
+        final double initialLoss = trainer.train(data, 1);
+        final double finalLoss = trainer.train(data, 10);
+        
+        assertTrue(finalLoss < initialLoss);
+    }
+    
+    @Test
+    public void quantizedNetworkMatchesTrainedNetwork() throws IOException {
+        final NeuralNetworkTrainer trainer = 
+                new NeuralNetworkTrainer(16, 8, 4, 2L);
+        
+        trainer.setBatchSize(128);
+        trainer.setThreads(2);
+        trainer.train(data, 2);
+        
+        final NeuralNetworkHeuristicFunction heuristicFunction = 
+                new NeuralNetworkHeuristicFunction(trainer.toNeuralNetwork());
+        
+        for (final ChessBoardState state : states.subList(0, 50)) {
+            assertEquals(trainer.predict(state), 
+                         heuristicFunction.evaluate(state, 0), 
+                         0.1);
+        }
+    }
+    
+    @Test
+    public void trainingIsDeterministic() throws IOException {
+        final NeuralNetworkTrainer trainer1 = 
+                new NeuralNetworkTrainer(8, 4, 4, 3L);
+        
+        final NeuralNetworkTrainer trainer2 = 
+                new NeuralNetworkTrainer(8, 4, 4, 3L);
+        
+        trainer1.setThreads(1);
+        trainer2.setThreads(4);
+        
+        assertEquals(trainer1.train(data, 2), trainer2.train(data, 2), 1e-6);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void throwsOnBadBatchSize() {
+        new NeuralNetworkTrainer(8, 4, 4, 3L).setBatchSize(0);
+    }
+    
+    private static List<ChessBoardState> getLeaves() {
+        final List<ChessBoardState> leaves = new ArrayList<>();
+        
+        for (final ChessBoardState child : 
+                new ChessBoardState(DESCRIPTION).expand(PlayerTurn.BLACK)) {
+            
+            leaves.addAll(child.expand(PlayerTurn.WHITE));
+        }
+        
+        return leaves;
+    }
+}
@@ -0,0 +1,120 @@
+package com.github.coderodde.game.chess.impl.pgn;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class PgnParserTest {
+    
+    private static final String[] MOVETEXTS = {
+        "1. e4 e5 2. Nf3 Nc6 3. Bc4 Nf6 4. O-O Bc5 1-0",
+        "{A comment\nspanning lines.} 1. e4 c5 2. Nf3 d6 1/2-1/2",
+        "1. d4 d5 (1... Nf6 2. c4\n e6) 2. c4 e6 0-1",
+        "1. e4 e5 2. Nf3 Nc6 3. Bc4 Bc5 *",
+    };
+    
+    private static final int GAME_COUNT = 2000;
+    
+    private Path directory;
+    private Path file;
+    
+    @Before
+    public void before() throws IOException {
+        directory = Files.createTempDirectory("pgn");
+        file = directory.resolve("games.pgn");
+        
+        final StringBuilder pgn = new StringBuilder();
+        
+        for (int game = 0; game < GAME_COUNT; game++) {
+            pgn.append(String.format("[Event \"Game %d\"]%n", game))
+               .append(String.format("[Round \"%d\"]%n%n", game % 7))
+               .append(MOVETEXTS[game % MOVETEXTS.length])
+               .append(String.format("%n%n"));
+        }
+        
+        Files.writeString(file, pgn);
+    }
+    
+    @After
+    public void after() throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder())
+                                        .toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+    
+    @Test
+    public void parallelStreamReadsEachGameOnce() throws IOException {
+        final List<String> expected;
+        
+        try (final Stream<PgnGame> games = PgnParser.games(file)) {
+            expected = games.map(game -> game.getTag("Event")).toList();
+        }
+        
+        assertEquals(GAME_COUNT, expected.size());
+        
+        for (final int chunkCount : new int[] { 1, 7, 64, 5 * GAME_COUNT }) {
+            try (final Stream<PgnGame> games =
+                    PgnParser.parallelGames(file, chunkCount)) {
+                
+                assertEquals(expected,
+                             games.map(game -> game.getTag("Event"))
+                                  .toList());
+            }
+        }
+    }
+    
+    @Test
+    public void parallelStreamReplaysMoves() throws IOException {
+        try (final Stream<PgnGame> games = PgnParser.parallelGames(file, 8)) {
+            final int[] moveCounts = games.filter(PgnGame::isComplete)
+                                          .mapToInt(game -> game.getMoves()
+                                                                .size())
+                                          .toArray();
+            
+            assertEquals(GAME_COUNT, moveCounts.length);
+            
+            for (int game = 0; game < GAME_COUNT; game++) {
+                assertEquals(new int[] { 8, 4, 4, 6 }[game % 4],
+                             moveCounts[game]);
+            }
+        }
+    }
+    
+    @Test
+    public void findsGameStartsAfterMovetext() throws IOException {
+        final String text = Files.readString(file);
+        final int secondGame = text.indexOf("[Event \"Game 1\"]");
+        final int thirdGame = text.indexOf("[Event \"Game 2\"]");
+        
+        try (final FileChannel channel = FileChannel.open(file)) {
+            assertEquals(0L, PgnParser.findGameStart(channel, 0L));
+            assertEquals(secondGame, PgnParser.findGameStart(channel, 1L));
+            
+            assertEquals(secondGame,
+                         PgnParser.findGameStart(channel, secondGame - 3L));
+            
+            // The blank line before the second game is not movetext:
+            assertEquals(thirdGame,
+                         PgnParser.findGameStart(channel, secondGame - 1L));
+            
+            // The tag section of the second game is passed:
+            assertEquals(thirdGame,
+                         PgnParser.findGameStart(channel, secondGame + 3L));
+            
+            assertEquals(channel.size(),
+                         PgnParser.findGameStart(channel,
+                                                 channel.size() - 5L));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.coderodde.game.chess.impl.pgn;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.Piece;
+import com.github.coderodde.game.chess.PieceColor;
+import com.github.coderodde.game.chess.PieceType;
+import java.io.ByteArrayInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class PgnReaderTest {
+    
+    private static final String TACTICS =
+            "1. e4 d5 2. e5 f5 3. exf6 a6 4. fxg7 Nf6 5. gxh8=Q ";
+    
+    @Test
+    public void readsTagsAndSkipsAnnotations() {
+        final PgnReader reader =
+                reader("[Event \"Casual \\\"blitz\\\" game\"]\n"
+                       + "[Result \"0-1\"]\n\n"
+                       + "1. d4 {A comment (with a paren)} d5 "
+                       + "(1... Nf6 2. c4 (2. Nf3) e6) 2.c4 $1 e6!? ; note\n"
+                       + "0-1\n\n"
+                       + "[Event \"Second\"]\n\n1. e4 *\n");
+        
+        assertTrue(reader.hasNext());
+        
+        final PgnGame game = reader.next();
+        
+        assertEquals("Casual \"blitz\" game", game.getTag("Event"));
+        assertEquals(List.of("Event", "Result"),
+                     List.copyOf(game.getTags().keySet()));
+        
+        assertEquals("0-1", game.getResult());
+        assertTrue(game.isComplete());
+        assertEquals(4, game.getMoves().size());
+        
+        final PgnMove lastMove = game.getMoves().get(3);
+        
+        assertEquals(4, lastMove.getSourceFile());
+        assertEquals(1, lastMove.getSourceRank());
+        assertEquals(2, lastMove.getTargetRank());
+        
+        final PgnGame secondGame = reader.next();
+        
+        assertEquals("Second", secondGame.getTag("Event"));
+        assertEquals("*", secondGame.getResult());
+        assertEquals(1, secondGame.getMoves().size());
+        assertFalse(reader.hasNext());
+    }
+    
+    @Test
+    public void resolvesEnPassantPromotionAndDisambiguation() {
+        final PgnGame game = read(TACTICS + "Nbd7 1-0");
+        
+        assertTrue(game.isComplete());
+        assertEquals(10, game.getMoves().size());
+        
+        // The black pawn of f5 is captured en passant:
+        final ChessBoardState afterEnPassant = game.getMoves()
+                                                   .get(4)
+                                                   .getState();
+        
+        assertNull(afterEnPassant.get(5, 3));
+        assertEquals(PieceType.PAWN, afterEnPassant.get(5, 2).getPieceType());
+        
+        final PgnMove promotion = game.getMoves().get(8);
+        final Piece queen = promotion.getState().get(7, 0);
+        
+        assertEquals(PieceType.QUEEN, promotion.getPromotionPieceType());
+        assertEquals(PieceType.QUEEN, queen.getPieceType());
+        assertEquals(PieceColor.WHITE, queen.getPieceColor());
+        
+        assertEquals(1, game.getMoves().get(9).getSourceFile());
+    }
+    
+    @Test
+    public void stopsAtAmbiguousMove() {
+        final PgnGame game = read(TACTICS + "Nd7 6. Qh5 1-0");
+        
+        assertFalse(game.isComplete());
+        assertEquals(9, game.getMoves().size());
+        assertEquals("1-0", game.getResult());
+    }
+    
+    @Test
+    public void relocatesRookWhenCastling() {
+        final PgnGame game =
+                read("1. e4 e5 2. Nf3 Nc6 3. Bc4 Nf6 4. O-O Bc5 5. d3 O-O *");
+        
+        assertTrue(game.isComplete());
+        
+        final PgnMove castling = game.getMoves().get(6);
+        final ChessBoardState state = castling.getState();
+        
+        assertTrue(castling.isCastling());
+        assertEquals(6, castling.getTargetFile());
+        assertEquals(PieceType.KING, state.get(6, 7).getPieceType());
+        assertEquals(PieceType.ROOK, state.get(5, 7).getPieceType());
+        assertNull(state.get(7, 7));
+        assertEquals(6, state.getWhiteKingFile());
+        assertEquals(6, game.getMoves()
+                            .get(9)
+                            .getState()
+                            .getBlackKingFile());
+    }
+    
+    @Test
+    public void skipsGamesFromCustomPositions() {
+        final PgnGame game =
+                read("[FEN \"8/8/8/8/8/8/8/K6k w - - 0 1\"]\n1. Kb1 *");
+        
+        assertFalse(game.isComplete());
+        assertTrue(game.getMoves().isEmpty());
+    }
+    
+    @Test
+    public void readsNoGamesFromEmptyInput() {
+        assertFalse(reader(" \n\n").hasNext());
+    }
+    
+    private static PgnGame read(final String pgn) {
+        return reader(pgn).next();
+    }
+    
+    private static PgnReader reader(final String pgn) {
+        return new PgnReader(
+                Channels.newChannel(
+                        new ByteArrayInputStream(
+                                pgn.getBytes(StandardCharsets.ISO_8859_1))));
+    }
+}
@@ -0,0 +1,257 @@
+package com.github.coderodde.game.chess.impl.tablebase;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.WinDrawLoss;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class GeneratedTablebasesTest {
+    
+    private static final String[] DESCRIPTION = new String[] {
+        "........",
+        "..k.....",
+        "........",
+        "........",
+        ".....R..",
+        "........",
+        "......K.",
+        "........",
+    };
+    
+    private Path directory;
+    
+    @Before
+    public void before() throws IOException {
+        directory = Files.createTempDirectory("tablebases");
+    }
+    
+    @After
+    public void after() throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder())
+                                        .toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+    
+    @Test
+    public void readsBackBlocksThroughCache() throws IOException {
+        final Path path = directory.resolve("test.dtm");
+        final long entryCount = 10_000L;
+        
+        TablebaseFile.write(path,
+                            TablebaseFile.Metric.DTM,
+                            entryCount,
+                            256,
+                            index -> (int)(index * 31 % 1000));
+        
+        final BlockCache blockCache = new BlockCache(4);
+        final TablebaseFile file = TablebaseFile.open(path, blockCache);
+        
+        assertEquals(TablebaseFile.Metric.DTM, file.getMetric());
+        assertEquals(entryCount, file.getEntryCount());
+        
+        for (long index = 0L; index < entryCount; index++) {
+            assertEquals(index * 31 % 1000, file.get(index));
+        }
+        
+        assertEquals(4, blockCache.size());
+        assertEquals(40L, blockCache.getMisses());
+        
+        file.get(entryCount - 1L);
+        
+        assertEquals(40L, blockCache.getMisses());
+    }
+    
+    @Test(expected = IOException.class)
+    public void rejectsForeignFile() throws IOException {
+        final Path path = directory.resolve("KRvK.wdl.ctbl");
+        Files.write(path, new byte[100]);
+        GeneratedTablebases.load(directory);
+    }
+    
+    @Test
+    public void decodeInvertsIndex() {
+        for (final String name : List.of("KRvK", "KPvK", "KBNvK")) {
+            final MaterialSignature signature = MaterialSignature.parse(name);
+            final int[] squares = new int[signature.getPieceCount()];
+            final SplittableRandom random = new SplittableRandom(13L);
+            
+            for (int i = 0; i < 1000; i++) {
+                final long index = random.nextLong(signature.getEntryCount());
+                final boolean firstSideToMove =
+                        signature.decode(index, squares);
+                
+                assertEquals(index,
+                             signature.getIndex(squares, firstSideToMove));
+            }
+        }
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsWeakerFirstSide() {
+        MaterialSignature.parse("KvKR");
+    }
+    
+    @Test
+    public void symmetricPositionsShareEntries() throws IOException {
+        writeTable("KRvK");
+        
+        final GeneratedTablebases tablebases =
+                GeneratedTablebases.load(directory, 16);
+        final ChessBoardState state = new ChessBoardState(DESCRIPTION);
+        final int distance = tablebases.probeDistance(state, PlayerTurn.WHITE);
+        
+        assertEquals(List.of("KRvK"), tablebases.getMaterialSignatures());
+        assertEquals(3, tablebases.getMaximumPieceCount());
+        assertEquals(getExpectedDistance("KRvK",
+                                         true,
+                                         squareOf(6, 6),
+                                         squareOf(5, 4),
+                                         squareOf(2, 1)),
+                     distance);
+        
+        assertEquals(distance,
+                     tablebases.probeDistance(mirrorFiles(DESCRIPTION),
+                                              PlayerTurn.WHITE));
+        
+        assertEquals(distance,
+                     tablebases.probeDistance(mirrorRanks(DESCRIPTION),
+                                              PlayerTurn.WHITE));
+        
+        assertEquals(distance,
+                     tablebases.probeDistance(swapColors(DESCRIPTION),
+                                              PlayerTurn.BLACK));
+        
+        assertEquals(tablebases.probeWinDrawLoss(state, PlayerTurn.BLACK),
+                     tablebases.probeWinDrawLoss(swapColors(DESCRIPTION),
+                                                 PlayerTurn.WHITE));
+    }
+    
+    @Test
+    public void missingAndIllegalPositionsHaveNoValue() throws IOException {
+        writeTable("KRvK");
+        
+        final GeneratedTablebases tablebases =
+                GeneratedTablebases.load(directory);
+        final ChessBoardState state = new ChessBoardState(DESCRIPTION);
+        
+        // The white rook checks the black king, with white to move:
+        state.move(5, 4, 2, 4);
+        
+        assertNull(tablebases.probeWinDrawLoss(state, PlayerTurn.WHITE));
+        assertEquals(-1, tablebases.probeDistance(state, PlayerTurn.WHITE));
+        assertNotNull(tablebases.probeWinDrawLoss(state, PlayerTurn.BLACK));
+        
+        final ChessBoardState queenState = new ChessBoardState(DESCRIPTION);
+        queenState.set(0, 0, new ChessBoardState().get(3, 7));
+        
+        assertNull(tablebases.probeWinDrawLoss(queenState, PlayerTurn.WHITE));
+    }
+    
+    /**
+     * Writes a table with the win/draw/loss values cycling through the 
+     * indices and a distance table with the distances equal to the indices
+     * modulo 1000. The positions where the king not to move shares the file 
+     * with the rook are illegal.
+     */
+    private void writeTable(final String name) throws IOException {
+        final MaterialSignature signature = MaterialSignature.parse(name);
+        
+        TablebaseFile.write(
+                TablebaseFile.getPath(directory, 
+                                      name, 
+                                      TablebaseFile.Metric.WDL),
+                TablebaseFile.Metric.WDL,
+                signature.getEntryCount(),
+                1024,
+                index -> isIllegal(signature, index) ? 
+                         TablebaseFile.ILLEGAL : 
+                         (int)(index % 3L) - 1);
+        
+        TablebaseFile.write(
+                TablebaseFile.getPath(directory, 
+                                      name, 
+                                      TablebaseFile.Metric.DTM),
+                TablebaseFile.Metric.DTM,
+                signature.getEntryCount(),
+                1024,
+                index -> isIllegal(signature, index) ? 
+                         TablebaseFile.ILLEGAL : 
+                         (int)(index % 1000L));
+    }
+    
+    private static boolean isIllegal(final MaterialSignature signature,
+                                     final long index) {
+        final int[] squares = new int[signature.getPieceCount()];
+        
+        return signature.decode(index, squares) 
+            && (squares[1] & 7) == (squares[2] & 7);
+    }
+    
+    private static int getExpectedDistance(final String name,
+                                           final boolean firstSideToMove,
+                                           final int... squares) {
+        return (int)(MaterialSignature.parse(name)
+                                      .getIndex(squares, firstSideToMove)
+                     % 1000L);
+    }
+    
+    private static int squareOf(final int file, final int rank) {
+        return rank * ChessBoardState.N + file;
+    }
+    
+    private static ChessBoardState mirrorFiles(final String[] description) {
+        final String[] mirrored = new String[description.length];
+        
+        for (int rank = 0; rank < description.length; rank++) {
+            mirrored[rank] =
+                    new StringBuilder(description[rank]).reverse().toString();
+        }
+        
+        return new ChessBoardState(mirrored);
+    }
+    
+    private static ChessBoardState mirrorRanks(final String[] description) {
+        return new ChessBoardState(mirror(description));
+    }
+    
+    private static ChessBoardState swapColors(final String[] description) {
+        final String[] swapped = mirror(description);
+        
+        for (int rank = 0; rank < swapped.length; rank++) {
+            final StringBuilder stringBuilder = new StringBuilder();
+            
+            for (final char c : swapped[rank].toCharArray()) {
+                stringBuilder.append(Character.isUpperCase(c) ?
+                                     Character.toLowerCase(c) :
+                                     Character.toUpperCase(c));
+            }
+            
+            swapped[rank] = stringBuilder.toString();
+        }
+        
+        return new ChessBoardState(swapped);
+    }
+    
+    private static String[] mirror(final String[] description) {
+        final String[] mirrored = new String[description.length];
+        
+        for (int rank = 0; rank < description.length; rank++) {
+            mirrored[rank] = description[description.length - 1 - rank];
+        }
+        
+        return mirrored;
+    }
+}
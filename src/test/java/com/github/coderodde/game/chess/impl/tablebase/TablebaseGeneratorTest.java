@@ -0,0 +1,211 @@
+package com.github.coderodde.game.chess.impl.tablebase;
+
+import com.github.coderodde.game.chess.ChessBoardState;
+import com.github.coderodde.game.chess.PlayerTurn;
+import com.github.coderodde.game.chess.WinDrawLoss;
+import com.github.coderodde.game.chess.impl.attackcheck.BlackUnderAttackCheck;
+import com.github.coderodde.game.chess.impl.attackcheck.WhiteUnderAttackCheck;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public final class TablebaseGeneratorTest {
+    
+    private Path directory;
+    
+    @Before
+    public void before() throws IOException {
+        directory = Files.createTempDirectory("tablebases");
+    }
+    
+    @After
+    public void after() throws IOException {
+        try (final Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder())
+                                        .toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+    
+    @Test
+    public void findsLongestMates() throws IOException {
+        final TablebaseGenerator generator = new TablebaseGenerator(directory);
+        
+        generator.setThreads(4);
+        generator.generate("KQvK");
+        generator.generate("KRvK");
+        
+        // Mate in ten and in sixteen moves:
+        assertEquals(19, getLongestWin("KQvK"));
+        assertEquals(31, getLongestWin("KRvK"));
+        
+        assertEquals(List.of("KQvK", "KRvK", "KvK"),
+                     GeneratedTablebases.load(directory)
+                                        .getMaterialSignatures());
+    }
+    
+    @Test
+    public void agreesWithMoveGenerator() throws IOException {
+        new TablebaseGenerator(directory).generate("KPvK");
+        
+        final GeneratedTablebases tablebases =
+                GeneratedTablebases.load(directory);
+        final SplittableRandom random = new SplittableRandom(7L);
+        int checkedPositions = 0;
+        
+        while (checkedPositions < 300) {
+            final ChessBoardState state = new ChessBoardState();
+            state.clear();
+            
+            final int whiteKing = random.nextInt(64);
+            final int blackKing = random.nextInt(64);
+            final int pawn = 8 + random.nextInt(48);
+            
+            if (whiteKing == blackKing
+                    || whiteKing == pawn
+                    || blackKing == pawn) {
+                continue;
+            }
+            
+            final ChessBoardState initial = new ChessBoardState();
+            
+            state.set(whiteKing % 8, whiteKing / 8, initial.get(4, 7));
+            state.set(blackKing % 8, blackKing / 8, initial.get(4, 0));
+            state.set(pawn % 8, pawn / 8, initial.get(0, 6));
+            state.setWhiteKingFile(whiteKing % 8);
+            state.setWhiteKingRank(whiteKing / 8);
+            state.setBlackKingFile(blackKing % 8);
+            state.setBlackKingRank(blackKing / 8);
+            
+            final PlayerTurn playerTurn = random.nextBoolean() ?
+                                          PlayerTurn.WHITE :
+                                          PlayerTurn.BLACK;
+            
+            if (isInCheck(state, opponent(playerTurn))) {
+                assertNull(tablebases.probeWinDrawLoss(state, playerTurn));
+                continue;
+            }
+            
+            checkPosition(tablebases, state, playerTurn);
+            checkedPositions++;
+        }
+    }
+    
+    private void checkPosition(final GeneratedTablebases tablebases,
+                               final ChessBoardState state,
+                               final PlayerTurn playerTurn) {
+        
+        final WinDrawLoss value = tablebases.probeWinDrawLoss(state,
+                                                              playerTurn);
+        final int distance = tablebases.probeDistance(state, playerTurn);
+        int shortestWin = Integer.MAX_VALUE;
+        int longestLoss = -1;
+        boolean allMovesLose = true;
+        boolean hasLegalMoves = false;
+        
+        for (final ChessBoardState child : state.expand(playerTurn)) {
+            if (isInCheck(child, playerTurn)) {
+                continue;
+            }
+            
+            hasLegalMoves = true;
+            
+            final PlayerTurn opponent = opponent(playerTurn);
+            final WinDrawLoss childValue =
+                    tablebases.probeWinDrawLoss(child, opponent);
+            
+            final int childDistance =
+                    tablebases.probeDistance(child, opponent);
+            
+            assertNotNull(childValue);
+            
+            if (childValue == WinDrawLoss.LOSS) {
+                shortestWin = Math.min(shortestWin, childDistance + 1);
+                allMovesLose = false;
+            } else if (childValue == WinDrawLoss.WIN) {
+                longestLoss = Math.max(longestLoss, childDistance + 1);
+            } else {
+                allMovesLose = false;
+            }
+        }
+        
+        if (!hasLegalMoves) {
+            assertEquals(isInCheck(state, playerTurn) ?
+                         WinDrawLoss.LOSS :
+                         WinDrawLoss.DRAW,
+                         value);
+            
+            assertEquals(0, distance);
+        } else if (shortestWin != Integer.MAX_VALUE) {
+            assertEquals(WinDrawLoss.WIN, value);
+            assertEquals(shortestWin, distance);
+        } else if (allMovesLose) {
+            assertEquals(WinDrawLoss.LOSS, value);
+            assertEquals(longestLoss, distance);
+        } else {
+            assertEquals(WinDrawLoss.DRAW, value);
+        }
+    }
+    
+    private int getLongestWin(final String name) throws IOException {
+        final MaterialSignature signature = MaterialSignature.parse(name);
+        final BlockCache blockCache = new BlockCache(1);
+        final short[] winDrawLoss =
+                TablebaseFile.open(
+                        TablebaseFile.getPath(directory,
+                                              name,
+                                              TablebaseFile.Metric.WDL),
+                        blockCache).readAll();
+        
+        final short[] distances =
+                TablebaseFile.open(
+                        TablebaseFile.getPath(directory,
+                                              name,
+                                              TablebaseFile.Metric.DTM),
+                        blockCache).readAll();
+        
+        final int[] squares = new int[signature.getPieceCount()];
+        int longestWin = -1;
+        
+        for (int index = 0; index < winDrawLoss.length; index++) {
+            if (!signature.decode(index, squares)
+                    || winDrawLoss[index] == TablebaseFile.ILLEGAL) {
+                continue;
+            }
+            
+            assertNotEquals(-1, winDrawLoss[index]);
+            
+            if (winDrawLoss[index] == 1) {
+                longestWin = Math.max(longestWin, distances[index]);
+            }
+        }
+        
+        return longestWin;
+    }
+    
+    private static boolean isInCheck(final ChessBoardState state,
+                                     final PlayerTurn playerTurn) {
+        
+        return playerTurn == PlayerTurn.WHITE ?
+               new WhiteUnderAttackCheck().check(state,
+                                                 state.getWhiteKingFile(),
+                                                 state.getWhiteKingRank()) :
+               new BlackUnderAttackCheck().check(state,
+                                                 state.getBlackKingFile(),
+                                                 state.getBlackKingRank());
+    }
+    
+    private static PlayerTurn opponent(final PlayerTurn playerTurn) {
+        return playerTurn == PlayerTurn.WHITE ? PlayerTurn.BLACK :
+                                                PlayerTurn.WHITE;
+    }
+}